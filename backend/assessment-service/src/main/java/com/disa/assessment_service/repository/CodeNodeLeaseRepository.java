@@ -0,0 +1,67 @@
+package com.disa.assessment_service.repository;
+
+import com.disa.assessment_service.entity.CodeNodeLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository interface for CodeNodeLease entity. Leases change hands only through the
+ * conditional statements below, each in a transaction of its own, so two replicas can
+ * never both believe they hold the same node ID.
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface CodeNodeLeaseRepository extends JpaRepository<CodeNodeLease, Integer> {
+
+    /**
+     * Inserts the first lease on a node ID. If another replica inserted it first, the
+     * primary key fails with a DataIntegrityViolationException.
+     *
+     * @param nodeId    the node ID
+     * @param owner     the replica taking the lease
+     * @param expiresAt the epoch millisecond at which the lease runs out
+     * @return 1
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into code_node_lease (node_id, owner, expires_at) "
+            + "values (:nodeId, :owner, :expiresAt)", nativeQuery = true)
+    int insertLease(@Param("nodeId") int nodeId, @Param("owner") String owner, @Param("expiresAt") long expiresAt);
+
+    /**
+     * Takes over a lease that has run out, provided it still has the end that was read, so
+     * two replicas cannot both take the same one.
+     *
+     * @param nodeId    the node ID
+     * @param owner     the replica taking the lease
+     * @param expiresAt the epoch millisecond at which the new lease runs out
+     * @param expected  the end of the old lease as read
+     * @return 1 if the lease was taken over, 0 if it changed meanwhile
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update CodeNodeLease l set l.owner = :owner, l.expiresAt = :expiresAt "
+            + "where l.nodeId = :nodeId and l.expiresAt = :expected")
+    int takeOver(@Param("nodeId") int nodeId, @Param("owner") String owner,
+                 @Param("expiresAt") long expiresAt, @Param("expected") long expected);
+
+    /**
+     * Moves the end of a lease the given replica still holds, to renew or release it.
+     *
+     * @param nodeId    the node ID
+     * @param owner     the replica holding the lease
+     * @param expiresAt the new end of the lease
+     * @return 1 if the lease was updated, 0 if another replica has taken it over
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update CodeNodeLease l set l.expiresAt = :expiresAt where l.nodeId = :nodeId and l.owner = :owner")
+    int updateExpiresAt(@Param("nodeId") int nodeId, @Param("owner") String owner, @Param("expiresAt") long expiresAt);
+}
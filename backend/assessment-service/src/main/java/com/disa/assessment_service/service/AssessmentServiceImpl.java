@@ -22,12 +22,13 @@ public class AssessmentServiceImpl implements AssessmentService {
     private final AssessmentRepository assessmentRepository;
     private final EventPublisher eventPublisher;
     private final FileStorageService fileStorageService;
+    private final CodeGenerator codeGenerator;
     
     @Override
     @Transactional
     public Assessment createAssessment(AssessmentRequest request) {
         Assessment assessment = new Assessment();
-        assessment.setAssessmentCode(generateAssessmentCode());
+        assessment.setAssessmentCode(codeGenerator.nextCode("ASS"));
         assessment.setIncidentId(request.getIncidentId());
         assessment.setAssessorId(request.getAssessorId());
         assessment.setAssessorName(request.getAssessorName());
@@ -126,9 +127,4 @@ public class AssessmentServiceImpl implements AssessmentService {
         assessmentRepository.delete(assessment);
         log.info("Deleted assessment: {}", assessment.getAssessmentCode());
     }
-    
-    private String generateAssessmentCode() {
-        long count = assessmentRepository.count();
-        return String.format("ASS-%03d", count + 1);
-    }
 }
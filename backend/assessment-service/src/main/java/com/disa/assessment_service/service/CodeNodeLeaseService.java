@@ -0,0 +1,275 @@
+package com.disa.assessment_service.service;
+
+import com.disa.assessment_service.entity.CodeNodeLease;
+import com.disa.assessment_service.repository.CodeNodeLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Leases the CodeGenerator node ID of this replica from the code_node_lease table, so no
+ * two live replicas issue codes with the same node ID even when they share their
+ * configuration. A lease lasts {@code code-generator.lease-ttl} and is renewed in the
+ * background every third of that. If it runs out all the same, because the database was
+ * unreachable for that long, it is renewed on the next code, or replaced by a lease on
+ * any free node ID if another replica has taken it over meanwhile. A replica that crashes
+ * keeps its node ID until the lease runs out; one that shuts down cleanly hands it back
+ * at once.
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class CodeNodeLeaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(CodeNodeLeaseService.class);
+
+    private static final int NODE_IDS = CodeGenerator.MAX_NODE_ID + 1;
+    private static final int ATTEMPTS = 3;
+
+    /**
+     * A lease as the generator sees it.
+     *
+     * @param nodeId      the leased node ID
+     * @param previousEnd the epoch millisecond up to which an earlier holder may have issued
+     *                    codes, or 0 if the node ID was never leased before
+     * @param expiresAt   the epoch millisecond at which the lease runs out; codes must only use
+     *                    earlier timestamps
+     */
+    public record Lease(int nodeId, long previousEnd, long expiresAt) {
+    }
+
+    private final CodeNodeLeaseRepository repository;
+    private final int configuredNodeId;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile Lease lease;
+    private ScheduledExecutorService renewer;
+
+    /**
+     * @param repository the node ID leases of all replicas
+     * @param nodeId     the node ID from {@code code-generator.node-id}, 0 to 1023; negative to
+     *                   lease any free one
+     * @param ttl        how long a lease outlives a crashed replica, from {@code code-generator.lease-ttl}
+     */
+    @Autowired
+    public CodeNodeLeaseService(CodeNodeLeaseRepository repository,
+                                @Value("${code-generator.node-id:-1}") int nodeId,
+                                @Value("${code-generator.lease-ttl:60s}") Duration ttl) {
+        this(repository, nodeId, ttl, System::currentTimeMillis);
+    }
+
+    CodeNodeLeaseService(CodeNodeLeaseRepository repository, int nodeId, Duration ttl, LongSupplier clock) {
+        if (nodeId > CodeGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException("code-generator.node-id must be between 0 and " + CodeGenerator.MAX_NODE_ID);
+        }
+        this.repository = repository;
+        this.configuredNodeId = nodeId;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a lease on the configured node ID, or on any free one if none is configured.
+     *
+     * @return the lease, not yet renewing
+     * @throws IllegalStateException if the configured node ID stays held by a live replica,
+     *                               or no node ID is free
+     */
+    public synchronized Lease acquire() {
+        lease = configuredNodeId >= 0 ? claimFixed(configuredNodeId) : claimAny();
+        log.info("Leased code generator node ID {} until {}", lease.nodeId(), lease.expiresAt());
+        return lease;
+    }
+
+    /**
+     * @return the current lease, or null before {@link #acquire()}
+     */
+    public Lease current() {
+        return lease;
+    }
+
+    /**
+     * Returns a lease under which codes may use the given millisecond: the current lease
+     * if it reaches that far, else the current lease extended, else, if another replica
+     * has taken its node ID over, a lease on any free node ID.
+     *
+     * @param millis the epoch millisecond the next code will carry
+     * @return a lease running out after {@code millis}
+     * @throws IllegalStateException if the lease was lost and no node ID is free
+     * @throws org.springframework.dao.DataAccessException if the database is unreachable;
+     *         the next call tries again
+     */
+    public synchronized Lease cover(long millis) {
+        if (millis < lease.expiresAt()) {
+            return lease;
+        }
+        return extendOrReplace(Math.max(clock.getAsLong() + ttlMillis, millis + 1));
+    }
+
+    /**
+     * Starts renewing the lease every third of its lifetime on a daemon thread.
+     */
+    public synchronized void startRenewing() {
+        renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "code-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, ttlMillis / 3);
+        renewer.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Extends the lease by its lifetime from now, or replaces it if it was taken over.
+     * Failures are logged and retried on the next run.
+     */
+    synchronized void renew() {
+        try {
+            extendOrReplace(clock.getAsLong() + ttlMillis);
+        } catch (RuntimeException e) {
+            log.warn("Cannot renew code generator node ID {} lease: {}", lease.nodeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stops renewing and hands the node ID back, recording the last millisecond used so
+     * the next holder starts after it.
+     *
+     * @param lastMillis the epoch millisecond of the last code issued under this lease
+     */
+    public synchronized void release(long lastMillis) {
+        stopRenewing();
+        try {
+            repository.updateExpiresAt(lease.nodeId(), owner, lastMillis);
+            log.info("Released code generator node ID {}", lease.nodeId());
+        } catch (RuntimeException e) {
+            log.warn("Cannot release code generator node ID {}, it frees up at {}: {}",
+                    lease.nodeId(), lease.expiresAt(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    synchronized void stopRenewing() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+            renewer = null;
+        }
+    }
+
+    private Lease extendOrReplace(long until) {
+        Lease current = lease;
+        long expiresAt = Math.max(current.expiresAt(), until);
+        if (repository.updateExpiresAt(current.nodeId(), owner, expiresAt) == 1) {
+            lease = new Lease(current.nodeId(), current.previousEnd(), expiresAt);
+        } else {
+            log.error("Code generator node ID {} was taken over by another replica; leasing another one",
+                    current.nodeId());
+            lease = claimAny();
+            log.info("Leased code generator node ID {} until {}", lease.nodeId(), lease.expiresAt());
+        }
+        return lease;
+    }
+
+    /**
+     * Claims the configured node ID. If a lease on it is still running, waits for it to run
+     * out, which covers a restart after a crash; if it is renewed meanwhile, another live
+     * replica has the same configuration and startup fails.
+     */
+    private Lease claimFixed(int id) {
+        Long seen = null;
+        while (true) {
+            Long current = repository.findById(id).map(CodeNodeLease::getExpiresAt).orElse(null);
+            Lease claimed = tryClaim(id, current);
+            if (claimed != null) {
+                return claimed;
+            }
+            if (current == null) {
+                continue;
+            }
+            if (seen != null && !seen.equals(current)) {
+                throw new IllegalStateException("code-generator.node-id " + id + " is in use by another replica");
+            }
+            seen = current;
+            long wait = current - clock.getAsLong() + 1;
+            if (wait > 0) {
+                log.info("Code generator node ID {} is leased until {}, waiting {} ms", id, current, wait);
+                sleep(wait);
+            }
+        }
+    }
+
+    /**
+     * Claims the first free or expired node ID, starting from a random one so replicas
+     * starting together rarely race for the same row.
+     */
+    private Lease claimAny() {
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            Map<Integer, Long> leases = new HashMap<>();
+            for (CodeNodeLease row : repository.findAll()) {
+                leases.put(row.getNodeId(), row.getExpiresAt());
+            }
+            long now = clock.getAsLong();
+            int start = ThreadLocalRandom.current().nextInt(NODE_IDS);
+            for (int i = 0; i < NODE_IDS; i++) {
+                int id = (start + i) % NODE_IDS;
+                Long current = leases.get(id);
+                if (current == null || current < now) {
+                    Lease claimed = tryClaim(id, current);
+                    if (claimed != null) {
+                        return claimed;
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No free code generator node ID");
+    }
+
+    /**
+     * Claims a node ID whose lease row is absent, or has the given end and has run out.
+     *
+     * @return the new lease, or null if the row is held or another replica got it first
+     */
+    private Lease tryClaim(int id, Long current) {
+        long now = clock.getAsLong();
+        long until = now + ttlMillis;
+        if (current == null) {
+            try {
+                repository.insertLease(id, owner, until);
+            } catch (DataIntegrityViolationException e) {
+                return null;
+            }
+            return new Lease(id, 0, until);
+        }
+        if (current >= now || repository.takeOver(id, owner, until, current) != 1) {
+            return null;
+        }
+        return new Lease(id, current, until);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a code generator node ID", e);
+        }
+    }
+}
@@ -34,11 +34,11 @@ public class IncidentServiceImpl implements IncidentService {
 
     private final IncidentRepository incidentRepository;
     private final EventPublisher eventPublisher;
+    private final CodeGenerator codeGenerator;
 
     @Override
     public IncidentResponse createIncident(IncidentRequest request) {
-        // Generate incident code
-        String incidentCode = generateIncidentCode();
+        String incidentCode = codeGenerator.nextCode("INC");
 
         Incident incident = new Incident();
         incident.setIncidentCode(incidentCode);
@@ -129,11 +129,6 @@ public class IncidentServiceImpl implements IncidentService {
             .collect(Collectors.toList());
     }
 
-    private String generateIncidentCode() {
-        long count = incidentRepository.count();
-        return String.format("INC-%03d", count + 1);
-    }
-
     private IncidentResponse mapToResponse(Incident incident) {
         return new IncidentResponse(
             incident.getId(),
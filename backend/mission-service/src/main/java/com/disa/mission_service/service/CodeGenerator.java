@@ -0,0 +1,216 @@
+package com.disa.mission_service.service;
+
+import com.disa.mission_service.service.CodeNodeLeaseService.Lease;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Issues the business codes of this service, such as MIS-02X4NXNR00W03. Each code carries
+ * a 64-bit ID made of the milliseconds since 2026-01-01 (41 bits), a node ID (10 bits) and
+ * a per-millisecond sequence (12 bits), written as 13 Crockford base-32 characters. The
+ * node ID is leased by CodeNodeLeaseService, so replicas never share one; codes are issued
+ * in increasing order on each node, never reuse a millisecond an earlier holder of the
+ * node ID issued in, and sort by creation time. The database is only consulted when the
+ * lease has to be extended, not per code.
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class CodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(CodeGenerator.class);
+
+    /** 2026-01-01T00:00:00Z, the zero point of the timestamp bits. */
+    static final long EPOCH_MILLIS = 1_767_225_600_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ID_CHARS = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    /** Longest the generator waits at startup for the clock to pass the node's last used millisecond. */
+    private static final long MAX_STARTUP_WAIT_MILLIS = 10_000;
+
+    private final LongSupplier clock;
+    private final CodeNodeLeaseService leases;
+
+    /** The last issued timestamp and sequence, packed as {@code millis << SEQUENCE_BITS | sequence}. */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * The lease IDs are issued under. A new node ID's lease is only published once the state
+     * is past the millisecond its earlier holder may have used.
+     */
+    private volatile Lease lease;
+
+    /**
+     * Creates the generator for this replica, leasing its node ID.
+     *
+     * @param leases the node ID leases of this service
+     */
+    @Autowired
+    public CodeGenerator(CodeNodeLeaseService leases) {
+        this(leases, System::currentTimeMillis);
+        leases.startRenewing();
+        log.info("Code generator using node ID {}", lease.nodeId());
+    }
+
+    CodeGenerator(CodeNodeLeaseService leases, LongSupplier clock) {
+        this(leases.acquire(), clock, leases);
+    }
+
+    CodeGenerator(int nodeId, LongSupplier clock) {
+        this(nodeId, clock, 0);
+    }
+
+    /**
+     * Creates a generator on a fixed node ID that never runs out.
+     *
+     * @param usedUntil the last epoch millisecond an earlier holder of the node ID may have used
+     */
+    CodeGenerator(int nodeId, LongSupplier clock, long usedUntil) {
+        this(new Lease(nodeId, usedUntil, Long.MAX_VALUE), clock, null);
+    }
+
+    /**
+     * Waits for the clock to pass the millisecond the lease's earlier holder may have used;
+     * IDs never go below it.
+     *
+     * @throws IllegalStateException if the clock is more than 10 seconds behind it
+     */
+    private CodeGenerator(Lease lease, LongSupplier clock, CodeNodeLeaseService leases) {
+        if (lease.nodeId() < 0 || lease.nodeId() > MAX_NODE_ID) {
+            throw new IllegalArgumentException("code-generator.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.clock = clock;
+        this.leases = leases;
+        raiseFloor(lease.previousEnd());
+        this.lease = lease;
+        awaitClockPast(lease.nodeId(), lease.previousEnd());
+    }
+
+    /**
+     * Returns the next ID. Once the 4096 sequence values of a millisecond are used, or if
+     * the clock steps back, the generator moves on to the next millisecond of its own
+     * rather than waiting, so IDs keep increasing and calls never block. When the ID's
+     * millisecond reaches the end of the node ID lease, the lease is extended first, or
+     * replaced by one on another node ID if it was taken over.
+     *
+     * @return a positive ID, greater than every ID this instance returned before
+     * @throws IllegalStateException if the lease was lost and no node ID is free
+     * @throws org.springframework.dao.DataAccessException if the lease has run out and the
+     *         database is unreachable; the next call tries again
+     */
+    public long nextId() {
+        while (true) {
+            Lease current = lease;
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long last;
+            long next;
+            do {
+                last = state.get();
+                next = Math.max(now, last + 1);
+            } while (!state.compareAndSet(last, next));
+            long millis = (next >>> SEQUENCE_BITS) + EPOCH_MILLIS;
+            if (millis < current.expiresAt()) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | (long) current.nodeId() << SEQUENCE_BITS
+                        | (next & SEQUENCE_MASK);
+            }
+            renewLease(millis);
+        }
+    }
+
+    /**
+     * Returns the next code with the given prefix, e.g. {@code nextCode("MIS")}.
+     *
+     * @param prefix the code prefix, written before a dash
+     * @return the prefix, a dash and the next ID as 13 base-32 characters
+     */
+    public String nextCode(String prefix) {
+        long id = nextId();
+        int start = prefix.length() + 1;
+        char[] chars = new char[start + ID_CHARS];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        chars[prefix.length()] = '-';
+        for (int i = chars.length - 1; i >= start; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Hands the node ID lease back on shutdown, so a replacement replica can take it at once.
+     */
+    @PreDestroy
+    void releaseLease() {
+        if (leases != null) {
+            leases.release(lastMillis());
+        }
+    }
+
+    /**
+     * @return the epoch millisecond of the last ID issued, or the earlier holder's last one if none
+     */
+    long lastMillis() {
+        return (state.get() >>> SEQUENCE_BITS) + EPOCH_MILLIS;
+    }
+
+    /**
+     * Swaps in a lease that covers the given millisecond. On a new lease the state is first
+     * moved past both its earlier holder's last millisecond and this generator's own, so IDs
+     * on the new node ID neither collide with the earlier holder's nor go backwards.
+     */
+    private synchronized void renewLease(long millis) {
+        Lease current = lease;
+        if (millis < current.expiresAt()) {
+            return;
+        }
+        Lease renewed = leases.cover(millis);
+        if (renewed.nodeId() != current.nodeId() || renewed.previousEnd() != current.previousEnd()) {
+            raiseFloor(Math.max(renewed.previousEnd(), lastMillis()));
+            log.info("Code generator moved to node ID {}", renewed.nodeId());
+        }
+        lease = renewed;
+    }
+
+    /**
+     * Makes the next ID use a later millisecond than the given one.
+     */
+    private void raiseFloor(long millis) {
+        if (millis >= EPOCH_MILLIS) {
+            state.accumulateAndGet((millis - EPOCH_MILLIS) << SEQUENCE_BITS | SEQUENCE_MASK, Math::max);
+        }
+    }
+
+    /**
+     * Waits until the clock is past the given millisecond, so a restarted node whose clock
+     * stepped back does not repeat IDs it issued before the restart.
+     */
+    private void awaitClockPast(int nodeId, long usedUntil) {
+        long wait;
+        while ((wait = usedUntil - clock.getAsLong() + 1) > 0) {
+            if (wait > MAX_STARTUP_WAIT_MILLIS) {
+                throw new IllegalStateException("Clock is " + wait + " ms behind the last code issued by node "
+                        + nodeId + "; refusing to start");
+            }
+            log.info("Waiting {} ms for the clock to pass the last code issued by node {}", wait, nodeId);
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the clock", e);
+            }
+        }
+    }
+}
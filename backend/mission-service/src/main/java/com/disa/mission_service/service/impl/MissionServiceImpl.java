@@ -5,6 +5,7 @@ import com.disa.mission_service.entity.*;
 import com.disa.mission_service.entity.enums.MissionStatus;
 import com.disa.mission_service.entity.enums.MissionType;
 import com.disa.mission_service.repository.MissionRepository;
+import com.disa.mission_service.service.CodeGenerator;
 import com.disa.mission_service.service.MissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,13 +24,14 @@ import java.util.List;
 public class MissionServiceImpl implements MissionService {
 
     private final MissionRepository missionRepository;
+    private final CodeGenerator codeGenerator;
 
     @Override
     @Transactional
     public Mission createMissionForIncident(Long incidentId, String destination, String severity) {
         log.info("Creating delivery mission for incident ID: {}", incidentId);
         Mission mission = new Mission();
-        mission.setMissionCode(generateMissionCode());
+        mission.setMissionCode(codeGenerator.nextCode("MIS"));
         mission.setType(MissionType.DELIVERY);
         mission.setIncidentId(incidentId);
         mission.setOrigin("Central Warehouse");
@@ -47,7 +49,7 @@ public class MissionServiceImpl implements MissionService {
     public Mission createUrgentRescueMission(Long incidentId, String severity) {
         log.info("Creating RESCUE mission for escalated incident ID: {}", incidentId);
         Mission mission = new Mission();
-        mission.setMissionCode(generateMissionCode());
+        mission.setMissionCode(codeGenerator.nextCode("MIS"));
         mission.setType(MissionType.RESCUE);
         mission.setIncidentId(incidentId);
         mission.setOrigin("Fire Station HQ");
@@ -63,7 +65,7 @@ public class MissionServiceImpl implements MissionService {
     public Mission createResourceDeliveryMission(Long resourceId, String resourceType, String location) {
         log.info("Creating restocking mission for resource ID: {}", resourceId);
         Mission mission = new Mission();
-        mission.setMissionCode(generateMissionCode());
+        mission.setMissionCode(codeGenerator.nextCode("MIS"));
         mission.setType(MissionType.DELIVERY);
         mission.setResourceId(resourceId);
         mission.setOrigin("Central Warehouse");
@@ -79,7 +81,7 @@ public class MissionServiceImpl implements MissionService {
     @Override
     public Mission createMission(MissionRequest request) {
         Mission mission = new Mission();
-        mission.setMissionCode(generateMissionCode());
+        mission.setMissionCode(codeGenerator.nextCode("MIS"));
         mission.setType(request.getType());
         mission.setOrigin(request.getOrigin());
         mission.setDestination(request.getDestination());
@@ -130,10 +132,4 @@ public class MissionServiceImpl implements MissionService {
     public void deleteMission(Long id) {
         missionRepository.deleteById(id);
     }
-
-    // Helper to generate readable codes like MIS-005
-    private String generateMissionCode() {
-        long count = missionRepository.count();
-        return String.format("MIS-%03d", count + 1);
-    }
 }
@@ -0,0 +1,182 @@
+package com.disa.mission_service.service;
+
+import com.disa.mission_service.repository.CodeNodeLeaseRepository;
+import com.disa.mission_service.service.CodeNodeLeaseService.Lease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the node ID leases against H2, each statement committing on its own as in
+ * production: replicas get distinct node IDs, a fixed node ID waits out a crashed holder
+ * but not a live one, a released node ID is free at once, and a generator whose lease runs
+ * out renews it, or moves to another node ID past that one's earlier holder if it was
+ * taken over, instead of failing.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CodeNodeLeaseServiceTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    @Autowired
+    private CodeNodeLeaseRepository repository;
+
+    private final AtomicLong clock = new AtomicLong(CodeGenerator.EPOCH_MILLIS + 1_000);
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void acquire_AnyNodeId_ShouldGiveEachReplicaItsOwn() {
+        Set<Integer> nodeIds = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            Lease lease = leases(-1, MINUTE).acquire();
+            assertTrue(nodeIds.add(lease.nodeId()));
+            assertEquals(0, lease.previousEnd());
+        }
+    }
+
+    @Test
+    void acquire_FixedNodeIdOfCrashedReplica_ShouldWaitForLeaseToRunOut() {
+        Duration ttl = Duration.ofMillis(100);
+        Lease crashed = new CodeNodeLeaseService(repository, 7, ttl, System::currentTimeMillis).acquire();
+
+        Lease lease = new CodeNodeLeaseService(repository, 7, ttl, System::currentTimeMillis).acquire();
+
+        assertEquals(7, lease.nodeId());
+        assertEquals(crashed.expiresAt(), lease.previousEnd());
+        assertTrue(System.currentTimeMillis() > crashed.expiresAt());
+    }
+
+    @Test
+    void acquire_FixedNodeIdOfLiveReplica_ShouldFail() {
+        Duration ttl = Duration.ofMillis(300);
+        CodeNodeLeaseService live = new CodeNodeLeaseService(repository, 5, ttl, System::currentTimeMillis);
+        live.acquire();
+        live.startRenewing();
+        try {
+            CodeNodeLeaseService other = new CodeNodeLeaseService(repository, 5, ttl, System::currentTimeMillis);
+            assertThrows(IllegalStateException.class, other::acquire);
+        } finally {
+            live.release(System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    void acquire_ReleasedNodeId_ShouldBeFreeAtOnceAndCarryLastMillisecond() {
+        CodeNodeLeaseService released = leases(3, MINUTE);
+        released.acquire();
+        released.release(clock.get() - 5);
+
+        Lease lease = leases(3, MINUTE).acquire();
+
+        assertEquals(3, lease.nodeId());
+        assertEquals(clock.get() - 5, lease.previousEnd());
+    }
+
+    @Test
+    void cover_OwnLease_ShouldExtendIt() {
+        CodeNodeLeaseService leases = leases(2, MINUTE);
+        Lease acquired = leases.acquire();
+        assertSame(acquired, leases.cover(acquired.expiresAt() - 1));
+
+        clock.addAndGet(70_000);
+        Lease extended = leases.cover(clock.get());
+
+        assertEquals(2, extended.nodeId());
+        assertEquals(clock.get() + MINUTE.toMillis(), extended.expiresAt());
+    }
+
+    @Test
+    void cover_AfterTakeover_ShouldLeaseAnotherNodeId() {
+        CodeNodeLeaseService stale = leases(9, MINUTE);
+        stale.acquire();
+        clock.addAndGet(MINUTE.toMillis() + 1);
+        leases(9, MINUTE).acquire();
+
+        Lease lease = stale.cover(clock.get());
+
+        assertNotEquals(9, lease.nodeId());
+        assertTrue(lease.expiresAt() > clock.get());
+    }
+
+    @Test
+    void renew_AfterTakeover_ShouldLeaseAnotherNodeId() {
+        CodeNodeLeaseService stale = leases(9, MINUTE);
+        stale.acquire();
+        clock.addAndGet(MINUTE.toMillis() + 1);
+        leases(9, MINUTE).acquire();
+
+        stale.renew();
+
+        assertNotEquals(9, stale.current().nodeId());
+    }
+
+    @Test
+    void nextId_LeaseRunOut_ShouldRenewAndKeepIssuing() {
+        CodeNodeLeaseService leases = leases(4, MINUTE);
+        CodeGenerator generator = new CodeGenerator(leases, clock::get);
+        long first = generator.nextId();
+
+        clock.set(leases.current().expiresAt());
+        long second = generator.nextId();
+
+        assertTrue(second > first);
+        assertEquals(4, nodeIdOf(second));
+        assertTrue(leases.current().expiresAt() > clock.get());
+    }
+
+    @Test
+    void nextId_NodeIdTakenOver_ShouldMoveToAnotherNodeIdPastItsEarlierHolder() {
+        CodeNodeLeaseService leases = leases(4, MINUTE);
+        CodeGenerator generator = new CodeGenerator(leases, clock::get);
+        long first = generator.nextId();
+        clock.addAndGet(MINUTE.toMillis() + 1);
+        leases(4, MINUTE).acquire();
+
+        long second = generator.nextId();
+
+        int nodeId = nodeIdOf(second);
+        assertNotEquals(4, nodeId);
+        assertEquals(nodeId, leases.current().nodeId());
+        assertTrue(second > first);
+        assertTrue(millisOf(second) > leases.current().previousEnd());
+    }
+
+    @Test
+    void releaseLease_ShouldRecordLastIssuedMillisecondForNextHolder() {
+        CodeGenerator generator = new CodeGenerator(leases(6, MINUTE), clock::get);
+        generator.nextId();
+        generator.releaseLease();
+
+        clock.incrementAndGet();
+        Lease next = leases(6, MINUTE).acquire();
+
+        assertEquals(clock.get() - 1, next.previousEnd());
+    }
+
+    private CodeNodeLeaseService leases(int nodeId, Duration ttl) {
+        return new CodeNodeLeaseService(repository, nodeId, ttl, clock::get);
+    }
+
+    private static int nodeIdOf(long id) {
+        return (int) (id >>> CodeGenerator.SEQUENCE_BITS) & CodeGenerator.MAX_NODE_ID;
+    }
+
+    private static long millisOf(long id) {
+        return (id >>> (CodeGenerator.NODE_BITS + CodeGenerator.SEQUENCE_BITS)) + CodeGenerator.EPOCH_MILLIS;
+    }
+}
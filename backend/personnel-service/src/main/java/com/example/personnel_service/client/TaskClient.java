@@ -1,75 +1,122 @@
 package com.example.personnel_service.client;
 
+import com.example.personnel_service.config.HttpClientConfig;
 import com.example.personnel_service.dto.TaskDto;
+import com.example.personnel_service.dto.TaskPageDto;
+import org.apache.hc.client5.http.classic.HttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Component
 public class TaskClient {
 
     private static final Logger log = LoggerFactory.getLogger(TaskClient.class);
 
+    static final int PENDING_PAGE_SIZE = 500;
+
+    /** Authorization header handed to a background thread, which has no request of its own. */
+    private static final ThreadLocal<String> FORWARDED_AUTHORIZATION = new ThreadLocal<>();
+
     private final RestTemplate restTemplate;
 
     @Value("${external.task.api.url}")
     private String taskServiceUrl;
 
-    public TaskClient() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(java.time.Duration.ofSeconds(10));
-        factory.setReadTimeout(java.time.Duration.ofSeconds(30));
+    public TaskClient(HttpClient pooledHttpClient, HttpClientConfig httpClientConfig) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+        factory.setConnectionRequestTimeout(httpClientConfig.getConnectionRequestTimeout());
+        factory.setReadTimeout(httpClientConfig.getReadTimeout());
         this.restTemplate = new RestTemplate(factory);
     }
 
     /**
-     * Gets the JWT Authorization header from the current HTTP request context
-     * so it can be forwarded to task-service for authentication.
+     * Gets the JWT Authorization header to forward to task-service: the one of the current
+     * HTTP request, or on a background thread the one passed to {@link #withAuthorization}.
+     *
+     * @return the header value, or null if there is none
      */
-    private String getCurrentAuthToken() {
+    public static String currentAuthorization() {
         ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attrs != null) {
-            return attrs.getRequest().getHeader("Authorization");
+            String header = attrs.getRequest().getHeader("Authorization");
+            if (header != null) {
+                return header;
+            }
+        }
+        return FORWARDED_AUTHORIZATION.get();
+    }
+
+    /**
+     * Runs work on the current thread with the given Authorization header forwarded on every
+     * task-service call it makes. Background jobs use this with the header captured from the
+     * request that submitted them.
+     *
+     * @param authorization the header value, may be null
+     * @param work the work to run
+     * @return the result of the work
+     */
+    public static <T> T withAuthorization(String authorization, Supplier<T> work) {
+        String previous = FORWARDED_AUTHORIZATION.get();
+        FORWARDED_AUTHORIZATION.set(authorization);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                FORWARDED_AUTHORIZATION.set(previous);
+            } else {
+                FORWARDED_AUTHORIZATION.remove();
+            }
         }
-        return null;
     }
 
     private HttpHeaders createAuthHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        String authToken = getCurrentAuthToken();
+        String authToken = currentAuthorization();
         if (authToken != null) {
             headers.set("Authorization", authToken);
         }
         return headers;
     }
 
-    public List<TaskDto> fetchTasks() {
-        try {
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-            ResponseEntity<List<TaskDto>> response = restTemplate.exchange(
-                    taskServiceUrl + "/tasks",
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<List<TaskDto>>() {}
-            );
-            return response.getBody() != null ? response.getBody() : Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Failed to fetch tasks from task-service: {}", e.getMessage());
-            return Collections.emptyList();
-        }
+    /**
+     * Downloads the PENDING tasks from task-service, one keyset page of
+     * {@value #PENDING_PAGE_SIZE} at a time, so only pending rows are read and sent. Failures
+     * are thrown rather than mapped to an empty list so the pending-task replica can tell
+     * "no tasks" from "task-service down".
+     *
+     * @return the pending tasks in id order, never null
+     * @throws org.springframework.web.client.RestClientException if task-service cannot be reached
+     */
+    public List<TaskDto> fetchPendingTasks() {
+        HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders());
+        List<TaskDto> tasks = new ArrayList<>();
+        Long after = null;
+        do {
+            String url = taskServiceUrl + "/tasks/page?status=PENDING&limit=" + PENDING_PAGE_SIZE
+                    + (after != null ? "&after=" + after : "");
+            TaskPageDto page = restTemplate.exchange(url, HttpMethod.GET, entity, TaskPageDto.class).getBody();
+            if (page == null) {
+                break;
+            }
+            if (page.getItems() != null) {
+                tasks.addAll(page.getItems());
+            }
+            after = page.getNextAfter();
+        } while (after != null);
+        return tasks;
     }
 
     public boolean assignTask(Long taskId, Long personnelId) {
@@ -0,0 +1,59 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous match-all-pending jobs. Jobs run one at a
+ * time, so there is no pool or queue to size.
+ * Binds properties from application.yaml with prefix "assignment.jobs".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "assignment.jobs")
+public class AssignmentJobConfig {
+
+    private Duration retention = Duration.ofMinutes(30);
+    private Duration sseTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Gets how long finished jobs remain available for polling.
+     *
+     * @return the retention period
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * Sets how long finished jobs remain available for polling.
+     *
+     * @param retention the retention period
+     */
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    /**
+     * Gets how long a progress stream stays open before the client must reconnect.
+     *
+     * @return the SSE timeout
+     */
+    public Duration getSseTimeout() {
+        return sseTimeout;
+    }
+
+    /**
+     * Sets how long a progress stream stays open.
+     *
+     * @param sseTimeout the SSE timeout
+     */
+    public void setSseTimeout(Duration sseTimeout) {
+        this.sseTimeout = sseTimeout;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for stored document downloads.
+ * Binds properties from application.yaml with prefix "personnel.documents.download".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "personnel.documents.download")
+public class DocumentDownloadConfig {
+
+    private Duration maxAge = Duration.ofHours(1);
+    private boolean cachePrivate = true;
+    private boolean sendfile = true;
+
+    /**
+     * Gets how long clients may reuse a downloaded file without revalidating it; zero means
+     * every reuse is revalidated with the ETag.
+     *
+     * @return the Cache-Control max-age
+     */
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Sets how long clients may reuse a downloaded file without revalidating it; zero means
+     * every reuse is revalidated with the ETag.
+     *
+     * @param maxAge the Cache-Control max-age
+     */
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Gets whether downloads are marked private, so shared caches and proxies do not keep them.
+     *
+     * @return true for Cache-Control private, false for public
+     */
+    public boolean isCachePrivate() {
+        return cachePrivate;
+    }
+
+    /**
+     * Sets whether downloads are marked private, so shared caches and proxies do not keep them.
+     *
+     * @param cachePrivate true for Cache-Control private, false for public
+     */
+    public void setCachePrivate(boolean cachePrivate) {
+        this.cachePrivate = cachePrivate;
+    }
+
+    /**
+     * Gets whether file bodies are handed to the container's sendfile support when it has
+     * one, instead of being copied through the response stream.
+     *
+     * @return true to use sendfile when available
+     */
+    public boolean isSendfile() {
+        return sendfile;
+    }
+
+    /**
+     * Sets whether file bodies are handed to the container's sendfile support when it has
+     * one, instead of being copied through the response stream.
+     *
+     * @param sendfile true to use sendfile when available
+     */
+    public void setSendfile(boolean sendfile) {
+        this.sendfile = sendfile;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the batching personnel event publisher.
+ * Binds properties from application.yaml with prefix "messaging.publisher".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "messaging.publisher")
+public class EventPublisherConfig {
+
+    private int queueCapacity = 10000;
+    private int batchSize = 100;
+    private Duration offerTimeout = Duration.ofSeconds(2);
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofMillis(500);
+
+    /**
+     * Gets the number of events that may wait for publishing before callers are held back.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the number of events that may wait for publishing before callers are held back.
+     *
+     * @param queueCapacity the queue capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the most events sent on one channel before waiting for broker confirms.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the most events sent on one channel before waiting for broker confirms.
+     *
+     * @param batchSize the batch size
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets how long a caller waits for room in a full queue before the event is rejected.
+     *
+     * @return the offer timeout
+     */
+    public Duration getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    /**
+     * Sets how long a caller waits for room in a full queue before the event is rejected.
+     *
+     * @param offerTimeout the offer timeout
+     */
+    public void setOfferTimeout(Duration offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    /**
+     * Gets how long to wait for the broker to confirm a batch.
+     *
+     * @return the confirm timeout
+     */
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    /**
+     * Sets how long to wait for the broker to confirm a batch.
+     *
+     * @param confirmTimeout the confirm timeout
+     */
+    public void setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    /**
+     * Gets how many times a batch is sent before its events are counted as failed.
+     *
+     * @return the maximum attempts per batch
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets how many times a batch is sent before its events are counted as failed.
+     *
+     * @param maxAttempts the maximum attempts per batch
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Gets the pause before resending a batch, multiplied by the attempt number.
+     *
+     * @return the retry backoff
+     */
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    /**
+     * Sets the pause before resending a batch, multiplied by the attempt number.
+     *
+     * @param retryBackoff the retry backoff
+     */
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read timeout, retries and the circuit breaker around Gemini calls.
+ * The connect timeout belongs to the shared pool, see {@link HttpClientConfig}.
+ * Binds properties from application.yaml with prefix "model.gemini.resilience".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "model.gemini.resilience")
+public class GeminiResilienceConfig {
+
+    private Duration readTimeout = Duration.ofSeconds(20);
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(4);
+    private Duration retryBudget = Duration.ofSeconds(30);
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * Gets the read timeout for a single Gemini request.
+     *
+     * @return the read timeout
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the read timeout for a single Gemini request.
+     *
+     * @param readTimeout the read timeout
+     */
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Gets the maximum number of attempts per Gemini call, including the first.
+     *
+     * @return the maximum attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets the maximum number of attempts per Gemini call.
+     *
+     * @param maxAttempts the maximum attempts
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Gets the backoff ceiling before the first retry; it doubles for each further retry.
+     *
+     * @return the initial backoff
+     */
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Sets the backoff ceiling before the first retry.
+     *
+     * @param initialBackoff the initial backoff
+     */
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * Gets the upper bound for any single backoff.
+     *
+     * @return the maximum backoff
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Sets the upper bound for any single backoff.
+     *
+     * @param maxBackoff the maximum backoff
+     */
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Gets the total time a call may spend across all attempts and backoffs.
+     *
+     * @return the retry time budget
+     */
+    public Duration getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Sets the total time a call may spend across all attempts and backoffs.
+     *
+     * @param retryBudget the retry time budget
+     */
+    public void setRetryBudget(Duration retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    /**
+     * Gets the number of consecutive failed calls that opens the breaker.
+     *
+     * @return the failure threshold
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Sets the number of consecutive failed calls that opens the breaker.
+     *
+     * @param failureThreshold the failure threshold
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    /**
+     * Gets how long the breaker stays open before letting a probe call through.
+     *
+     * @return the open duration
+     */
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Sets how long the breaker stays open before letting a probe call through.
+     *
+     * @param openDuration the open duration
+     */
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.personnel_service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared pooled HTTP client for outbound calls to task-service and Gemini.
+ * Binds properties from application.yaml with prefix "http.client".
+ *
+ * <p>Connections are kept alive and reused across requests, so repeated calls to the
+ * same host skip the TCP and TLS handshakes. Each route (scheme, host and port) is capped
+ * at {@code max-per-route} connections unless overridden in {@code route-limits}, and the
+ * whole pool at {@code max-total}. Pool usage is published through Micrometer as
+ * {@code httpcomponents.httpclient.pool.*} tagged {@code httpclient=shared}.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientConfig {
+
+    private int maxTotal = 100;
+    private int maxPerRoute = 20;
+    private Map<String, Integer> routeLimits = new LinkedHashMap<>();
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private Duration timeToLive = Duration.ofMinutes(5);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Creates the shared connection pool and registers its metrics.
+     *
+     * @param meterRegistry registry for the pool gauges
+     * @return the pooled connection manager
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager pooledConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+                        .build())
+                .build();
+        routeLimits.forEach((url, limit) -> connectionManager.setMaxPerRoute(route(url), limit));
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "shared").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * Creates the shared HTTP client on top of the pool. Idle and expired connections
+     * are closed by a background evictor so the pool never hands out a connection the
+     * peer has already dropped.
+     *
+     * @param connectionManager the shared connection pool
+     * @return the pooled HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+    }
+
+    private static HttpRoute route(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+
+    /**
+     * Gets the maximum number of pooled connections across all routes.
+     *
+     * @return the pool size
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections across all routes.
+     *
+     * @param maxTotal the pool size
+     */
+    public void setMaxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    /**
+     * Gets the default maximum number of pooled connections per route.
+     *
+     * @return the per-route limit
+     */
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * Sets the default maximum number of pooled connections per route.
+     *
+     * @param maxPerRoute the per-route limit
+     */
+    public void setMaxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    /**
+     * Gets per-route connection limits keyed by base URL, overriding {@code max-per-route}.
+     *
+     * @return the route limits
+     */
+    public Map<String, Integer> getRouteLimits() {
+        return routeLimits;
+    }
+
+    /**
+     * Sets per-route connection limits keyed by base URL.
+     *
+     * @param routeLimits the route limits
+     */
+    public void setRouteLimits(Map<String, Integer> routeLimits) {
+        this.routeLimits = routeLimits;
+    }
+
+    /**
+     * Gets the timeout for opening a new connection.
+     *
+     * @return the connect timeout
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the timeout for opening a new connection.
+     *
+     * @param connectTimeout the connect timeout
+     */
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Gets the default read timeout for task-service requests.
+     *
+     * @return the read timeout
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the default read timeout for task-service requests.
+     *
+     * @param readTimeout the read timeout
+     */
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Gets how long a request waits for a free pooled connection.
+     *
+     * @return the connection request timeout
+     */
+    public Duration getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    /**
+     * Sets how long a request waits for a free pooled connection.
+     *
+     * @param connectionRequestTimeout the connection request timeout
+     */
+    public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    /**
+     * Gets how long a connection may sit idle in the pool before it is closed.
+     *
+     * @return the idle timeout
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets how long a connection may sit idle in the pool before it is closed.
+     *
+     * @param idleTimeout the idle timeout
+     */
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Gets the maximum lifetime of a pooled connection.
+     *
+     * @return the time to live
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the maximum lifetime of a pooled connection.
+     *
+     * @param timeToLive the time to live
+     */
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Gets the idle time after which a pooled connection is checked before reuse.
+     *
+     * @return the validation interval
+     */
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Sets the idle time after which a pooled connection is checked before reuse.
+     *
+     * @param validateAfterInactivity the validation interval
+     */
+    public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for task-to-person matching.
+ * Binds properties from application.yaml with prefix "assignment.matching".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "assignment.matching")
+public class MatchingConfig {
+
+    private MatchingMode mode = MatchingMode.HYBRID;
+    private double confidenceThreshold = 60.0;
+    private double tieMargin = 5.0;
+    private int tieBreakCandidates = 5;
+    private int promptCandidates = 15;
+    private int llmBatchTokenBudget = 24000;
+    private int llmBatchMaxTasks = 25;
+    private int llmMaxConcurrentCalls = 4;
+    private Duration llmCacheTtl = Duration.ofMinutes(10);
+    private int llmCacheMaxEntries = 256;
+    private boolean shiftFilter = true;
+    private Duration shiftWindow = Duration.ofHours(2);
+
+    /**
+     * Gets the matching mode (local, hybrid or llm).
+     *
+     * @return the matching mode
+     */
+    public MatchingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the matching mode.
+     *
+     * @param mode the matching mode
+     */
+    public void setMode(MatchingMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Gets the local score (0-100) below which a hybrid match is handed to Gemini.
+     *
+     * @return the confidence threshold
+     */
+    public double getConfidenceThreshold() {
+        return confidenceThreshold;
+    }
+
+    /**
+     * Sets the local score below which a hybrid match is handed to Gemini.
+     *
+     * @param confidenceThreshold the confidence threshold
+     */
+    public void setConfidenceThreshold(double confidenceThreshold) {
+        this.confidenceThreshold = confidenceThreshold;
+    }
+
+    /**
+     * Gets the score gap between the two best candidates that still counts as a tie.
+     *
+     * @return the tie margin
+     */
+    public double getTieMargin() {
+        return tieMargin;
+    }
+
+    /**
+     * Sets the score gap between the two best candidates that still counts as a tie.
+     *
+     * @param tieMargin the tie margin
+     */
+    public void setTieMargin(double tieMargin) {
+        this.tieMargin = tieMargin;
+    }
+
+    /**
+     * Gets how many of the best local candidates are sent to Gemini for a tie-break.
+     *
+     * @return the number of tie-break candidates
+     */
+    public int getTieBreakCandidates() {
+        return tieBreakCandidates;
+    }
+
+    /**
+     * Sets how many of the best local candidates are sent to Gemini for a tie-break.
+     *
+     * @param tieBreakCandidates the number of tie-break candidates
+     */
+    public void setTieBreakCandidates(int tieBreakCandidates) {
+        this.tieBreakCandidates = tieBreakCandidates;
+    }
+
+    /**
+     * Gets how many of the best local candidates per task are included in an llm-mode prompt;
+     * 0 sends the full roster.
+     *
+     * @return the number of prompt candidates per task
+     */
+    public int getPromptCandidates() {
+        return promptCandidates;
+    }
+
+    /**
+     * Sets how many of the best local candidates per task are included in an llm-mode prompt.
+     *
+     * @param promptCandidates the number of prompt candidates per task
+     */
+    public void setPromptCandidates(int promptCandidates) {
+        this.promptCandidates = promptCandidates;
+    }
+
+    /**
+     * Gets the estimated prompt size, in tokens, that one batched Gemini call may not exceed.
+     *
+     * @return the batch token budget
+     */
+    public int getLlmBatchTokenBudget() {
+        return llmBatchTokenBudget;
+    }
+
+    /**
+     * Sets the estimated prompt size, in tokens, that one batched Gemini call may not exceed.
+     *
+     * @param llmBatchTokenBudget the batch token budget
+     */
+    public void setLlmBatchTokenBudget(int llmBatchTokenBudget) {
+        this.llmBatchTokenBudget = llmBatchTokenBudget;
+    }
+
+    /**
+     * Gets the maximum number of tasks sent to Gemini in one batched prompt.
+     *
+     * @return the maximum tasks per batch
+     */
+    public int getLlmBatchMaxTasks() {
+        return llmBatchMaxTasks;
+    }
+
+    /**
+     * Sets the maximum number of tasks sent to Gemini in one batched prompt.
+     *
+     * @param llmBatchMaxTasks the maximum tasks per batch
+     */
+    public void setLlmBatchMaxTasks(int llmBatchMaxTasks) {
+        this.llmBatchMaxTasks = llmBatchMaxTasks;
+    }
+
+    /**
+     * Gets the maximum number of batched Gemini calls in flight at once; 1 runs batches one after another.
+     *
+     * @return the Gemini call concurrency limit
+     */
+    public int getLlmMaxConcurrentCalls() {
+        return llmMaxConcurrentCalls;
+    }
+
+    /**
+     * Sets the maximum number of batched Gemini calls in flight at once.
+     *
+     * @param llmMaxConcurrentCalls the Gemini call concurrency limit
+     */
+    public void setLlmMaxConcurrentCalls(int llmMaxConcurrentCalls) {
+        this.llmMaxConcurrentCalls = llmMaxConcurrentCalls;
+    }
+
+    /**
+     * Gets how long a cached Gemini response stays valid; zero disables the cache.
+     *
+     * @return the cache time-to-live
+     */
+    public Duration getLlmCacheTtl() {
+        return llmCacheTtl;
+    }
+
+    /**
+     * Sets how long a cached Gemini response stays valid.
+     *
+     * @param llmCacheTtl the cache time-to-live
+     */
+    public void setLlmCacheTtl(Duration llmCacheTtl) {
+        this.llmCacheTtl = llmCacheTtl;
+    }
+
+    /**
+     * Gets the maximum number of cached Gemini responses before the least recently used is evicted.
+     *
+     * @return the maximum cache size
+     */
+    public int getLlmCacheMaxEntries() {
+        return llmCacheMaxEntries;
+    }
+
+    /**
+     * Sets the maximum number of cached Gemini responses.
+     *
+     * @param llmCacheMaxEntries the maximum cache size
+     */
+    public void setLlmCacheMaxEntries(int llmCacheMaxEntries) {
+        this.llmCacheMaxEntries = llmCacheMaxEntries;
+    }
+
+    /**
+     * Gets whether matching only considers persons whose shift covers the task window.
+     *
+     * @return true to filter candidates by shift
+     */
+    public boolean isShiftFilter() {
+        return shiftFilter;
+    }
+
+    /**
+     * Sets whether matching only considers persons whose shift covers the task window.
+     *
+     * @param shiftFilter true to filter candidates by shift
+     */
+    public void setShiftFilter(boolean shiftFilter) {
+        this.shiftFilter = shiftFilter;
+    }
+
+    /**
+     * Gets how long a task is expected to take; a candidate's shift must cover now plus this.
+     *
+     * @return the task window length
+     */
+    public Duration getShiftWindow() {
+        return shiftWindow;
+    }
+
+    /**
+     * Sets how long a task is expected to take for the shift filter.
+     *
+     * @param shiftWindow the task window length
+     */
+    public void setShiftWindow(Duration shiftWindow) {
+        this.shiftWindow = shiftWindow;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.personnel_service.config;
+
+/**
+ * Strategy used by {@link com.example.personnel_service.service.AssignmentService}
+ * to pick a person for a task.
+ *
+ * <ul>
+ *   <li>{@link #LOCAL} - rank candidates with the in-process scoring engine only</li>
+ *   <li>{@link #HYBRID} - rank locally and ask Gemini to break low-confidence ties</li>
+ *   <li>{@link #LLM} - send every task to Gemini (original behaviour)</li>
+ * </ul>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+public enum MatchingMode {
+    LOCAL,
+    HYBRID,
+    LLM
+}
@@ -0,0 +1,39 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the local replica of pending tasks.
+ * Binds properties from application.yaml with prefix "assignment.pending-tasks".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "assignment.pending-tasks")
+public class PendingTaskConfig {
+
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+
+    /**
+     * Gets how long the event-fed replica is trusted before it is reconciled against task-service.
+     *
+     * @return the reconcile interval
+     */
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    /**
+     * Sets how long the event-fed replica is trusted before it is reconciled against task-service.
+     *
+     * @param reconcileInterval the reconcile interval
+     */
+    public void setReconcileInterval(Duration reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the streaming person import.
+ * Binds properties from application.yaml with prefix "personnel.import".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "personnel.import")
+public class PersonImportConfig {
+
+    private int chunkSize = 1000;
+    private int maxReportedErrors = 100;
+
+    /**
+     * Gets the number of rows saved per transaction.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the number of rows saved per transaction.
+     *
+     * @param chunkSize the chunk size
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the most row errors listed in an import result; further errors are only counted.
+     *
+     * @return the maximum reported errors
+     */
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    /**
+     * Sets the most row errors listed in an import result; further errors are only counted.
+     *
+     * @param maxReportedErrors the maximum reported errors
+     */
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+}
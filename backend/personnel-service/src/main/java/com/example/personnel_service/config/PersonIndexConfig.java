@@ -0,0 +1,39 @@
+package com.example.personnel_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory person indexes (availability, skill and shift).
+ * Binds properties from application.yaml with prefix "personnel.indexes".
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Configuration
+@ConfigurationProperties(prefix = "personnel.indexes")
+public class PersonIndexConfig {
+
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+
+    /**
+     * Gets how long an incrementally updated index is trusted before it is rebuilt from the database.
+     *
+     * @return the rebuild interval
+     */
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    /**
+     * Sets how long an incrementally updated index is trusted before it is rebuilt from the database.
+     *
+     * @param rebuildInterval the rebuild interval
+     */
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+}
@@ -33,6 +33,11 @@ public class RabbitMQConfig {
      */
     public static final String TASK_ASSIGNED_QUEUE = "personnel.task.assigned.queue";
     
+    /**
+     * Queue feeding the local pending-task replica with task lifecycle events.
+     */
+    public static final String TASK_REPLICA_QUEUE = "personnel.task.replica.queue";
+
     /**
      * Queue for personnel status change events.
      */
@@ -43,6 +48,21 @@ public class RabbitMQConfig {
      * Routing key for task assignment events.
      */
     public static final String TASK_ASSIGNED_KEY = "task.assigned";
+
+    /**
+     * Routing key for task creation events.
+     */
+    public static final String TASK_CREATED_KEY = "task.created";
+
+    /**
+     * Routing key for tasks created together in bulk, carried in one event.
+     */
+    public static final String TASKS_CREATED_KEY = "tasks.created";
+
+    /**
+     * Routing key for task completion events.
+     */
+    public static final String TASK_COMPLETED_KEY = "task.completed";
     
     /**
      * Routing key for personnel status change events.
@@ -113,6 +133,68 @@ public class RabbitMQConfig {
             .with(PERSONNEL_STATUS_KEY);
     }
     
+    /**
+     * Creates queue for task lifecycle events consumed by the pending-task replica.
+     *
+     * @return Durable queue for task.created, tasks.created, task.assigned and task.completed events
+     */
+    @Bean
+    public Queue taskReplicaQueue() {
+        return new Queue(TASK_REPLICA_QUEUE, true);
+    }
+
+    /**
+     * Binds the replica queue to task creation events.
+     *
+     * @return Binding for task.created events
+     */
+    @Bean
+    public Binding taskReplicaCreatedBinding() {
+        return BindingBuilder
+            .bind(taskReplicaQueue())
+            .to(exchange())
+            .with(TASK_CREATED_KEY);
+    }
+
+    /**
+     * Binds the replica queue to bulk task creation events.
+     *
+     * @return Binding for tasks.created events
+     */
+    @Bean
+    public Binding taskReplicaBulkCreatedBinding() {
+        return BindingBuilder
+            .bind(taskReplicaQueue())
+            .to(exchange())
+            .with(TASKS_CREATED_KEY);
+    }
+
+    /**
+     * Binds the replica queue to task assignment events.
+     *
+     * @return Binding for task.assigned events
+     */
+    @Bean
+    public Binding taskReplicaAssignedBinding() {
+        return BindingBuilder
+            .bind(taskReplicaQueue())
+            .to(exchange())
+            .with(TASK_ASSIGNED_KEY);
+    }
+
+    /**
+     * Binds the replica queue to task completion events.
+     *
+     * @return Binding for task.completed events
+     */
+    @Bean
+    public Binding taskReplicaCompletedBinding() {
+        return BindingBuilder
+            .bind(taskReplicaQueue())
+            .to(exchange())
+            .with(TASK_COMPLETED_KEY);
+    }
+
     @Bean
     public Queue userRegisteredQueue() {
         return new Queue(USER_REGISTERED_QUEUE, true);
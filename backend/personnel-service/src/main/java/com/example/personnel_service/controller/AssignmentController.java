@@ -1,16 +1,25 @@
 package com.example.personnel_service.controller;
 
 import com.example.personnel_service.dto.AssignmentHistoryDto;
+import com.example.personnel_service.dto.AssignmentJobDto;
 import com.example.personnel_service.dto.PersonDto;
 import com.example.personnel_service.dto.TaskAssignmentDto;
 import com.example.personnel_service.dto.TaskDto;
+import com.example.personnel_service.exception.BadRequestException;
+import com.example.personnel_service.exception.ResourceNotFoundException;
+import com.example.personnel_service.service.AssignmentJobService;
 import com.example.personnel_service.service.AssignmentService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * REST controller for managing task assignments to personnel.
@@ -26,25 +35,40 @@ import java.util.Map;
 public class AssignmentController {
 
     private final AssignmentService assignmentService;
+    private final AssignmentJobService assignmentJobService;
 
     /**
-     * Constructs a new AssignmentController with the specified AssignmentService.
+     * Constructs a new AssignmentController with the specified services.
      * 
      * @param assignmentService the service used to handle task assignment business logic
+     * @param assignmentJobService the service running match-all-pending in the background
      */
-    public AssignmentController(AssignmentService assignmentService) {
+    public AssignmentController(AssignmentService assignmentService, AssignmentJobService assignmentJobService) {
         this.assignmentService = assignmentService;
+        this.assignmentJobService = assignmentJobService;
     }
 
     /**
-     * Retrieves all available persons who can be assigned to tasks.
-     * GET /api/personnel/assignments/available-persons
+     * Retrieves all available persons who can be assigned to tasks, optionally only those
+     * whose shift covers the whole of {@code [from, to]}.
+     * GET /api/personnel/assignments/available-persons?from=2026-03-03T08:00&to=2026-03-03T12:00
      * 
+     * @param from the start of the shift window (ISO date-time), given together with {@code to}
+     * @param to the end of the shift window (ISO date-time), given together with {@code from}
      * @return ResponseEntity containing a list of available PersonDto objects
+     * @throws BadRequestException if only one bound is given or the window ends before it starts
      */
     @GetMapping("/available-persons")
-    public ResponseEntity<List<PersonDto>> getAvailablePersons() {
-        return ResponseEntity.ok(assignmentService.getAvailablePersons());
+    public ResponseEntity<List<PersonDto>> getAvailablePersons(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (from == null && to == null) {
+            return ResponseEntity.ok(assignmentService.getAvailablePersons());
+        }
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException("A shift window needs both 'from' and 'to', with 'to' not before 'from'");
+        }
+        return ResponseEntity.ok(assignmentService.getAvailablePersons(from, to));
     }
 
     /**
@@ -95,6 +119,59 @@ public class AssignmentController {
         }
     }
 
+    /**
+     * Starts matching all pending tasks in the background and returns immediately. If a
+     * job is already queued or running, that job is returned instead of a new one.
+     * POST /api/personnel/assignments/match-all-pending/jobs
+     *
+     * @return 202 Accepted with the job snapshot, or 503 if jobs cannot be accepted
+     */
+    @PostMapping("/match-all-pending/jobs")
+    public ResponseEntity<?> submitMatchAllPendingJob() {
+        try {
+            AssignmentJobDto job = assignmentJobService.submitMatchAllPending();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header("Location", "/api/personnel/assignments/jobs/" + job.getJobId())
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Jobs unavailable", "message", "Assignment jobs are not being accepted, retry later"));
+        }
+    }
+
+    /**
+     * Polls the progress and partial assignments of a background job.
+     * GET /api/personnel/assignments/jobs/{jobId}
+     *
+     * @param jobId the job ID returned on submission
+     * @return the job snapshot, or 404 if unknown or expired
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        return assignmentJobService.findJob(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> jobNotFound(jobId));
+    }
+
+    /**
+     * Streams job progress as Server-Sent Events (progress, assignment, completed/failed).
+     * GET /api/personnel/assignments/jobs/{jobId}/events
+     *
+     * @param jobId the job ID returned on submission
+     * @return the event stream
+     * @throws ResourceNotFoundException if the job is unknown or expired
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(@PathVariable String jobId) {
+        return assignmentJobService.subscribe(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("AssignmentJob", "id", jobId));
+    }
+
+    private ResponseEntity<?> jobNotFound(String jobId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Job not found", "message", "No assignment job with id " + jobId));
+    }
+
     @GetMapping("/history/{personId}")
     public ResponseEntity<List<AssignmentHistoryDto>> getAssignmentHistory(@PathVariable Long personId) {
         return ResponseEntity.ok(assignmentService.getAssignmentHistory(personId));
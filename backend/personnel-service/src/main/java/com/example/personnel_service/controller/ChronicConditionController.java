@@ -2,6 +2,9 @@ package com.example.personnel_service.controller;
 
 import com.example.personnel_service.entity.ChronicCondition;
 import com.example.personnel_service.service.ChronicConditionService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +44,30 @@ public class ChronicConditionController {
         return ResponseEntity.ok(chronicConditionService.getAllChronicConditions());
     }
 
+    /**
+     * Retrieves the chronic conditions of one person.
+     * 
+     * @param personId the unique identifier of the person
+     * @return ResponseEntity containing the person's ChronicCondition entities
+     */
+    @GetMapping("/person/{personId}")
+    public ResponseEntity<List<ChronicCondition>> getChronicConditionsByPersonId(@PathVariable long personId) {
+        return ResponseEntity.ok(chronicConditionService.getChronicConditionsByPersonId(personId));
+    }
+
+    /**
+     * Retrieves one page of a person's chronic conditions, ordered by id unless {@code sort} is given.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the {@code page}, {@code size} and {@code sort} query parameters
+     * @return ResponseEntity containing the page content and page metadata
+     */
+    @GetMapping("/person/{personId}/page")
+    public ResponseEntity<PagedModel<ChronicCondition>> getChronicConditionPageByPersonId(@PathVariable long personId,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(chronicConditionService.getChronicConditionPageByPersonId(personId, pageable)));
+    }
+
     /**
      * Retrieves a specific chronic condition by its unique identifier.
      * 
@@ -1,25 +1,48 @@
 package com.example.personnel_service.controller;
 
+import com.example.personnel_service.config.DocumentDownloadConfig;
+import com.example.personnel_service.dto.StoredFile;
 import com.example.personnel_service.entity.Document;
 import com.example.personnel_service.service.DocumentService;
-import org.springframework.core.io.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/personnel/documents")
 public class DocumentController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final DocumentService documentService;
+    private final DocumentDownloadConfig downloadConfig;
 
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, DocumentDownloadConfig downloadConfig) {
         this.documentService = documentService;
+        this.downloadConfig = downloadConfig;
     }
 
     @GetMapping
@@ -27,6 +50,17 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.getAllDocuments());
     }
 
+    @GetMapping("/person/{personId}")
+    public ResponseEntity<List<Document>> getDocumentsByPersonId(@PathVariable long personId) {
+        return ResponseEntity.ok(documentService.getDocumentsByPersonId(personId));
+    }
+
+    @GetMapping("/person/{personId}/page")
+    public ResponseEntity<PagedModel<Document>> getDocumentPageByPersonId(@PathVariable long personId,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(documentService.getDocumentPageByPersonId(personId, pageable)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Document> getDocumentById(@PathVariable Long id) {
         return ResponseEntity.ok(documentService.getDocumentById(id));
@@ -69,13 +103,97 @@ public class DocumentController {
     /**
      * Download a stored file by filename.
      * GET /api/personnel/documents/files/{filename}
+     *
+     * <p>Answers {@code If-None-Match}/{@code If-Modified-Since} with 304 and a single
+     * {@code Range} with 206 (honouring {@code If-Range}); other range requests get the whole
+     * file. The body is streamed from the file channel, through the container's sendfile
+     * support when it has one.</p>
      */
     @GetMapping("/files/{filename}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String filename) {
-        Resource resource = documentService.loadFile(filename);
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+    public void downloadFile(@PathVariable String filename, ServletWebRequest webRequest,
+                             HttpServletResponse response) throws IOException {
+        StoredFile file = documentService.getStoredFile(filename);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (webRequest.checkNotModified(file.getEtag(), file.getLastModified())) {
+            return;
+        }
+
+        long size = file.getSize();
+        long start = 0;
+        long length = size;
+        HttpRange range = requestedRange(webRequest, file);
+        if (range != null) {
+            long end;
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                end = -1;
+            }
+            if (start >= size || end < start) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            length = end - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        response.setContentLengthLong(length);
+        if (length == 0 || HttpMethod.HEAD.matches(webRequest.getRequest().getMethod())) {
+            return;
+        }
+
+        HttpServletRequest request = webRequest.getRequest();
+        if (downloadConfig.isSendfile() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The container writes the range with sendfile once this method returns
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        documentService.transferTo(file, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private CacheControl cacheControl() {
+        Duration maxAge = downloadConfig.getMaxAge();
+        CacheControl cacheControl = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+        return downloadConfig.isCachePrivate() ? cacheControl.cachePrivate() : cacheControl.cachePublic();
+    }
+
+    /**
+     * Returns the single byte range to serve, or null to serve the whole file: when there is
+     * no {@code Range} header, it is malformed or asks for several ranges, or an
+     * {@code If-Range} validator no longer matches the file.
+     */
+    private static HttpRange requestedRange(ServletWebRequest webRequest, StoredFile file) {
+        String rangeHeader = webRequest.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(webRequest.getHeader(HttpHeaders.IF_RANGE), file)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean ifRangeMatches(String ifRange, StoredFile file) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(file.getEtag());
+        }
+        try {
+            long since = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return since == file.getLastModified() / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
     }
 }
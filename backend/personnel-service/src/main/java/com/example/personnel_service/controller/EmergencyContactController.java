@@ -2,6 +2,9 @@ package com.example.personnel_service.controller;
 
 import com.example.personnel_service.entity.EmergencyContact;
 import com.example.personnel_service.service.EmergencyContactService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +44,30 @@ public class EmergencyContactController {
         return ResponseEntity.ok(emergencyContactService.getAllEmergencyContacts());
     }
 
+    /**
+     * Retrieves the emergency contacts of one person.
+     * 
+     * @param personId the unique identifier of the person
+     * @return ResponseEntity containing the person's EmergencyContact entities
+     */
+    @GetMapping("/person/{personId}")
+    public ResponseEntity<List<EmergencyContact>> getEmergencyContactsByPersonId(@PathVariable long personId) {
+        return ResponseEntity.ok(emergencyContactService.getEmergencyContactsByPersonId(personId));
+    }
+
+    /**
+     * Retrieves one page of a person's emergency contacts, ordered by id unless {@code sort} is given.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the {@code page}, {@code size} and {@code sort} query parameters
+     * @return ResponseEntity containing the page content and page metadata
+     */
+    @GetMapping("/person/{personId}/page")
+    public ResponseEntity<PagedModel<EmergencyContact>> getEmergencyContactPageByPersonId(@PathVariable long personId,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(emergencyContactService.getEmergencyContactPageByPersonId(personId, pageable)));
+    }
+
     /**
      * Retrieves a specific emergency contact by its unique identifier.
      * 
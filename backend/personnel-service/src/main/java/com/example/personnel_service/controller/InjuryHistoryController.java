@@ -2,6 +2,9 @@ package com.example.personnel_service.controller;
 
 import com.example.personnel_service.entity.InjuryHistory;
 import com.example.personnel_service.service.InjuryService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +44,30 @@ public class InjuryHistoryController {
         return ResponseEntity.ok(injuryService.getAllInjuryHistories());
     }
 
+    /**
+     * Retrieves the injury histories of one person.
+     * 
+     * @param personId the unique identifier of the person
+     * @return ResponseEntity containing the person's InjuryHistory entities
+     */
+    @GetMapping("/person/{personId}")
+    public ResponseEntity<List<InjuryHistory>> getInjuryHistoriesByPersonId(@PathVariable long personId) {
+        return ResponseEntity.ok(injuryService.getInjuryHistoriesByPersonId(personId));
+    }
+
+    /**
+     * Retrieves one page of a person's injury histories, ordered by id unless {@code sort} is given.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the {@code page}, {@code size} and {@code sort} query parameters
+     * @return ResponseEntity containing the page content and page metadata
+     */
+    @GetMapping("/person/{personId}/page")
+    public ResponseEntity<PagedModel<InjuryHistory>> getInjuryHistoryPageByPersonId(@PathVariable long personId,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(injuryService.getInjuryHistoryPageByPersonId(personId, pageable)));
+    }
+
     /**
      * Retrieves a specific injury history by its unique identifier.
      * 
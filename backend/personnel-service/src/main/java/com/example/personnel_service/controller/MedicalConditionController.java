@@ -41,6 +41,17 @@ public class MedicalConditionController {
         return ResponseEntity.ok(medicalConditionService.getAllMedicalConditions());
     }
 
+    /**
+     * Retrieves the medical condition of one person.
+     * 
+     * @param personId the unique identifier of the person
+     * @return ResponseEntity containing the person's MedicalCondition entity
+     */
+    @GetMapping("/person/{personId}")
+    public ResponseEntity<MedicalCondition> getMedicalConditionByPersonId(@PathVariable long personId) {
+        return ResponseEntity.ok(medicalConditionService.getMedicalConditionByPersonId(personId));
+    }
+
     /**
      * Retrieves a specific medical condition by its unique identifier.
      * 
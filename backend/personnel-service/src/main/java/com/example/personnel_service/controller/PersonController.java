@@ -1,12 +1,21 @@
 package com.example.personnel_service.controller;
 
+import com.example.personnel_service.dto.PersonFilter;
+import com.example.personnel_service.dto.PersonImportResult;
+import com.example.personnel_service.dto.PersonPage;
+import com.example.personnel_service.dto.PersonProfile;
 import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.service.PersonImportService;
 import com.example.personnel_service.service.PersonService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for managing Person entities.
@@ -21,14 +30,17 @@ import java.util.List;
 @RequestMapping("/api/personnel/person")
 public class PersonController {
     private final PersonService personService;
+    private final PersonImportService personImportService;
 
     /**
      * Constructs a new PersonController with the specified PersonService.
      * 
      * @param personService the service used to handle Person business logic
+     * @param personImportService the service that streams bulk imports into the database
      */
-    public PersonController(PersonService personService) {
+    public PersonController(PersonService personService, PersonImportService personImportService) {
         this.personService = personService;
+        this.personImportService = personImportService;
     }
 
     /**
@@ -41,6 +53,34 @@ public class PersonController {
         return ResponseEntity.ok(personService.getAllPersons());
     }
 
+    /**
+     * Retrieves one page of persons, ordered by id and optionally filtered. Pass the
+     * {@code nextAfter} of a page as {@code after} to read the next one. Example:
+     * {@code GET /api/personnel/person/page?status=AVAILABLE&skill=First Aid&limit=50&after=1200}
+     *
+     * @param filter optional filters: status (normalized, enabled persons only) and exact role,
+     *               department, organization, skill
+     * @param after cursor from the previous page; omit for the first page
+     * @param limit page size, 1 to {@value PersonService#MAX_PAGE_SIZE}
+     * @return ResponseEntity containing the page and the next cursor
+     */
+    @GetMapping("/page")
+    public ResponseEntity<PersonPage> getPersonPage(PersonFilter filter,
+                                                    @RequestParam(required = false) Long after,
+                                                    @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(personService.getPersonPage(filter, after, limit));
+    }
+
+    /**
+     * Counts enabled personnel by status, for dashboards that page through the roster.
+     *
+     * @return ResponseEntity containing the count per normalized status
+     */
+    @GetMapping("/status-counts")
+    public ResponseEntity<Map<String, Integer>> getStatusCounts() {
+        return ResponseEntity.ok(personService.getStatusCounts());
+    }
+
     /**
      * Retrieves a specific person by their unique identifier.
      * 
@@ -52,6 +92,23 @@ public class PersonController {
         return ResponseEntity.ok(personService.getPersonById(id));
     }
 
+    /**
+     * Retrieves a person with skills, emergency contacts and the full medical condition in
+     * one response. The response carries an ETag; a request whose {@code If-None-Match}
+     * matches it gets 304 Not Modified with no body.
+     * 
+     * @param id the unique identifier of the person
+     * @return ResponseEntity containing the complete Person aggregate
+     */
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<Person> getPersonProfile(@PathVariable Long id) {
+        PersonProfile profile = personService.getPersonProfile(id);
+        return ResponseEntity.ok()
+                .eTag(profile.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(profile.getPerson());
+    }
+
     /**
      * Creates one or more new person records.
      * 
@@ -63,6 +120,32 @@ public class PersonController {
         return ResponseEntity.status(HttpStatus.CREATED).body(personService.addPerson(persons));
     }
 
+    /**
+     * Imports persons from a CSV body with a header row, streaming it in chunks.
+     * 
+     * @param body the request body
+     * @return ResponseEntity containing the imported and failed row counts
+     * @throws IOException if the body cannot be read
+     * @see PersonImportService
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<PersonImportResult> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(personImportService.importCsv(body));
+    }
+
+    /**
+     * Imports persons from a newline-delimited JSON body, one person per line, streaming it in chunks.
+     * 
+     * @param body the request body
+     * @return ResponseEntity containing the imported and failed row counts
+     * @throws IOException if the body cannot be read
+     * @see PersonImportService
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<PersonImportResult> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(personImportService.importNdjson(body));
+    }
+
     /**
      * Updates one or more existing person records.
      * 
@@ -1,12 +1,18 @@
 package com.example.personnel_service.controller;
 
 import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.exception.BadRequestException;
 import com.example.personnel_service.service.SkillService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for managing Skill entities.
@@ -41,6 +47,58 @@ public class SkillController {
         return ResponseEntity.ok(skillService.getAllSkills());
     }
 
+    /**
+     * Retrieves the skills of one person.
+     * 
+     * @param personId the unique identifier of the person
+     * @return ResponseEntity containing the person's Skill entities
+     */
+    @GetMapping("/person/{personId}")
+    public ResponseEntity<List<Skill>> getSkillsByPersonId(@PathVariable long personId) {
+        return ResponseEntity.ok(skillService.getSkillsByPersonId(personId));
+    }
+
+    /**
+     * Retrieves one page of a person's skills, ordered by id unless {@code sort} is given.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the {@code page}, {@code size} and {@code sort} query parameters
+     * @return ResponseEntity containing the page content and page metadata
+     */
+    @GetMapping("/person/{personId}/page")
+    public ResponseEntity<PagedModel<Skill>> getSkillPageByPersonId(@PathVariable long personId,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(skillService.getSkillPageByPersonId(personId, pageable)));
+    }
+
+    /**
+     * Finds persons holding every requested skill at or above a minimum level, using the
+     * in-memory skill index. Example:
+     * {@code GET /api/personnel/skills/search?require=FIRST_AID:3&require=SWIFT_WATER:2&available=true}
+     *
+     * @param require one or more {@code SKILL[:minLevel]} terms, combined with AND; level defaults to 0
+     * @param available true to keep only enabled personnel whose status is AVAILABLE
+     * @return ResponseEntity containing the matching person ids in ascending order
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Long>> searchPersonsBySkills(@RequestParam List<String> require,
+                                                           @RequestParam(defaultValue = "false") boolean available) {
+        Map<String, Integer> requirements = new LinkedHashMap<>();
+        for (String term : require) {
+            String[] parts = term.split(":", 2);
+            if (parts[0].isBlank()) {
+                throw new BadRequestException("Skill name is required in term '" + term + "'");
+            }
+            try {
+                int level = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 0;
+                requirements.merge(parts[0].trim(), level, Math::max);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid level in term '" + term + "', expected SKILL:level");
+            }
+        }
+        return ResponseEntity.ok(skillService.findPersonIdsWithSkills(requirements, available));
+    }
+
     /**
      * Retrieves a specific skill by its unique identifier.
      * 
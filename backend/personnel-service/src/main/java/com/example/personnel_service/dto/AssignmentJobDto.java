@@ -0,0 +1,32 @@
+package com.example.personnel_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentJobDto {
+    private String jobId;
+    private Status status;
+    private int totalTasks;
+    private int plannedTasks;
+    private int assignedTasks;
+    private int failedTasks;
+    private List<TaskAssignmentDto> assignments;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
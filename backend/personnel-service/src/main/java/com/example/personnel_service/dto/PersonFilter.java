@@ -0,0 +1,20 @@
+package com.example.personnel_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters for the paged person listing. Each field is matched exactly against the
+ * stored value; a null or blank field does not filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonFilter {
+    private String status;
+    private String role;
+    private String department;
+    private String organization;
+    private String skill;
+}
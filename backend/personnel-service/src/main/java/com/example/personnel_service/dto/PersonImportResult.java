@@ -0,0 +1,20 @@
+package com.example.personnel_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk person import: rows saved, rows rejected, and the first errors by line.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonImportResult {
+    private int imported;
+    private int failed;
+    private List<String> errors = new ArrayList<>();
+}
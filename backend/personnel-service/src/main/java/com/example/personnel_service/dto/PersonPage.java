@@ -0,0 +1,20 @@
+package com.example.personnel_service.dto;
+
+import com.example.personnel_service.entity.Person;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of persons ordered by id. {@code nextAfter} is the cursor for the next
+ * page and is null on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonPage {
+    private List<Person> items;
+    private Long nextAfter;
+}
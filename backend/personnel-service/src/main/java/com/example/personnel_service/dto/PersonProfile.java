@@ -0,0 +1,18 @@
+package com.example.personnel_service.dto;
+
+import com.example.personnel_service.entity.Person;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A person loaded with every nested row, and the entity tag of that aggregate. The tag
+ * changes whenever any row in the aggregate is added, removed or updated.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonProfile {
+    private Person person;
+    private String etag;
+}
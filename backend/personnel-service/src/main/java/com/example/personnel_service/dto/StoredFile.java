@@ -0,0 +1,22 @@
+package com.example.personnel_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * An uploaded file on disk with the metadata needed to serve it: size, modification time
+ * and a strong entity tag. Stored files are written once under a unique name and never
+ * changed, so the tag identifies their bytes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFile {
+    private Path path;
+    private long size;
+    private long lastModified;
+    private String etag;
+}
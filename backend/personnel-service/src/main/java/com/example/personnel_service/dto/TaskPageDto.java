@@ -0,0 +1,19 @@
+package com.example.personnel_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of tasks from task-service's {@code GET /tasks/page}. {@code nextAfter}
+ * is the cursor for the next page and is null on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> items;
+    private Long nextAfter;
+}
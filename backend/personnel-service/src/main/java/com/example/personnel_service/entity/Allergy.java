@@ -20,12 +20,14 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_allergy_medical_condition", columnList = "medical_condition_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Allergy {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "allergy_seq")
+    @SequenceGenerator(name = "allergy_seq", sequenceName = "allergy_id_seq", allocationSize = 50)
     private long id;
     private String type;
     private String allergyTo;
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class AssignmentHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignment_history_seq")
+    @SequenceGenerator(name = "assignment_history_seq", sequenceName = "assignment_history_id_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore
@@ -19,12 +19,14 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_chronic_condition_medical_condition", columnList = "medical_condition_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChronicCondition {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chronic_condition_seq")
+    @SequenceGenerator(name = "chronic_condition_seq", sequenceName = "chronic_condition_id_seq", allocationSize = 50)
     private long id;
     private String name;
     private String severity;
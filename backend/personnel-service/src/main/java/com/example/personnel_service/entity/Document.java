@@ -19,12 +19,14 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_document_injury_history", columnList = "injury_history_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Document {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_seq")
+    @SequenceGenerator(name = "document_seq", sequenceName = "document_id_seq", allocationSize = 50)
     private long id;
     private String name;
     private String url;
@@ -0,0 +1,32 @@
+package com.example.personnel_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one stored upload blob, named by the SHA-256 of its content.
+ * Documents whose uploads have the same bytes share a blob; the reference count says
+ * how many documents point at it, and the file is removed when it drops to zero.
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBlob {
+    @Id
+    @Column(length = 64)
+    private String hash;
+    private long size;
+    private int referenceCount;
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -21,12 +21,14 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_emergency_contact_person", columnList = "person_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class EmergencyContact {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emergency_contact_seq")
+    @SequenceGenerator(name = "emergency_contact_seq", sequenceName = "emergency_contact_id_seq", allocationSize = 50)
     private long id;
 
     private String name;
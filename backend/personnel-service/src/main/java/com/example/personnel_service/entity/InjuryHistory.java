@@ -21,12 +21,14 @@ import java.util.List;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_injury_history_medical_condition", columnList = "medical_condition_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class InjuryHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "injury_history_seq")
+    @SequenceGenerator(name = "injury_history_seq", sequenceName = "injury_history_id_seq", allocationSize = 50)
     private long id;
     private String injuryType;
     private LocalDateTime date;
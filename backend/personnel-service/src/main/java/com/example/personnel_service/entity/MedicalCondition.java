@@ -28,7 +28,8 @@ import java.util.List;
 public class MedicalCondition {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medical_condition_seq")
+    @SequenceGenerator(name = "medical_condition_seq", sequenceName = "medical_condition_id_seq", allocationSize = 50)
     private long id;
 
     private String bloodGroup;
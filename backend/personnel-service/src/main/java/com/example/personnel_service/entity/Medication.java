@@ -19,12 +19,14 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_medication_medical_condition", columnList = "medical_condition_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Medication {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medication_seq")
+    @SequenceGenerator(name = "medication_seq", sequenceName = "medication_id_seq", allocationSize = 50)
     private long id;
     private String name;
     private String dosage;
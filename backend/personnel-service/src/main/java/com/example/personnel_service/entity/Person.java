@@ -1,14 +1,18 @@
 package com.example.personnel_service.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Entity representing a Person in the personnel management system.
@@ -20,6 +24,12 @@ import java.util.List;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_person_status_key_id", columnList = "status_key, is_disabled, id"),
+        @Index(name = "idx_person_role_id", columnList = "role, id"),
+        @Index(name = "idx_person_department_id", columnList = "department, id"),
+        @Index(name = "idx_person_organization_id", columnList = "organization, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,7 +37,8 @@ import java.util.List;
 public class Person {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_seq")
+    @SequenceGenerator(name = "person_seq", sequenceName = "person_id_seq", allocationSize = 50)
     private long id;
 
     private String personalCode;
@@ -53,6 +64,16 @@ public class Person {
     private List<Skill> skills;
 
     private String status;
+
+    /**
+     * The status normalized by {@link #normalizeStatus(String)}, derived on every save, so
+     * filters match "On Duty" and "ON_DUTY" alike through an ordinary index.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "status_key")
+    private String statusKey;
+
     private LocalDateTime shiftStartTime;
     private LocalDateTime shiftEndTime;
 
@@ -62,4 +83,24 @@ public class Person {
     private LocalDateTime updatedAt;
 
     private boolean isDisabled;
+
+    @PrePersist
+    @PreUpdate
+    void deriveStatusKey() {
+        statusKey = normalizeStatus(status);
+    }
+
+    /**
+     * Normalizes a status for filtering and counting: trimmed, upper case, runs of spaces
+     * and hyphens as one underscore.
+     *
+     * @param status the raw status, may be null
+     * @return the normalized status, {@code UNKNOWN} when blank
+     */
+    public static String normalizeStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return "UNKNOWN";
+        }
+        return status.trim().toUpperCase(Locale.ROOT).replaceAll("[\\s-]+", "_");
+    }
 }
@@ -19,11 +19,13 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = @Index(name = "idx_physical_limitation_medical_condition", columnList = "medical_condition_id"))
 @Data
 public class PhysicalLimitation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "physical_limitation_seq")
+    @SequenceGenerator(name = "physical_limitation_seq", sequenceName = "physical_limitation_id_seq", allocationSize = 50)
     private long id;
 
     private String limitation;
@@ -19,12 +19,17 @@ import java.time.LocalDateTime;
  * @since 2026-02-21
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_skill_profession_person", columnList = "profession, person_id"),
+        @Index(name = "idx_skill_person", columnList = "person_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Skill {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_seq")
+    @SequenceGenerator(name = "skill_seq", sequenceName = "skill_id_seq", allocationSize = 50)
     private long id;
     private int experienceYears;
     private int missionCount;
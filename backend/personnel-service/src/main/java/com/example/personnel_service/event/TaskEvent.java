@@ -0,0 +1,106 @@
+package com.example.personnel_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event DTO for task lifecycle notifications from task-service.
+ *
+ * <p>task-service publishes this envelope with the {@code task.created},
+ * {@code task.assigned} and {@code task.completed} routing keys, and with
+ * {@code tasks.created} for tasks created together in bulk. The
+ * personnel-service consumes all four to keep its local replica of
+ * pending tasks up to date.
+ *
+ * @author Personnel Service Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see com.example.personnel_service.service.PendingTaskReplica
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+
+    /**
+     * Type of event ("task.created", "tasks.created", "task.assigned" or "task.completed").
+     */
+    private String eventType;
+
+    /**
+     * Timestamp when the event occurred.
+     */
+    private LocalDateTime timestamp;
+
+    /**
+     * Event payload containing the task details.
+     */
+    private TaskPayload payload;
+
+    /**
+     * Every task created together, for {@code tasks.created} events; null otherwise.
+     */
+    private List<TaskPayload> payloads;
+
+    /**
+     * Nested payload class containing task details.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TaskPayload {
+        /**
+         * Database identifier of the task in task-service.
+         */
+        private Long id;
+
+        /**
+         * Unique task code (e.g., "TSK-401").
+         */
+        private String taskId;
+
+        /**
+         * Short task title.
+         */
+        private String title;
+
+        /**
+         * Detailed description of the task.
+         */
+        private String description;
+
+        /**
+         * Personnel ID assigned to the task, if any.
+         */
+        private String assignedTo;
+
+        /**
+         * Type of task (e.g., "RESCUE_OPERATION", "MEDICAL_AID").
+         */
+        private String taskType;
+
+        /**
+         * Priority level (e.g., "HIGH", "URGENT", "MEDIUM", "LOW").
+         */
+        private String priority;
+
+        /**
+         * Incident the task belongs to.
+         */
+        private Long incidentId;
+
+        /**
+         * Location where task needs to be performed.
+         */
+        private String location;
+
+        /**
+         * When the task was created in task-service.
+         */
+        private LocalDateTime createdAt;
+    }
+}
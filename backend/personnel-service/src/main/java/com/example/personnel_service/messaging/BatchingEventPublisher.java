@@ -0,0 +1,203 @@
+package com.example.personnel_service.messaging;
+
+import com.example.personnel_service.config.EventPublisherConfig;
+import com.example.personnel_service.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes events to RabbitMQ in batches from a background thread.
+ *
+ * <p>Callers hand events to {@link #publishAfterCommit(String, Object)}, which queues them
+ * once the surrounding transaction commits (or at once when there is none), so a rolled
+ * back write never announces itself. A single worker drains the queue up to
+ * {@code batch-size} events at a time, sends them on one channel and waits for the broker's
+ * publisher confirms once per batch instead of once per event. A batch that is not
+ * confirmed is resent up to {@code max-attempts} times; consumers must tolerate the
+ * occasional duplicate.</p>
+ *
+ * <p>The queue is bounded. When it is full the caller blocks for up to {@code offer-timeout},
+ * which slows a bulk import down to the broker's pace; if there is still no room the event
+ * is rejected and logged.</p>
+ *
+ * <p>Metrics: {@code personnel.events.queue.size}, and {@code personnel.events.published},
+ * {@code personnel.events.failed} and {@code personnel.events.rejected} counting events.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see EventPublisherConfig
+ */
+@Component
+@Slf4j
+public class BatchingEventPublisher {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisherConfig config;
+    private final BlockingQueue<PendingEvent> queue;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public BatchingEventPublisher(RabbitTemplate rabbitTemplate, EventPublisherConfig config,
+                                  MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.published = Counter.builder("personnel.events.published")
+                .description("Events confirmed by the broker").register(meterRegistry);
+        this.failed = Counter.builder("personnel.events.failed")
+                .description("Events dropped after every send attempt failed").register(meterRegistry);
+        this.rejected = Counter.builder("personnel.events.rejected")
+                .description("Events rejected because the publish queue stayed full").register(meterRegistry);
+        Gauge.builder("personnel.events.queue.size", queue, BlockingQueue::size)
+                .description("Events waiting to be published").register(meterRegistry);
+    }
+
+    /**
+     * Starts the background publishing thread.
+     */
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("personnel-event-publisher").start(this::run);
+    }
+
+    /**
+     * Stops accepting work and publishes what is already queued before returning.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(config.getConfirmTimeout().multipliedBy(2).toMillis() + POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!queue.isEmpty()) {
+                log.warn("Event publisher stopped with {} events unpublished", queue.size());
+            }
+        }
+    }
+
+    /**
+     * Queues an event for publishing once the current transaction commits. Without an
+     * active transaction the event is queued immediately.
+     *
+     * @param routingKey the routing key on the personnel exchange
+     * @param event the event payload
+     */
+    public void publishAfterCommit(String routingKey, Object event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(new PendingEvent(routingKey, event));
+                }
+            });
+        } else {
+            enqueue(new PendingEvent(routingKey, event));
+        }
+    }
+
+    /**
+     * @return the number of events waiting to be published
+     */
+    public int queuedEvents() {
+        return queue.size();
+    }
+
+    /**
+     * Waits up to {@code waitMillis} for an event, then sends it together with whatever else
+     * is queued, up to one batch.
+     *
+     * @return the number of events taken from the queue
+     */
+    int publishBatch(long waitMillis) throws InterruptedException {
+        PendingEvent first = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<PendingEvent> batch = new ArrayList<>(config.getBatchSize());
+        batch.add(first);
+        queue.drainTo(batch, config.getBatchSize() - 1);
+        send(batch);
+        return batch.size();
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                publishBatch(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in event publisher", e);
+            }
+        }
+    }
+
+    private void enqueue(PendingEvent pending) {
+        try {
+            if (queue.offer(pending, config.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            log.error("Event queue full for {}, rejecting {} event", config.getOfferTimeout(), pending.routingKey());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while queueing {} event", pending.routingKey());
+        }
+        rejected.increment();
+    }
+
+    private void send(List<PendingEvent> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rabbitTemplate.invoke(operations -> {
+                    for (PendingEvent pending : batch) {
+                        operations.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, pending.routingKey(), pending.event());
+                    }
+                    operations.waitForConfirmsOrDie(config.getConfirmTimeout().toMillis());
+                    return null;
+                });
+                published.increment(batch.size());
+                log.debug("Published {} events", batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= config.getMaxAttempts()) {
+                    failed.increment(batch.size());
+                    log.error("Dropping {} events after {} attempts: {}", batch.size(), attempt, e.getMessage());
+                    return;
+                }
+                log.warn("Publishing {} events failed (attempt {}/{}), retrying: {}",
+                        batch.size(), attempt, config.getMaxAttempts(), e.getMessage());
+                Thread.sleep(config.getRetryBackoff().multipliedBy(attempt).toMillis());
+            }
+        }
+    }
+
+    private record PendingEvent(String routingKey, Object event) {
+    }
+}
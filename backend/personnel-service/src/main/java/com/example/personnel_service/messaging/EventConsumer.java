@@ -2,9 +2,14 @@ package com.example.personnel_service.messaging;
 
 import com.example.personnel_service.config.RabbitMQConfig;
 import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.event.PersonnelStatusEvent;
 import com.example.personnel_service.event.TaskAssignedEvent;
+import com.example.personnel_service.event.TaskEvent;
 import com.example.personnel_service.event.UserRegisteredEvent;
 import com.example.personnel_service.repository.PersonRepository;
+import com.example.personnel_service.service.GeminiResponseCache;
+import com.example.personnel_service.service.PendingTaskReplica;
+import com.example.personnel_service.service.PersonAvailabilityIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
@@ -16,6 +21,9 @@ import org.springframework.stereotype.Component;
 public class EventConsumer {
 
     private final PersonRepository personRepository;
+    private final GeminiResponseCache geminiResponseCache;
+    private final PendingTaskReplica pendingTaskReplica;
+    private final PersonAvailabilityIndex availabilityIndex;
 
     @RabbitListener(queues = RabbitMQConfig.TASK_ASSIGNED_QUEUE)
     public void handleTaskAssigned(TaskAssignedEvent event) {
@@ -28,7 +36,8 @@ public class EventConsumer {
             Long personnelId = extractPersonnelId(event.getPayload().getAssignedTo());
             personRepository.findById(personnelId).ifPresentOrElse(person -> {
                 person.setStatus("ON_DUTY");
-                personRepository.save(person);
+                availabilityIndex.update(personRepository.save(person));
+                geminiResponseCache.invalidatePerson(personnelId);
                 log.info("Updated personnel {} status to ON_DUTY for task {}",
                         personnelId, event.getPayload().getTaskId());
             }, () -> log.warn("Personnel not found for ID: {}", personnelId));
@@ -38,6 +47,34 @@ public class EventConsumer {
         }
     }
 
+    @RabbitListener(queues = RabbitMQConfig.TASK_REPLICA_QUEUE)
+    public void handleTaskLifecycle(TaskEvent event) {
+        try {
+            log.debug("Received {} event: taskId={}, tasks={}", event.getEventType(),
+                    event.getPayload() != null ? event.getPayload().getTaskId() : null,
+                    event.getPayloads() != null ? event.getPayloads().size() : null);
+            pendingTaskReplica.apply(event);
+        } catch (Exception e) {
+            log.error("Failed to apply task event to pending-task replica: {}", e.getMessage(), e);
+        }
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.PERSONNEL_STATUS_QUEUE)
+    public void handlePersonnelStatusChanged(PersonnelStatusEvent event) {
+        try {
+            Long personnelId = event.getPayload() != null ? event.getPayload().getPersonnelId() : null;
+            log.info("Received {} event: personnelId={}", event.getEventType(), personnelId);
+
+            if (personnelId != null) {
+                geminiResponseCache.invalidatePerson(personnelId);
+            } else {
+                geminiResponseCache.invalidateAll();
+            }
+        } catch (Exception e) {
+            log.error("Failed to process personnel status event: {}", e.getMessage(), e);
+        }
+    }
+
     @RabbitListener(queues = RabbitMQConfig.USER_REGISTERED_QUEUE)
     public void handleUserRegistered(UserRegisteredEvent event) {
         try {
@@ -63,7 +100,7 @@ public class EventConsumer {
             person.setStatus("AVAILABLE");
             person.setDisabled(false);
 
-            personRepository.save(person);
+            availabilityIndex.update(personRepository.save(person));
             log.info("Created Person record (id={}) from user.registered event for user: {}",
                     person.getId(), event.getPayload().getUsername());
 
@@ -2,6 +2,36 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.Allergy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface AllergyRepository extends JpaRepository<Allergy, Long> {
+    /**
+     * Selects one person's allergies through their medical condition.
+     */
+    String BY_PERSON = "select a from Allergy a "
+            + "where a.medicalCondition.id = (select p.medicalCondition.id from Person p where p.id = :personId)";
+
+    /**
+     * Finds the allergies of one person.
+     *
+     * @param personId the person id
+     * @return the person's allergies
+     */
+    @Query(BY_PERSON)
+    List<Allergy> findByPersonId(@Param("personId") long personId);
+
+    /**
+     * Pages through the allergies of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    @Query(BY_PERSON)
+    Page<Allergy> findByPersonId(@Param("personId") long personId, Pageable pageable);
 }
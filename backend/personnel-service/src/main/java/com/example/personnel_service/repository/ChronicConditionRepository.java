@@ -2,6 +2,36 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.ChronicCondition;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ChronicConditionRepository extends JpaRepository<ChronicCondition, Long> {
+    /**
+     * Selects one person's chronic conditions through their medical condition.
+     */
+    String BY_PERSON = "select c from ChronicCondition c "
+            + "where c.medicalCondition.id = (select p.medicalCondition.id from Person p where p.id = :personId)";
+
+    /**
+     * Finds the chronic conditions of one person.
+     *
+     * @param personId the person id
+     * @return the person's chronic conditions
+     */
+    @Query(BY_PERSON)
+    List<ChronicCondition> findByPersonId(@Param("personId") long personId);
+
+    /**
+     * Pages through the chronic conditions of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    @Query(BY_PERSON)
+    Page<ChronicCondition> findByPersonId(@Param("personId") long personId, Pageable pageable);
 }
@@ -0,0 +1,45 @@
+package com.example.personnel_service.repository;
+
+import com.example.personnel_service.entity.DocumentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for DocumentBlob entity.
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ */
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, String> {
+
+    /**
+     * Reads a blob and locks its row until the transaction ends, so concurrent uploads and
+     * deletes of the same content update its reference count one at a time.
+     *
+     * @param hash the SHA-256 of the blob content, in lower-case hex
+     * @return the locked blob, if stored
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from DocumentBlob b where b.hash = :hash")
+    Optional<DocumentBlob> findForUpdate(@Param("hash") String hash);
+
+    /**
+     * Inserts a blob with no references unless one with the same hash exists. A concurrent
+     * insert of the same hash waits for the other transaction instead of failing on the key.
+     *
+     * @param hash the SHA-256 of the blob content, in lower-case hex
+     * @param size the content length in bytes
+     * @return 1 if the row was inserted, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = "insert into document_blob (hash, size, reference_count, created_at) "
+            + "values (:hash, :size, 0, current_timestamp) on conflict (hash) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("size") long size);
+}
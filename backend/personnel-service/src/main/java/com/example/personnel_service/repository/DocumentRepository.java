@@ -2,6 +2,36 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.Document;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface DocumentRepository extends JpaRepository<Document, Long> {
+    /**
+     * Selects one person's documents through the injuries on their medical condition.
+     */
+    String BY_PERSON = "select d from Document d "
+            + "where d.injuryHistory.medicalCondition.id = (select p.medicalCondition.id from Person p where p.id = :personId)";
+
+    /**
+     * Finds the documents of one person.
+     *
+     * @param personId the person id
+     * @return the person's documents
+     */
+    @Query(BY_PERSON)
+    List<Document> findByPersonId(@Param("personId") long personId);
+
+    /**
+     * Pages through the documents of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    @Query(BY_PERSON)
+    Page<Document> findByPersonId(@Param("personId") long personId, Pageable pageable);
 }
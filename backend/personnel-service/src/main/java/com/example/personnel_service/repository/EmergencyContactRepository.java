@@ -2,6 +2,26 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.EmergencyContact;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface EmergencyContactRepository extends JpaRepository<EmergencyContact, Long> {
+    /**
+     * Finds the emergency contacts of one person through the {@code person_id} index.
+     *
+     * @param personId the person id
+     * @return the person's emergency contacts
+     */
+    List<EmergencyContact> findByPersonId(long personId);
+
+    /**
+     * Pages through the emergency contacts of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    Page<EmergencyContact> findByPersonId(long personId, Pageable pageable);
 }
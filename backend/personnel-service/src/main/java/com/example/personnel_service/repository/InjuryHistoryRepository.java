@@ -2,6 +2,36 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.InjuryHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface InjuryHistoryRepository extends JpaRepository<InjuryHistory, Long> {
+    /**
+     * Selects one person's injury histories through their medical condition.
+     */
+    String BY_PERSON = "select i from InjuryHistory i "
+            + "where i.medicalCondition.id = (select p.medicalCondition.id from Person p where p.id = :personId)";
+
+    /**
+     * Finds the injury histories of one person.
+     *
+     * @param personId the person id
+     * @return the person's injury histories
+     */
+    @Query(BY_PERSON)
+    List<InjuryHistory> findByPersonId(@Param("personId") long personId);
+
+    /**
+     * Pages through the injury histories of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    @Query(BY_PERSON)
+    Page<InjuryHistory> findByPersonId(@Param("personId") long personId, Pageable pageable);
 }
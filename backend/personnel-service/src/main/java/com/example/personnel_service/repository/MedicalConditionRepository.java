@@ -2,6 +2,18 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.MedicalCondition;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface MedicalConditionRepository extends JpaRepository<MedicalCondition, Long> {
+    /**
+     * Finds the medical condition of one person by following the person's foreign key.
+     *
+     * @param personId the person id
+     * @return the person's medical condition, if the person has one
+     */
+    @Query("select p.medicalCondition from Person p where p.id = :personId")
+    Optional<MedicalCondition> findByPersonId(@Param("personId") long personId);
 }
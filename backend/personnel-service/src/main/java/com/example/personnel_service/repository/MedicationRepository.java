@@ -2,6 +2,36 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.Medication;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MedicationRepository extends JpaRepository<Medication, Long> {
+    /**
+     * Selects one person's medications through their medical condition.
+     */
+    String BY_PERSON = "select m from Medication m "
+            + "where m.medicalCondition.id = (select p.medicalCondition.id from Person p where p.id = :personId)";
+
+    /**
+     * Finds the medications of one person.
+     *
+     * @param personId the person id
+     * @return the person's medications
+     */
+    @Query(BY_PERSON)
+    List<Medication> findByPersonId(@Param("personId") long personId);
+
+    /**
+     * Pages through the medications of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    @Query(BY_PERSON)
+    Page<Medication> findByPersonId(@Param("personId") long personId, Pageable pageable);
 }
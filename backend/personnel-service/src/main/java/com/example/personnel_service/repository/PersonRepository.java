@@ -1,7 +1,17 @@
 package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.Person;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Person entity.
@@ -14,4 +24,147 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
+    /**
+     * Id, status and enabled flag of a person, without loading the entity.
+     */
+    interface AvailabilityView {
+        long getId();
+
+        String getStatus();
+
+        boolean isDisabled();
+    }
+
+    /**
+     * Reads the columns needed to build the availability index for every person.
+     *
+     * @return one availability row per person
+     */
+    @Query("select p.id as id, p.status as status, p.isDisabled as disabled from Person p")
+    List<AvailabilityView> findAllAvailability();
+
+    /**
+     * Shift window of one person, as read to build the shift index.
+     */
+    interface ShiftView {
+        long getId();
+
+        LocalDateTime getShiftStartTime();
+
+        LocalDateTime getShiftEndTime();
+    }
+
+    /**
+     * Reads the shift window of every person that has one.
+     *
+     * @return one shift row per person with both shift times set
+     */
+    @Query("select p.id as id, p.shiftStartTime as shiftStartTime, p.shiftEndTime as shiftEndTime from Person p "
+            + "where p.shiftStartTime is not null and p.shiftEndTime is not null")
+    List<ShiftView> findAllShifts();
+
+    /**
+     * An active physical limitation keyed by the person it belongs to.
+     */
+    interface LimitationView {
+        long getPersonId();
+
+        long getId();
+
+        String getLimitation();
+    }
+
+    /**
+     * Loads every person with skills and medical condition fetched in the same query.
+     * Emergency contacts and the medical sub-records are batch-fetched on access.
+     *
+     * @return all persons
+     */
+    @EntityGraph(attributePaths = {"skills", "medicalCondition"})
+    @Query("select p from Person p")
+    List<Person> findAllWithSkills();
+
+    /**
+     * Loads the given persons with skills and medical condition fetched in the same query.
+     *
+     * @param ids the person ids
+     * @return the persons found, in no particular order
+     */
+    @EntityGraph(attributePaths = {"skills", "medicalCondition"})
+    List<Person> findWithSkillsByIdIn(Collection<Long> ids);
+
+    /**
+     * Loads one person with skills and medical condition fetched in the same query; the
+     * remaining collections of the profile are initialized by the caller.
+     *
+     * @param id the person id
+     * @return the person, if found
+     */
+    @EntityGraph(attributePaths = {"skills", "medicalCondition"})
+    Optional<Person> findProfileById(long id);
+
+    /**
+     * Reads the enabled physical limitations of the given persons in one query, without
+     * loading their medical condition collections.
+     *
+     * @param ids the person ids
+     * @return one row per active limitation, ordered by limitation id
+     */
+    @Query("select p.id as personId, l.id as id, l.limitation as limitation "
+            + "from Person p join p.medicalCondition m join m.physicalLimitations l "
+            + "where p.id in :ids and l.isDisabled = false order by l.id")
+    List<LimitationView> findActiveLimitations(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reads one keyset page of person ids matching the filters, in id order. Each filter is
+     * skipped when null. The status filter matches the normalized status of enabled persons
+     * only, as the status counts do, through the {@code (status_key, is_disabled, id)} index;
+     * the role, department and organization filters are served by the {@code (column, id)}
+     * indexes on {@link Person}, and the skill filter by the {@code (profession, person_id)}
+     * index on skills.
+     *
+     * @param after only ids greater than this are returned
+     * @param status normalized status, e.g. {@code ON_DUTY}, or null
+     * @param role exact role, or null
+     * @param department exact department, or null
+     * @param organization exact organization, or null
+     * @param skill exact name of an enabled skill the person must hold, or null
+     * @param page the page size, at page 0; {@code after} does the scrolling
+     * @return up to {@code page.getPageSize()} ids in ascending order
+     */
+    @Query("select p.id from Person p where p.id > :after "
+            + "and (:status is null or (p.statusKey = :status and p.isDisabled = false)) "
+            + "and (:role is null or p.role = :role) "
+            + "and (:department is null or p.department = :department) "
+            + "and (:organization is null or p.organization = :organization) "
+            + "and (:skill is null or exists (select s.id from Skill s "
+            + "where s.person = p and s.profession = :skill and s.isDisabled = false)) "
+            + "order by p.id")
+    List<Long> findPageIds(@Param("after") long after,
+                           @Param("status") String status,
+                           @Param("role") String role,
+                           @Param("department") String department,
+                           @Param("organization") String organization,
+                           @Param("skill") String skill,
+                           Pageable page);
+
+    /**
+     * Lists the distinct statuses of persons saved before the normalized status column existed.
+     *
+     * @return the raw statuses still lacking a status key, possibly including null
+     */
+    @Query("select distinct p.status from Person p where p.statusKey is null")
+    List<String> findStatusesWithoutKey();
+
+    /**
+     * Sets the normalized status of every person with the given raw status and no key yet.
+     *
+     * @param status the raw status, or null
+     * @param statusKey its normalized form
+     * @return the number of persons updated
+     */
+    @Modifying
+    @Query("update Person p set p.statusKey = :statusKey where p.statusKey is null "
+            + "and (p.status = :status or (:status is null and p.status is null))")
+    int setStatusKey(@Param("status") String status, @Param("statusKey") String statusKey);
 }
@@ -2,6 +2,36 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.PhysicalLimitation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PhysicalLimitationRepository extends JpaRepository<PhysicalLimitation, Long> {
+    /**
+     * Selects one person's physical limitations through their medical condition.
+     */
+    String BY_PERSON = "select l from PhysicalLimitation l "
+            + "where l.medicalCondition.id = (select p.medicalCondition.id from Person p where p.id = :personId)";
+
+    /**
+     * Finds the physical limitations of one person.
+     *
+     * @param personId the person id
+     * @return the person's physical limitations
+     */
+    @Query(BY_PERSON)
+    List<PhysicalLimitation> findByPersonId(@Param("personId") long personId);
+
+    /**
+     * Pages through the physical limitations of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    @Query(BY_PERSON)
+    Page<PhysicalLimitation> findByPersonId(@Param("personId") long personId, Pageable pageable);
 }
@@ -2,6 +2,52 @@ package com.example.personnel_service.repository;
 
 import com.example.personnel_service.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    /**
+     * Skill id, owner, name, level and disabled flag, without loading the entity.
+     */
+    interface IndexView {
+        long getId();
+
+        Long getPersonId();
+
+        String getProfession();
+
+        String getLevel();
+
+        boolean isDisabled();
+    }
+
+    /**
+     * Reads the columns needed to build the skill index for every skill owned by a person.
+     *
+     * @return one row per owned skill
+     */
+    @Query("select s.id as id, s.person.id as personId, s.profession as profession, s.level as level, "
+            + "s.isDisabled as disabled from Skill s where s.person is not null")
+    List<IndexView> findAllForIndex();
+
+    /**
+     * Finds the skills of one person through the {@code person_id} index.
+     *
+     * @param personId the person id
+     * @return the person's skills
+     */
+    List<Skill> findByPersonId(long personId);
+
+    /**
+     * Pages through the skills of one person.
+     *
+     * @param personId the person id
+     * @param pageable the page to read
+     * @return the requested page
+     */
+    Page<Skill> findByPersonId(long personId, Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.Allergy;
 import com.example.personnel_service.repository.AllergyRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,6 +38,27 @@ public class AllergyService {
         return _allergyRepository.findAll();
     }
 
+    /**
+     * Retrieves the allergies of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's Allergy entities
+     */
+    public List<Allergy> getAllergiesByPersonId(long personId) {
+        return _allergyRepository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's allergies.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's Allergy entities
+     */
+    public Page<Allergy> getAllergyPageByPersonId(long personId, Pageable pageable) {
+        return _allergyRepository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves an allergy by its unique identifier.
      * 
@@ -0,0 +1,289 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.client.TaskClient;
+import com.example.personnel_service.config.AssignmentJobConfig;
+import com.example.personnel_service.dto.AssignmentJobDto;
+import com.example.personnel_service.dto.TaskAssignmentDto;
+import com.example.personnel_service.dto.TaskDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs match-all-pending as a background job so no HTTP thread waits for the batch.
+ *
+ * <p>Match-all is single-flight: jobs run one at a time on a single worker, and a
+ * submission made while a job is queued or running returns that job instead of starting
+ * another, so two runs never assign the same task or person. Progress and each persisted
+ * assignment are kept on the job for polling and pushed to any Server-Sent Events
+ * subscribers:</p>
+ * <ul>
+ *   <li>{@code progress} - a job snapshot whenever counters change</li>
+ *   <li>{@code assignment} - each {@link TaskAssignmentDto} as soon as it is persisted</li>
+ *   <li>{@code completed} / {@code failed} - the final snapshot, after which the stream closes</li>
+ * </ul>
+ *
+ * <p>The worker thread has no HTTP request, so the submitter's {@code Authorization}
+ * header is captured on submission and forwarded on the job's task-service calls.</p>
+ *
+ * <p>Finished jobs are kept for {@code assignment.jobs.retention} and purged lazily on
+ * the next submission or lookup.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService#matchAllPendingTasks(AssignmentProgressListener)
+ */
+@Service
+public class AssignmentJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentJobService.class);
+
+    private final AssignmentService assignmentService;
+    private final AssignmentJobConfig jobConfig;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private Job active;
+
+    @Autowired
+    public AssignmentJobService(AssignmentService assignmentService, AssignmentJobConfig jobConfig) {
+        this(assignmentService, jobConfig, newExecutor(), Clock.systemDefaultZone());
+    }
+
+    AssignmentJobService(AssignmentService assignmentService, AssignmentJobConfig jobConfig,
+                         ExecutorService executor, Clock clock) {
+        this.assignmentService = assignmentService;
+        this.jobConfig = jobConfig;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Queues a match-all-pending run, unless one is already queued or running.
+     *
+     * @return a snapshot of the new job, or of the job already in progress
+     * @throws RejectedExecutionException if the service is shutting down
+     */
+    public synchronized AssignmentJobDto submitMatchAllPending() {
+        purgeExpired();
+        if (active != null) {
+            log.info("Assignment job {} already in progress, not starting another", active.id);
+            return active.snapshot();
+        }
+        Job job = new Job(UUID.randomUUID().toString(), TaskClient.currentAuthorization(), LocalDateTime.now(clock));
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        active = job;
+        log.info("Submitted assignment job {}", job.id);
+        return job.snapshot();
+    }
+
+    /**
+     * Returns the current state of a job.
+     *
+     * @param jobId the job ID returned on submission
+     * @return the job snapshot, or empty if unknown or already purged
+     */
+    public Optional<AssignmentJobDto> findJob(String jobId) {
+        purgeExpired();
+        Job job = jobs.get(jobId);
+        return job != null ? Optional.of(job.snapshot()) : Optional.empty();
+    }
+
+    /**
+     * Opens a progress stream for a job. The current snapshot is sent immediately; for a
+     * finished job the stream then closes.
+     *
+     * @param jobId the job ID returned on submission
+     * @return the emitter, or empty if the job is unknown
+     */
+    public Optional<SseEmitter> subscribe(String jobId) {
+        purgeExpired();
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(jobConfig.getSseTimeout().toMillis());
+        job.subscribe(emitter);
+        return Optional.of(emitter);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        job.start(LocalDateTime.now(clock));
+        try {
+            TaskClient.withAuthorization(job.authorization, () -> assignmentService.matchAllPendingTasks(job));
+            job.finish(AssignmentJobDto.Status.COMPLETED, null, LocalDateTime.now(clock));
+            log.info("Assignment job {} completed", job.id);
+        } catch (Exception e) {
+            log.error("Assignment job {} failed: {}", job.id, e.getMessage(), e);
+            job.finish(AssignmentJobDto.Status.FAILED,
+                    e.getMessage() != null ? e.getMessage() : "Unknown error", LocalDateTime.now(clock));
+        } finally {
+            synchronized (this) {
+                if (active == job) {
+                    active = null;
+                }
+            }
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(jobConfig.getRetention());
+        jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+    }
+
+    private static ExecutorService newExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "assignment-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Mutable job state, updated from the worker thread and read by request threads.
+     */
+    private static final class Job implements AssignmentProgressListener {
+        private final String id;
+        private final String authorization;
+        private final LocalDateTime submittedAt;
+        private final List<TaskAssignmentDto> assignments = new ArrayList<>();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private AssignmentJobDto.Status status = AssignmentJobDto.Status.QUEUED;
+        private int totalTasks;
+        private int plannedTasks;
+        private int failedTasks;
+        private String error;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+
+        private Job(String id, String authorization, LocalDateTime submittedAt) {
+            this.id = id;
+            this.authorization = authorization;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void onTasksLoaded(int pendingTasks) {
+            synchronized (this) {
+                totalTasks = pendingTasks;
+            }
+            send("progress", snapshot());
+        }
+
+        @Override
+        public void onPlanned(int plannedAssignments) {
+            synchronized (this) {
+                plannedTasks = plannedAssignments;
+            }
+            send("progress", snapshot());
+        }
+
+        @Override
+        public void onAssigned(TaskAssignmentDto assignment) {
+            synchronized (this) {
+                assignments.add(assignment);
+            }
+            send("assignment", assignment);
+            send("progress", snapshot());
+        }
+
+        @Override
+        public void onAssignmentFailed(TaskDto task, Exception e) {
+            synchronized (this) {
+                failedTasks++;
+            }
+            send("progress", snapshot());
+        }
+
+        private void start(LocalDateTime now) {
+            synchronized (this) {
+                status = AssignmentJobDto.Status.RUNNING;
+                startedAt = now;
+            }
+            send("progress", snapshot());
+        }
+
+        private void finish(AssignmentJobDto.Status finalStatus, String failure, LocalDateTime now) {
+            synchronized (this) {
+                status = finalStatus;
+                error = failure;
+                finishedAt = now;
+            }
+            send(finalStatus == AssignmentJobDto.Status.COMPLETED ? "completed" : "failed", snapshot());
+            for (SseEmitter emitter : emitters) {
+                emitter.complete();
+            }
+            emitters.clear();
+        }
+
+        private void subscribe(SseEmitter emitter) {
+            AssignmentJobDto current;
+            synchronized (this) {
+                current = snapshot();
+                if (finishedAt == null) {
+                    emitters.add(emitter);
+                    emitter.onCompletion(() -> emitters.remove(emitter));
+                    emitter.onTimeout(() -> emitters.remove(emitter));
+                }
+            }
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(current));
+                if (current.getFinishedAt() != null) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away, or the job finished and closed the stream meanwhile
+                emitters.remove(emitter);
+            }
+        }
+
+        private synchronized boolean finishedBefore(LocalDateTime cutoff) {
+            return finishedAt != null && finishedAt.isBefore(cutoff);
+        }
+
+        private synchronized AssignmentJobDto snapshot() {
+            return new AssignmentJobDto(id, status, totalTasks, plannedTasks, assignments.size(), failedTasks,
+                    new ArrayList<>(assignments), error, submittedAt, startedAt, finishedAt);
+        }
+
+        private void send(String eventName, Object data) {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().name(eventName).data(data));
+                } catch (Exception e) {
+                    // Client went away; drop the subscriber and keep the job running
+                    emitters.remove(emitter);
+                }
+            }
+        }
+    }
+}
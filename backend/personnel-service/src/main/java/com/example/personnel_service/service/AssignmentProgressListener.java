@@ -0,0 +1,56 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.dto.TaskAssignmentDto;
+import com.example.personnel_service.dto.TaskDto;
+
+/**
+ * Callback for following a batch assignment run as it progresses.
+ *
+ * <p>All methods have empty defaults so callers only override what they report.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService#matchAllPendingTasks(AssignmentProgressListener)
+ */
+public interface AssignmentProgressListener {
+
+    /**
+     * No-op listener used by the synchronous API.
+     */
+    AssignmentProgressListener NONE = new AssignmentProgressListener() {
+    };
+
+    /**
+     * Called once the pending tasks have been fetched.
+     *
+     * @param pendingTasks the number of tasks to be assigned
+     */
+    default void onTasksLoaded(int pendingTasks) {
+    }
+
+    /**
+     * Called once the assignment plan is ready, before anything is persisted.
+     *
+     * @param plannedAssignments the number of tasks that will be assigned
+     */
+    default void onPlanned(int plannedAssignments) {
+    }
+
+    /**
+     * Called after an assignment has been persisted.
+     *
+     * @param assignment the persisted assignment
+     */
+    default void onAssigned(TaskAssignmentDto assignment) {
+    }
+
+    /**
+     * Called when persisting a planned assignment fails.
+     *
+     * @param task the task that could not be assigned
+     * @param error the failure
+     */
+    default void onAssignmentFailed(TaskDto task, Exception error) {
+    }
+}
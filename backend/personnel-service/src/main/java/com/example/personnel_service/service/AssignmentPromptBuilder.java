@@ -0,0 +1,340 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.dto.PersonDto;
+import com.example.personnel_service.dto.TaskAssignmentDto;
+import com.example.personnel_service.dto.TaskDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds Gemini prompts for task assignment and parses batched responses.
+ *
+ * <p>Besides the single-task prompt, this component can ship the personnel roster
+ * once together with many tasks, so a batch of N tasks costs one Gemini round-trip
+ * instead of N. Batches are split so that each prompt stays within a configurable
+ * token budget.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService
+ */
+@Component
+public class AssignmentPromptBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentPromptBuilder.class);
+
+    /**
+     * Rough characters-per-token ratio used to estimate prompt size.
+     */
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private static final String PREAMBLE = "You are an AI assistant for disaster management personnel assignment. ";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Builds a comprehensive prompt for Gemini AI with task and personnel details.
+     *
+     * <p>The prompt includes:</p>
+     * <ul>
+     *   <li>Task details: ID, code, type, title, description, priority, location</li>
+     *   <li>Personnel details: ID, name, role, department, rank, skills, medical conditions, status</li>
+     *   <li>Matching instructions and criteria</li>
+     *   <li>Expected JSON response format</li>
+     * </ul>
+     *
+     * <p>The prompt is structured to guide the AI to make optimal decisions based on
+     * disaster management requirements and personnel capabilities.</p>
+     *
+     * @param persons the list of available personnel to consider
+     * @param task the task requiring assignment
+     * @return a formatted string prompt for Gemini AI
+     */
+    public String buildPrompt(List<PersonDto> persons, TaskDto task) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append(PREAMBLE);
+        prompt.append("Analyze the following task and available personnel, then select the MOST SUITABLE person for this task.\n\n");
+
+        prompt.append("### TASK DETAILS ###\n");
+        appendTask(prompt, task, "");
+        prompt.append("\n");
+
+        appendRoster(prompt, persons);
+
+        prompt.append("### INSTRUCTIONS ###\n");
+        prompt.append("Based on the task requirements and personnel qualifications:\n");
+        prompt.append("1. Consider the task type, priority, and location\n");
+        prompt.append("2. Evaluate each person's role, skills, rank, and availability\n");
+        prompt.append("3. Match skills and experience to task requirements\n");
+        prompt.append("4. Consider medical conditions if relevant\n");
+        prompt.append("5. Select the SINGLE most suitable person\n\n");
+
+        prompt.append("RESPOND IN THIS EXACT JSON FORMAT (no additional text):\n");
+        prompt.append("{\n");
+        prompt.append("  \"personId\": <selected person ID as number>,\n");
+        prompt.append("  \"reason\": \"<brief explanation of why this person is the best match>\",\n");
+        prompt.append("  \"matchScore\": <confidence score between 0 and 100>\n");
+        prompt.append("}\n");
+
+        return prompt.toString();
+    }
+
+    /**
+     * Builds one prompt that carries the roster once and asks for an assignment per task.
+     *
+     * @param persons the available personnel, listed once
+     * @param tasks the tasks to assign in this batch
+     * @return a formatted string prompt for Gemini AI
+     */
+    public String buildBatchPrompt(List<PersonDto> persons, List<TaskDto> tasks) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append(PREAMBLE);
+        prompt.append("Analyze the following tasks and available personnel, then assign the MOST SUITABLE person to each task.\n\n");
+
+        prompt.append("### TASKS ###\n");
+        for (int i = 0; i < tasks.size(); i++) {
+            appendTaskSection(prompt, tasks.get(i), i + 1);
+        }
+
+        appendRoster(prompt, persons);
+
+        prompt.append("### INSTRUCTIONS ###\n");
+        prompt.append("Based on the task requirements and personnel qualifications:\n");
+        prompt.append("1. Consider each task's type, priority, and location; staff higher priority tasks first\n");
+        prompt.append("2. Evaluate each person's role, skills, rank, and availability\n");
+        prompt.append("3. Match skills and experience to task requirements\n");
+        prompt.append("4. Consider medical conditions if relevant\n");
+        prompt.append("5. Assign each person to AT MOST ONE task; omit tasks no one is suitable for\n\n");
+
+        prompt.append("RESPOND IN THIS EXACT JSON FORMAT (no additional text):\n");
+        prompt.append("{\n");
+        prompt.append("  \"assignments\": [\n");
+        prompt.append("    {\n");
+        prompt.append("      \"taskId\": <task ID as number>,\n");
+        prompt.append("      \"personId\": <selected person ID as number>,\n");
+        prompt.append("      \"reason\": \"<brief explanation of why this person is the best match>\",\n");
+        prompt.append("      \"matchScore\": <confidence score between 0 and 100>\n");
+        prompt.append("    }\n");
+        prompt.append("  ]\n");
+        prompt.append("}\n");
+
+        return prompt.toString();
+    }
+
+    /**
+     * Splits tasks into batches whose prompts fit the token budget. Every batch holds at
+     * least one task.
+     *
+     * <p>When each task is shortlisted to {@code candidatesPerTask} persons, a batch's roster
+     * is the union of its shortlists, so it is estimated as that many of the largest person
+     * sections per task, never more than the full roster.</p>
+     *
+     * @param tasks the tasks to split, in the order they should be processed
+     * @param persons the roster the batch candidates are drawn from
+     * @param candidatesPerTask the shortlist size per task, or 0 to send the full roster
+     * @param tokenBudget the maximum estimated prompt size in tokens
+     * @param maxTasksPerBatch the maximum number of tasks in one batch
+     * @return the batches in processing order
+     */
+    public List<List<TaskDto>> chunk(List<TaskDto> tasks, List<PersonDto> persons, int candidatesPerTask,
+                                     int tokenBudget, int maxTasksPerBatch) {
+        int fixedTokens = estimateTokens(buildBatchPrompt(List.of(), List.of()));
+        int rosterTokens = 0;
+        int largestPersonTokens = 0;
+        for (PersonDto person : persons) {
+            StringBuilder section = new StringBuilder();
+            appendPerson(section, person, persons.size());
+            int tokens = estimateTokens(section);
+            rosterTokens += tokens;
+            largestPersonTokens = Math.max(largestPersonTokens, tokens);
+        }
+        boolean shortlisted = candidatesPerTask > 0 && candidatesPerTask < persons.size();
+        int limit = Math.max(1, maxTasksPerBatch);
+
+        List<List<TaskDto>> batches = new ArrayList<>();
+        List<TaskDto> current = new ArrayList<>();
+        int taskTokens = 0;
+        for (TaskDto task : tasks) {
+            StringBuilder section = new StringBuilder();
+            appendTaskSection(section, task, tasks.size());
+            int tokens = estimateTokens(section);
+
+            if (!current.isEmpty()) {
+                int size = current.size() + 1;
+                int roster = shortlisted
+                        ? (int) Math.min(rosterTokens, (long) size * candidatesPerTask * largestPersonTokens)
+                        : rosterTokens;
+                if (current.size() >= limit || fixedTokens + roster + taskTokens + tokens > tokenBudget) {
+                    batches.add(current);
+                    current = new ArrayList<>();
+                    taskTokens = 0;
+                }
+            }
+            current.add(task);
+            taskTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * Parses a batched Gemini response into assignments.
+     *
+     * <p>Entries referring to unknown tasks or persons are dropped, as are second
+     * assignments of the same task or person, so the result is always a valid
+     * one-to-one matching. Tasks Gemini did not staff are simply absent.</p>
+     *
+     * @param geminiResponse the raw text response from Gemini AI
+     * @param persons the roster the batch was built with
+     * @param tasks the tasks the batch was built with
+     * @return the valid assignments, never null
+     */
+    public List<TaskAssignmentDto> parseBatchResponse(String geminiResponse, List<PersonDto> persons, List<TaskDto> tasks) {
+        List<TaskAssignmentDto> assignments = new ArrayList<>();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(stripMarkdown(geminiResponse));
+        } catch (Exception e) {
+            log.error("Failed to parse batched Gemini response: {}", e.getMessage());
+            return assignments;
+        }
+
+        JsonNode entries = root.isArray() ? root : root.path("assignments");
+        if (!entries.isArray()) {
+            log.error("Batched Gemini response has no 'assignments' array");
+            return assignments;
+        }
+
+        Map<Long, PersonDto> personsById = persons.stream()
+                .collect(Collectors.toMap(PersonDto::getId, p -> p, (a, b) -> a, HashMap::new));
+        Map<Long, TaskDto> tasksById = tasks.stream()
+                .collect(Collectors.toMap(TaskDto::getId, t -> t, (a, b) -> a, HashMap::new));
+        Set<Long> usedPersons = new HashSet<>();
+        Set<Long> staffedTasks = new HashSet<>();
+
+        for (JsonNode entry : entries) {
+            long taskId = entry.path("taskId").asLong(-1);
+            long personId = entry.path("personId").asLong(-1);
+            TaskDto task = tasksById.get(taskId);
+            PersonDto person = personsById.get(personId);
+            if (task == null || person == null) {
+                log.warn("Ignoring batched assignment with unknown task {} or person {}", taskId, personId);
+                continue;
+            }
+            if (!staffedTasks.add(taskId) || !usedPersons.add(personId)) {
+                log.warn("Ignoring duplicate batched assignment of task {} to person {}", taskId, personId);
+                continue;
+            }
+            assignments.add(new TaskAssignmentDto(person, task,
+                    entry.path("reason").asText(""), entry.path("matchScore").asDouble()));
+        }
+        return assignments;
+    }
+
+    /**
+     * Estimates the token count of a prompt fragment.
+     *
+     * @param text the prompt text
+     * @return the estimated number of tokens
+     */
+    public int estimateTokens(CharSequence text) {
+        return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    private void appendTask(StringBuilder prompt, TaskDto task, String indent) {
+        prompt.append(indent).append("Task ID: ").append(task.getId()).append("\n");
+        prompt.append(indent).append("Task Code: ").append(task.getTaskCode()).append("\n");
+        prompt.append(indent).append("Type: ").append(task.getType()).append("\n");
+        prompt.append(indent).append("Title: ").append(task.getTitle()).append("\n");
+        prompt.append(indent).append("Description: ").append(task.getDescription()).append("\n");
+        prompt.append(indent).append("Priority: ").append(task.getPriority()).append("\n");
+        prompt.append(indent).append("Location: ").append(task.getLocation()).append("\n");
+    }
+
+    private void appendTaskSection(StringBuilder prompt, TaskDto task, int number) {
+        prompt.append("Task ").append(number).append(":\n");
+        appendTask(prompt, task, "  ");
+        prompt.append("\n");
+    }
+
+    private void appendRoster(StringBuilder prompt, List<PersonDto> persons) {
+        prompt.append("### AVAILABLE PERSONNEL ###\n");
+        for (int i = 0; i < persons.size(); i++) {
+            appendPerson(prompt, persons.get(i), i + 1);
+        }
+    }
+
+    private void appendPerson(StringBuilder prompt, PersonDto person, int number) {
+        prompt.append("Person ").append(number).append(":\n");
+        prompt.append("  ID: ").append(person.getId()).append("\n");
+        prompt.append("  Name: ").append(person.getFirstName()).append(" ").append(person.getLastName()).append("\n");
+        prompt.append("  Role: ").append(person.getRole()).append("\n");
+        prompt.append("  Department: ").append(person.getDepartment()).append("\n");
+        prompt.append("  Rank: ").append(person.getRank()).append("\n");
+        prompt.append("  Organization: ").append(person.getOrganization()).append("\n");
+
+        if (person.getSkills() != null && !person.getSkills().isEmpty()) {
+            prompt.append("  Skills: ");
+            prompt.append(person.getSkills().stream()
+                    .map(skill -> skill.getSkillName() + " (Level: " + skill.getProficiencyLevel() + ")")
+                    .collect(Collectors.joining(", ")));
+            prompt.append("\n");
+        }
+
+        if (person.getMedicalCondition() != null) {
+            prompt.append("  Medical Conditions: Has medical conditions\n");
+        }
+
+        prompt.append("  Status: ").append(person.getStatus()).append("\n");
+        prompt.append("  Shift: ");
+        if (person.getShiftStartTime() != null && person.getShiftEndTime() != null) {
+            prompt.append(person.getShiftStartTime()).append(" to ").append(person.getShiftEndTime());
+        } else {
+            prompt.append("Not specified");
+        }
+        prompt.append("\n\n");
+    }
+
+    /**
+     * Removes markdown code fences and any trailing text after the JSON payload.
+     */
+    private static String stripMarkdown(String response) {
+        String json = response.trim();
+        if (json.contains("```json")) {
+            int start = json.indexOf("```json") + 7;
+            int end = json.indexOf("```", start);
+            if (end > start) {
+                json = json.substring(start, end);
+            }
+        } else if (json.contains("```")) {
+            int start = json.indexOf("```") + 3;
+            int end = json.indexOf("```", start);
+            if (end > start) {
+                json = json.substring(start, end);
+            }
+        }
+        json = json.trim();
+        char close = json.startsWith("[") ? ']' : '}';
+        int last = json.lastIndexOf(close);
+        if (last > 0 && last < json.length() - 1) {
+            json = json.substring(0, last + 1);
+        }
+        return json;
+    }
+}
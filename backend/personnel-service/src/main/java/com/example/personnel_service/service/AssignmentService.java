@@ -1,8 +1,14 @@
 package com.example.personnel_service.service;
 
 import com.example.personnel_service.client.TaskClient;
+import com.example.personnel_service.config.GeminiResilienceConfig;
+import com.example.personnel_service.config.HttpClientConfig;
+import com.example.personnel_service.config.MatchingConfig;
+import com.example.personnel_service.config.MatchingMode;
 import com.example.personnel_service.dto.AssignmentHistoryDto;
+import com.example.personnel_service.dto.MedicalConditionDto;
 import com.example.personnel_service.dto.PersonDto;
+import com.example.personnel_service.dto.PhysicalLimitationDto;
 import com.example.personnel_service.dto.TaskAssignmentDto;
 import com.example.personnel_service.dto.TaskDto;
 import com.example.personnel_service.entity.AssignmentHistory;
@@ -12,31 +18,44 @@ import com.example.personnel_service.repository.PersonRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
  * Service for intelligently assigning disaster management tasks to available personnel
- * using Google's Gemini AI for optimal matching.
+ * using a local scoring engine, with Google's Gemini AI as an optional tie-breaker.
  *
- * <p>This service provides AI-powered task assignment functionality that analyzes
+ * <p>This service provides task assignment functionality that analyzes
  * personnel qualifications, skills, availability, and task requirements to determine
- * the most suitable person for each task.</p>
+ * the most suitable person for each task. The strategy is selected by
+ * {@code assignment.matching.mode}: {@code local} ranks candidates in-process only,
+ * {@code hybrid} (default) asks Gemini only when the local ranking is low-confidence,
+ * and {@code llm} sends every task to Gemini.</p>
  *
  * <p><b>Key Features:</b></p>
  * <ul>
  *   <li>Filters available personnel based on status and enabled state</li>
  *   <li>Identifies pending tasks requiring assignment</li>
- *   <li>Uses Gemini AI to match tasks with personnel</li>
+ *   <li>Ranks personnel locally with {@link AssignmentScorer}</li>
+ *   <li>Uses Gemini AI to break low-confidence ties or as the sole matcher</li>
  *   <li>Provides reasoning and confidence scores for each assignment</li>
  *   <li>Supports batch assignment of multiple tasks</li>
  *   <li>Includes fallback mechanism for error scenarios</li>
@@ -58,35 +77,86 @@ import java.util.stream.Collectors;
  * @see TaskDto
  * @see TaskAssignmentDto
  * @see TaskClient
+ * @see AssignmentScorer
  */
 @Service
 public class AssignmentService {
 
     private static final Logger log = LoggerFactory.getLogger(AssignmentService.class);
 
-    private final PersonService personService;
+    private static final int SINGLE_TASK_OUTPUT_TOKENS = 2048;
+    private static final int OUTPUT_TOKENS_PER_TASK = 128;
+
+    private final PersonAvailabilityIndex availabilityIndex;
+    private final ShiftIndex shiftIndex;
     private final TaskClient taskClient;
+    private final PendingTaskReplica pendingTaskReplica;
     private final AssignmentHistoryRepository assignmentHistoryRepository;
     private final PersonRepository personRepository;
+    private final AssignmentScorer assignmentScorer;
+    private final BatchAssignmentSolver batchAssignmentSolver;
+    private final AssignmentPromptBuilder promptBuilder;
+    private final GeminiResponseCache geminiResponseCache;
+    private final GeminiCircuitBreaker geminiCircuitBreaker;
+    private final MatchingConfig matchingConfig;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
+    /**
+     * Response timeout of the Gemini attempt running on this thread, read by the request
+     * factory so each retry only gets what is left of the retry budget.
+     */
+    private static final ThreadLocal<Duration> ATTEMPT_TIMEOUT = new ThreadLocal<>();
+
+    /** Serializes match-all runs so two runs never plan against the same tasks and roster. */
+    private final ReentrantLock matchAllLock = new ReentrantLock();
+
     @Value("${model.gemini.api.url}")
     private String geminiApiUrl;
 
     @Value("${model.gemini.api.key}")
     private String geminiApiKey;
 
-    public AssignmentService(PersonService personService, TaskClient taskClient,
+    public AssignmentService(PersonAvailabilityIndex availabilityIndex, ShiftIndex shiftIndex, TaskClient taskClient,
+                             PendingTaskReplica pendingTaskReplica,
                              AssignmentHistoryRepository assignmentHistoryRepository,
-                             PersonRepository personRepository) {
-        this.personService = personService;
+                             PersonRepository personRepository,
+                             AssignmentScorer assignmentScorer,
+                             BatchAssignmentSolver batchAssignmentSolver,
+                             AssignmentPromptBuilder promptBuilder,
+                             GeminiResponseCache geminiResponseCache,
+                             GeminiCircuitBreaker geminiCircuitBreaker,
+                             MatchingConfig matchingConfig,
+                             GeminiResilienceConfig resilienceConfig,
+                             HttpClientConfig httpClientConfig,
+                             HttpClient pooledHttpClient) {
+        this.availabilityIndex = availabilityIndex;
+        this.shiftIndex = shiftIndex;
         this.taskClient = taskClient;
+        this.pendingTaskReplica = pendingTaskReplica;
         this.assignmentHistoryRepository = assignmentHistoryRepository;
         this.personRepository = personRepository;
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(java.time.Duration.ofSeconds(10));
-        factory.setReadTimeout(java.time.Duration.ofSeconds(60));
+        this.assignmentScorer = assignmentScorer;
+        this.batchAssignmentSolver = batchAssignmentSolver;
+        this.promptBuilder = promptBuilder;
+        this.geminiResponseCache = geminiResponseCache;
+        this.geminiCircuitBreaker = geminiCircuitBreaker;
+        this.matchingConfig = matchingConfig;
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient) {
+            @Override
+            protected RequestConfig createRequestConfig(Object client) {
+                RequestConfig config = super.createRequestConfig(client);
+                Duration timeout = ATTEMPT_TIMEOUT.get();
+                if (timeout == null) {
+                    return config;
+                }
+                return (config != null ? RequestConfig.copy(config) : RequestConfig.custom())
+                        .setResponseTimeout(Timeout.ofMilliseconds(Math.max(1, timeout.toMillis())))
+                        .build();
+            }
+        };
+        factory.setConnectionRequestTimeout(httpClientConfig.getConnectionRequestTimeout());
+        factory.setReadTimeout(resilienceConfig.getReadTimeout());
         this.restTemplate = new RestTemplate(factory);
         this.objectMapper = new ObjectMapper();
     }
@@ -94,57 +164,101 @@ public class AssignmentService {
     /**
      * Retrieves all available personnel who are eligible for task assignment.
      *
-     * <p>Filters personnel based on the following criteria:</p>
-     * <ul>
-     *   <li>Status contains "available" (case-insensitive)</li>
-     *   <li>Not disabled (isDisabled = false)</li>
-     * </ul>
+     * <p>Reads the availability index, which holds the ids of personnel whose status
+     * normalizes to AVAILABLE and who are not disabled, so only those rows are loaded.</p>
      *
      * @return a list of available personnel as PersonDto objects, never null
-     * @see PersonDto
+     * @see PersonAvailabilityIndex
      */
     public List<PersonDto> getAvailablePersons() {
-        return personService.getAllPersons().stream()
-                .filter(person -> !person.isDisabled())
-                .filter(person -> person.getStatus() != null &&
-                        person.getStatus().toLowerCase().contains("available"))
-                .map(this::convertToPersonDto)
+        return toPersonDtos(availabilityIndex.getAvailablePersons());
+    }
+
+    /**
+     * Retrieves the available personnel whose shift covers the whole window.
+     *
+     * <p>The shift index narrows the roster to persons on shift from {@code from} to
+     * {@code to} before any row is loaded.</p>
+     *
+     * @param from the start of the window
+     * @param to the end of the window, not before {@code from}
+     * @return the available, on-shift personnel as PersonDto objects, never null
+     * @see ShiftIndex
+     */
+    public List<PersonDto> getAvailablePersons(LocalDateTime from, LocalDateTime to) {
+        return toPersonDtos(availabilityIndex.getAvailablePersons(shiftIndex.findPersonIds(from, to, true)));
+    }
+
+    /**
+     * Returns the candidates for matching: with the shift filter on, the available persons on
+     * shift for the task window {@code [now, now + shift-window]}, or the whole available
+     * roster when none of them is on shift, so urgent work is never left unassigned.
+     */
+    private List<PersonDto> getMatchingRoster() {
+        if (!matchingConfig.isShiftFilter()) {
+            return getAvailablePersons();
+        }
+        LocalDateTime from = LocalDateTime.now();
+        LocalDateTime to = from.plus(matchingConfig.getShiftWindow());
+        List<Long> onShift = shiftIndex.findPersonIds(from, to, true);
+        if (!onShift.isEmpty()) {
+            return toPersonDtos(availabilityIndex.getAvailablePersons(onShift));
+        }
+        log.info("No available person is on shift from {} to {}, matching against the whole available roster",
+                from, to);
+        return getAvailablePersons();
+    }
+
+    private List<PersonDto> toPersonDtos(List<Person> persons) {
+        if (persons.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Skills come with the persons; limitations are read as one projection instead of
+        // walking each medical condition's collection
+        Map<Long, List<PhysicalLimitationDto>> limitations = new HashMap<>();
+        for (PersonRepository.LimitationView row : personRepository.findActiveLimitations(
+                persons.stream().map(Person::getId).collect(Collectors.toList()))) {
+            PhysicalLimitationDto limitation = new PhysicalLimitationDto();
+            limitation.setId(row.getId());
+            limitation.setLimitation(row.getLimitation());
+            limitations.computeIfAbsent(row.getPersonId(), id -> new ArrayList<>()).add(limitation);
+        }
+        return persons.stream()
+                .map(person -> convertToPersonDto(person,
+                        limitations.getOrDefault(person.getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
     }
 
     /**
      * Retrieves all pending tasks that require personnel assignment.
      *
-     * <p>Filters tasks based on status = PENDING.</p>
+     * <p>Reads the event-fed local replica instead of downloading every task from
+     * task-service; the replica reconciles itself periodically.</p>
      *
      * @return a list of pending tasks as TaskDto objects, never null
-     * @see TaskDto
+     * @see PendingTaskReplica
      */
     public List<TaskDto> getPendingTasks() {
-        return taskClient.fetchTasks().stream()
-                .filter(task -> task.getStatus() != null &&
-                        task.getStatus().name().equals("PENDING"))
-                .collect(Collectors.toList());
+        return pendingTaskReplica.getPendingTasks();
     }
 
     /**
-     * Matches a single task with the most suitable person using Gemini AI.
+     * Matches a single task with the most suitable person.
      *
      * <p>This method performs the following steps:</p>
      * <ol>
-     *   <li>Retrieves all available personnel</li>
-     *   <li>Builds a detailed prompt with task and personnel information</li>
-     *   <li>Calls Gemini AI API for intelligent matching</li>
-     *   <li>Parses the AI response to extract the selected person</li>
+     *   <li>Retrieves the available personnel on shift for the task window</li>
+     *   <li>Selects a person according to the configured {@link MatchingMode}</li>
+     *   <li>Assigns the task in task-service, then records the assignment locally</li>
      *   <li>Returns a TaskAssignmentDto with assignment details</li>
      * </ol>
      *
-     * <p>The AI considers multiple factors including skills, experience, role,
+     * <p>Both the local scorer and Gemini consider skills, experience, role,
      * rank, medical conditions, and current availability.</p>
      *
      * @param task the task to be assigned, must not be null
      * @return a TaskAssignmentDto containing the assigned person, task, reasoning, and confidence score
-     * @throws RuntimeException if no available persons are found
+     * @throws RuntimeException if no available persons are found, or task-service rejects the assignment
      * @see TaskAssignmentDto
      */
     public TaskAssignmentDto matchTaskToPerson(TaskDto task) {
@@ -152,7 +266,7 @@ public class AssignmentService {
     }
 
     public TaskAssignmentDto matchTaskToPerson(TaskDto task, Set<Long> excludePersonIds) {
-        List<PersonDto> availablePersons = getAvailablePersons();
+        List<PersonDto> availablePersons = getMatchingRoster();
 
         if (excludePersonIds != null && !excludePersonIds.isEmpty()) {
             availablePersons = availablePersons.stream()
@@ -164,9 +278,7 @@ public class AssignmentService {
             throw new RuntimeException("No available persons found for task assignment");
         }
 
-        String prompt = buildPrompt(availablePersons, task);
-        String geminiResponse = callGeminiApi(prompt);
-        TaskAssignmentDto assignment = parseGeminiResponse(geminiResponse, availablePersons, task);
+        TaskAssignmentDto assignment = selectCandidate(task, availablePersons);
 
         // Persist the assignment
         persistAssignment(assignment);
@@ -174,15 +286,70 @@ public class AssignmentService {
         return assignment;
     }
 
+    /**
+     * Picks the best person for a task according to the configured matching mode.
+     *
+     * <p>In {@code llm} mode Gemini sees the top {@code prompt-candidates} local candidates,
+     * so the prompt stays bounded however large the roster is. If Gemini fails or its
+     * circuit is open, the best local candidate is used.
+     * In {@code hybrid} mode Gemini only sees the top local candidates, and only when
+     * {@link AssignmentScorer#isLowConfidence} reports a weak or tied ranking. If that call
+     * fails, the best local candidate is used instead.</p>
+     *
+     * @param task the task to be assigned
+     * @param availablePersons the non-empty list of candidates
+     * @return the selected assignment, never null
+     */
+    private TaskAssignmentDto selectCandidate(TaskDto task, List<PersonDto> availablePersons) {
+        MatchingMode mode = matchingConfig.getMode();
+        if (mode == MatchingMode.LLM) {
+            try {
+                return matchWithGemini(assignmentScorer.shortlist(
+                        task, availablePersons, matchingConfig.getPromptCandidates()), task);
+            } catch (Exception e) {
+                log.warn("Gemini unavailable for task {}, falling back to local ranking: {}",
+                        task.getId(), e.getMessage());
+            }
+        }
+
+        List<AssignmentScorer.ScoredCandidate> ranked = assignmentScorer.rank(task, availablePersons);
+        AssignmentScorer.ScoredCandidate best = ranked.get(0);
+
+        if (mode == MatchingMode.HYBRID && assignmentScorer.isLowConfidence(
+                ranked, matchingConfig.getConfidenceThreshold(), matchingConfig.getTieMargin())) {
+            List<PersonDto> shortlist = ranked.stream()
+                    .limit(Math.max(1, matchingConfig.getTieBreakCandidates()))
+                    .map(AssignmentScorer.ScoredCandidate::getPerson)
+                    .collect(Collectors.toList());
+            try {
+                log.info("Low-confidence local match for task {} (best score {}), asking Gemini to break the tie",
+                        task.getId(), best.getScore());
+                return matchWithGemini(shortlist, task);
+            } catch (Exception e) {
+                log.warn("Gemini tie-break failed for task {}, using best local candidate: {}",
+                        task.getId(), e.getMessage());
+            }
+        }
+
+        return new TaskAssignmentDto(best.getPerson(), task, best.getReason(), best.getScore());
+    }
+
+    private TaskAssignmentDto matchWithGemini(List<PersonDto> candidates, TaskDto task) {
+        String prompt = promptBuilder.buildPrompt(candidates, task);
+        String geminiResponse = callGeminiCached(prompt, SINGLE_TASK_OUTPUT_TOKENS, candidates);
+        return parseGeminiResponse(geminiResponse, candidates, task);
+    }
+
     private void persistAssignment(TaskAssignmentDto assignment) {
         PersonDto assignedPerson = assignment.getAssignedPerson();
         TaskDto task = assignment.getTask();
 
-        // 1. Notify task-service to assign the task
-        boolean taskAssigned = taskClient.assignTask(task.getId(), assignedPerson.getId());
-        if (!taskAssigned) {
-            log.warn("Task-service assignment failed for task {} but continuing with local persistence", task.getId());
+        // 1. Notify task-service to assign the task; without that the task stays PENDING
+        // there, so nothing is recorded here and a later run can assign it again
+        if (!taskClient.assignTask(task.getId(), assignedPerson.getId())) {
+            throw new RuntimeException("Task-service did not accept the assignment of task " + task.getId());
         }
+        pendingTaskReplica.markAssigned(task.getId());
 
         // 2. Save assignment history
         Person person = personRepository.findById(assignedPerson.getId())
@@ -201,7 +368,7 @@ public class AssignmentService {
 
         // 3. Update person status to On Duty
         person.setStatus("On Duty");
-        personRepository.save(person);
+        availabilityIndex.update(personRepository.save(person));
 
         log.info("Persisted assignment: {} -> task {} ({})", person.getFirstName() + " " + person.getLastName(),
                 task.getTaskCode(), task.getTitle());
@@ -234,7 +401,7 @@ public class AssignmentService {
 
         if (activeAssignments.isEmpty()) {
             person.setStatus("Available");
-            personRepository.save(person);
+            availabilityIndex.update(personRepository.save(person));
             log.info("Person {} status set back to Available (no active assignments)", person.getFirstName());
         }
 
@@ -261,9 +428,14 @@ public class AssignmentService {
     /**
      * Matches all pending tasks with suitable personnel using batch processing.
      *
-     * <p>This method iterates through all pending tasks and assigns each to the
-     * most suitable person. If an error occurs during assignment of a specific task,
-     * it logs the error and continues with the next task.</p>
+     * <p>In {@code local} and {@code hybrid} mode the whole batch is solved at once by
+     * {@link BatchAssignmentSolver}: one cost matrix over pending tasks and available
+     * personnel, solved for the globally best total score with higher-priority tasks
+     * staffed first. In {@code llm} mode tasks are sent to Gemini in concurrent batches: each prompt
+     * carries the remaining roster once plus as many tasks as fit the configured token
+     * budget. Only the top {@code prompt-candidates} local candidates per task are
+     * included. Tasks a batch leaves unstaffed, or whose batch fails, are solved locally
+     * against the persons still free.</p>
      *
      * <p><b>Error Handling:</b></p>
      * <ul>
@@ -276,105 +448,196 @@ public class AssignmentService {
      * @see TaskAssignmentDto
      */
     public List<TaskAssignmentDto> matchAllPendingTasks() {
+        return matchAllPendingTasks(AssignmentProgressListener.NONE);
+    }
+
+    /**
+     * Matches all pending tasks, reporting progress and each persisted assignment to the
+     * listener as soon as it happens.
+     *
+     * <p>Runs are single-flight: a call made while another run is in progress waits for it,
+     * then plans against the tasks and persons that run left unassigned.</p>
+     *
+     * @param listener receives progress callbacks on the calling thread
+     * @return a list of TaskAssignmentDto objects for successfully assigned tasks
+     * @see AssignmentJobService
+     */
+    public List<TaskAssignmentDto> matchAllPendingTasks(AssignmentProgressListener listener) {
+        matchAllLock.lock();
+        try {
+            return runMatchAll(listener);
+        } finally {
+            matchAllLock.unlock();
+        }
+    }
+
+    private List<TaskAssignmentDto> runMatchAll(AssignmentProgressListener listener) {
         List<TaskDto> pendingTasks = getPendingTasks();
-        List<TaskAssignmentDto> assignments = new ArrayList<>();
-        Set<Long> assignedPersonIds = new HashSet<>();
+        listener.onTasksLoaded(pendingTasks.size());
+        if (pendingTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<PersonDto> availablePersons = getMatchingRoster();
+        List<TaskAssignmentDto> planned = matchingConfig.getMode() == MatchingMode.LLM
+                ? planWithGemini(pendingTasks, availablePersons)
+                : batchAssignmentSolver.solve(pendingTasks, availablePersons);
+        listener.onPlanned(planned.size());
 
-        for (TaskDto task : pendingTasks) {
+        List<TaskAssignmentDto> assignments = new ArrayList<>();
+        for (TaskAssignmentDto assignment : planned) {
             try {
-                TaskAssignmentDto assignment = matchTaskToPerson(task, assignedPersonIds);
-                assignedPersonIds.add(assignment.getAssignedPerson().getId());
+                persistAssignment(assignment);
                 assignments.add(assignment);
+                listener.onAssigned(assignment);
             } catch (Exception e) {
-                log.error("Failed to assign task {}: {}", task.getId(), e.getMessage());
+                log.error("Failed to assign task {}: {}", assignment.getTask().getId(), e.getMessage());
+                listener.onAssignmentFailed(assignment.getTask(), e);
             }
         }
-
+        log.info("Batch-assigned {} of {} pending tasks", assignments.size(), pendingTasks.size());
         return assignments;
     }
 
     /**
-     * Builds a comprehensive prompt for Gemini AI with task and personnel details.
+     * Plans assignments with one Gemini call per token-budgeted batch of tasks instead of
+     * one call per task. Batches run concurrently on virtual threads, with at most
+     * {@code llm-max-concurrent-calls} Gemini calls in flight, so wall-clock time is roughly
+     * that of the slowest call per wave rather than the sum of all calls.
      *
-     * <p>The prompt includes:</p>
-     * <ul>
-     *   <li>Task details: ID, code, type, title, description, priority, location</li>
-     *   <li>Personnel details: ID, name, role, department, rank, skills, medical conditions, status</li>
-     *   <li>Matching instructions and criteria</li>
-     *   <li>Expected JSON response format</li>
-     * </ul>
-     *
-     * <p>The prompt is structured to guide the AI to make optimal decisions based on
-     * disaster management requirements and personnel capabilities.</p>
+     * <p>Each batch sees the persons not yet reserved when it starts. A person picked by
+     * Gemini is claimed through an atomic add to a shared reservation set; if a concurrent
+     * batch claimed them first, the task is left open. Whatever Gemini leaves open is handed
+     * to {@link BatchAssignmentSolver} together with the persons still unreserved.</p>
      *
-     * @param persons the list of available personnel to consider
-     * @param task the task requiring assignment
-     * @return a formatted string prompt for Gemini AI
+     * @param pendingTasks the tasks to assign
+     * @param availablePersons the available personnel
+     * @return the planned assignments, not yet persisted
      */
-    private String buildPrompt(List<PersonDto> persons, TaskDto task) {
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("You are an AI assistant for disaster management personnel assignment. ");
-        prompt.append("Analyze the following task and available personnel, then select the MOST SUITABLE person for this task.\n\n");
-
-        prompt.append("### TASK DETAILS ###\n");
-        prompt.append("Task ID: ").append(task.getId()).append("\n");
-        prompt.append("Task Code: ").append(task.getTaskCode()).append("\n");
-        prompt.append("Type: ").append(task.getType()).append("\n");
-        prompt.append("Title: ").append(task.getTitle()).append("\n");
-        prompt.append("Description: ").append(task.getDescription()).append("\n");
-        prompt.append("Priority: ").append(task.getPriority()).append("\n");
-        prompt.append("Location: ").append(task.getLocation()).append("\n\n");
-
-        prompt.append("### AVAILABLE PERSONNEL ###\n");
-        for (int i = 0; i < persons.size(); i++) {
-            PersonDto person = persons.get(i);
-            prompt.append("Person ").append(i + 1).append(":\n");
-            prompt.append("  ID: ").append(person.getId()).append("\n");
-            prompt.append("  Name: ").append(person.getFirstName()).append(" ").append(person.getLastName()).append("\n");
-            prompt.append("  Role: ").append(person.getRole()).append("\n");
-            prompt.append("  Department: ").append(person.getDepartment()).append("\n");
-            prompt.append("  Rank: ").append(person.getRank()).append("\n");
-            prompt.append("  Organization: ").append(person.getOrganization()).append("\n");
-
-            if (person.getSkills() != null && !person.getSkills().isEmpty()) {
-                prompt.append("  Skills: ");
-                prompt.append(person.getSkills().stream()
-                        .map(skill -> skill.getSkillName() + " (Level: " + skill.getProficiencyLevel() + ")")
-                        .collect(Collectors.joining(", ")));
-                prompt.append("\n");
+    private List<TaskAssignmentDto> planWithGemini(List<TaskDto> pendingTasks, List<PersonDto> availablePersons) {
+        List<TaskDto> ordered = new ArrayList<>(pendingTasks);
+        ordered.sort(BatchAssignmentSolver.BY_PRIORITY);
+
+        List<List<TaskDto>> batches = promptBuilder.chunk(ordered, availablePersons,
+                matchingConfig.getPromptCandidates(), matchingConfig.getLlmBatchTokenBudget(),
+                matchingConfig.getLlmBatchMaxTasks());
+        Set<Long> reserved = ConcurrentHashMap.newKeySet();
+        List<TaskAssignmentDto> planned = Collections.synchronizedList(new ArrayList<>());
+        Semaphore inFlight = new Semaphore(Math.max(1, matchingConfig.getLlmMaxConcurrentCalls()));
+
+        // Permits are taken here, in priority order, so higher-priority batches start first
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<TaskDto> batch : batches) {
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        planned.addAll(matchBatchWithGemini(batch, availablePersons, reserved));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
             }
+        }
+
+        Set<Long> staffed = new HashSet<>();
+        for (TaskAssignmentDto assignment : planned) {
+            staffed.add(assignment.getTask().getId());
+        }
+        List<TaskDto> unstaffed = ordered.stream()
+                .filter(task -> !staffed.contains(task.getId()))
+                .collect(Collectors.toList());
+        List<PersonDto> roster = availablePersons.stream()
+                .filter(person -> !reserved.contains(person.getId()))
+                .collect(Collectors.toList());
+
+        List<TaskAssignmentDto> result = new ArrayList<>(planned);
+        result.addAll(batchAssignmentSolver.solve(unstaffed, roster));
+        result.sort(Comparator.comparing(TaskAssignmentDto::getTask, BatchAssignmentSolver.BY_PRIORITY));
+        return result;
+    }
 
-            if (person.getMedicalCondition() != null) {
-                prompt.append("  Medical Conditions: Has medical conditions\n");
+    /**
+     * Sends one batch to Gemini against the persons not yet reserved and claims the picked
+     * persons. Failures are logged and yield no assignments, leaving the batch to the
+     * local solver.
+     *
+     * @param batch the tasks in this prompt
+     * @param availablePersons the full available roster
+     * @param reserved person IDs already claimed by any batch, shared across threads
+     * @return the assignments whose person this batch managed to claim
+     */
+    private List<TaskAssignmentDto> matchBatchWithGemini(List<TaskDto> batch, List<PersonDto> availablePersons,
+                                                         Set<Long> reserved) {
+        List<PersonDto> roster = availablePersons.stream()
+                .filter(person -> !reserved.contains(person.getId()))
+                .collect(Collectors.toList());
+        if (roster.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            List<PersonDto> candidates = shortlistForBatch(batch, roster, matchingConfig.getPromptCandidates());
+            String prompt = promptBuilder.buildBatchPrompt(candidates, batch);
+            int maxOutputTokens = Math.max(SINGLE_TASK_OUTPUT_TOKENS, batch.size() * OUTPUT_TOKENS_PER_TASK);
+            List<TaskAssignmentDto> matched = promptBuilder.parseBatchResponse(
+                    callGeminiCached(prompt, maxOutputTokens, candidates), candidates, batch);
+
+            List<TaskAssignmentDto> claimed = new ArrayList<>();
+            for (TaskAssignmentDto assignment : matched) {
+                if (reserved.add(assignment.getAssignedPerson().getId())) {
+                    claimed.add(assignment);
+                } else {
+                    log.info("Person {} already claimed by a concurrent batch, task {} will be matched locally",
+                            assignment.getAssignedPerson().getId(), assignment.getTask().getId());
+                }
             }
+            log.info("Gemini batch staffed {} of {} tasks", claimed.size(), batch.size());
+            return claimed;
+        } catch (Exception e) {
+            log.warn("Gemini batch of {} tasks failed, falling back to local matching: {}",
+                    batch.size(), e.getMessage());
+            return Collections.emptyList();
+        }
+    }
 
-            prompt.append("  Status: ").append(person.getStatus()).append("\n");
-            prompt.append("  Shift: ");
-            if (person.getShiftStartTime() != null && person.getShiftEndTime() != null) {
-                prompt.append(person.getShiftStartTime()).append(" to ").append(person.getShiftEndTime());
-            } else {
-                prompt.append("Not specified");
+    /**
+     * Unions the per-task shortlists of a batch, keeping roster order, so a batched prompt
+     * carries at most {@code candidatesPerTask} persons per task.
+     */
+    private List<PersonDto> shortlistForBatch(List<TaskDto> batch, List<PersonDto> roster, int candidatesPerTask) {
+        if (candidatesPerTask <= 0 || roster.size() <= candidatesPerTask) {
+            return roster;
+        }
+        Set<Long> selected = new HashSet<>();
+        for (TaskDto task : batch) {
+            for (PersonDto person : assignmentScorer.shortlist(task, roster, candidatesPerTask)) {
+                selected.add(person.getId());
             }
-            prompt.append("\n\n");
         }
+        return roster.stream()
+                .filter(person -> selected.contains(person.getId()))
+                .collect(Collectors.toList());
+    }
 
-        prompt.append("### INSTRUCTIONS ###\n");
-        prompt.append("Based on the task requirements and personnel qualifications:\n");
-        prompt.append("1. Consider the task type, priority, and location\n");
-        prompt.append("2. Evaluate each person's role, skills, rank, and availability\n");
-        prompt.append("3. Match skills and experience to task requirements\n");
-        prompt.append("4. Consider medical conditions if relevant\n");
-        prompt.append("5. Select the SINGLE most suitable person\n\n");
-
-        prompt.append("RESPOND IN THIS EXACT JSON FORMAT (no additional text):\n");
-        prompt.append("{\n");
-        prompt.append("  \"personId\": <selected person ID as number>,\n");
-        prompt.append("  \"reason\": \"<brief explanation of why this person is the best match>\",\n");
-        prompt.append("  \"matchScore\": <confidence score between 0 and 100>\n");
-        prompt.append("}\n");
-
-        return prompt.toString();
+    /**
+     * Returns the cached Gemini response for an identical prompt, or calls Gemini and caches
+     * the result. Gemini is called through {@link GeminiCircuitBreaker}, which retries within a
+     * time budget and fails fast while the circuit is open. The prompt is built only from the task(s) and the candidate roster, so its
+     * fingerprint changes whenever any input to the decision changes.
+     *
+     * @param prompt the formatted prompt string for Gemini AI
+     * @param maxOutputTokens the maximum response length in tokens
+     * @param candidates the persons included in the prompt
+     * @return the text response from Gemini AI
+     */
+    private String callGeminiCached(String prompt, int maxOutputTokens, List<PersonDto> candidates) {
+        String key = GeminiResponseCache.fingerprint(prompt);
+        String cached = geminiResponseCache.get(key);
+        if (cached != null) {
+            log.debug("Using cached Gemini response {}", key);
+            return cached;
+        }
+        String response = geminiCircuitBreaker.execute(timeout -> callGeminiApi(prompt, maxOutputTokens, timeout));
+        geminiResponseCache.put(key, candidates.stream().map(PersonDto::getId).collect(Collectors.toList()), response);
+        return response;
     }
 
     /**
@@ -395,15 +658,17 @@ public class AssignmentService {
      *   <li>Temperature: 0.7 (balanced creativity and consistency)</li>
      *   <li>TopK: 40 (token sampling parameter)</li>
      *   <li>TopP: 0.95 (nucleus sampling parameter)</li>
-     *   <li>MaxOutputTokens: 2048 (maximum response length)</li>
+     *   <li>MaxOutputTokens: supplied by the caller (maximum response length)</li>
      *   <li>ResponseMimeType: application/json (forces JSON output)</li>
      * </ul>
      *
      * @param prompt the formatted prompt string for Gemini AI
+     * @param maxOutputTokens the maximum response length in tokens
+     * @param timeout how long to wait for the response
      * @return the text response from Gemini AI
      * @throws RuntimeException if API call fails or returns empty response
      */
-    private String callGeminiApi(String prompt) {
+    private String callGeminiApi(String prompt, int maxOutputTokens, Duration timeout) {
         try {
             System.out.println("=== DEBUG: Calling Gemini API ===");
 
@@ -424,7 +689,7 @@ public class AssignmentService {
             generationConfig.put("temperature", 0.7);
             generationConfig.put("topK", 40);
             generationConfig.put("topP", 0.95);
-            generationConfig.put("maxOutputTokens", 2048);
+            generationConfig.put("maxOutputTokens", maxOutputTokens);
             generationConfig.put("responseMimeType", "application/json");
             requestBody.put("generationConfig", generationConfig);
 
@@ -441,12 +706,18 @@ public class AssignmentService {
             System.out.println("Request body prepared");
 
             // Call API
-            ResponseEntity<String> response = restTemplate.exchange(
-                    urlWithKey,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response;
+            ATTEMPT_TIMEOUT.set(timeout);
+            try {
+                response = restTemplate.exchange(
+                        urlWithKey,
+                        HttpMethod.POST,
+                        entity,
+                        String.class
+                );
+            } finally {
+                ATTEMPT_TIMEOUT.remove();
+            }
 
             System.out.println("Response Status: " + response.getStatusCode());
             System.out.println("Response Body Length: " + (response.getBody() != null ? response.getBody().length() : "null"));
@@ -663,14 +934,14 @@ public class AssignmentService {
      *   <li>State: disabled flag</li>
      * </ul>
      *
-     * <p><b>Note:</b> This method does not map complex relationships like
-     * skills, medical conditions, or emergency contacts. If these are needed
-     * in the DTO, additional mapping logic should be added.</p>
+     * <p><b>Note:</b> Skills and active physical limitations are mapped for matching;
+     * emergency contacts and the remaining medical records are not.</p>
      *
      * @param person the Person entity to convert
+     * @param activeLimitations the person's enabled physical limitations
      * @return a PersonDto with mapped data
      */
-    private PersonDto convertToPersonDto(Person person) {
+    private PersonDto convertToPersonDto(Person person, List<PhysicalLimitationDto> activeLimitations) {
         PersonDto dto = new PersonDto();
         dto.setId(person.getId());
         dto.setPersonalCode(person.getPersonalCode());
@@ -707,6 +978,15 @@ public class AssignmentService {
             dto.setSkills(skillDtos);
         }
 
+        // Map physical limitations so the local scorer can weigh medical fitness
+        if (person.getMedicalCondition() != null) {
+            MedicalConditionDto medical = new MedicalConditionDto();
+            medical.setId(person.getMedicalCondition().getId());
+            medical.setBloodGroup(person.getMedicalCondition().getBloodGroup());
+            medical.setPhysicalLimitations(activeLimitations);
+            dto.setMedicalCondition(medical);
+        }
+
         return dto;
     }
 }
@@ -0,0 +1,185 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.dto.PersonDto;
+import com.example.personnel_service.dto.PriorityDto;
+import com.example.personnel_service.dto.TaskAssignmentDto;
+import com.example.personnel_service.dto.TaskDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Globally optimal batch assignment of pending tasks to available personnel.
+ *
+ * <p>The solver builds a task x person cost matrix once from {@link AssignmentScorer}
+ * scores ({@code cost = 100 - score}) and solves it with the Hungarian algorithm in
+ * O(n&sup3;), so the total match score over the whole batch is maximised instead of
+ * greedily giving each task the best person still left.</p>
+ *
+ * <p>When there are more tasks than people, each task gets a dummy "unassigned" column
+ * whose cost grows with the task priority. The penalty step is larger than any possible
+ * difference in real costs, so an URGENT task is never left out in favour of a HIGH,
+ * MEDIUM or LOW one.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService#matchAllPendingTasks()
+ */
+@Component
+public class BatchAssignmentSolver {
+
+    private static final double MAX_SCORE = 100.0;
+
+    /**
+     * Orders tasks URGENT first, then by ID, so results are stable and priority ordered.
+     */
+    static final Comparator<TaskDto> BY_PRIORITY = Comparator
+            .comparingInt((TaskDto task) -> priorityWeight(task.getPriority())).reversed()
+            .thenComparingLong(TaskDto::getId);
+
+    private final AssignmentScorer assignmentScorer;
+
+    public BatchAssignmentSolver(AssignmentScorer assignmentScorer) {
+        this.assignmentScorer = assignmentScorer;
+    }
+
+    /**
+     * Computes the optimal one-to-one matching between tasks and persons.
+     *
+     * @param tasks the pending tasks
+     * @param persons the available personnel
+     * @return one assignment per matched task, ordered by task priority; tasks that
+     *         could not be staffed are omitted
+     */
+    public List<TaskAssignmentDto> solve(List<TaskDto> tasks, List<PersonDto> persons) {
+        List<TaskAssignmentDto> assignments = new ArrayList<>();
+        if (tasks.isEmpty() || persons.isEmpty()) {
+            return assignments;
+        }
+
+        List<TaskDto> ordered = new ArrayList<>(tasks);
+        ordered.sort(BY_PRIORITY);
+
+        int taskCount = ordered.size();
+        int personCount = persons.size();
+        double[][] scores = assignmentScorer.scoreMatrix(ordered, persons);
+
+        // Pad with "unassigned" columns when there are more tasks than people
+        int columns = Math.max(taskCount, personCount);
+        double penaltyStep = MAX_SCORE * (Math.min(taskCount, personCount) + 1);
+        double[][] cost = new double[taskCount][columns];
+        for (int i = 0; i < taskCount; i++) {
+            for (int j = 0; j < personCount; j++) {
+                cost[i][j] = MAX_SCORE - scores[i][j];
+            }
+            double unassignedCost = penaltyStep * (priorityWeight(ordered.get(i).getPriority()) + 1);
+            for (int j = personCount; j < columns; j++) {
+                cost[i][j] = unassignedCost;
+            }
+        }
+
+        int[] match = minCostAssignment(cost);
+        for (int i = 0; i < taskCount; i++) {
+            int j = match[i];
+            if (j < 0 || j >= personCount) {
+                continue;
+            }
+            TaskDto task = ordered.get(i);
+            PersonDto person = persons.get(j);
+            String reason = assignmentScorer.score(task, person).getReason() + " (optimal batch assignment)";
+            assignments.add(new TaskAssignmentDto(person, task, reason, scores[i][j]));
+        }
+        return assignments;
+    }
+
+    /**
+     * Hungarian algorithm (Kuhn-Munkres with potentials) for a rectangular matrix with
+     * no more rows than columns.
+     *
+     * @param cost an n x m cost matrix, n &lt;= m
+     * @return for each row, the index of the column assigned to it
+     */
+    static int[] minCostAssignment(double[][] cost) {
+        int n = cost.length;
+        int m = n == 0 ? 0 : cost[0].length;
+        if (n > m) {
+            throw new IllegalArgumentException("Cost matrix must not have more rows than columns");
+        }
+
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] p = new int[m + 1];
+        int[] way = new int[m + 1];
+        double[] minv = new double[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                int j1 = 0;
+                double delta = Double.POSITIVE_INFINITY;
+                for (int j = 1; j <= m; j++) {
+                    if (!used[j]) {
+                        double current = cost[i0 - 1][j - 1] - u[i0] - v[j];
+                        if (current < minv[j]) {
+                            minv[j] = current;
+                            way[j] = j0;
+                        }
+                        if (minv[j] < delta) {
+                            delta = minv[j];
+                            j1 = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        int[] match = new int[n];
+        Arrays.fill(match, -1);
+        for (int j = 1; j <= m; j++) {
+            if (p[j] != 0) {
+                match[p[j] - 1] = j - 1;
+            }
+        }
+        return match;
+    }
+
+    static int priorityWeight(PriorityDto priority) {
+        if (priority == null) {
+            return 0;
+        }
+        switch (priority) {
+            case URGENT:
+                return 4;
+            case HIGH:
+                return 3;
+            case MEDIUM:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+}
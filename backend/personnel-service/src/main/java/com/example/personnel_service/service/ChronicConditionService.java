@@ -2,6 +2,8 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.ChronicCondition;
 import com.example.personnel_service.repository.ChronicConditionRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,6 +38,27 @@ public class ChronicConditionService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the chronic conditions of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's ChronicCondition entities
+     */
+    public List<ChronicCondition> getChronicConditionsByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's chronic conditions.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's ChronicCondition entities
+     */
+    public Page<ChronicCondition> getChronicConditionPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves a chronic condition by its unique identifier.
      * 
@@ -1,32 +1,61 @@
 package com.example.personnel_service.service;
 
+import com.example.personnel_service.dto.StoredFile;
 import com.example.personnel_service.entity.Document;
+import com.example.personnel_service.entity.DocumentBlob;
+import com.example.personnel_service.exception.ResourceNotFoundException;
+import com.example.personnel_service.repository.DocumentBlobRepository;
 import com.example.personnel_service.repository.DocumentRepository;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.EOFException;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
+@Slf4j
 public class DocumentService {
+    private static final String FILES_URL = "/api/personnel/documents/files/";
+    /** A content-addressed stored name: the blob's SHA-256 and the extension of the upload. */
+    private static final Pattern STORED_NAME = Pattern.compile("([0-9a-f]{64})(\\.[A-Za-z0-9]{1,16})?");
+    private static final Pattern EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,16}");
+
     private final DocumentRepository repository;
+    private final DocumentBlobRepository blobRepository;
     private final Path uploadDir;
 
-    public DocumentService(DocumentRepository repository,
+    public DocumentService(DocumentRepository repository, DocumentBlobRepository blobRepository,
                            @Value("${file.upload-dir:./uploads}") String uploadPath) {
         this.repository = repository;
+        this.blobRepository = blobRepository;
         this.uploadDir = Paths.get(uploadPath).toAbsolutePath().normalize();
     }
 
@@ -43,6 +72,14 @@ public class DocumentService {
         return repository.findAll();
     }
 
+    public List<Document> getDocumentsByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    public Page<Document> getDocumentPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     public Document getDocumentById(Long id) {
         return repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Document not found"));
@@ -63,58 +100,240 @@ public class DocumentService {
         return repository.save(document);
     }
 
+    /**
+     * Deletes a document and releases its upload blob, removing the file once no other
+     * document references it.
+     */
+    @Transactional
     public void deleteDocument(Long id) {
         Document document = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Document not found"));
-        // Delete physical file if it exists
-        if (document.getUrl() != null && document.getUrl().startsWith("/api/personnel/documents/")) {
-            try {
-                String filename = document.getUrl().substring(document.getUrl().lastIndexOf('/') + 1);
-                Path filePath = uploadDir.resolve(filename);
-                Files.deleteIfExists(filePath);
-            } catch (IOException ignored) {
-            }
-        }
         repository.delete(document);
+        if (document.getUrl() != null && document.getUrl().startsWith(FILES_URL)) {
+            release(document.getUrl().substring(FILES_URL.length()));
+        }
     }
 
     /**
      * Stores an uploaded file and creates a Document record.
+     *
+     * <p>The upload is hashed with SHA-256 while it streams to a temporary file. If a blob
+     * with that hash is already stored, the temporary file is dropped and the document
+     * points at the existing blob; otherwise the temporary file becomes the blob, named by
+     * its hash. Either way the blob's reference count goes up by one. The document URL ends
+     * in the hash followed by the upload's extension, so downloads keep their file type.</p>
+     *
+     * <p>The blob row is created with an insert-if-absent and then locked, so concurrent
+     * first uploads of the same content queue on the row instead of failing on its key.</p>
      */
+    @Transactional
     public Document uploadFile(MultipartFile file, String note, String issuedBy) throws IOException {
-        String originalName = file.getOriginalFilename();
-        String extension = "";
-        if (originalName != null && originalName.contains(".")) {
-            extension = originalName.substring(originalName.lastIndexOf('.'));
+        Path tempFile = Files.createTempFile(uploadDir, "upload-", ".tmp");
+        boolean deferred = false;
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path blobPath = uploadDir.resolve(hash);
+            DocumentBlob blob = lockBlob(hash, size);
+            if (blob.getReferenceCount() == 0 || Files.notExists(blobPath)) {
+                deferred = storeBlob(tempFile, blobPath);
+            }
+            blob.setReferenceCount(blob.getReferenceCount() + 1);
+            blobRepository.save(blob);
+
+            Document doc = new Document();
+            doc.setName(file.getOriginalFilename());
+            doc.setUrl(FILES_URL + hash + extension(file.getOriginalFilename()));
+            doc.setNote(note != null ? note : "");
+            doc.setIssuedBy(issuedBy != null ? issuedBy : "");
+            doc.setIssueDate(LocalDateTime.now());
+            return repository.save(doc);
+        } finally {
+            if (!deferred) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Moves an upload into place as a blob. In a transaction the move is left to just before
+     * the commit, so a rolled-back upload leaves no file behind; the blob row is still locked
+     * then, so a concurrent upload of the same content finds the file once it gets the lock.
+     *
+     * @return whether the move was deferred, leaving the temporary file to the transaction
+     */
+    private boolean storeBlob(Path tempFile, Path blobPath) throws IOException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Files.move(tempFile, blobPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                try {
+                    Files.move(tempFile, blobPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not store uploaded file " + blobPath, e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                deleteQuietly(tempFile);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Returns the extension of an uploaded file name, dot included, or an empty string if
+     * it has none that is safe in a URL.
+     */
+    private static String extension(String originalName) {
+        if (originalName == null || originalName.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String extension = originalName.substring(originalName.lastIndexOf('.'));
+        return EXTENSION.matcher(extension).matches() ? extension : "";
+    }
+
+    /**
+     * Returns the name of the file on disk behind a stored name: the hash alone for a
+     * content-addressed name, the name itself for files uploaded before.
+     */
+    private static String blobName(String filename) {
+        Matcher matcher = STORED_NAME.matcher(filename);
+        return matcher.matches() ? matcher.group(1) : filename;
+    }
+
+    /**
+     * Creates the blob row if needed and locks it. A release can delete the row between the
+     * insert and the lock, in which case the insert is retried.
+     */
+    private DocumentBlob lockBlob(String hash, long size) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            blobRepository.insertIfAbsent(hash, size);
+            Optional<DocumentBlob> blob = blobRepository.findForUpdate(hash);
+            if (blob.isPresent()) {
+                return blob.get();
+            }
         }
-        String storedName = UUID.randomUUID() + extension;
+        throw new IllegalStateException("Could not lock blob " + hash);
+    }
 
-        Path targetPath = uploadDir.resolve(storedName);
-        Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Drops one reference to a stored file and removes the file when it was the last. Files
+     * uploaded before content addressing have no blob row and a single document.
+     *
+     * <p>The file is moved aside while the blob row is still locked, so a re-upload of the
+     * same content, which waits for that lock, always finds the file gone and stores its own
+     * copy. The moved-aside file is deleted on commit and put back on rollback.</p>
+     */
+    private void release(String storedName) {
+        String filename = blobName(storedName);
+        Optional<DocumentBlob> blob = blobRepository.findForUpdate(filename);
+        if (blob.isPresent() && blob.get().getReferenceCount() > 1) {
+            blob.get().setReferenceCount(blob.get().getReferenceCount() - 1);
+            blobRepository.save(blob.get());
+            return;
+        }
+        blob.ifPresent(blobRepository::delete);
+        Path filePath = uploadDir.resolve(filename).normalize();
+        if (!uploadDir.equals(filePath.getParent()) || Files.notExists(filePath)) {
+            return;
+        }
+        Path removed = uploadDir.resolve(filename + ".removed-" + UUID.randomUUID());
+        try {
+            Files.move(filePath, removed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not remove stored file {}", filePath, e);
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteQuietly(removed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    deleteQuietly(removed);
+                    return;
+                }
+                try {
+                    // Same hash, same bytes: a copy stored meanwhile can safely be replaced
+                    Files.move(removed, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.warn("Could not restore stored file {}", filePath, e);
+                }
+            }
+        });
+    }
 
-        Document doc = new Document();
-        doc.setName(originalName);
-        doc.setUrl("/api/personnel/documents/files/" + storedName);
-        doc.setNote(note != null ? note : "");
-        doc.setIssuedBy(issuedBy != null ? issuedBy : "");
-        doc.setIssueDate(LocalDateTime.now());
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete stored file {}", file, e);
+        }
+    }
 
-        return repository.save(doc);
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
-     * Loads a stored file as a Resource for download.
+     * Looks up a stored file for download.
+     *
+     * @param filename the stored file name, as in the document URL
+     * @return the file with its size, modification time and entity tag
+     * @throws ResourceNotFoundException if no readable file of that name is stored
      */
-    public Resource loadFile(String filename) {
+    public StoredFile getStoredFile(String filename) {
+        Path filePath = uploadDir.resolve(blobName(filename)).normalize();
+        // Reject names that resolve outside the upload directory
+        if (!uploadDir.equals(filePath.getParent()) || !Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw new ResourceNotFoundException("File", "filename", filename);
+        }
         try {
-            Path filePath = uploadDir.resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String etag = "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified) + "\"";
+            return new StoredFile(filePath, attributes.size(), lastModified, etag);
+        } catch (IOException e) {
+            throw new ResourceNotFoundException("File", "filename", filename);
+        }
+    }
+
+    /**
+     * Copies a byte range of a stored file to {@code target} with
+     * {@link FileChannel#transferTo}, which lets the kernel move the bytes without copying
+     * them through the heap when the target allows it.
+     *
+     * @param file the stored file
+     * @param position the first byte to copy
+     * @param count the number of bytes to copy
+     * @param target the channel to write to
+     * @throws IOException if the file cannot be read, ends early, or the target fails
+     */
+    public void transferTo(StoredFile file, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            long end = position + count;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent <= 0) {
+                    throw new EOFException("File " + file.getPath().getFileName() + " ended at byte " + position);
+                }
+                position += sent;
             }
-            throw new RuntimeException("File not found: " + filename);
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("File not found: " + filename, e);
         }
     }
 }
@@ -2,6 +2,8 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.EmergencyContact;
 import com.example.personnel_service.repository.EmergencyContactRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,6 +38,27 @@ public class EmergencyContactService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the emergency contacts of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's EmergencyContact entities
+     */
+    public List<EmergencyContact> getEmergencyContactsByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's emergency contacts.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's EmergencyContact entities
+     */
+    public Page<EmergencyContact> getEmergencyContactPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves an emergency contact by its unique identifier.
      * 
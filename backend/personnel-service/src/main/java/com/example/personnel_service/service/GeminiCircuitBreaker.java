@@ -0,0 +1,238 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.GeminiResilienceConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker with a bounded, jittered retry policy for Gemini calls.
+ *
+ * <p>States:</p>
+ * <ul>
+ *   <li>CLOSED - calls go through; {@code failure-threshold} consecutive failed calls open the breaker</li>
+ *   <li>OPEN - calls are rejected immediately with {@link CircuitOpenException} so callers can
+ *       fall back to local ranking; after {@code open-duration} the breaker turns half-open</li>
+ *   <li>HALF_OPEN - a single probe call is let through, without retries; success closes the
+ *       breaker, failure opens it again</li>
+ * </ul>
+ *
+ * <p>While closed, a failed attempt is retried after a full-jitter exponential backoff,
+ * up to {@code max-attempts}, as long as the next attempt still starts within
+ * {@code retry-budget} of the first. Each attempt is handed its own timeout: the
+ * {@code read-timeout}, cut to what is left of the budget, so the whole call (attempts
+ * and backoffs) ends within the budget. Client errors other than 429 are not retried.</p>
+ *
+ * <p>Metrics: {@code gemini.circuit.state} (0 closed, 1 half-open, 2 open),
+ * {@code gemini.circuit.transitions} tagged {@code from}/{@code to},
+ * {@code gemini.circuit.rejected} and {@code gemini.retries}.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService
+ */
+@Component
+public class GeminiCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiCircuitBreaker.class);
+
+    /**
+     * Breaker state; the ordinal is the value of the state gauge.
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    /**
+     * Pauses between retry attempts; replaced in tests.
+     */
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    private final GeminiResilienceConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private final Counter rejected;
+    private final Counter retries;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean probeInFlight;
+
+    @Autowired
+    public GeminiCircuitBreaker(GeminiResilienceConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, Clock.systemUTC(), duration -> Thread.sleep(duration.toMillis()));
+    }
+
+    GeminiCircuitBreaker(GeminiResilienceConfig config, MeterRegistry meterRegistry, Clock clock, Sleeper sleeper) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.rejected = Counter.builder("gemini.circuit.rejected")
+                .description("Gemini calls rejected because the circuit was open").register(meterRegistry);
+        this.retries = Counter.builder("gemini.retries")
+                .description("Gemini call attempts that were retried").register(meterRegistry);
+        Gauge.builder("gemini.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Gemini circuit state: 0 closed, 1 half-open, 2 open").register(meterRegistry);
+    }
+
+    /**
+     * Runs a Gemini call through the breaker and retry policy, without a per-attempt timeout.
+     *
+     * @param call the call to run
+     * @param <T> the call result type
+     * @return the call result
+     * @throws CircuitOpenException if the breaker is open or a probe is already running
+     * @throws RuntimeException the last failure once attempts or the time budget run out
+     * @see #execute(Function)
+     */
+    public <T> T execute(Supplier<T> call) {
+        return execute(timeout -> call.get());
+    }
+
+    /**
+     * Runs a Gemini call through the breaker and retry policy. Each attempt receives the
+     * longest it may take: the read timeout, or less once the retry budget is running out.
+     * The call must give up when that timeout passes.
+     *
+     * @param call the call to run, given the attempt's timeout
+     * @param <T> the call result type
+     * @return the call result
+     * @throws CircuitOpenException if the breaker is open or a probe is already running
+     * @throws RuntimeException the last failure once attempts or the time budget run out
+     */
+    public <T> T execute(Function<Duration, T> call) {
+        boolean probe = acquirePermission();
+        Instant deadline = clock.instant().plus(config.getRetryBudget());
+        int maxAttempts = probe ? 1 : Math.max(1, config.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            Duration remaining = Duration.between(clock.instant(), deadline);
+            Duration timeout = remaining.compareTo(config.getReadTimeout()) < 0 ? remaining : config.getReadTimeout();
+            try {
+                T result = call.apply(timeout);
+                onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                Duration backoff = backoff(attempt);
+                boolean retry = attempt < maxAttempts && isRetryable(e)
+                        && clock.instant().plus(backoff).isBefore(deadline);
+                if (!retry) {
+                    onFailure(probe);
+                    throw e;
+                }
+                retries.increment();
+                log.warn("Gemini call failed (attempt {}/{}), retrying in {} ms: {}",
+                        attempt, maxAttempts, backoff.toMillis(), e.getMessage());
+                try {
+                    sleeper.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    onFailure(probe);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the current state, turning OPEN into HALF_OPEN once the open duration has elapsed.
+     *
+     * @return the breaker state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(config.getOpenDuration()))) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * @return true if this call is the half-open probe
+     */
+    private synchronized boolean acquirePermission() {
+        State current = getState();
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        rejected.increment();
+        throw new CircuitOpenException("Gemini circuit is " + current + ", skipping call");
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private synchronized void onFailure(boolean probe) {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (probe || (state == State.CLOSED && consecutiveFailures >= config.getFailureThreshold())) {
+            openedAt = clock.instant();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.info("Gemini circuit {} -> {}", state, next);
+        Counter.builder("gemini.circuit.transitions")
+                .tag("from", state.name()).tag("to", next.name())
+                .description("Gemini circuit state transitions").register(meterRegistry)
+                .increment();
+        state = next;
+    }
+
+    /**
+     * Full jitter: a random delay between zero and the exponential ceiling for this attempt.
+     */
+    private Duration backoff(int attempt) {
+        long ceiling = Math.min(config.getMaxBackoff().toMillis(),
+                config.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException clientError) {
+                return clientError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Thrown instead of calling Gemini while the circuit is open.
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+}
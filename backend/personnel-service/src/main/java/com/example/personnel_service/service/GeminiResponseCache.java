@@ -0,0 +1,192 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.MatchingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded TTL + LRU cache of Gemini responses for assignment prompts.
+ *
+ * <p>Entries are keyed by a SHA-256 fingerprint of the prompt, which is built only from
+ * the task and the roster it was matched against, so an identical task against an
+ * unchanged roster is answered without a Gemini round-trip. Each entry remembers the
+ * persons in its roster and is dropped as soon as one of them changes status or skills.</p>
+ *
+ * <p>Metrics: {@code assignment.llm.cache.requests} tagged {@code result=hit|miss},
+ * {@code assignment.llm.cache.evictions} tagged {@code cause=size|expired|invalidated},
+ * and the {@code assignment.llm.cache.size} gauge.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService
+ */
+@Component
+public class GeminiResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiResponseCache.class);
+
+    private final MatchingConfig matchingConfig;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidatedEvictions;
+
+    @Autowired
+    public GeminiResponseCache(MatchingConfig matchingConfig, MeterRegistry meterRegistry) {
+        this(matchingConfig, meterRegistry, Clock.systemUTC());
+    }
+
+    GeminiResponseCache(MatchingConfig matchingConfig, MeterRegistry meterRegistry, Clock clock) {
+        this.matchingConfig = matchingConfig;
+        this.clock = clock;
+        this.hits = Counter.builder("assignment.llm.cache.requests").tag("result", "hit")
+                .description("Gemini assignment prompts answered from cache").register(meterRegistry);
+        this.misses = Counter.builder("assignment.llm.cache.requests").tag("result", "miss")
+                .description("Gemini assignment prompts not found in cache").register(meterRegistry);
+        this.sizeEvictions = eviction(meterRegistry, "size");
+        this.expiredEvictions = eviction(meterRegistry, "expired");
+        this.invalidatedEvictions = eviction(meterRegistry, "invalidated");
+
+        // Access-ordered so the eldest entry is always the least recently used one
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > matchingConfig.getLlmCacheMaxEntries()) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("assignment.llm.cache.size", this, GeminiResponseCache::size)
+                .description("Cached Gemini assignment responses").register(meterRegistry);
+    }
+
+    /**
+     * Computes the cache key for a prompt.
+     *
+     * @param prompt the prompt sent to Gemini
+     * @return the hex-encoded SHA-256 of the prompt
+     */
+    public static String fingerprint(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Looks up a cached response, counting the hit or miss.
+     *
+     * @param key the prompt fingerprint
+     * @return the cached Gemini response, or null if absent, expired or caching is disabled
+     */
+    public synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt.isBefore(clock.instant())) {
+            entries.remove(key);
+            expiredEvictions.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.response;
+    }
+
+    /**
+     * Stores a response for the given prompt fingerprint.
+     *
+     * @param key the prompt fingerprint
+     * @param personIds the persons whose details went into the prompt
+     * @param response the Gemini response text
+     */
+    public synchronized void put(String key, Collection<Long> personIds, String response) {
+        if (matchingConfig.getLlmCacheMaxEntries() <= 0 || matchingConfig.getLlmCacheTtl().isZero()) {
+            return;
+        }
+        Instant expiresAt = clock.instant().plus(matchingConfig.getLlmCacheTtl());
+        entries.put(key, new Entry(response, new HashSet<>(personIds), expiresAt));
+    }
+
+    /**
+     * Drops every entry whose roster contains the given person.
+     *
+     * @param personId the person whose status or skills changed
+     */
+    public synchronized void invalidatePerson(Long personId) {
+        int removed = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().personIds.contains(personId)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            invalidatedEvictions.increment(removed);
+            log.debug("Invalidated {} cached Gemini responses for person {}", removed, personId);
+        }
+    }
+
+    /**
+     * Drops every entry, e.g. when a change cannot be attributed to a single person.
+     */
+    public synchronized void invalidateAll() {
+        invalidatedEvictions.increment(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached responses, including expired ones not yet purged.
+     *
+     * @return the cache size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static Counter eviction(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("assignment.llm.cache.evictions").tag("cause", cause)
+                .description("Gemini assignment responses removed from cache").register(meterRegistry);
+    }
+
+    private static final class Entry {
+        private final String response;
+        private final Set<Long> personIds;
+        private final Instant expiresAt;
+
+        private Entry(String response, Set<Long> personIds, Instant expiresAt) {
+            this.response = response;
+            this.personIds = personIds;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
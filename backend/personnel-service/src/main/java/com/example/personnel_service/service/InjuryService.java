@@ -2,6 +2,8 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.InjuryHistory;
 import com.example.personnel_service.repository.InjuryHistoryRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,6 +38,27 @@ public class InjuryService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the injury histories of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's InjuryHistory entities
+     */
+    public List<InjuryHistory> getInjuryHistoriesByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's injury histories.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's InjuryHistory entities
+     */
+    public Page<InjuryHistory> getInjuryHistoryPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves an injury history by its unique identifier.
      * 
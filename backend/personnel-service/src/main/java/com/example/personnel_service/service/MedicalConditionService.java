@@ -1,6 +1,7 @@
 package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.MedicalCondition;
+import com.example.personnel_service.exception.ResourceNotFoundException;
 import com.example.personnel_service.repository.MedicalConditionRepository;
 import org.springframework.stereotype.Service;
 
@@ -36,6 +37,18 @@ public class MedicalConditionService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the medical condition of one person.
+     * 
+     * @param personId the unique identifier of the person
+     * @return the person's MedicalCondition entity
+     * @throws ResourceNotFoundException if the person does not exist or has no medical condition
+     */
+    public MedicalCondition getMedicalConditionByPersonId(long personId) {
+        return repository.findByPersonId(personId)
+                .orElseThrow(() -> new ResourceNotFoundException("Medical condition", "personId", personId));
+    }
+
     /**
      * Retrieves a medical condition by its unique identifier.
      * 
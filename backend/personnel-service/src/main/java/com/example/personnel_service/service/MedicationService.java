@@ -2,6 +2,8 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.Medication;
 import com.example.personnel_service.repository.MedicationRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,6 +38,27 @@ public class MedicationService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the medications of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's Medication entities
+     */
+    public List<Medication> getMedicationsByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's medications.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's Medication entities
+     */
+    public Page<Medication> getMedicationPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves a medication by its unique identifier.
      * 
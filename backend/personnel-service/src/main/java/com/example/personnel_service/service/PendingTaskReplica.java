@@ -0,0 +1,274 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.client.TaskClient;
+import com.example.personnel_service.config.PendingTaskConfig;
+import com.example.personnel_service.dto.PriorityDto;
+import com.example.personnel_service.dto.TaskDto;
+import com.example.personnel_service.dto.TaskStatusDto;
+import com.example.personnel_service.dto.TaskTypeDto;
+import com.example.personnel_service.event.TaskEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local read model of the PENDING tasks in task-service.
+ *
+ * <p>The replica is filled by one full sync on first use and then kept current from
+ * {@code task.created} (or bulk {@code tasks.created}), {@code task.assigned} and
+ * {@code task.completed} events, so
+ * matching reads pending tasks from memory instead of downloading every task on every
+ * request. Once {@code reconcile-interval} has passed since the last sync, the next read
+ * reconciles against task-service to repair drift from lost, reordered or unpublished
+ * changes (edits and deletes). Reconciliation runs on the calling request so the caller's
+ * token can be forwarded; other readers keep using the current replica meanwhile.</p>
+ *
+ * <p>An event applied while a sync is in flight wins over the snapshot, since the
+ * snapshot may have been read before the change.</p>
+ *
+ * <p>Metrics: {@code assignment.pending.replica.size}, {@code assignment.pending.replica.syncs}
+ * tagged {@code result=success|failure}, and {@code assignment.pending.replica.drift}
+ * counting tasks a reconciliation had to add or remove.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService#getPendingTasks()
+ */
+@Component
+public class PendingTaskReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingTaskReplica.class);
+
+    private final TaskClient taskClient;
+    private final PendingTaskConfig config;
+    private final Clock clock;
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final Map<Long, TaskDto> pending = new HashMap<>();
+    private final Map<Long, Instant> lastEventAt = new HashMap<>();
+    private volatile Instant lastSyncAt;
+
+    private final Counter syncSuccesses;
+    private final Counter syncFailures;
+    private final Counter drift;
+
+    @Autowired
+    public PendingTaskReplica(TaskClient taskClient, PendingTaskConfig config, MeterRegistry meterRegistry) {
+        this(taskClient, config, meterRegistry, Clock.systemUTC());
+    }
+
+    PendingTaskReplica(TaskClient taskClient, PendingTaskConfig config, MeterRegistry meterRegistry, Clock clock) {
+        this.taskClient = taskClient;
+        this.config = config;
+        this.clock = clock;
+        this.syncSuccesses = Counter.builder("assignment.pending.replica.syncs").tag("result", "success")
+                .description("Full syncs of the pending-task replica").register(meterRegistry);
+        this.syncFailures = Counter.builder("assignment.pending.replica.syncs").tag("result", "failure")
+                .description("Full syncs of the pending-task replica that failed").register(meterRegistry);
+        this.drift = Counter.builder("assignment.pending.replica.drift")
+                .description("Pending tasks added or removed by reconciliation").register(meterRegistry);
+        Gauge.builder("assignment.pending.replica.size", this, PendingTaskReplica::size)
+                .description("Pending tasks held in the local replica").register(meterRegistry);
+    }
+
+    /**
+     * Returns the pending tasks, syncing first if the replica has never been filled and
+     * reconciling if it is older than the reconcile interval.
+     *
+     * @return a snapshot of the pending tasks ordered by id, never null
+     */
+    public List<TaskDto> getPendingTasks() {
+        if (lastSyncAt == null) {
+            // Nothing to serve yet: wait for whichever caller is doing the initial sync
+            syncLock.lock();
+            try {
+                if (lastSyncAt == null) {
+                    sync();
+                }
+            } finally {
+                syncLock.unlock();
+            }
+        } else if (isStale() && syncLock.tryLock()) {
+            try {
+                if (isStale()) {
+                    sync();
+                }
+            } finally {
+                syncLock.unlock();
+            }
+        }
+        synchronized (this) {
+            List<TaskDto> tasks = new ArrayList<>(pending.values());
+            tasks.sort(Comparator.comparingLong(TaskDto::getId));
+            return tasks;
+        }
+    }
+
+    /**
+     * Applies a task lifecycle event from task-service.
+     *
+     * @param event the {@code task.created}, {@code tasks.created}, {@code task.assigned} or
+     *              {@code task.completed} event
+     */
+    public void apply(TaskEvent event) {
+        if ("tasks.created".equals(event.getEventType()) && event.getPayloads() != null) {
+            event.getPayloads().forEach(this::putCreated);
+            return;
+        }
+        TaskEvent.TaskPayload payload = event.getPayload();
+        if (payload == null || event.getEventType() == null) {
+            log.warn("Ignoring task event without type or payload: {}", event);
+            return;
+        }
+        switch (event.getEventType()) {
+            case "task.created" -> putCreated(payload);
+            case "task.assigned", "task.completed" -> remove(payload.getId(), payload.getTaskId());
+            default -> log.debug("Ignoring task event {}", event.getEventType());
+        }
+    }
+
+    /**
+     * Drops a task this service has just assigned, ahead of its {@code task.assigned} event.
+     *
+     * @param taskId the task id
+     */
+    public void markAssigned(long taskId) {
+        remove(taskId, null);
+    }
+
+    /**
+     * @return the number of pending tasks currently in the replica
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    private boolean isStale() {
+        Instant last = lastSyncAt;
+        return last == null || !clock.instant().isBefore(last.plus(config.getReconcileInterval()));
+    }
+
+    /**
+     * Replaces the replica with a fresh snapshot, keeping the outcome of events applied
+     * since the snapshot was requested. Called with {@link #syncLock} held.
+     */
+    private void sync() {
+        Instant started = clock.instant();
+        List<TaskDto> tasks;
+        try {
+            tasks = taskClient.fetchPendingTasks();
+        } catch (RuntimeException e) {
+            syncFailures.increment();
+            log.warn("Pending-task sync failed, serving {} replica: {}",
+                    lastSyncAt == null ? "empty" : "existing", e.getMessage());
+            return;
+        }
+
+        Map<Long, TaskDto> fresh = new HashMap<>();
+        for (TaskDto task : tasks) {
+            if (task.getStatus() == TaskStatusDto.PENDING) {
+                fresh.put(task.getId(), task);
+            }
+        }
+
+        synchronized (this) {
+            lastEventAt.forEach((id, at) -> {
+                if (!at.isBefore(started)) {
+                    TaskDto live = pending.get(id);
+                    if (live != null) {
+                        fresh.put(id, live);
+                    } else {
+                        fresh.remove(id);
+                    }
+                }
+            });
+            lastEventAt.values().removeIf(at -> at.isBefore(started));
+
+            if (lastSyncAt != null) {
+                long added = fresh.keySet().stream().filter(id -> !pending.containsKey(id)).count();
+                long removed = pending.keySet().stream().filter(id -> !fresh.containsKey(id)).count();
+                if (added + removed > 0) {
+                    drift.increment(added + removed);
+                    log.info("Reconciled pending-task replica: {} added, {} removed", added, removed);
+                }
+            }
+            pending.clear();
+            pending.putAll(fresh);
+            lastSyncAt = started;
+        }
+        syncSuccesses.increment();
+        log.debug("Pending-task replica synced: {} pending of {} tasks", fresh.size(), tasks.size());
+    }
+
+    private void putCreated(TaskEvent.TaskPayload payload) {
+        if (payload.getId() == null) {
+            log.warn("Ignoring created task without task id for {}", payload.getTaskId());
+            return;
+        }
+        put(toTaskDto(payload));
+    }
+
+    private synchronized void put(TaskDto task) {
+        pending.put(task.getId(), task);
+        lastEventAt.put(task.getId(), clock.instant());
+    }
+
+    private synchronized void remove(Long id, String taskCode) {
+        Long key = id;
+        if (key == null && taskCode != null) {
+            // Older task-service builds only send the task code
+            key = pending.values().stream()
+                    .filter(task -> taskCode.equals(task.getTaskCode()))
+                    .map(TaskDto::getId)
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (key == null) {
+            return;
+        }
+        pending.remove(key);
+        lastEventAt.put(key, clock.instant());
+    }
+
+    private static TaskDto toTaskDto(TaskEvent.TaskPayload payload) {
+        TaskDto task = new TaskDto();
+        task.setId(payload.getId());
+        task.setTaskCode(payload.getTaskId());
+        task.setTitle(payload.getTitle());
+        task.setDescription(payload.getDescription());
+        task.setType(parse(TaskTypeDto.class, payload.getTaskType()));
+        task.setPriority(parse(PriorityDto.class, payload.getPriority()));
+        task.setIncidentId(payload.getIncidentId());
+        task.setLocation(payload.getLocation());
+        task.setStatus(TaskStatusDto.PENDING);
+        task.setCreatedAt(payload.getCreatedAt());
+        return task;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (Objects.equals(constant.name(), value.trim().toUpperCase())) {
+                return constant;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonIndexConfig;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.repository.PersonRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory index of person ids by normalized status and enabled flag.
+ *
+ * <p>The index is built from a lightweight id/status projection on first use and then kept
+ * current by every write path that changes a person's status or enabled flag (person CRUD,
+ * assignment persistence and completion, {@code task.assigned} and {@code user.registered}
+ * events). The available roster is then a primary-key lookup of just the available ids,
+ * with their skills fetched in the same query, instead of loading and filtering every person.</p>
+ *
+ * <p>Writes made inside a transaction reach the index only once it commits, so a rolled-back
+ * write leaves no trace. Once {@code personnel.indexes.rebuild-interval} has passed since the
+ * last build, the next read rebuilds the index from the database to repair drift from writes
+ * that bypassed it.</p>
+ *
+ * <p>Statuses are normalized to upper case with spaces and hyphens as underscores, so
+ * "Available", "available" and "AVAILABLE" share one bucket, as do "On Duty" and "ON_DUTY".</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService#getAvailablePersons()
+ */
+@Component
+public class PersonAvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PersonAvailabilityIndex.class);
+
+    /**
+     * Normalized status of personnel who can take a new task.
+     */
+    public static final String AVAILABLE = "AVAILABLE";
+
+    private final PersonRepository personRepository;
+    private final PersonIndexConfig config;
+    private final Clock clock;
+
+    private final Map<String, Set<Long>> enabledByStatus = new HashMap<>();
+    private final Map<String, Set<Long>> disabledByStatus = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private Instant builtAt;
+
+    @Autowired
+    public PersonAvailabilityIndex(PersonRepository personRepository, PersonIndexConfig config,
+                                   MeterRegistry meterRegistry) {
+        this(personRepository, config, meterRegistry, Clock.systemUTC());
+    }
+
+    PersonAvailabilityIndex(PersonRepository personRepository, PersonIndexConfig config,
+                            MeterRegistry meterRegistry, Clock clock) {
+        this.personRepository = personRepository;
+        this.config = config;
+        this.clock = clock;
+        Gauge.builder("personnel.availability.index.available", this, PersonAvailabilityIndex::availableCount)
+                .description("Enabled personnel indexed as available").register(meterRegistry);
+    }
+
+    /**
+     * Loads the enabled, available personnel through the index.
+     *
+     * @return the available persons ordered by id, never null
+     */
+    public List<Person> getAvailablePersons() {
+        return getAvailablePersons(getPersonIds(AVAILABLE, true));
+    }
+
+    /**
+     * Loads those of the given persons that are enabled and available, for callers that
+     * have already narrowed the roster through another index.
+     *
+     * @param ids candidate person ids, normally a subset of the available ids
+     * @return the available persons among them ordered by id, never null
+     */
+    public List<Person> getAvailablePersons(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Person> persons = new ArrayList<>();
+        for (Person person : personRepository.findWithSkillsByIdIn(ids)) {
+            // Re-check the loaded row so a write that bypassed the index cannot leak through
+            if (!person.isDisabled() && AVAILABLE.equals(normalize(person.getStatus()))) {
+                persons.add(person);
+            } else {
+                update(person);
+            }
+        }
+        persons.sort(Comparator.comparingLong(Person::getId));
+        return persons;
+    }
+
+    /**
+     * Returns the ids of persons with the given status and enabled flag.
+     *
+     * @param status the status, in any case or spelling that normalizes to the same value
+     * @param enabled true for enabled persons, false for soft-deleted ones
+     * @return a snapshot of the matching ids
+     */
+    public synchronized Set<Long> getPersonIds(String status, boolean enabled) {
+        ensureBuilt();
+        Set<Long> ids = (enabled ? enabledByStatus : disabledByStatus).get(normalize(status));
+        return ids == null ? Collections.emptySet() : new HashSet<>(ids);
+    }
+
+    /**
+     * Counts enabled persons by normalized status.
+     *
+     * @return a snapshot of the count per status, ordered by status
+     */
+    public synchronized Map<String, Integer> countByStatus() {
+        ensureBuilt();
+        Map<String, Integer> counts = new TreeMap<>();
+        enabledByStatus.forEach((status, ids) -> {
+            if (!ids.isEmpty()) {
+                counts.put(status, ids.size());
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Records the current status and enabled flag of a saved person once the current
+     * transaction commits.
+     *
+     * @param person the saved person
+     */
+    public void update(Person person) {
+        long id = person.getId();
+        Entry next = new Entry(normalize(person.getStatus()), !person.isDisabled());
+        TransactionCallbacks.afterCommit(() -> put(id, next));
+    }
+
+    private synchronized void put(long id, Entry next) {
+        if (builtAt == null) {
+            // The first lookup reads the committed state anyway
+            return;
+        }
+        Entry previous = entries.get(id);
+        if (next.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            bucket(previous).remove(id);
+        }
+        entries.put(id, next);
+        (next.enabled ? enabledByStatus : disabledByStatus)
+                .computeIfAbsent(next.status, status -> new HashSet<>())
+                .add(id);
+    }
+
+    /**
+     * Records the current state of several saved persons.
+     *
+     * @param persons the saved persons
+     */
+    public void updateAll(Iterable<Person> persons) {
+        persons.forEach(this::update);
+    }
+
+    /**
+     * Drops a deleted person from the index once the current transaction commits.
+     *
+     * @param id the person id
+     */
+    public void remove(long id) {
+        TransactionCallbacks.afterCommit(() -> drop(id));
+    }
+
+    private synchronized void drop(long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            bucket(previous).remove(id);
+        }
+    }
+
+    /**
+     * Normalizes a status for indexing: trimmed, upper case, spaces and hyphens as underscores.
+     *
+     * @param status the raw status, may be null
+     * @return the normalized status, {@code UNKNOWN} when blank
+     * @see Person#normalizeStatus(String)
+     */
+    public static String normalize(String status) {
+        return Person.normalizeStatus(status);
+    }
+
+    private synchronized int availableCount() {
+        return enabledByStatus.getOrDefault(AVAILABLE, Collections.emptySet()).size();
+    }
+
+    private void ensureBuilt() {
+        Instant now = clock.instant();
+        if (builtAt != null && now.isBefore(builtAt.plus(config.getRebuildInterval()))) {
+            return;
+        }
+        entries.clear();
+        enabledByStatus.clear();
+        disabledByStatus.clear();
+        List<PersonRepository.AvailabilityView> rows = personRepository.findAllAvailability();
+        for (PersonRepository.AvailabilityView row : rows) {
+            Entry entry = new Entry(normalize(row.getStatus()), !row.isDisabled());
+            entries.put(row.getId(), entry);
+            (entry.enabled ? enabledByStatus : disabledByStatus)
+                    .computeIfAbsent(entry.status, status -> new HashSet<>())
+                    .add(row.getId());
+        }
+        builtAt = now;
+        log.info("Built personnel availability index: {} persons, {} available",
+                rows.size(), enabledByStatus.getOrDefault(AVAILABLE, Collections.emptySet()).size());
+    }
+
+    private Set<Long> bucket(Entry entry) {
+        return (entry.enabled ? enabledByStatus : disabledByStatus)
+                .getOrDefault(entry.status, new HashSet<>());
+    }
+
+    private static final class Entry {
+        private final String status;
+        private final boolean enabled;
+
+        private Entry(String status, boolean enabled) {
+            this.status = status;
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry entry && entry.enabled == enabled && entry.status.equals(status);
+        }
+
+        @Override
+        public int hashCode() {
+            return status.hashCode() * 31 + Boolean.hashCode(enabled);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonImportConfig;
+import com.example.personnel_service.dto.PersonImportResult;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Streams persons from CSV or NDJSON into the database in fixed-size chunks.
+ *
+ * <p>The input is read one line at a time and never held in memory as a whole. Every
+ * {@code chunk-size} parsed rows are saved through {@link PersonService#addPerson(List)}
+ * in one transaction, which inserts them in JDBC batches, updates the availability and
+ * skill indexes and queues their events after commit; the persistence context is then
+ * cleared so a large import runs in flat memory. A row that cannot be parsed is skipped
+ * and reported with its line number; a chunk that fails to save is reported as a whole.</p>
+ *
+ * <p>CSV needs a header row naming the columns, in any order: {@code personalCode,
+ * firstName, lastName, phone, email, address, role, department, organization, rank,
+ * status, shiftStartTime, shiftEndTime, skills}. Times are ISO-8601 local date-times and
+ * {@code skills} is a list such as {@code First Aid:Expert;Rope Rescue:3}. Quoted fields
+ * may contain commas and doubled quotes but not line breaks. NDJSON takes one person
+ * object per line, in the same shape as {@code POST /api/personnel/person}.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see PersonImportConfig
+ */
+@Service
+@Slf4j
+public class PersonImportService {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "personalcode", "firstname", "lastname", "phone", "email", "address", "role", "department",
+            "organization", "rank", "status", "shiftstarttime", "shiftendtime", "skills");
+
+    private final PersonService personService;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private final PersonImportConfig config;
+
+    public PersonImportService(PersonService personService, EntityManager entityManager, JsonMapper jsonMapper,
+                               PersonImportConfig config) {
+        this.personService = personService;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+        this.config = config;
+    }
+
+    /**
+     * Imports persons from CSV with a header row.
+     *
+     * @param input the CSV stream, UTF-8
+     * @return counts of imported and failed rows, with the first errors
+     * @throws BadRequestException if the header is missing or names an unknown column
+     * @throws IOException if the stream cannot be read
+     */
+    public PersonImportResult importCsv(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new BadRequestException("CSV import needs a header row");
+        }
+        List<String> columns = new ArrayList<>();
+        for (String name : parseCsvLine(header.replace("\uFEFF", ""))) {
+            String column = name.trim().toLowerCase(Locale.ROOT).replace("_", "");
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new BadRequestException("Unknown CSV column '" + name.trim() + "'");
+            }
+            columns.add(column);
+        }
+        return importLines(reader, 1, line -> toPerson(columns, parseCsvLine(line)));
+    }
+
+    /**
+     * Imports persons from newline-delimited JSON, one person object per line.
+     *
+     * @param input the NDJSON stream, UTF-8
+     * @return counts of imported and failed rows, with the first errors
+     * @throws IOException if the stream cannot be read
+     */
+    public PersonImportResult importNdjson(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return importLines(reader, 0, line -> jsonMapper.readValue(line, Person.class));
+    }
+
+    private PersonImportResult importLines(BufferedReader reader, long linesRead,
+                                           Function<String, Person> parser) throws IOException {
+        PersonImportResult result = new PersonImportResult();
+        List<Person> chunk = new ArrayList<>(config.getChunkSize());
+        long lineNumber = linesRead;
+        long chunkStart = lineNumber + 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(prepare(parser.apply(line)));
+            } catch (RuntimeException e) {
+                result.setFailed(result.getFailed() + 1);
+                addError(result, "line " + lineNumber + ": " + e.getMessage());
+            }
+            if (chunk.size() >= config.getChunkSize()) {
+                save(chunk, chunkStart, lineNumber, result);
+                chunkStart = lineNumber + 1;
+            }
+        }
+        save(chunk, chunkStart, lineNumber, result);
+        log.info("Person import finished: {} imported, {} failed", result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private void save(List<Person> chunk, long firstLine, long lastLine, PersonImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            personService.addPerson(new ArrayList<>(chunk));
+            result.setImported(result.getImported() + chunk.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to save import rows from line {} to {}", firstLine, lastLine, e);
+            result.setFailed(result.getFailed() + chunk.size());
+            addError(result, "lines " + firstLine + "-" + lastLine + ": " + e.getMessage());
+        } finally {
+            chunk.clear();
+            // Saved rows are not needed again; keep the persistence context from growing
+            entityManager.clear();
+        }
+    }
+
+    private void addError(PersonImportResult result, String error) {
+        if (result.getErrors().size() < config.getMaxReportedErrors()) {
+            result.getErrors().add(error);
+        }
+    }
+
+    /**
+     * Clears any ids in an imported record so it and its nested rows are inserted, never
+     * merged into existing ones.
+     */
+    private static Person prepare(Person person) {
+        if (person == null) {
+            throw new IllegalArgumentException("empty record");
+        }
+        person.setId(0);
+        if (person.getSkills() != null) {
+            person.getSkills().forEach(skill -> skill.setId(0));
+        }
+        if (person.getEmergencyContacts() != null) {
+            person.getEmergencyContacts().forEach(contact -> contact.setId(0));
+        }
+        if (person.getMedicalCondition() != null) {
+            person.getMedicalCondition().setId(0);
+        }
+        return person;
+    }
+
+    private static Person toPerson(List<String> columns, List<String> values) {
+        if (values.size() > columns.size()) {
+            throw new IllegalArgumentException("expected " + columns.size() + " fields but found " + values.size());
+        }
+        Person person = new Person();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns.get(i)) {
+                case "personalcode" -> person.setPersonalCode(value);
+                case "firstname" -> person.setFirstName(value);
+                case "lastname" -> person.setLastName(value);
+                case "phone" -> person.setPhone(value);
+                case "email" -> person.setEmail(value);
+                case "address" -> person.setAddress(value);
+                case "role" -> person.setRole(value);
+                case "department" -> person.setDepartment(value);
+                case "organization" -> person.setOrganization(value);
+                case "rank" -> person.setRank(value);
+                case "status" -> person.setStatus(value);
+                case "shiftstarttime" -> person.setShiftStartTime(LocalDateTime.parse(value));
+                case "shiftendtime" -> person.setShiftEndTime(LocalDateTime.parse(value));
+                case "skills" -> person.setSkills(parseSkills(value));
+                default -> throw new IllegalStateException("Unmapped column " + columns.get(i));
+            }
+        }
+        return person;
+    }
+
+    private static List<Skill> parseSkills(String value) {
+        List<Skill> skills = new ArrayList<>();
+        for (String entry : value.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":", 2);
+            Skill skill = new Skill();
+            skill.setProfession(parts[0].trim());
+            if (parts.length > 1 && !parts[1].isBlank()) {
+                skill.setLevel(parts[1].trim());
+            }
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    /**
+     * Splits one CSV line into fields, honouring double-quoted fields and doubled quotes.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
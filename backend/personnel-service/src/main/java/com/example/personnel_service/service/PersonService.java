@@ -1,19 +1,49 @@
 package com.example.personnel_service.service;
 
+import com.example.personnel_service.dto.PersonFilter;
+import com.example.personnel_service.dto.PersonPage;
+import com.example.personnel_service.dto.PersonProfile;
+import com.example.personnel_service.entity.Allergy;
+import com.example.personnel_service.entity.ChronicCondition;
+import com.example.personnel_service.entity.EmergencyContact;
+import com.example.personnel_service.entity.InjuryHistory;
+import com.example.personnel_service.entity.MedicalCondition;
+import com.example.personnel_service.entity.Medication;
 import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.entity.PhysicalLimitation;
+import com.example.personnel_service.entity.Skill;
 import com.example.personnel_service.event.PersonnelStatusEvent;
-import com.example.personnel_service.messaging.MessagePublisher;
+import com.example.personnel_service.exception.BadRequestException;
+import com.example.personnel_service.exception.ResourceNotFoundException;
+import com.example.personnel_service.config.RabbitMQConfig;
+import com.example.personnel_service.messaging.BatchingEventPublisher;
 import com.example.personnel_service.repository.PersonRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * Service class for managing Person entities.
  * Provides business logic for Person CRUD operations including soft delete functionality.
- * Publishes personnel status events to RabbitMQ for inter-service communication.
+ * Publishes personnel status events to RabbitMQ for inter-service communication, in
+ * batches from a background thread once each write has committed.
  * 
  * @author DISA Team
  * @version 1.0
@@ -22,27 +52,88 @@ import java.util.List;
 @Service
 @Slf4j
 public class PersonService {
+    /**
+     * Largest page the paged listing will return.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final PersonRepository repository;
-    private final MessagePublisher messagePublisher;
+    private final BatchingEventPublisher eventPublisher;
+    private final PersonAvailabilityIndex availabilityIndex;
+    private final SkillIndex skillIndex;
+    private final ShiftIndex shiftIndex;
 
     /**
-     * Constructs a new PersonService with the specified repository and message publisher.
+     * Constructs a new PersonService with the specified repository and event publisher.
      * 
      * @param repository the PersonRepository used for data access
-     * @param messagePublisher the MessagePublisher for publishing events to RabbitMQ
+     * @param eventPublisher the publisher that sends events to RabbitMQ after commit
+     * @param availabilityIndex the index kept in step with every person write
+     * @param skillIndex the skill search index, cleared of deleted persons
+     * @param shiftIndex the shift window index, kept in step with every person write
      */
-    public PersonService(PersonRepository repository, MessagePublisher messagePublisher) {
+    public PersonService(PersonRepository repository, BatchingEventPublisher eventPublisher,
+                         PersonAvailabilityIndex availabilityIndex, SkillIndex skillIndex, ShiftIndex shiftIndex) {
         this.repository = repository;
-        this.messagePublisher = messagePublisher;
+        this.eventPublisher = eventPublisher;
+        this.availabilityIndex = availabilityIndex;
+        this.skillIndex = skillIndex;
+        this.shiftIndex = shiftIndex;
     }
 
     /**
-     * Retrieves all persons from the database.
+     * Retrieves all persons from the database, with skills and medical condition fetched
+     * in the same query so serializing the list does not load them person by person.
      * 
      * @return list of all Person entities
      */
     public List<Person> getAllPersons() {
-        return repository.findAll();
+        return repository.findAllWithSkills();
+    }
+
+    /**
+     * Retrieves one keyset page of persons matching the filters, ordered by id.
+     *
+     * <p>The page is read as ids first, through the indexed filter query, and then loaded
+     * with skills and medical condition in one fetch, so a page costs two queries however
+     * deep the caller has scrolled.</p>
+     *
+     * @param filter optional filters, exact except status, which matches the normalized status
+     *               of enabled persons; blank fields are ignored
+     * @param after cursor from the previous page, or null for the first page
+     * @param limit page size, 1 to {@link #MAX_PAGE_SIZE}
+     * @return the page and the cursor for the next one
+     * @throws BadRequestException if the limit or cursor is out of range
+     */
+    public PersonPage getPersonPage(PersonFilter filter, Long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (after != null && after < 0) {
+            throw new BadRequestException("after must not be negative");
+        }
+        // Read one extra id to learn whether another page follows
+        List<Long> ids = repository.findPageIds(after == null ? 0 : after,
+                statusKeyOf(filter.getStatus()), blankToNull(filter.getRole()),
+                blankToNull(filter.getDepartment()), blankToNull(filter.getOrganization()),
+                blankToNull(filter.getSkill()), PageRequest.of(0, limit + 1));
+        boolean hasMore = ids.size() > limit;
+        List<Long> pageIds = hasMore ? ids.subList(0, limit) : ids;
+        if (pageIds.isEmpty()) {
+            return new PersonPage(new ArrayList<>(), null);
+        }
+        List<Person> persons = new ArrayList<>(repository.findWithSkillsByIdIn(pageIds));
+        persons.sort(Comparator.comparingLong(Person::getId));
+        return new PersonPage(persons, hasMore ? pageIds.get(pageIds.size() - 1) : null);
+    }
+
+    /**
+     * Counts enabled personnel by normalized status, from the availability index.
+     *
+     * @return count per status, e.g. {@code AVAILABLE}, {@code ON_DUTY}
+     */
+    public Map<String, Integer> getStatusCounts() {
+        return availabilityIndex.countByStatus();
     }
 
     /**
@@ -58,20 +149,91 @@ public class PersonService {
     }
 
     /**
-     * Adds one or more new person records to the database.
-     * Publishes personnel.status.changed event for each new person.
+     * Loads a person with skills, emergency contacts and the full medical condition in a
+     * fixed number of queries: one for the person, skills and medical condition, then one
+     * per remaining collection, however many rows each holds.
+     *
+     * @param id the unique identifier of the person
+     * @return the loaded aggregate and its entity tag
+     * @throws ResourceNotFoundException if no person has the given ID
+     */
+    @Transactional(readOnly = true)
+    public PersonProfile getPersonProfile(long id) {
+        Person person = repository.findProfileById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Person", "id", id));
+        Hibernate.initialize(person.getEmergencyContacts());
+        MedicalCondition medical = person.getMedicalCondition();
+        if (medical != null) {
+            Hibernate.initialize(medical.getAllergies());
+            Hibernate.initialize(medical.getChronicConditions());
+            Hibernate.initialize(medical.getPhysicalLimitations());
+            Hibernate.initialize(medical.getPastInjuries());
+            Hibernate.initialize(medical.getMedications());
+        }
+        return new PersonProfile(person, profileETag(person));
+    }
+
+    /**
+     * Hashes the id and update time of every row in the aggregate. Any write through JPA
+     * bumps a row's update time and any insert or delete changes the set of ids, so the
+     * tag changes exactly when the profile can have changed, without serializing it.
+     */
+    static String profileETag(Person person) {
+        List<String> rows = new ArrayList<>();
+        rows.add("person:" + person.getId() + "@" + person.getUpdatedAt());
+        addRows(rows, "skill", person.getSkills(), Skill::getId, Skill::getUpdatedAt);
+        addRows(rows, "contact", person.getEmergencyContacts(), EmergencyContact::getId, EmergencyContact::getUpdatedAt);
+        MedicalCondition medical = person.getMedicalCondition();
+        if (medical != null) {
+            rows.add("medical:" + medical.getId() + "@" + medical.getUpdatedAt());
+            addRows(rows, "allergy", medical.getAllergies(), Allergy::getId, Allergy::getUpdatedAt);
+            addRows(rows, "chronic", medical.getChronicConditions(), ChronicCondition::getId,
+                    ChronicCondition::getUpdatedAt);
+            addRows(rows, "limitation", medical.getPhysicalLimitations(), PhysicalLimitation::getId,
+                    PhysicalLimitation::getUpdatedAt);
+            addRows(rows, "injury", medical.getPastInjuries(), InjuryHistory::getId, InjuryHistory::getUpdatedAt);
+            addRows(rows, "medication", medical.getMedications(), Medication::getId, Medication::getUpdatedAt);
+        }
+        // Collections come back in no fixed order; sort so the tag only depends on content
+        rows.sort(null);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.join("\n", rows).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static <T> void addRows(List<String> rows, String type, List<T> items, ToLongFunction<T> id,
+                                    Function<T, LocalDateTime> updatedAt) {
+        if (items != null) {
+            for (T item : items) {
+                rows.add(type + ":" + id.applyAsLong(item) + "@" + updatedAt.apply(item));
+            }
+        }
+    }
+
+    /**
+     * Adds one or more new person records to the database in one transaction.
+     * Queues a personnel.status.changed event for each new person, sent after commit.
      * 
      * @param persons list of Person entities to be saved
      * @return list of saved Person entities with generated IDs
      */
+    @Transactional
     public List<Person> addPerson(List<Person> persons) {
+        persons.forEach(PersonService::linkChildren);
         List<Person> savedPersons = repository.saveAll(persons);
+        availabilityIndex.updateAll(savedPersons);
+        savedPersons.forEach(shiftIndex::update);
+        savedPersons.forEach(this::indexSkills);
         
         // Publish event for each new person
         savedPersons.forEach(person -> {
             try {
                 publishPersonnelStatusEvent(person, "personnel.created");
-                log.info("Published personnel.created event for person ID: {}", person.getId());
+                log.debug("Queued personnel.created event for person ID: {}", person.getId());
             } catch (Exception e) {
                 log.error("Failed to publish event for new person ID: {}", person.getId(), e);
             }
@@ -81,20 +243,25 @@ public class PersonService {
     }
 
     /**
-     * Updates one or more existing person records in the database.
-     * Publishes personnel.status.changed event for each updated person.
+     * Updates one or more existing person records in the database in one transaction.
+     * Queues a personnel.status.changed event for each updated person, sent after commit.
      * 
      * @param persons list of Person entities with updated information
      * @return list of updated Person entities
      */
+    @Transactional
     public List<Person> updatePerson(List<Person> persons) {
+        persons.forEach(PersonService::linkChildren);
         List<Person> updatedPersons = repository.saveAll(persons);
+        availabilityIndex.updateAll(updatedPersons);
+        updatedPersons.forEach(shiftIndex::update);
+        updatedPersons.forEach(this::indexSkills);
         
         // Publish event for each updated person
         updatedPersons.forEach(person -> {
             try {
                 publishPersonnelStatusEvent(person, "personnel.updated");
-                log.info("Published personnel.updated event for person ID: {}", person.getId());
+                log.debug("Queued personnel.updated event for person ID: {}", person.getId());
             } catch (Exception e) {
                 log.error("Failed to publish event for updated person ID: {}", person.getId(), e);
             }
@@ -115,33 +282,39 @@ public class PersonService {
         Person person = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Person not found"));
         person.setDisabled(true);
-        return repository.save(person);
+        Person saved = repository.save(person);
+        availabilityIndex.update(saved);
+        return saved;
     }
 
     /**
      * Permanently deletes a person record from the database.
-     * Publishes personnel.deleted event.
+     * Queues a personnel.deleted event, sent after commit.
      * 
      * @param id the unique identifier of the person to delete
      * @throws RuntimeException if person with the given ID is not found
      */
+    @Transactional
     public void deletePerson(Long id) {
         Person person = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Person not found"));
         
-        // Publish event before deletion
+        // Build the event while the person is still loaded
         try {
             publishPersonnelStatusEvent(person, "personnel.deleted");
-            log.info("Published personnel.deleted event for person ID: {}", person.getId());
+            log.debug("Queued personnel.deleted event for person ID: {}", person.getId());
         } catch (Exception e) {
             log.error("Failed to publish event for deleted person ID: {}", person.getId(), e);
         }
         
         repository.delete(person);
+        availabilityIndex.remove(person.getId());
+        skillIndex.removePerson(person.getId());
+        shiftIndex.remove(person.getId());
     }
     
     /**
-     * Creates and publishes a personnel status event.
+     * Creates a personnel status event and queues it for publishing after commit.
      * 
      * @param person the Person entity
      * @param eventType the type of event (e.g., "personnel.created", "personnel.updated")
@@ -158,9 +331,10 @@ public class PersonService {
         payload.setStatus(person.isDisabled() ? "UNAVAILABLE" : "AVAILABLE");
         payload.setRole(person.getRole() != null ? person.getRole() : "UNKNOWN");
         payload.setIsAvailable(!person.isDisabled());
+        // Skill names only: Skill.toString() walks back into the person
         payload.setSkills(person.getSkills() != null && !person.getSkills().isEmpty() 
                 ? person.getSkills().stream()
-                    .map(skill -> skill.toString())
+                    .map(skill -> skill.getProfession())
                     .reduce((s1, s2) -> s1 + ", " + s2)
                     .orElse("")
                 : "");
@@ -168,6 +342,49 @@ public class PersonService {
         
         event.setPayload(payload);
         
-        messagePublisher.publishPersonnelStatusEvent(event);
+        eventPublisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, event);
+    }
+
+    /**
+     * Points nested skills and emergency contacts at their person, which JSON bodies and
+     * imports leave unset, so the cascaded rows get the person's foreign key.
+     */
+    private static void linkChildren(Person person) {
+        if (person.getSkills() != null) {
+            person.getSkills().forEach(skill -> skill.setPerson(person));
+        }
+        if (person.getEmergencyContacts() != null) {
+            person.getEmergencyContacts().forEach(contact -> contact.setPerson(person));
+        }
+    }
+
+    private void indexSkills(Person person) {
+        if (person.getSkills() != null) {
+            person.getSkills().forEach(skillIndex::update);
+        }
+    }
+
+    /**
+     * Fills in the normalized status of persons saved before the column existed, so the
+     * status filter of the paged listing finds them. Later saves derive it themselves.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillStatusKeys() {
+        int updated = 0;
+        for (String status : repository.findStatusesWithoutKey()) {
+            updated += repository.setStatusKey(status, Person.normalizeStatus(status));
+        }
+        if (updated > 0) {
+            log.info("Backfilled normalized status of {} persons", updated);
+        }
+    }
+
+    private static String statusKeyOf(String status) {
+        return status == null || status.isBlank() ? null : Person.normalizeStatus(status);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 }
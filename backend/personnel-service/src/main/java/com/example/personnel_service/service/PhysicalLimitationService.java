@@ -2,6 +2,8 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.PhysicalLimitation;
 import com.example.personnel_service.repository.PhysicalLimitationRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,6 +38,27 @@ public class PhysicalLimitationService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the physical limitations of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's PhysicalLimitation entities
+     */
+    public List<PhysicalLimitation> getPhysicalLimitationsByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's physical limitations.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's PhysicalLimitation entities
+     */
+    public Page<PhysicalLimitation> getPhysicalLimitationPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves a physical limitation by its unique identifier.
      * 
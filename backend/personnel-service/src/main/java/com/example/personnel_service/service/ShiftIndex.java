@@ -0,0 +1,288 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonIndexConfig;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.repository.PersonRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Interval index over personnel shift windows, answering "who is on shift for the whole of
+ * {@code [from, to]}" in O(log n + k) expected time.
+ *
+ * <p>Shifts are kept in a treap ordered by shift start (ties broken by person id), and every
+ * node also records the latest shift end in its subtree. A query walks only the part of the
+ * tree whose shifts start at or before {@code from}, and skips any subtree whose latest end
+ * is before {@code to}, so every subtree it enters holds at least one match.</p>
+ *
+ * <p>Persons without both shift times, or whose shift ends before it starts, are not
+ * indexed. The index is built from a projection on first use and then updated one person at
+ * a time from {@link PersonService} writes once their transaction commits. It is rebuilt from
+ * the database on the first read after {@code personnel.indexes.rebuild-interval}.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see AssignmentService#getAvailablePersons(LocalDateTime, LocalDateTime)
+ */
+@Component
+public class ShiftIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ShiftIndex.class);
+
+    private final PersonRepository personRepository;
+    private final PersonAvailabilityIndex availabilityIndex;
+    private final PersonIndexConfig config;
+    private final Clock clock;
+    private final Random random = new Random();
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private Node root;
+    private Instant builtAt;
+
+    @Autowired
+    public ShiftIndex(PersonRepository personRepository, PersonAvailabilityIndex availabilityIndex,
+                      PersonIndexConfig config, MeterRegistry meterRegistry) {
+        this(personRepository, availabilityIndex, config, meterRegistry, Clock.systemUTC());
+    }
+
+    ShiftIndex(PersonRepository personRepository, PersonAvailabilityIndex availabilityIndex,
+               PersonIndexConfig config, MeterRegistry meterRegistry, Clock clock) {
+        this.personRepository = personRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.config = config;
+        this.clock = clock;
+        Gauge.builder("personnel.shift.index.size", this, ShiftIndex::size)
+                .description("Personnel with a shift window in the shift index").register(meterRegistry);
+    }
+
+    /**
+     * Returns the ids of persons whose shift covers the whole window.
+     *
+     * @param from the start of the window
+     * @param to the end of the window, not before {@code from}
+     * @param availableOnly true to keep only enabled persons whose status is AVAILABLE
+     * @return matching person ids in ascending order
+     * @throws IllegalArgumentException if {@code to} is before {@code from}
+     */
+    public List<Long> findPersonIds(LocalDateTime from, LocalDateTime to, boolean availableOnly) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Window ends before it starts");
+        }
+        List<Long> ids = new ArrayList<>();
+        synchronized (this) {
+            ensureBuilt();
+            collect(root, from, to, ids);
+        }
+        if (availableOnly) {
+            Set<Long> available = availabilityIndex.getPersonIds(PersonAvailabilityIndex.AVAILABLE, true);
+            ids.removeIf(id -> !available.contains(id));
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    /**
+     * Records the current shift window of a saved person once the current transaction commits.
+     *
+     * @param person the saved person
+     */
+    public void update(Person person) {
+        long id = person.getId();
+        LocalDateTime start = person.getShiftStartTime();
+        LocalDateTime end = person.getShiftEndTime();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                if (builtAt != null) {
+                    put(id, start, end);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops a deleted person from the index once the current transaction commits.
+     *
+     * @param id the person id
+     */
+    public void remove(long id) {
+        TransactionCallbacks.afterCommit(() -> drop(id));
+    }
+
+    private synchronized void drop(long id) {
+        Node previous = nodes.remove(id);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+    }
+
+    private synchronized int size() {
+        return nodes.size();
+    }
+
+    private void ensureBuilt() {
+        Instant now = clock.instant();
+        if (builtAt != null && now.isBefore(builtAt.plus(config.getRebuildInterval()))) {
+            return;
+        }
+        nodes.clear();
+        root = null;
+        for (PersonRepository.ShiftView row : personRepository.findAllShifts()) {
+            put(row.getId(), row.getShiftStartTime(), row.getShiftEndTime());
+        }
+        builtAt = now;
+        log.info("Built shift index: {} persons with a shift window", nodes.size());
+    }
+
+    private void put(long id, LocalDateTime start, LocalDateTime end) {
+        Node previous = nodes.get(id);
+        if (previous != null) {
+            if (previous.start.equals(start) && previous.end.equals(end)) {
+                return;
+            }
+            nodes.remove(id);
+            root = delete(root, previous);
+        }
+        if (start == null || end == null || end.isBefore(start)) {
+            return;
+        }
+        Node node = new Node(id, start, end, random.nextInt());
+        nodes.put(id, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Adds the ids of shifts in {@code node}'s subtree with start &le; from and end &ge; to.
+     */
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, List<Long> out) {
+        if (node == null || node.maxEnd.isBefore(to)) {
+            return;
+        }
+        collect(node.left, from, to, out);
+        if (node.start.isAfter(from)) {
+            // This node and its whole right subtree start too late
+            return;
+        }
+        if (!node.end.isBefore(to)) {
+            out.add(node.id);
+        }
+        collect(node.right, from, to, out);
+    }
+
+    private Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            return node.pull();
+        }
+        if (compare(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        return tree.pull();
+    }
+
+    private Node delete(Node tree, Node node) {
+        if (tree == null) {
+            return null;
+        }
+        int order = compare(node, tree);
+        if (order == 0) {
+            return merge(tree.left, tree.right);
+        }
+        if (order < 0) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        return tree.pull();
+    }
+
+    /**
+     * Splits a subtree into the nodes ordered before {@code key} and the rest.
+     */
+    private Node[] split(Node tree, Node key) {
+        if (tree == null) {
+            return new Node[2];
+        }
+        if (compare(tree, key) < 0) {
+            Node[] parts = split(tree.right, key);
+            tree.right = parts[0];
+            return new Node[]{tree.pull(), parts[1]};
+        }
+        Node[] parts = split(tree.left, key);
+        tree.left = parts[1];
+        return new Node[]{parts[0], tree.pull()};
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.pull();
+        }
+        right.left = merge(left, right.left);
+        return right.pull();
+    }
+
+    private static int compare(Node a, Node b) {
+        int order = a.start.compareTo(b.start);
+        return order != 0 ? order : Long.compare(a.id, b.id);
+    }
+
+    private static final class Node {
+        private final long id;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long id, LocalDateTime start, LocalDateTime end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        /**
+         * Recomputes the subtree's latest shift end after its children changed.
+         */
+        private Node pull() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+            return this;
+        }
+    }
+}
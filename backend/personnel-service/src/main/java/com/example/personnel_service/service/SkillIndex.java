@@ -0,0 +1,322 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonIndexConfig;
+import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.repository.SkillRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from skill name and minimum proficiency level to the set of persons
+ * holding that skill, stored as bitsets over person ids.
+ *
+ * <p>For every skill name the index keeps one bitset per level {@code 0..MAX_LEVEL}; bit
+ * {@code p} of {@code atLeast[l]} is set when person {@code p} has the skill at level
+ * {@code l} or higher. A query such as "FIRST_AID &ge; 3 AND SWIFT_WATER &ge; 2 AND available"
+ * is then an AND of two stored bitsets and the availability bitset, with no database access.</p>
+ *
+ * <p>Bits are addressed by the raw person id, so the ids of available persons from
+ * {@link PersonAvailabilityIndex} become a bitset without translation. Person ids come from a
+ * pooled sequence (allocation size 50) and are not dense: every restart or extra replica can
+ * skip up to 49 ids, and deleted persons leave holes. A bitset takes one bit per id up to
+ * the highest person holding that skill and level, however few bits are set, so the index
+ * is bounded by {@code skill names x 6 x highest person id / 8} bytes; 50 skill names over
+ * ids up to 100,000 stay under 4 MB. Remapping ids to dense ordinals would save at most
+ * 49 bits per skipped block, which does not pay for a second map on every read and write.</p>
+ *
+ * <p>Levels use the scale of {@link AssignmentScorer}: numeric levels are clamped to
+ * {@code 0..5} and named ones map to beginner 1, intermediate 3, advanced 4, expert 5; a
+ * missing level counts as 0. Skill names are normalized to upper case with runs of other
+ * characters as underscores, so "First Aid" is queried as {@code FIRST_AID}.</p>
+ *
+ * <p>The index is built from a projection on first use and then updated one skill at a time
+ * from {@link SkillService} writes: only the bits of the affected person and skill name change.
+ * Writes reach the index once their transaction commits, and the index is rebuilt from the
+ * database on the first read after {@code personnel.indexes.rebuild-interval}.</p>
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-02-21
+ * @see SkillService
+ */
+@Component
+public class SkillIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillIndex.class);
+
+    /**
+     * Highest proficiency level on the index scale.
+     */
+    public static final int MAX_LEVEL = 5;
+
+    private final SkillRepository skillRepository;
+    private final PersonAvailabilityIndex availabilityIndex;
+    private final PersonIndexConfig config;
+    private final Clock clock;
+
+    /** skill name -> bitsets of persons having it at level >= index */
+    private final Map<String, BitSet[]> atLeast = new HashMap<>();
+    /** skill id -> what that row contributes */
+    private final Map<Long, Entry> entries = new HashMap<>();
+    /** person id -> ids of the skill rows they own */
+    private final Map<Long, Set<Long>> skillsByPerson = new HashMap<>();
+    private Instant builtAt;
+
+    @Autowired
+    public SkillIndex(SkillRepository skillRepository, PersonAvailabilityIndex availabilityIndex,
+                      PersonIndexConfig config, MeterRegistry meterRegistry) {
+        this(skillRepository, availabilityIndex, config, meterRegistry, Clock.systemUTC());
+    }
+
+    SkillIndex(SkillRepository skillRepository, PersonAvailabilityIndex availabilityIndex,
+               PersonIndexConfig config, MeterRegistry meterRegistry, Clock clock) {
+        this.skillRepository = skillRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.config = config;
+        this.clock = clock;
+        Gauge.builder("personnel.skill.index.skills", this, SkillIndex::skillNameCount)
+                .description("Distinct skill names in the skill index").register(meterRegistry);
+    }
+
+    /**
+     * Returns the ids of persons that meet every requirement.
+     *
+     * @param requirements minimum level per skill name; level 0 means "has the skill at all"
+     * @param availableOnly true to keep only enabled persons whose status is AVAILABLE
+     * @return matching person ids in ascending order
+     */
+    public List<Long> findPersonIds(Map<String, Integer> requirements, boolean availableOnly) {
+        BitSet result;
+        synchronized (this) {
+            ensureBuilt();
+            result = null;
+            for (Map.Entry<String, Integer> requirement : requirements.entrySet()) {
+                BitSet[] levels = atLeast.get(normalize(requirement.getKey()));
+                if (levels == null) {
+                    return new ArrayList<>();
+                }
+                BitSet holders = levels[clamp(requirement.getValue())];
+                if (result == null) {
+                    result = (BitSet) holders.clone();
+                } else {
+                    result.and(holders);
+                }
+            }
+        }
+        if (result == null) {
+            return new ArrayList<>();
+        }
+        if (availableOnly) {
+            result.and(toBitSet(availabilityIndex.getPersonIds(PersonAvailabilityIndex.AVAILABLE, true)));
+        }
+        List<Long> ids = new ArrayList<>(result.cardinality());
+        result.stream().forEach(id -> ids.add((long) id));
+        return ids;
+    }
+
+    /**
+     * Records a saved skill, replacing whatever the same row contributed before, once the
+     * current transaction commits.
+     *
+     * @param skill the saved skill
+     */
+    public void update(Skill skill) {
+        long skillId = skill.getId();
+        Long personId = skill.getPerson() != null && skill.getPerson().getId() != 0
+                ? skill.getPerson().getId() : null;
+        String profession = skill.getProfession();
+        String level = skill.getLevel();
+        boolean disabled = skill.isDisabled();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                if (builtAt != null) {
+                    put(skillId, personId, profession, level, disabled);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops a deleted skill row once the current transaction commits.
+     *
+     * @param skillId the skill id
+     */
+    public void remove(long skillId) {
+        TransactionCallbacks.afterCommit(() -> dropSkill(skillId));
+    }
+
+    private synchronized void dropSkill(long skillId) {
+        if (builtAt == null) {
+            return;
+        }
+        Entry previous = entries.remove(skillId);
+        if (previous != null) {
+            skillsByPerson.getOrDefault(previous.personId, new HashSet<>()).remove(skillId);
+            reindex(previous.personId, previous.skillName);
+        }
+    }
+
+    /**
+     * Drops every skill of a deleted person once the current transaction commits.
+     *
+     * @param personId the person id
+     */
+    public void removePerson(long personId) {
+        TransactionCallbacks.afterCommit(() -> dropPerson(personId));
+    }
+
+    private synchronized void dropPerson(long personId) {
+        if (builtAt == null) {
+            return;
+        }
+        Set<Long> skillIds = skillsByPerson.remove(personId);
+        if (skillIds == null) {
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (Long skillId : skillIds) {
+            Entry previous = entries.remove(skillId);
+            if (previous != null) {
+                names.add(previous.skillName);
+            }
+        }
+        names.forEach(name -> reindex(personId, name));
+    }
+
+    /**
+     * Normalizes a skill name for indexing and queries.
+     *
+     * @param name the raw skill name, may be null
+     * @return the normalized name
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return name.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+
+    /**
+     * Maps a stored proficiency level to the index scale {@code 0..MAX_LEVEL}.
+     *
+     * @param level the stored level, numeric or named
+     * @return the index level
+     */
+    static int levelOf(String level) {
+        if (level == null || level.isBlank()) {
+            return 0;
+        }
+        return (int) Math.round(AssignmentScorer.proficiencyOf(level) * MAX_LEVEL);
+    }
+
+    private void ensureBuilt() {
+        Instant now = clock.instant();
+        if (builtAt != null && now.isBefore(builtAt.plus(config.getRebuildInterval()))) {
+            return;
+        }
+        atLeast.clear();
+        entries.clear();
+        skillsByPerson.clear();
+        List<SkillRepository.IndexView> rows = skillRepository.findAllForIndex();
+        for (SkillRepository.IndexView row : rows) {
+            put(row.getId(), row.getPersonId(), row.getProfession(), row.getLevel(), row.isDisabled());
+        }
+        builtAt = now;
+        log.info("Built skill index: {} skills, {} distinct names", rows.size(), atLeast.size());
+    }
+
+    private void put(long skillId, Long personId, String profession, String level, boolean disabled) {
+        Entry previous = entries.remove(skillId);
+        if (previous != null) {
+            skillsByPerson.getOrDefault(previous.personId, new HashSet<>()).remove(skillId);
+            reindex(previous.personId, previous.skillName);
+        }
+        String name = normalize(profession);
+        if (personId == null || disabled || name.isEmpty()) {
+            return;
+        }
+        if (personId > Integer.MAX_VALUE) {
+            log.warn("Person id {} does not fit the skill index, skipping skill {}", personId, skillId);
+            return;
+        }
+        entries.put(skillId, new Entry(personId, name, levelOf(level)));
+        skillsByPerson.computeIfAbsent(personId, id -> new HashSet<>()).add(skillId);
+        reindex(personId, name);
+    }
+
+    /**
+     * Recomputes one person's bits for one skill name from the rows they own.
+     */
+    private void reindex(long personId, String skillName) {
+        int best = -1;
+        for (Long skillId : skillsByPerson.getOrDefault(personId, new HashSet<>())) {
+            Entry entry = entries.get(skillId);
+            if (entry != null && entry.skillName.equals(skillName)) {
+                best = Math.max(best, entry.level);
+            }
+        }
+        BitSet[] levels = atLeast.get(skillName);
+        if (levels == null) {
+            if (best < 0) {
+                return;
+            }
+            levels = new BitSet[MAX_LEVEL + 1];
+            for (int level = 0; level <= MAX_LEVEL; level++) {
+                levels[level] = new BitSet();
+            }
+            atLeast.put(skillName, levels);
+        }
+        int bit = (int) personId;
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            levels[level].set(bit, level <= best);
+        }
+        if (levels[0].isEmpty()) {
+            atLeast.remove(skillName);
+        }
+    }
+
+    private synchronized int skillNameCount() {
+        return atLeast.size();
+    }
+
+    private static int clamp(Integer level) {
+        return level == null ? 0 : Math.max(0, Math.min(level, MAX_LEVEL));
+    }
+
+    private static BitSet toBitSet(Set<Long> ids) {
+        BitSet bits = new BitSet();
+        for (Long id : ids) {
+            if (id <= Integer.MAX_VALUE) {
+                bits.set(id.intValue());
+            }
+        }
+        return bits;
+    }
+
+    private static final class Entry {
+        private final long personId;
+        private final String skillName;
+        private final int level;
+
+        private Entry(long personId, String skillName, int level) {
+            this.personId = personId;
+            this.skillName = skillName;
+            this.level = level;
+        }
+    }
+}
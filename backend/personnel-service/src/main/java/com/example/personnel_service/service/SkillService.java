@@ -2,9 +2,12 @@ package com.example.personnel_service.service;
 
 import com.example.personnel_service.entity.Skill;
 import com.example.personnel_service.repository.SkillRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for managing Skill entities.
@@ -17,14 +20,20 @@ import java.util.List;
 @Service
 public class SkillService {
     private final SkillRepository repository;
+    private final GeminiResponseCache geminiResponseCache;
+    private final SkillIndex skillIndex;
 
     /**
      * Constructs a new SkillService with the specified repository.
      * 
      * @param repository the SkillRepository used for data access
+     * @param geminiResponseCache the assignment cache to invalidate when skills change
+     * @param skillIndex the skill search index updated on every write
      */
-    public SkillService(SkillRepository repository) {
+    public SkillService(SkillRepository repository, GeminiResponseCache geminiResponseCache, SkillIndex skillIndex) {
         this.repository = repository;
+        this.geminiResponseCache = geminiResponseCache;
+        this.skillIndex = skillIndex;
     }
 
     /**
@@ -36,6 +45,27 @@ public class SkillService {
         return repository.findAll();
     }
 
+    /**
+     * Retrieves the skills of one person, reading only that person's rows.
+     * 
+     * @param personId the unique identifier of the person
+     * @return list of the person's Skill entities
+     */
+    public List<Skill> getSkillsByPersonId(long personId) {
+        return repository.findByPersonId(personId);
+    }
+
+    /**
+     * Retrieves one page of a person's skills.
+     * 
+     * @param personId the unique identifier of the person
+     * @param pageable the page number, size and sort order
+     * @return the requested page of the person's Skill entities
+     */
+    public Page<Skill> getSkillPageByPersonId(long personId, Pageable pageable) {
+        return repository.findByPersonId(personId, pageable);
+    }
+
     /**
      * Retrieves a skill by its unique identifier.
      * 
@@ -48,6 +78,18 @@ public class SkillService {
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
     }
 
+    /**
+     * Finds persons holding every requested skill at or above the requested level.
+     *
+     * @param requirements minimum level per skill name
+     * @param availableOnly true to keep only enabled, available persons
+     * @return matching person ids in ascending order
+     * @see SkillIndex
+     */
+    public List<Long> findPersonIdsWithSkills(Map<String, Integer> requirements, boolean availableOnly) {
+        return skillIndex.findPersonIds(requirements, availableOnly);
+    }
+
     /**
      * Adds one or more new skill records to the database.
      * 
@@ -55,7 +97,10 @@ public class SkillService {
      * @return list of saved Skill entities with generated IDs
      */
     public List<Skill> addSkill(List<Skill> skills) {
-        return repository.saveAll(skills);
+        List<Skill> saved = repository.saveAll(skills);
+        saved.forEach(skillIndex::update);
+        saved.forEach(this::invalidateCachedAssignments);
+        return saved;
     }
 
     /**
@@ -65,7 +110,10 @@ public class SkillService {
      * @return list of updated Skill entities
      */
     public List<Skill> updateSkill(List<Skill> skills) {
-        return repository.saveAll(skills);
+        List<Skill> saved = repository.saveAll(skills);
+        saved.forEach(skillIndex::update);
+        saved.forEach(this::invalidateCachedAssignments);
+        return saved;
     }
 
     /**
@@ -80,7 +128,10 @@ public class SkillService {
         Skill skill = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
         skill.setDisabled(true);
-        return repository.save(skill);
+        Skill saved = repository.save(skill);
+        skillIndex.update(saved);
+        invalidateCachedAssignments(saved);
+        return saved;
     }
 
     /**
@@ -93,5 +144,20 @@ public class SkillService {
         Skill skill = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
         repository.delete(skill);
+        skillIndex.remove(skill.getId());
+        invalidateCachedAssignments(skill);
+    }
+
+    /**
+     * Drops cached Gemini assignment decisions that were made with the skill owner's old skills.
+     *
+     * @param skill the skill that changed
+     */
+    private void invalidateCachedAssignments(Skill skill) {
+        if (skill.getPerson() != null && skill.getPerson().getId() != 0) {
+            geminiResponseCache.invalidatePerson(skill.getPerson().getId());
+        } else {
+            geminiResponseCache.invalidateAll();
+        }
     }
 }
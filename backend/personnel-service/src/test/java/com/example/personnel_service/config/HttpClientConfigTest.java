@@ -0,0 +1,34 @@
+package com.example.personnel_service.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    @Test
+    void pooledConnectionManager_ShouldApplyLimitsAndPublishPoolMetrics() {
+        HttpClientConfig config = new HttpClientConfig();
+        config.setMaxTotal(40);
+        config.setMaxPerRoute(8);
+        config.setRouteLimits(Map.of("https://generativelanguage.googleapis.com", 4));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (PoolingHttpClientConnectionManager manager = config.pooledConnectionManager(registry)) {
+            HttpRoute gemini = new HttpRoute(new HttpHost("https", "generativelanguage.googleapis.com", 443), null, true);
+            HttpRoute taskService = new HttpRoute(new HttpHost("http", "task-service", 8088));
+
+            assertEquals(40, manager.getMaxTotal());
+            assertEquals(4, manager.getMaxPerRoute(gemini));
+            assertEquals(8, manager.getMaxPerRoute(taskService));
+            assertEquals(40.0, registry.get("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", "shared").gauge().value());
+        }
+    }
+}
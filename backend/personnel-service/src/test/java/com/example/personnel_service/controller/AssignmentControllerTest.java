@@ -1,6 +1,8 @@
 package com.example.personnel_service.controller;
 
 import com.example.personnel_service.dto.*;
+import com.example.personnel_service.exception.GlobalExceptionHandler;
+import com.example.personnel_service.service.AssignmentJobService;
 import com.example.personnel_service.service.AssignmentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -14,9 +16,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -31,6 +36,9 @@ class AssignmentControllerTest {
     @Mock
     private AssignmentService assignmentService;
 
+    @Mock
+    private AssignmentJobService assignmentJobService;
+
     @InjectMocks
     private AssignmentController assignmentController;
 
@@ -41,7 +49,9 @@ class AssignmentControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(assignmentController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(assignmentController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
 
@@ -90,6 +100,34 @@ class AssignmentControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    void getAvailablePersons_Window_ShouldReturnPersonsOnShift() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 3, 10, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 3, 12, 0);
+        when(assignmentService.getAvailablePersons(from, to)).thenReturn(Arrays.asList(person1));
+
+        mockMvc.perform(get("/api/personnel/assignments/available-persons")
+                        .param("from", "2026-03-03T10:00:00")
+                        .param("to", "2026-03-03T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        verify(assignmentService, never()).getAvailablePersons();
+    }
+
+    @Test
+    void getAvailablePersons_PartialOrReversedWindow_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/personnel/assignments/available-persons")
+                        .param("from", "2026-03-03T10:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/personnel/assignments/available-persons")
+                        .param("from", "2026-03-03T12:00:00")
+                        .param("to", "2026-03-03T10:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(assignmentService);
+    }
+
     @Test
     void getPendingTasks_ShouldReturnList() throws Exception {
         List<TaskDto> tasks = Arrays.asList(task1);
@@ -152,4 +190,53 @@ class AssignmentControllerTest {
         mockMvc.perform(post("/api/personnel/assignments/match-all-pending"))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    void submitMatchAllPendingJob_ShouldReturn202WithJobId() throws Exception {
+        AssignmentJobDto job = new AssignmentJobDto();
+        job.setJobId("job-1");
+        job.setStatus(AssignmentJobDto.Status.QUEUED);
+        when(assignmentJobService.submitMatchAllPending()).thenReturn(job);
+
+        mockMvc.perform(post("/api/personnel/assignments/match-all-pending/jobs"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/personnel/assignments/jobs/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(assignmentService, never()).matchAllPendingTasks();
+    }
+
+    @Test
+    void submitMatchAllPendingJob_Rejected_ShouldReturn503() throws Exception {
+        when(assignmentJobService.submitMatchAllPending()).thenThrow(new RejectedExecutionException("shutting down"));
+
+        mockMvc.perform(post("/api/personnel/assignments/match-all-pending/jobs"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void getJob_ShouldReturnProgressAndPartialAssignments() throws Exception {
+        AssignmentJobDto job = new AssignmentJobDto();
+        job.setJobId("job-1");
+        job.setStatus(AssignmentJobDto.Status.RUNNING);
+        job.setTotalTasks(3);
+        job.setAssignedTasks(1);
+        job.setAssignments(List.of(assignment1));
+        when(assignmentJobService.findJob("job-1")).thenReturn(Optional.of(job));
+
+        mockMvc.perform(get("/api/personnel/assignments/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.totalTasks").value(3))
+                .andExpect(jsonPath("$.assignments[0].task.taskCode").value("TSK-401"));
+    }
+
+    @Test
+    void getJob_Unknown_ShouldReturn404() throws Exception {
+        when(assignmentJobService.findJob("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/personnel/assignments/jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -1,14 +1,19 @@
 package com.example.personnel_service.controller;
 
+import com.example.personnel_service.config.DocumentDownloadConfig;
+import com.example.personnel_service.dto.StoredFile;
 import com.example.personnel_service.entity.Document;
+import com.example.personnel_service.exception.ResourceNotFoundException;
 import com.example.personnel_service.service.DocumentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,10 +22,15 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.example.personnel_service.exception.GlobalExceptionHandler;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +43,12 @@ class DocumentControllerTest {
     @Mock
     private DocumentService documentService;
 
+    @Spy
+    private DocumentDownloadConfig downloadConfig = new DocumentDownloadConfig();
+
+    @TempDir
+    private Path tempDir;
+
     @InjectMocks
     private DocumentController documentController;
 
@@ -148,4 +164,110 @@ class DocumentControllerTest {
 
         verify(documentService).deleteDocument(1L);
     }
+
+
+
+    private StoredFile givenStoredFile() throws Exception {
+        Path path = Files.writeString(tempDir.resolve("scan.pdf"), "0123456789");
+        StoredFile file = new StoredFile(path, 10, 1_772_532_000_000L, "\"a-19cb323e500\"");
+        when(documentService.getStoredFile("scan.pdf")).thenReturn(file);
+        return file;
+    }
+
+    private void givenTransfer() throws Exception {
+        doCallRealMethod().when(documentService).transferTo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void downloadFile_ShouldStreamWholeFileWithValidators() throws Exception {
+        givenStoredFile();
+        givenTransfer();
+
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"a-19cb323e500\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "max-age=3600, private"))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().longValue("Content-Length", 10))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"scan.pdf\""))
+                .andExpect(content().bytes("0123456789".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void downloadFile_MatchingValidators_ShouldReturnNotModified() throws Exception {
+        givenStoredFile();
+
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("If-None-Match", "\"a-19cb323e500\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf")
+                        .header("If-Modified-Since", "Tue, 03 Mar 2026 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+
+        verify(documentService, never()).transferTo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void downloadFile_Range_ShouldReturnPartialContent() throws Exception {
+        givenStoredFile();
+        givenTransfer();
+
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(header().longValue("Content-Length", 4))
+                .andExpect(content().string("2345"));
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("Range", "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 7-9/10"))
+                .andExpect(content().string("789"));
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("Range", "bytes=8-")
+                        .header("If-Range", "\"a-19cb323e500\""))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("89"));
+    }
+
+    @Test
+    void downloadFile_UnsatisfiableRange_ShouldReturn416() throws Exception {
+        givenStoredFile();
+
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("Range", "bytes=10-20"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    void downloadFile_StaleIfRangeOrSeveralRanges_ShouldReturnWholeFile() throws Exception {
+        givenStoredFile();
+        givenTransfer();
+
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("Range", "bytes=2-5")
+                        .header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf").header("Range", "bytes=0-1,4-5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void downloadFile_ZeroMaxAge_ShouldRequireRevalidation() throws Exception {
+        givenStoredFile();
+        givenTransfer();
+        downloadConfig.setMaxAge(Duration.ZERO);
+        downloadConfig.setCachePrivate(false);
+
+        mockMvc.perform(get("/api/personnel/documents/files/scan.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    void downloadFile_Missing_ShouldReturnNotFound() throws Exception {
+        when(documentService.getStoredFile("gone.pdf")).thenThrow(new ResourceNotFoundException("File", "filename", "gone.pdf"));
+
+        mockMvc.perform(get("/api/personnel/documents/files/gone.pdf"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -16,6 +16,7 @@ import org.springframework.http.converter.json.MappingJackson2HttpMessageConvert
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.example.personnel_service.exception.GlobalExceptionHandler;
+import com.example.personnel_service.exception.ResourceNotFoundException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -148,4 +149,22 @@ class MedicalConditionControllerTest {
 
         verify(medicalConditionService).deleteMedicalCondition(1L);
     }
+
+    @Test
+    void getMedicalConditionByPersonId_ShouldReturnCondition() throws Exception {
+        when(medicalConditionService.getMedicalConditionByPersonId(7L)).thenReturn(condition1);
+
+        mockMvc.perform(get("/api/personnel/medical-conditions/person/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(condition1.getId()));
+    }
+
+    @Test
+    void getMedicalConditionByPersonId_NotFound_ShouldReturn404() throws Exception {
+        when(medicalConditionService.getMedicalConditionByPersonId(99L))
+                .thenThrow(new ResourceNotFoundException("Medical condition", "personId", 99L));
+
+        mockMvc.perform(get("/api/personnel/medical-conditions/person/99"))
+                .andExpect(status().isNotFound());
+    }
 }
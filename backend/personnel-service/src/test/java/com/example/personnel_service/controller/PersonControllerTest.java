@@ -1,6 +1,12 @@
 package com.example.personnel_service.controller;
 
+import com.example.personnel_service.dto.PersonFilter;
+import com.example.personnel_service.dto.PersonImportResult;
+import com.example.personnel_service.dto.PersonPage;
+import com.example.personnel_service.dto.PersonProfile;
 import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.exception.BadRequestException;
+import com.example.personnel_service.service.PersonImportService;
 import com.example.personnel_service.service.PersonService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -19,8 +25,10 @@ import com.example.personnel_service.exception.GlobalExceptionHandler;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +41,9 @@ class PersonControllerTest {
     @Mock
     private PersonService personService;
 
+    @Mock
+    private PersonImportService personImportService;
+
     @InjectMocks
     private PersonController personController;
 
@@ -175,4 +186,92 @@ class PersonControllerTest {
 
         verify(personService).deletePerson(1L);
     }
+
+    @Test
+    void getPersonPage_ShouldBindFiltersAndCursor() throws Exception {
+        PersonFilter filter = new PersonFilter("Available", null, null, null, "First Aid");
+        when(personService.getPersonPage(filter, 1L, 2)).thenReturn(new PersonPage(Arrays.asList(person2), 2L));
+
+        mockMvc.perform(get("/api/personnel/person/page")
+                        .param("status", "Available")
+                        .param("skill", "First Aid")
+                        .param("after", "1")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].firstName").value("Jane"))
+                .andExpect(jsonPath("$.nextAfter").value(2));
+    }
+
+    @Test
+    void getPersonPage_InvalidLimit_ShouldReturnBadRequest() throws Exception {
+        when(personService.getPersonPage(any(PersonFilter.class), eq(null), eq(0)))
+                .thenThrow(new BadRequestException("limit must be between 1 and 200"));
+
+        mockMvc.perform(get("/api/personnel/person/page").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getStatusCounts_ShouldReturnCounts() throws Exception {
+        when(personService.getStatusCounts()).thenReturn(Map.of("AVAILABLE", 3, "ON_DUTY", 1));
+
+        mockMvc.perform(get("/api/personnel/person/status-counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.AVAILABLE").value(3))
+                .andExpect(jsonPath("$.ON_DUTY").value(1));
+    }
+
+    @Test
+    void importCsv_ShouldReturnImportResult() throws Exception {
+        PersonImportResult result = new PersonImportResult();
+        result.setImported(2);
+        result.setFailed(1);
+        result.getErrors().add("line 3: expected 2 fields but found 3");
+        when(personImportService.importCsv(any())).thenReturn(result);
+
+        mockMvc.perform(post("/api/personnel/person/import")
+                        .contentType("text/csv")
+                        .content("personalCode,firstName\nPER-010,Ann\nPER-011,Ben,x\nPER-012,Cy\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("line 3: expected 2 fields but found 3"));
+        verify(personImportService, never()).importNdjson(any());
+    }
+
+    @Test
+    void importNdjson_ShouldRouteByContentType() throws Exception {
+        PersonImportResult result = new PersonImportResult();
+        result.setImported(1);
+        when(personImportService.importNdjson(any())).thenReturn(result);
+
+        mockMvc.perform(post("/api/personnel/person/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"personalCode\":\"PER-010\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+        verify(personImportService, never()).importCsv(any());
+    }
+
+    @Test
+    void getPersonProfile_ShouldReturnAggregateWithETag() throws Exception {
+        when(personService.getPersonProfile(1L)).thenReturn(new PersonProfile(person1, "\"abc123\""));
+
+        mockMvc.perform(get("/api/personnel/person/1/profile"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$.firstName").value("John"));
+    }
+
+    @Test
+    void getPersonProfile_MatchingIfNoneMatch_ShouldReturnNotModifiedWithoutBody() throws Exception {
+        when(personService.getPersonProfile(1L)).thenReturn(new PersonProfile(person1, "\"abc123\""));
+
+        mockMvc.perform(get("/api/personnel/person/1/profile").header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.personnel_service.controller;
+
+import com.example.personnel_service.config.DocumentDownloadConfig;
+import com.example.personnel_service.entity.Allergy;
+import com.example.personnel_service.entity.ChronicCondition;
+import com.example.personnel_service.entity.Document;
+import com.example.personnel_service.entity.EmergencyContact;
+import com.example.personnel_service.entity.InjuryHistory;
+import com.example.personnel_service.entity.Medication;
+import com.example.personnel_service.entity.PhysicalLimitation;
+import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.exception.GlobalExceptionHandler;
+import com.example.personnel_service.service.AllergyService;
+import com.example.personnel_service.service.ChronicConditionService;
+import com.example.personnel_service.service.DocumentService;
+import com.example.personnel_service.service.EmergencyContactService;
+import com.example.personnel_service.service.InjuryService;
+import com.example.personnel_service.service.MedicationService;
+import com.example.personnel_service.service.PhysicalLimitationService;
+import com.example.personnel_service.service.SkillService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Covers the per-person endpoints every sub-resource controller shares,
+ * {@code GET /person/{personId}} and {@code GET /person/{personId}/page}, once for each
+ * controller. Medical conditions have a single-result variant, tested in
+ * {@link MedicalConditionControllerTest}.
+ */
+class PersonSubResourceControllerTest {
+
+    private static final long PERSON_ID = 7L;
+
+    /**
+     * One sub-resource: its base path, controller and the two service finders behind it.
+     */
+    private record SubResource<S, E>(String path, Class<S> serviceType, Function<S, Object> controller,
+                                     Supplier<E> row, BiFunction<S, Long, List<E>> byPerson,
+                                     PageFinder<S, E> pageByPerson) {
+        @Override
+        public String toString() {
+            return path;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PageFinder<S, E> {
+        Page<E> find(S service, long personId, Pageable pageable);
+    }
+
+    static Stream<SubResource<?, ?>> subResources() {
+        return Stream.of(
+                new SubResource<>("/api/personnel/allergies", AllergyService.class, AllergyController::new,
+                        Allergy::new, AllergyService::getAllergiesByPersonId,
+                        AllergyService::getAllergyPageByPersonId),
+                new SubResource<>("/api/personnel/chronic-conditions", ChronicConditionService.class,
+                        ChronicConditionController::new, ChronicCondition::new,
+                        ChronicConditionService::getChronicConditionsByPersonId,
+                        ChronicConditionService::getChronicConditionPageByPersonId),
+                new SubResource<>("/api/personnel/documents", DocumentService.class,
+                        service -> new DocumentController(service, new DocumentDownloadConfig()), Document::new,
+                        DocumentService::getDocumentsByPersonId, DocumentService::getDocumentPageByPersonId),
+                new SubResource<>("/api/personnel/emergency-contacts", EmergencyContactService.class,
+                        EmergencyContactController::new, EmergencyContact::new,
+                        EmergencyContactService::getEmergencyContactsByPersonId,
+                        EmergencyContactService::getEmergencyContactPageByPersonId),
+                new SubResource<>("/api/personnel/injury-histories", InjuryService.class,
+                        InjuryHistoryController::new, InjuryHistory::new,
+                        InjuryService::getInjuryHistoriesByPersonId, InjuryService::getInjuryHistoryPageByPersonId),
+                new SubResource<>("/api/personnel/medications", MedicationService.class, MedicationController::new,
+                        Medication::new, MedicationService::getMedicationsByPersonId,
+                        MedicationService::getMedicationPageByPersonId),
+                new SubResource<>("/api/personnel/physical-limitations", PhysicalLimitationService.class,
+                        PhysicalLimitationController::new, PhysicalLimitation::new,
+                        PhysicalLimitationService::getPhysicalLimitationsByPersonId,
+                        PhysicalLimitationService::getPhysicalLimitationPageByPersonId),
+                new SubResource<>("/api/personnel/skills", SkillService.class, SkillController::new,
+                        Skill::new, SkillService::getSkillsByPersonId, SkillService::getSkillPageByPersonId));
+    }
+
+    private static MockMvc mockMvc(Object controller) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("subResources")
+    <S, E> void getByPersonId_ShouldReturnPersonRows(SubResource<S, E> resource) throws Exception {
+        S service = mock(resource.serviceType());
+        when(resource.byPerson().apply(service, PERSON_ID))
+                .thenReturn(List.of(resource.row().get(), resource.row().get()));
+
+        mockMvc(resource.controller().apply(service)).perform(get(resource.path() + "/person/" + PERSON_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        resource.byPerson().apply(verify(service), PERSON_ID);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("subResources")
+    <S, E> void getPageByPersonId_ShouldPassPageAndReturnMetadata(SubResource<S, E> resource) throws Exception {
+        S service = mock(resource.serviceType());
+        PageRequest pageRequest = PageRequest.of(1, 1, Sort.by("id"));
+        when(resource.pageByPerson().find(service, PERSON_ID, pageRequest))
+                .thenReturn(new PageImpl<>(List.of(resource.row().get()), pageRequest, 3));
+
+        mockMvc(resource.controller().apply(service))
+                .perform(get(resource.path() + "/person/" + PERSON_ID + "/page").param("page", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.page.number").value(1))
+                .andExpect(jsonPath("$.page.totalElements").value(3))
+                .andExpect(jsonPath("$.page.totalPages").value(3));
+    }
+}
@@ -18,9 +18,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.example.personnel_service.exception.GlobalExceptionHandler;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -151,4 +154,27 @@ class SkillControllerTest {
 
         verify(skillService).deleteSkill(1L);
     }
+
+    @Test
+    void searchPersonsBySkills_ShouldParseRequirements() throws Exception {
+        Map<String, Integer> requirements = new LinkedHashMap<>();
+        requirements.put("FIRST_AID", 3);
+        requirements.put("SWIFT_WATER", 0);
+        when(skillService.findPersonIdsWithSkills(requirements, true)).thenReturn(Arrays.asList(4L, 9L));
+
+        mockMvc.perform(get("/api/personnel/skills/search")
+                        .param("require", "FIRST_AID:3", "SWIFT_WATER")
+                        .param("available", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value(4));
+    }
+
+    @Test
+    void searchPersonsBySkills_InvalidLevel_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/personnel/skills/search").param("require", "FIRST_AID:high"))
+                .andExpect(status().isBadRequest());
+
+        verify(skillService, never()).findPersonIdsWithSkills(any(), anyBoolean());
+    }
 }
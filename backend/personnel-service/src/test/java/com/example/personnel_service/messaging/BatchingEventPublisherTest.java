@@ -0,0 +1,154 @@
+package com.example.personnel_service.messaging;
+
+import com.example.personnel_service.config.EventPublisherConfig;
+import com.example.personnel_service.config.RabbitMQConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingEventPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private EventPublisherConfig config;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        config = new EventPublisherConfig();
+        config.setQueueCapacity(10);
+        config.setBatchSize(2);
+        config.setOfferTimeout(Duration.ofMillis(10));
+        config.setMaxAttempts(2);
+        config.setRetryBackoff(Duration.ZERO);
+        registry = new SimpleMeterRegistry();
+    }
+
+    private BatchingEventPublisher publisher() {
+        return new BatchingEventPublisher(rabbitTemplate, config, registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenChannel() {
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(operations));
+    }
+
+    private double count(String name) {
+        return registry.get(name).counter().count();
+    }
+
+    @Test
+    void publishBatch_ShouldSendQueuedEventsInConfirmedBatches() throws InterruptedException {
+        givenChannel();
+        BatchingEventPublisher publisher = publisher();
+        for (int i = 0; i < 5; i++) {
+            publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "event-" + i);
+        }
+
+        assertEquals(2, publisher.publishBatch(0));
+        assertEquals(2, publisher.publishBatch(0));
+        assertEquals(1, publisher.publishBatch(0));
+        assertEquals(0, publisher.publishBatch(0));
+
+        verify(rabbitTemplate, times(3)).invoke(any(RabbitOperations.OperationsCallback.class));
+        verify(operations, times(5)).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME),
+                eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any(Object.class));
+        verify(operations, times(3)).waitForConfirmsOrDie(anyLong());
+        assertEquals(5.0, count("personnel.events.published"));
+    }
+
+    @Test
+    void publishAfterCommit_InTransaction_ShouldQueueOnlyAfterCommit() {
+        BatchingEventPublisher publisher = publisher();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "created");
+            assertEquals(0, publisher.queuedEvents());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, publisher.queuedEvents());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishAfterCommit_RolledBack_ShouldNotQueue() {
+        BatchingEventPublisher publisher = publisher();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "created");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, publisher.queuedEvents());
+    }
+
+    @Test
+    void publishAfterCommit_QueueFull_ShouldRejectAfterOfferTimeout() {
+        config.setQueueCapacity(1);
+        BatchingEventPublisher publisher = publisher();
+
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "first");
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "second");
+
+        assertEquals(1, publisher.queuedEvents());
+        assertEquals(1.0, count("personnel.events.rejected"));
+        assertEquals(1.0, registry.get("personnel.events.queue.size").gauge().value());
+    }
+
+    @Test
+    void publishBatch_Unconfirmed_ShouldRetryThenCountFailed() throws InterruptedException {
+        givenChannel();
+        doThrow(new AmqpException("nack")).when(operations).waitForConfirmsOrDie(anyLong());
+        BatchingEventPublisher publisher = publisher();
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "a");
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "b");
+
+        assertEquals(2, publisher.publishBatch(0));
+
+        verify(rabbitTemplate, times(2)).invoke(any(RabbitOperations.OperationsCallback.class));
+        assertEquals(2.0, count("personnel.events.failed"));
+        assertEquals(0.0, count("personnel.events.published"));
+    }
+
+    @Test
+    void stop_ShouldDrainQueueBeforeReturning() {
+        givenChannel();
+        BatchingEventPublisher publisher = publisher();
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "a");
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "b");
+        publisher.publishAfterCommit(RabbitMQConfig.PERSONNEL_STATUS_KEY, "c");
+
+        publisher.start();
+        publisher.stop();
+
+        assertEquals(0, publisher.queuedEvents());
+        assertEquals(3.0, count("personnel.events.published"));
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.personnel_service.repository;
+
+import com.example.personnel_service.dto.PersonProfile;
+import com.example.personnel_service.entity.Allergy;
+import com.example.personnel_service.entity.EmergencyContact;
+import com.example.personnel_service.entity.MedicalCondition;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.entity.PhysicalLimitation;
+import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.service.PersonService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the person queries against H2: loading N persons with their associations, or one
+ * profile with N nested rows, must cost a number of statements that does not grow with N,
+ * and the keyset listing must filter and scroll correctly.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PersonRepositoryTest {
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private List<Long> persistPersons(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MedicalCondition medical = new MedicalCondition();
+            medical.setBloodGroup("O+");
+            PhysicalLimitation limitation = new PhysicalLimitation();
+            limitation.setLimitation("Knee injury " + i);
+            limitation.setMedicalCondition(medical);
+            PhysicalLimitation healed = new PhysicalLimitation();
+            healed.setLimitation("Sprained wrist " + i);
+            healed.setDisabled(true);
+            healed.setMedicalCondition(medical);
+            Allergy allergy = new Allergy();
+            allergy.setAllergyTo("Penicillin");
+            allergy.setMedicalCondition(medical);
+            medical.setPhysicalLimitations(new ArrayList<>(Arrays.asList(limitation, healed)));
+            medical.setAllergies(new ArrayList<>(List.of(allergy)));
+
+            Person person = new Person();
+            person.setPersonalCode("PER-" + i);
+            person.setFirstName("Responder " + i);
+            person.setStatus("Available");
+            person.setMedicalCondition(medical);
+            Skill firstAid = new Skill();
+            firstAid.setProfession("First Aid");
+            firstAid.setLevel("Expert");
+            firstAid.setPerson(person);
+            Skill swiftWater = new Skill();
+            swiftWater.setProfession("Swift Water");
+            swiftWater.setLevel("2");
+            swiftWater.setPerson(person);
+            person.setSkills(new ArrayList<>(Arrays.asList(firstAid, swiftWater)));
+            EmergencyContact contact = new EmergencyContact();
+            contact.setName("Contact " + i);
+            contact.setPerson(person);
+            person.setEmergencyContacts(new ArrayList<>(List.of(contact)));
+
+            entityManager.persist(person);
+            ids.add(person.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    /**
+     * Loads the matching roster the way assignment does and returns the statements issued.
+     */
+    private long rosterStatements(List<Long> ids) {
+        statistics.clear();
+        List<Person> persons = personRepository.findWithSkillsByIdIn(ids);
+        int skills = persons.stream().mapToInt(person -> person.getSkills().size()).sum();
+        long bloodGroups = persons.stream().filter(person -> person.getMedicalCondition().getBloodGroup() != null).count();
+        List<PersonRepository.LimitationView> limitations = personRepository.findActiveLimitations(ids);
+
+        assertEquals(ids.size(), persons.size());
+        assertEquals(ids.size() * 2, skills);
+        assertEquals(ids.size(), bloodGroups);
+        assertEquals(ids.size(), limitations.size());
+        assertTrue(limitations.stream().allMatch(row -> row.getLimitation().startsWith("Knee injury")));
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+    @Test
+    void findWithSkillsByIdIn_ShouldLoadRosterInConstantQueries() {
+        List<Long> ids = persistPersons(8);
+
+        long few = rosterStatements(ids.subList(0, 2));
+        long many = rosterStatements(ids);
+
+        assertEquals(2, few);
+        assertEquals(few, many);
+    }
+
+    @Test
+    void findAllWithSkills_ShouldNotLoadAssociationsPerPerson() {
+        persistPersons(3);
+        statistics.clear();
+        touchAll(personRepository.findAllWithSkills());
+        long few = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        persistPersons(7);
+        statistics.clear();
+        List<Person> persons = personRepository.findAllWithSkills();
+        touchAll(persons);
+        long many = statistics.getPrepareStatementCount();
+
+        assertEquals(10, persons.size());
+        assertEquals(few, many);
+        assertEquals(Arrays.asList(2), persons.stream().map(person -> person.getSkills().size())
+                .distinct().collect(Collectors.toList()));
+    }
+
+    @Test
+    void findPageIds_ShouldFilterAndScrollByKeyset() {
+        List<Long> ids = persistPersons(5);
+        Person onDuty = entityManager.find(Person.class, ids.get(1));
+        onDuty.setStatus("On Duty");
+        Person medic = entityManager.find(Person.class, ids.get(3));
+        medic.setRole("Medic");
+        medic.getSkills().get(0).setProfession("Triage");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> first = personRepository.findPageIds(0, "AVAILABLE", null, null, null, null, PageRequest.of(0, 2));
+        List<Long> second = personRepository.findPageIds(first.get(1), "AVAILABLE", null, null, null, null,
+                PageRequest.of(0, 2));
+
+        assertEquals(Arrays.asList(ids.get(0), ids.get(2)), first);
+        assertEquals(Arrays.asList(ids.get(3), ids.get(4)), second);
+        assertEquals(List.of(ids.get(3)),
+                personRepository.findPageIds(0, null, "Medic", null, null, null, PageRequest.of(0, 10)));
+        assertEquals(Arrays.asList(ids.get(0), ids.get(1), ids.get(2), ids.get(4)),
+                personRepository.findPageIds(0, null, null, null, null, "First Aid", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void findPageIds_StatusFilter_ShouldMatchNormalizedStatusOfEnabledPersons() {
+        List<Long> ids = persistPersons(4);
+        entityManager.find(Person.class, ids.get(0)).setStatus("On Duty");
+        entityManager.find(Person.class, ids.get(1)).setStatus("ON_DUTY");
+        entityManager.find(Person.class, ids.get(2)).setStatus("on-duty");
+        entityManager.find(Person.class, ids.get(2)).setDisabled(true);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Arrays.asList(ids.get(0), ids.get(1)),
+                personRepository.findPageIds(0, "ON_DUTY", null, null, null, null, PageRequest.of(0, 10)));
+        assertEquals(List.of(ids.get(3)),
+                personRepository.findPageIds(0, "AVAILABLE", null, null, null, null, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void setStatusKey_ShouldBackfillRowsSavedWithoutKey() {
+        List<Long> ids = persistPersons(2);
+        entityManager.createQuery("update Person p set p.statusKey = null, p.status = 'On Leave' where p.id = :id")
+                .setParameter("id", ids.get(0)).executeUpdate();
+        entityManager.clear();
+
+        assertEquals(List.of("On Leave"), personRepository.findStatusesWithoutKey());
+        assertEquals(1, personRepository.setStatusKey("On Leave", "ON_LEAVE"));
+        entityManager.clear();
+
+        assertTrue(personRepository.findStatusesWithoutKey().isEmpty());
+        assertEquals(List.of(ids.get(0)),
+                personRepository.findPageIds(0, "ON_LEAVE", null, null, null, null, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void getPersonProfile_ShouldLoadAggregateInFixedQueries() {
+        List<Long> ids = persistPersons(2);
+        Person larger = entityManager.find(Person.class, ids.get(1));
+        for (int i = 0; i < 4; i++) {
+            Allergy allergy = new Allergy();
+            allergy.setAllergyTo("Latex " + i);
+            allergy.setMedicalCondition(larger.getMedicalCondition());
+            entityManager.persist(allergy);
+            EmergencyContact contact = new EmergencyContact();
+            contact.setName("Neighbour " + i);
+            contact.setPerson(larger);
+            entityManager.persist(contact);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        PersonService personService = new PersonService(personRepository, null, null, null, null);
+
+        statistics.clear();
+        PersonProfile small = personService.getPersonProfile(ids.get(0));
+        long smallStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+        PersonProfile large = personService.getPersonProfile(ids.get(1));
+        long largeStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        assertEquals(7, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+        assertEquals(5, large.getPerson().getMedicalCondition().getAllergies().size());
+        assertEquals(5, large.getPerson().getEmergencyContacts().size());
+        assertNotEquals(small.getEtag(), large.getEtag());
+        assertEquals(large.getEtag(), personService.getPersonProfile(ids.get(1)).getEtag());
+    }
+
+    private static void touchAll(List<Person> persons) {
+        for (Person person : persons) {
+            person.getSkills().size();
+            person.getEmergencyContacts().size();
+            person.getMedicalCondition().getAllergies().size();
+            person.getMedicalCondition().getPhysicalLimitations().size();
+            person.getMedicalCondition().getChronicConditions().size();
+            person.getMedicalCondition().getPastInjuries().size();
+            person.getMedicalCondition().getMedications().size();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.personnel_service.repository;
+
+import com.example.personnel_service.entity.Allergy;
+import com.example.personnel_service.entity.ChronicCondition;
+import com.example.personnel_service.entity.Document;
+import com.example.personnel_service.entity.EmergencyContact;
+import com.example.personnel_service.entity.InjuryHistory;
+import com.example.personnel_service.entity.MedicalCondition;
+import com.example.personnel_service.entity.Medication;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.entity.PhysicalLimitation;
+import com.example.personnel_service.entity.Skill;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the per-person sub-resource finders against H2: each must return only the rows of
+ * the requested person, and the paged variants must count across the whole person.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class SubResourceRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AllergyRepository allergyRepository;
+
+    @Autowired
+    private ChronicConditionRepository chronicConditionRepository;
+
+    @Autowired
+    private PhysicalLimitationRepository physicalLimitationRepository;
+
+    @Autowired
+    private InjuryHistoryRepository injuryHistoryRepository;
+
+    @Autowired
+    private MedicationRepository medicationRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private EmergencyContactRepository emergencyContactRepository;
+
+    @Autowired
+    private MedicalConditionRepository medicalConditionRepository;
+
+    private long firstId;
+    private long secondId;
+
+    @BeforeEach
+    void setUp() {
+        firstId = persistPerson("A", 3);
+        secondId = persistPerson("B", 1);
+        persistPerson("C", 0);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Persists a person with {@code allergies} allergies and one row of every other kind.
+     */
+    private long persistPerson(String code, int allergies) {
+        MedicalCondition medical = new MedicalCondition();
+        entityManager.persist(medical);
+        Person person = new Person();
+        person.setPersonalCode(code);
+        person.setMedicalCondition(medical);
+        entityManager.persist(person);
+
+        for (int i = 0; i < allergies; i++) {
+            Allergy allergy = new Allergy();
+            allergy.setAllergyTo(code + "-allergy-" + i);
+            allergy.setMedicalCondition(medical);
+            entityManager.persist(allergy);
+        }
+        ChronicCondition chronic = new ChronicCondition();
+        chronic.setMedicalCondition(medical);
+        entityManager.persist(chronic);
+        PhysicalLimitation limitation = new PhysicalLimitation();
+        limitation.setLimitation(code + "-limitation");
+        limitation.setMedicalCondition(medical);
+        entityManager.persist(limitation);
+        Medication medication = new Medication();
+        medication.setMedicalCondition(medical);
+        entityManager.persist(medication);
+        InjuryHistory injury = new InjuryHistory();
+        injury.setMedicalCondition(medical);
+        entityManager.persist(injury);
+        Document document = new Document();
+        document.setName(code + "-xray");
+        document.setInjuryHistory(injury);
+        entityManager.persist(document);
+        Skill skill = new Skill();
+        skill.setProfession(code + "-skill");
+        skill.setPerson(person);
+        entityManager.persist(skill);
+        EmergencyContact contact = new EmergencyContact();
+        contact.setName(code + "-contact");
+        contact.setPerson(person);
+        entityManager.persist(contact);
+        return person.getId();
+    }
+
+    @Test
+    void findByPersonId_ShouldReturnOnlyThatPersonsRows() {
+        assertEquals(List.of("A-allergy-0", "A-allergy-1", "A-allergy-2"),
+                allergyRepository.findByPersonId(firstId).stream().map(Allergy::getAllergyTo).sorted().toList());
+        assertEquals(List.of("B-allergy-0"),
+                allergyRepository.findByPersonId(secondId).stream().map(Allergy::getAllergyTo).toList());
+        assertEquals(1, chronicConditionRepository.findByPersonId(secondId).size());
+        assertEquals(1, medicationRepository.findByPersonId(secondId).size());
+        assertEquals(1, injuryHistoryRepository.findByPersonId(secondId).size());
+        assertEquals("B-limitation", physicalLimitationRepository.findByPersonId(secondId).get(0).getLimitation());
+        assertEquals("B-xray", documentRepository.findByPersonId(secondId).get(0).getName());
+        assertEquals("B-skill", skillRepository.findByPersonId(secondId).get(0).getProfession());
+        assertEquals("B-contact", emergencyContactRepository.findByPersonId(secondId).get(0).getName());
+        assertTrue(medicalConditionRepository.findByPersonId(secondId).isPresent());
+        assertTrue(allergyRepository.findByPersonId(-1).isEmpty());
+        assertTrue(medicalConditionRepository.findByPersonId(-1).isEmpty());
+    }
+
+    @Test
+    void findByPersonId_Paged_ShouldCountAcrossThePerson() {
+        Page<Allergy> first = allergyRepository.findByPersonId(firstId, PageRequest.of(0, 2, Sort.by("id")));
+        Page<Allergy> second = allergyRepository.findByPersonId(firstId, PageRequest.of(1, 2, Sort.by("id")));
+
+        assertEquals(3, first.getTotalElements());
+        assertEquals(2, first.getTotalPages());
+        assertEquals(List.of("A-allergy-0", "A-allergy-1"), first.map(Allergy::getAllergyTo).getContent());
+        assertEquals(List.of("A-allergy-2"), second.map(Allergy::getAllergyTo).getContent());
+        assertEquals(1, documentRepository.findByPersonId(firstId, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, skillRepository.findByPersonId(firstId, PageRequest.of(0, 10)).getTotalElements());
+    }
+}
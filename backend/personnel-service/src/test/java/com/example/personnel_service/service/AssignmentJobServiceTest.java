@@ -0,0 +1,184 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.client.TaskClient;
+import com.example.personnel_service.config.AssignmentJobConfig;
+import com.example.personnel_service.dto.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentJobServiceTest {
+
+    @Mock
+    private AssignmentService assignmentService;
+
+    private AssignmentJobConfig config;
+    private ExecutorService executor;
+    private AtomicReference<Instant> now;
+    private AssignmentJobService jobService;
+    private TaskAssignmentDto assignment;
+
+    @BeforeEach
+    void setUp() {
+        config = new AssignmentJobConfig();
+        config.setRetention(Duration.ofMinutes(30));
+        executor = Executors.newSingleThreadExecutor();
+        now = new AtomicReference<>(Instant.parse("2026-03-03T12:00:00Z"));
+        Clock clock = mock(Clock.class);
+        lenient().when(clock.instant()).thenAnswer(invocation -> now.get());
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        jobService = new AssignmentJobService(assignmentService, config, executor, clock);
+
+        PersonDto person = new PersonDto();
+        person.setId(1L);
+        TaskDto task = new TaskDto();
+        task.setId(10L);
+        task.setTaskCode("TSK-410");
+        assignment = new TaskAssignmentDto(person, task, "Local match", 80.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void awaitJobs() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_ShouldRunInBackgroundAndRecordProgress() throws Exception {
+        when(assignmentService.matchAllPendingTasks(any(AssignmentProgressListener.class))).thenAnswer(invocation -> {
+            AssignmentProgressListener listener = invocation.getArgument(0);
+            listener.onTasksLoaded(2);
+            listener.onPlanned(2);
+            listener.onAssigned(assignment);
+            listener.onAssignmentFailed(new TaskDto(), new RuntimeException("task-service down"));
+            return Collections.singletonList(assignment);
+        });
+
+        AssignmentJobDto submitted = jobService.submitMatchAllPending();
+        awaitJobs();
+        AssignmentJobDto job = jobService.findJob(submitted.getJobId()).orElseThrow();
+
+        assertNotNull(submitted.getJobId());
+        assertEquals(AssignmentJobDto.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getTotalTasks());
+        assertEquals(2, job.getPlannedTasks());
+        assertEquals(1, job.getAssignedTasks());
+        assertEquals(1, job.getFailedTasks());
+        assertEquals("TSK-410", job.getAssignments().get(0).getTask().getTaskCode());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void submit_ShouldForwardSubmittersAuthorizationToWorkerThread() throws Exception {
+        AtomicReference<String> seenAuthorization = new AtomicReference<>();
+        AtomicReference<Boolean> seenRequest = new AtomicReference<>();
+        when(assignmentService.matchAllPendingTasks(any(AssignmentProgressListener.class))).thenAnswer(invocation -> {
+            seenRequest.set(RequestContextHolder.getRequestAttributes() != null);
+            seenAuthorization.set(TaskClient.currentAuthorization());
+            return Collections.emptyList();
+        });
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer coordinator-token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            jobService.submitMatchAllPending();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        awaitJobs();
+
+        assertFalse(seenRequest.get());
+        assertEquals("Bearer coordinator-token", seenAuthorization.get());
+        assertNull(TaskClient.currentAuthorization());
+    }
+
+    @Test
+    void submit_ServiceFailure_ShouldMarkJobFailed() throws Exception {
+        when(assignmentService.matchAllPendingTasks(any(AssignmentProgressListener.class)))
+                .thenThrow(new RuntimeException("task-service unreachable"));
+
+        String jobId = jobService.submitMatchAllPending().getJobId();
+        awaitJobs();
+        AssignmentJobDto job = jobService.findJob(jobId).orElseThrow();
+
+        assertEquals(AssignmentJobDto.Status.FAILED, job.getStatus());
+        assertEquals("task-service unreachable", job.getError());
+    }
+
+    @Test
+    void findJob_AfterRetention_ShouldPurgeFinishedJob() throws Exception {
+        when(assignmentService.matchAllPendingTasks(any(AssignmentProgressListener.class)))
+                .thenReturn(Collections.emptyList());
+
+        String jobId = jobService.submitMatchAllPending().getJobId();
+        awaitJobs();
+        assertTrue(jobService.findJob(jobId).isPresent());
+
+        now.set(now.get().plus(Duration.ofMinutes(31)));
+
+        assertTrue(jobService.findJob(jobId).isEmpty());
+        assertTrue(jobService.subscribe(jobId).isEmpty());
+    }
+
+    @Test
+    void submit_WhileJobInProgress_ShouldReturnThatJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assignmentService.matchAllPendingTasks(any(AssignmentProgressListener.class))).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Collections.emptyList();
+        });
+
+        AssignmentJobDto first = jobService.submitMatchAllPending();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        AssignmentJobDto second = jobService.submitMatchAllPending();
+        release.countDown();
+
+        assertEquals(first.getJobId(), second.getJobId());
+        assertEquals(AssignmentJobDto.Status.RUNNING, second.getStatus());
+
+        // Once the worker has finished the job, a submission starts a new one
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        AssignmentJobDto third = jobService.submitMatchAllPending();
+        while (third.getJobId().equals(first.getJobId()) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            third = jobService.submitMatchAllPending();
+        }
+        awaitJobs();
+
+        assertNotEquals(first.getJobId(), third.getJobId());
+        verify(assignmentService, times(2)).matchAllPendingTasks(any(AssignmentProgressListener.class));
+    }
+
+    @Test
+    void findJob_Unknown_ShouldReturnEmpty() {
+        assertTrue(jobService.findJob("missing").isEmpty());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentPromptBuilderTest {
+
+    private AssignmentPromptBuilder promptBuilder;
+
+    @BeforeEach
+    void setUp() {
+        promptBuilder = new AssignmentPromptBuilder();
+    }
+
+    private TaskDto task(long id) {
+        TaskDto task = new TaskDto();
+        task.setId(id);
+        task.setTaskCode("TSK-" + id);
+        task.setTitle("Task " + id);
+        task.setDescription("Clear debris from the main road near sector " + id);
+        task.setType(TaskTypeDto.DEBRIS_REMOVAL);
+        task.setPriority(PriorityDto.MEDIUM);
+        return task;
+    }
+
+    private PersonDto person(long id) {
+        PersonDto person = new PersonDto();
+        person.setId(id);
+        person.setFirstName("Person");
+        person.setLastName(String.valueOf(id));
+        person.setRole("Engineer");
+        return person;
+    }
+
+    @Test
+    void buildBatchPrompt_ShouldListRosterOnceAndEveryTask() {
+        List<PersonDto> roster = List.of(person(1L), person(2L));
+        List<TaskDto> tasks = List.of(task(10L), task(11L), task(12L));
+
+        String prompt = promptBuilder.buildBatchPrompt(roster, tasks);
+
+        assertEquals(1, prompt.split("### AVAILABLE PERSONNEL ###", -1).length - 1);
+        assertTrue(prompt.contains("Task Code: TSK-10"));
+        assertTrue(prompt.contains("Task Code: TSK-12"));
+        assertTrue(prompt.contains("\"assignments\""));
+    }
+
+    @Test
+    void chunk_ShouldRespectMaxTasksPerBatch() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (long i = 1; i <= 7; i++) {
+            tasks.add(task(i));
+        }
+
+        List<List<TaskDto>> batches = promptBuilder.chunk(tasks, List.of(person(1L)), 0, 1_000_000, 3);
+
+        assertEquals(3, batches.size());
+        assertEquals(List.of(3, 3, 1), batches.stream().map(List::size).toList());
+        assertEquals(1L, batches.get(0).get(0).getId());
+        assertEquals(7L, batches.get(2).get(0).getId());
+    }
+
+    @Test
+    void chunk_ShouldKeepEachBatchWithinTokenBudget() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            tasks.add(task(i));
+        }
+        List<PersonDto> roster = List.of(person(1L), person(2L), person(3L));
+        int budget = promptBuilder.estimateTokens(promptBuilder.buildBatchPrompt(roster, tasks.subList(0, 4)));
+
+        List<List<TaskDto>> batches = promptBuilder.chunk(tasks, roster, 0, budget, 100);
+
+        assertTrue(batches.size() >= 5);
+        assertEquals(20, batches.stream().mapToInt(List::size).sum());
+        for (List<TaskDto> batch : batches) {
+            assertTrue(promptBuilder.estimateTokens(promptBuilder.buildBatchPrompt(roster, batch)) <= budget);
+        }
+    }
+
+    @Test
+    void chunk_WithShortlists_ShouldFitMoreTasksThanFullRoster() {
+        List<TaskDto> tasks = new ArrayList<>();
+        List<PersonDto> roster = new ArrayList<>();
+        for (long i = 1; i <= 200; i++) {
+            tasks.add(task(i));
+            roster.add(person(i));
+        }
+
+        List<List<TaskDto>> full = promptBuilder.chunk(tasks, roster, 0, 4000, 100);
+        List<List<TaskDto>> shortlisted = promptBuilder.chunk(tasks, roster, 5, 4000, 100);
+
+        assertEquals(200, full.size());
+        assertTrue(shortlisted.size() < full.size());
+        assertEquals(200, shortlisted.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void chunk_BudgetSmallerThanOneTask_ShouldStillMakeProgress() {
+        List<List<TaskDto>> batches = promptBuilder.chunk(List.of(task(1L), task(2L)), List.of(person(1L)), 0, 1, 10);
+
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    void parseBatchResponse_ShouldMapAssignmentsInsideMarkdownFence() {
+        String response = "```json\n{\"assignments\": ["
+                + "{\"taskId\": 10, \"personId\": 2, \"reason\": \"Engineer\", \"matchScore\": 88},"
+                + "{\"taskId\": 11, \"personId\": 1, \"reason\": \"Available\", \"matchScore\": 70}"
+                + "]}\n```";
+
+        List<TaskAssignmentDto> result = promptBuilder.parseBatchResponse(
+                response, List.of(person(1L), person(2L)), List.of(task(10L), task(11L)));
+
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get(0).getTask().getId());
+        assertEquals(2L, result.get(0).getAssignedPerson().getId());
+        assertEquals(88.0, result.get(0).getMatchScore());
+        assertEquals("Available", result.get(1).getAssignmentReason());
+    }
+
+    @Test
+    void parseBatchResponse_ShouldDropUnknownIdsAndDuplicates() {
+        String response = "["
+                + "{\"taskId\": 10, \"personId\": 1, \"matchScore\": 90},"
+                + "{\"taskId\": 11, \"personId\": 1, \"matchScore\": 80},"
+                + "{\"taskId\": 10, \"personId\": 2, \"matchScore\": 75},"
+                + "{\"taskId\": 99, \"personId\": 2, \"matchScore\": 60},"
+                + "{\"taskId\": 12, \"personId\": 42, \"matchScore\": 60}"
+                + "]";
+
+        List<TaskAssignmentDto> result = promptBuilder.parseBatchResponse(
+                response, List.of(person(1L), person(2L)), List.of(task(10L), task(11L), task(12L)));
+
+        assertEquals(1, result.size());
+        assertEquals(10L, result.get(0).getTask().getId());
+        assertEquals(1L, result.get(0).getAssignedPerson().getId());
+    }
+
+    @Test
+    void parseBatchResponse_MalformedJson_ShouldReturnEmpty() {
+        List<TaskAssignmentDto> result = promptBuilder.parseBatchResponse(
+                "not json at all", List.of(person(1L)), List.of(task(10L)));
+
+        assertTrue(result.isEmpty());
+    }
+}
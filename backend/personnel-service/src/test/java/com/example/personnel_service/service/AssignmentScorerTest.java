@@ -0,0 +1,125 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentScorerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 3, 12, 0);
+
+    private AssignmentScorer scorer;
+    private TaskDto rescueTask;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new AssignmentScorer(Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        rescueTask = new TaskDto();
+        rescueTask.setId(1L);
+        rescueTask.setType(TaskTypeDto.RESCUE_OPERATION);
+        rescueTask.setTitle("Flood rescue");
+        rescueTask.setPriority(PriorityDto.URGENT);
+    }
+
+    private PersonDto person(long id, String role, String rank, String skillName, String level) {
+        PersonDto person = new PersonDto();
+        person.setId(id);
+        person.setRole(role);
+        person.setRank(rank);
+        person.setShiftStartTime(NOW.minusHours(4));
+        person.setShiftEndTime(NOW.plusHours(4));
+        if (skillName != null) {
+            SkillDto skill = new SkillDto();
+            skill.setSkillName(skillName);
+            skill.setProficiencyLevel(level);
+            skill.setExperienceYears(8);
+            person.setSkills(Collections.singletonList(skill));
+        }
+        return person;
+    }
+
+    @Test
+    void rank_RescueTask_ShouldPreferRescueSkills() {
+        PersonDto rescuer = person(1L, "RESPONDER", "Captain", "Swift Water Rescue", "Expert");
+        PersonDto medic = person(2L, "Medical Officer", "Captain", "Trauma Care", "Expert");
+
+        List<AssignmentScorer.ScoredCandidate> ranked = scorer.rank(rescueTask, Arrays.asList(medic, rescuer));
+
+        assertEquals(1L, ranked.get(0).getPerson().getId());
+        assertTrue(ranked.get(0).getScore() > ranked.get(1).getScore());
+        assertTrue(ranked.get(0).getReason().contains("Swift Water Rescue"));
+    }
+
+    @Test
+    void score_OffShift_ShouldScoreLowerThanOnShift() {
+        PersonDto onShift = person(1L, "Rescuer", "Sergeant", "Rope Rescue", "Advanced");
+        PersonDto offShift = person(2L, "Rescuer", "Sergeant", "Rope Rescue", "Advanced");
+        offShift.setShiftStartTime(NOW.plusHours(6));
+        offShift.setShiftEndTime(NOW.plusHours(18));
+
+        assertTrue(scorer.score(rescueTask, onShift).getScore() > scorer.score(rescueTask, offShift).getScore());
+    }
+
+    @Test
+    void score_PhysicalLimitation_ShouldPenalisePhysicalTask() {
+        PersonDto fit = person(1L, "Rescuer", "Captain", "Rope Rescue", "Expert");
+        PersonDto limited = person(2L, "Rescuer", "Captain", "Rope Rescue", "Expert");
+        MedicalConditionDto medical = new MedicalConditionDto();
+        PhysicalLimitationDto limitation = new PhysicalLimitationDto();
+        limitation.setLimitation("Knee injury");
+        medical.setPhysicalLimitations(Collections.singletonList(limitation));
+        limited.setMedicalCondition(medical);
+
+        assertTrue(scorer.score(rescueTask, fit).getScore() > scorer.score(rescueTask, limited).getScore());
+    }
+
+    @Test
+    void isLowConfidence_ShouldDetectWeakAndTiedRankings() {
+        PersonDto a = person(1L, "Rescuer", "Captain", "Rope Rescue", "Expert");
+        PersonDto b = person(2L, "Rescuer", "Captain", "Rope Rescue", "Expert");
+        PersonDto clerk = person(3L, "Clerk", "Volunteer", null, null);
+
+        assertTrue(scorer.isLowConfidence(scorer.rank(rescueTask, Arrays.asList(a, b)), 60, 5));
+        assertFalse(scorer.isLowConfidence(scorer.rank(rescueTask, Arrays.asList(a, clerk)), 60, 5));
+        assertTrue(scorer.isLowConfidence(scorer.rank(rescueTask, Collections.singletonList(clerk)), 60, 5));
+    }
+
+    @Test
+    void shortlist_ShouldKeepTopKInRankingOrder() {
+        List<PersonDto> roster = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            roster.add(person(id, "Clerk", "Volunteer", null, null));
+        }
+        roster.add(person(31L, "Rescuer", "Captain", "Swift Water Rescue", "Expert"));
+        roster.add(person(32L, "Rescuer", "Sergeant", "Rope Rescue", "Intermediate"));
+
+        List<PersonDto> shortlist = scorer.shortlist(rescueTask, roster, 5);
+        List<AssignmentScorer.ScoredCandidate> ranked = scorer.rank(rescueTask, roster);
+
+        assertEquals(5, shortlist.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(ranked.get(i).getPerson().getId(), shortlist.get(i).getId());
+        }
+        assertEquals(31L, shortlist.get(0).getId());
+        assertEquals(32L, shortlist.get(1).getId());
+    }
+
+    @Test
+    void shortlist_SmallRoster_ShouldReturnRosterUnchanged() {
+        List<PersonDto> roster = List.of(person(1L, "Rescuer", "Captain", null, null));
+
+        assertSame(roster, scorer.shortlist(rescueTask, roster, 5));
+    }
+}
@@ -1,40 +1,98 @@
 package com.example.personnel_service.service;
 
 import com.example.personnel_service.client.TaskClient;
+import com.example.personnel_service.config.GeminiResilienceConfig;
+import com.example.personnel_service.config.HttpClientConfig;
+import com.example.personnel_service.config.MatchingConfig;
+import com.example.personnel_service.config.MatchingMode;
 import com.example.personnel_service.dto.*;
+import com.example.personnel_service.entity.AssignmentHistory;
 import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.repository.AssignmentHistoryRepository;
+import com.example.personnel_service.repository.PersonRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.HttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AssignmentServiceTest {
 
     @Mock
-    private PersonService personService;
+    private PersonAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ShiftIndex shiftIndex;
 
     @Mock
     private TaskClient taskClient;
 
+    @Mock
+    private PendingTaskReplica pendingTaskReplica;
+
+    @Mock
+    private AssignmentHistoryRepository assignmentHistoryRepository;
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Spy
+    private AssignmentScorer assignmentScorer = new AssignmentScorer();
+
+    @Spy
+    private BatchAssignmentSolver batchAssignmentSolver = new BatchAssignmentSolver(new AssignmentScorer());
+
+    @Spy
+    private AssignmentPromptBuilder promptBuilder = new AssignmentPromptBuilder();
+
+    @Spy
+    private GeminiResponseCache geminiResponseCache = new GeminiResponseCache(new MatchingConfig(), new SimpleMeterRegistry());
+
+    @Spy
+    private GeminiCircuitBreaker geminiCircuitBreaker = new GeminiCircuitBreaker(
+            new GeminiResilienceConfig(), new SimpleMeterRegistry(), Clock.systemUTC(), duration -> { });
+
+    @Spy
+    private MatchingConfig matchingConfig = new MatchingConfig();
+
+    @Spy
+    private GeminiResilienceConfig resilienceConfig = new GeminiResilienceConfig();
+
+    @Spy
+    private HttpClientConfig httpClientConfig = new HttpClientConfig();
+
+    @Mock
+    private HttpClient pooledHttpClient;
+
     @InjectMocks
     private AssignmentService assignmentService;
 
     private Person availablePerson;
-    private Person disabledPerson;
-    private Person onDutyPerson;
     private TaskDto pendingTask;
-    private TaskDto inProgressTask;
-    private TaskDto completedTask;
 
     @BeforeEach
     void setUp() {
@@ -50,19 +108,6 @@ class AssignmentServiceTest {
         availablePerson.setStatus("Available");
         availablePerson.setDisabled(false);
 
-        disabledPerson = new Person();
-        disabledPerson.setId(2L);
-        disabledPerson.setFirstName("Jane");
-        disabledPerson.setLastName("Smith");
-        disabledPerson.setStatus("Available");
-        disabledPerson.setDisabled(true);
-
-        onDutyPerson = new Person();
-        onDutyPerson.setId(3L);
-        onDutyPerson.setFirstName("Bob");
-        onDutyPerson.setLastName("Wilson");
-        onDutyPerson.setStatus("On Duty");
-        onDutyPerson.setDisabled(false);
 
         pendingTask = new TaskDto();
         pendingTask.setId(1L);
@@ -73,63 +118,32 @@ class AssignmentServiceTest {
         pendingTask.setPriority(PriorityDto.URGENT);
         pendingTask.setLocation("Colombo");
         pendingTask.setStatus(TaskStatusDto.PENDING);
-
-        inProgressTask = new TaskDto();
-        inProgressTask.setId(2L);
-        inProgressTask.setTaskCode("TSK-402");
-        inProgressTask.setType(TaskTypeDto.MEDICAL_AID);
-        inProgressTask.setStatus(TaskStatusDto.IN_PROGRESS);
-
-        completedTask = new TaskDto();
-        completedTask.setId(3L);
-        completedTask.setTaskCode("TSK-403");
-        completedTask.setType(TaskTypeDto.DEBRIS_REMOVAL);
-        completedTask.setStatus(TaskStatusDto.COMPLETED);
     }
 
     @Test
-    void getAvailablePersons_ShouldFilterAvailableAndEnabled() {
-        when(personService.getAllPersons())
-                .thenReturn(Arrays.asList(availablePerson, disabledPerson, onDutyPerson));
+    void getAvailablePersons_ShouldReadAvailabilityIndex() {
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Arrays.asList(availablePerson));
 
         List<PersonDto> result = assignmentService.getAvailablePersons();
 
         assertEquals(1, result.size());
         assertEquals("John", result.get(0).getFirstName());
         assertEquals("Doe", result.get(0).getLastName());
-        verify(personService).getAllPersons();
+        verify(availabilityIndex).getAvailablePersons();
     }
 
     @Test
     void getAvailablePersons_NoAvailablePersons_ShouldReturnEmpty() {
-        when(personService.getAllPersons())
-                .thenReturn(Arrays.asList(disabledPerson, onDutyPerson));
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Collections.emptyList());
 
         List<PersonDto> result = assignmentService.getAvailablePersons();
 
         assertTrue(result.isEmpty());
     }
 
-    @Test
-    void getAvailablePersons_AllAvailable_ShouldReturnAll() {
-        Person anotherAvailable = new Person();
-        anotherAvailable.setId(4L);
-        anotherAvailable.setFirstName("Alice");
-        anotherAvailable.setLastName("Brown");
-        anotherAvailable.setStatus("Available");
-        anotherAvailable.setDisabled(false);
-
-        when(personService.getAllPersons())
-                .thenReturn(Arrays.asList(availablePerson, anotherAvailable));
-
-        List<PersonDto> result = assignmentService.getAvailablePersons();
-
-        assertEquals(2, result.size());
-    }
-
     @Test
     void getAvailablePersons_ShouldConvertToPersonDto() {
-        when(personService.getAllPersons()).thenReturn(Arrays.asList(availablePerson));
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Arrays.asList(availablePerson));
 
         List<PersonDto> result = assignmentService.getAvailablePersons();
 
@@ -147,59 +161,247 @@ class AssignmentServiceTest {
     }
 
     @Test
-    void getPendingTasks_ShouldFilterOnlyPending() {
-        when(taskClient.fetchTasks())
-                .thenReturn(Arrays.asList(pendingTask, inProgressTask, completedTask));
+    void getPendingTasks_ShouldReadLocalReplica() {
+        when(pendingTaskReplica.getPendingTasks()).thenReturn(Collections.singletonList(pendingTask));
 
         List<TaskDto> result = assignmentService.getPendingTasks();
 
         assertEquals(1, result.size());
         assertEquals("TSK-401", result.get(0).getTaskCode());
-        assertEquals(TaskStatusDto.PENDING, result.get(0).getStatus());
-        verify(taskClient).fetchTasks();
+        verify(taskClient, never()).fetchPendingTasks();
     }
 
     @Test
-    void getPendingTasks_NoPendingTasks_ShouldReturnEmpty() {
-        when(taskClient.fetchTasks())
-                .thenReturn(Arrays.asList(inProgressTask, completedTask));
+    void matchTaskToPerson_NoAvailablePersons_ShouldThrowException() {
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Collections.emptyList());
 
-        List<TaskDto> result = assignmentService.getPendingTasks();
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> assignmentService.matchTaskToPerson(pendingTask));
 
-        assertTrue(result.isEmpty());
+        assertEquals("No available persons found for task assignment", exception.getMessage());
     }
 
     @Test
-    void getPendingTasks_AllPending_ShouldReturnAll() {
-        TaskDto anotherPending = new TaskDto();
-        anotherPending.setId(4L);
-        anotherPending.setTaskCode("TSK-404");
-        anotherPending.setStatus(TaskStatusDto.PENDING);
+    void matchTaskToPerson_LocalMode_ShouldAssignBestScoredPerson() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        Person medic = new Person();
+        medic.setId(5L);
+        medic.setFirstName("Mary");
+        medic.setLastName("Jones");
+        medic.setRole("Paramedic");
+        medic.setStatus("Available");
+        medic.setDisabled(false);
+
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Arrays.asList(medic, availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
+
+        TaskAssignmentDto result = assignmentService.matchTaskToPerson(pendingTask);
+
+        assertEquals(1L, result.getAssignedPerson().getId());
+        assertTrue(result.getAssignmentReason().startsWith("Local match"));
+        assertEquals("On Duty", availablePerson.getStatus());
+        verify(assignmentHistoryRepository).save(any(AssignmentHistory.class));
+        verify(pendingTaskReplica).markAssigned(1L);
+    }
 
-        when(taskClient.fetchTasks())
-                .thenReturn(Arrays.asList(pendingTask, anotherPending));
+    @Test
+    void matchTaskToPerson_TaskServiceRejects_ShouldNotRecordAssignment() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        when(availabilityIndex.getAvailablePersons()).thenReturn(List.of(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(false);
 
-        List<TaskDto> result = assignmentService.getPendingTasks();
+        assertThrows(RuntimeException.class, () -> assignmentService.matchTaskToPerson(pendingTask));
 
-        assertEquals(2, result.size());
+        assertEquals("Available", availablePerson.getStatus());
+        verify(assignmentHistoryRepository, never()).save(any());
+        verify(personRepository, never()).save(any());
+        verify(pendingTaskReplica, never()).markAssigned(anyLong());
     }
 
     @Test
-    void matchTaskToPerson_NoAvailablePersons_ShouldThrowException() {
-        when(personService.getAllPersons()).thenReturn(Collections.emptyList());
+    void matchTaskToPerson_ShouldPreferPersonsOnShift() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        when(shiftIndex.findPersonIds(any(), any(), eq(true))).thenReturn(List.of(1L));
+        when(availabilityIndex.getAvailablePersons(List.of(1L))).thenReturn(List.of(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
 
-        RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> assignmentService.matchTaskToPerson(pendingTask));
+        TaskAssignmentDto result = assignmentService.matchTaskToPerson(pendingTask);
 
-        assertEquals("No available persons found for task assignment", exception.getMessage());
+        assertEquals(1L, result.getAssignedPerson().getId());
+        verify(availabilityIndex, never()).getAvailablePersons();
+    }
+
+    @Test
+    void matchTaskToPerson_NobodyOnShift_ShouldFallBackToAllAvailable() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        when(shiftIndex.findPersonIds(any(), any(), eq(true))).thenReturn(Collections.emptyList());
+        when(availabilityIndex.getAvailablePersons()).thenReturn(List.of(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
+
+        TaskAssignmentDto result = assignmentService.matchTaskToPerson(pendingTask);
+
+        assertEquals(1L, result.getAssignedPerson().getId());
+        verify(availabilityIndex, never()).getAvailablePersons(anyCollection());
+    }
+
+    @Test
+    void matchTaskToPerson_ShiftFilterDisabled_ShouldNotQueryShiftIndex() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        matchingConfig.setShiftFilter(false);
+        when(availabilityIndex.getAvailablePersons()).thenReturn(List.of(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
+
+        assignmentService.matchTaskToPerson(pendingTask);
+
+        verifyNoInteractions(shiftIndex);
+    }
+
+    @Test
+    void getAvailablePersons_Window_ShouldReturnAvailablePersonsOnShift() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 3, 10, 0);
+        LocalDateTime to = from.plusHours(2);
+        when(shiftIndex.findPersonIds(from, to, true)).thenReturn(List.of(1L));
+        when(availabilityIndex.getAvailablePersons(List.of(1L))).thenReturn(List.of(availablePerson));
+
+        List<PersonDto> result = assignmentService.getAvailablePersons(from, to);
+
+        assertEquals(1, result.size());
+        assertEquals("PER-001", result.get(0).getPersonalCode());
     }
 
     @Test
     void matchAllPendingTasks_NoPendingTasks_ShouldReturnEmpty() {
-        when(taskClient.fetchTasks()).thenReturn(Arrays.asList(inProgressTask, completedTask));
+        when(pendingTaskReplica.getPendingTasks()).thenReturn(Collections.emptyList());
+
+        List<TaskAssignmentDto> result = assignmentService.matchAllPendingTasks();
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void matchAllPendingTasks_ConcurrentCalls_ShouldRunOneAtATime() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(pendingTaskReplica.getPendingTasks()).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return Collections.emptyList();
+        });
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(3)) {
+            List<Future<List<TaskAssignmentDto>>> runs = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                runs.add(callers.submit(() -> assignmentService.matchAllPendingTasks()));
+            }
+            for (Future<List<TaskAssignmentDto>> run : runs) {
+                assertTrue(run.get(5, TimeUnit.SECONDS).isEmpty());
+            }
+        }
+
+        assertEquals(1, maxRunning.get());
+        verify(pendingTaskReplica, times(3)).getPendingTasks();
+    }
+
+    @Test
+    void matchAllPendingTasks_LocalMode_ShouldAssignEachPersonOnceByPriority() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        TaskDto lowTask = new TaskDto();
+        lowTask.setId(5L);
+        lowTask.setTaskCode("TSK-405");
+        lowTask.setType(TaskTypeDto.RESCUE_OPERATION);
+        lowTask.setPriority(PriorityDto.LOW);
+        lowTask.setStatus(TaskStatusDto.PENDING);
+
+        when(pendingTaskReplica.getPendingTasks()).thenReturn(Arrays.asList(lowTask, pendingTask));
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Collections.singletonList(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
 
         List<TaskAssignmentDto> result = assignmentService.matchAllPendingTasks();
 
+        assertEquals(1, result.size());
+        assertEquals("TSK-401", result.get(0).getTask().getTaskCode());
+        assertEquals(1L, result.get(0).getAssignedPerson().getId());
+        verify(taskClient, never()).assignTask(5L, 1L);
+    }
+
+    @Test
+    void matchAllPendingTasks_TaskServiceRejects_ShouldReportFailureAndRecordNothing() {
+        matchingConfig.setMode(MatchingMode.LOCAL);
+        when(pendingTaskReplica.getPendingTasks()).thenReturn(Collections.singletonList(pendingTask));
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Collections.singletonList(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(false);
+        AssignmentProgressListener listener = mock(AssignmentProgressListener.class);
+
+        List<TaskAssignmentDto> result = assignmentService.matchAllPendingTasks(listener);
+
         assertTrue(result.isEmpty());
+        verify(listener).onAssignmentFailed(eq(pendingTask), any(RuntimeException.class));
+        verify(listener, never()).onAssigned(any());
+        verify(assignmentHistoryRepository, never()).save(any());
+        verify(pendingTaskReplica, never()).markAssigned(anyLong());
+        assertEquals("Available", availablePerson.getStatus());
+    }
+
+    @Test
+    void matchAllPendingTasks_LlmModeGeminiUnavailable_ShouldFallBackToLocalSolver() {
+        matchingConfig.setMode(MatchingMode.LLM);
+        when(pendingTaskReplica.getPendingTasks()).thenReturn(Collections.singletonList(pendingTask));
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Collections.singletonList(availablePerson));
+        when(taskClient.assignTask(1L, 1L)).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
+
+        List<TaskAssignmentDto> result = assignmentService.matchAllPendingTasks();
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getAssignedPerson().getId());
+        assertTrue(result.get(0).getAssignmentReason().contains("optimal batch assignment"));
+        verify(promptBuilder).buildBatchPrompt(any(), eq(List.of(pendingTask)));
+    }
+
+    @Test
+    void matchAllPendingTasks_LlmModeConcurrentBatches_ShouldNeverAssignPersonTwice() {
+        matchingConfig.setMode(MatchingMode.LLM);
+        matchingConfig.setLlmBatchMaxTasks(1);
+        matchingConfig.setLlmMaxConcurrentCalls(2);
+
+        Person secondPerson = new Person();
+        secondPerson.setId(4L);
+        secondPerson.setFirstName("Amal");
+        secondPerson.setLastName("Perera");
+        secondPerson.setRole("Rescuer");
+        secondPerson.setStatus("Available");
+
+        TaskDto secondTask = new TaskDto();
+        secondTask.setId(5L);
+        secondTask.setTaskCode("TSK-405");
+        secondTask.setType(TaskTypeDto.RESCUE_OPERATION);
+        secondTask.setPriority(PriorityDto.HIGH);
+        secondTask.setStatus(TaskStatusDto.PENDING);
+
+        when(pendingTaskReplica.getPendingTasks()).thenReturn(Arrays.asList(pendingTask, secondTask));
+        when(availabilityIndex.getAvailablePersons()).thenReturn(Arrays.asList(availablePerson, secondPerson));
+        when(taskClient.assignTask(anyLong(), anyLong())).thenReturn(true);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(availablePerson));
+        when(personRepository.findById(4L)).thenReturn(Optional.of(secondPerson));
+
+        // Gemini (served from cache) picks person 1 for both tasks in parallel batches
+        List<PersonDto> roster = assignmentService.getAvailablePersons();
+        for (TaskDto task : Arrays.asList(pendingTask, secondTask)) {
+            String prompt = promptBuilder.buildBatchPrompt(roster, Collections.singletonList(task));
+            geminiResponseCache.put(GeminiResponseCache.fingerprint(prompt), List.of(1L, 4L),
+                    "{\"assignments\": [{\"taskId\": " + task.getId() + ", \"personId\": 1, \"matchScore\": 90}]}");
+        }
+
+        List<TaskAssignmentDto> result = assignmentService.matchAllPendingTasks();
+
+        assertEquals(2, result.size());
+        assertEquals("TSK-401", result.get(0).getTask().getTaskCode());
+        assertNotEquals(result.get(0).getAssignedPerson().getId(), result.get(1).getAssignedPerson().getId());
     }
 }
@@ -0,0 +1,107 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchAssignmentSolverTest {
+
+    private BatchAssignmentSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = new BatchAssignmentSolver(new AssignmentScorer());
+    }
+
+    private TaskDto task(long id, TaskTypeDto type, PriorityDto priority) {
+        TaskDto task = new TaskDto();
+        task.setId(id);
+        task.setType(type);
+        task.setPriority(priority);
+        return task;
+    }
+
+    private PersonDto person(long id, String role) {
+        PersonDto person = new PersonDto();
+        person.setId(id);
+        person.setRole(role);
+        return person;
+    }
+
+    @Test
+    void minCostAssignment_ShouldBeatGreedyChoice() {
+        // Greedy picks row0->col0 (cost 10) and is left with row1->col1 (cost 90)
+        double[][] cost = {
+                {10, 20},
+                {15, 90}
+        };
+
+        int[] match = BatchAssignmentSolver.minCostAssignment(cost);
+
+        assertArrayEquals(new int[]{1, 0}, match);
+    }
+
+    @Test
+    void minCostAssignment_RectangularMatrix_ShouldUseDistinctColumns() {
+        double[][] cost = {
+                {4, 1, 3},
+                {2, 0, 5}
+        };
+
+        int[] match = BatchAssignmentSolver.minCostAssignment(cost);
+
+        assertNotEquals(match[0], match[1]);
+        assertEquals(3.0, cost[0][match[0]] + cost[1][match[1]]);
+    }
+
+    @Test
+    void solve_ShouldMatchTaskTypesToRoles() {
+        List<TaskDto> tasks = Arrays.asList(
+                task(1L, TaskTypeDto.MEDICAL_AID, PriorityDto.HIGH),
+                task(2L, TaskTypeDto.RESCUE_OPERATION, PriorityDto.HIGH));
+        List<PersonDto> persons = Arrays.asList(person(10L, "Rescuer"), person(20L, "Paramedic"));
+
+        List<TaskAssignmentDto> result = solver.solve(tasks, persons);
+
+        assertEquals(2, result.size());
+        for (TaskAssignmentDto assignment : result) {
+            long expected = assignment.getTask().getType() == TaskTypeDto.MEDICAL_AID ? 20L : 10L;
+            assertEquals(expected, assignment.getAssignedPerson().getId());
+        }
+    }
+
+    @Test
+    void solve_MoreTasksThanPersons_ShouldStaffHighestPriorityFirst() {
+        List<TaskDto> tasks = new ArrayList<>();
+        tasks.add(task(1L, TaskTypeDto.RESCUE_OPERATION, PriorityDto.LOW));
+        tasks.add(task(2L, TaskTypeDto.MEDICAL_AID, PriorityDto.URGENT));
+        tasks.add(task(3L, TaskTypeDto.DEBRIS_REMOVAL, PriorityDto.MEDIUM));
+        tasks.add(task(4L, TaskTypeDto.RESCUE_OPERATION, PriorityDto.HIGH));
+
+        List<TaskAssignmentDto> result = solver.solve(tasks, Arrays.asList(person(10L, "Rescuer"), person(20L, "Clerk")));
+
+        assertEquals(2, result.size());
+        Set<Long> taskIds = new HashSet<>();
+        result.forEach(assignment -> taskIds.add(assignment.getTask().getId()));
+        assertEquals(new HashSet<>(Arrays.asList(2L, 4L)), taskIds);
+        assertEquals(2L, result.get(0).getTask().getId());
+    }
+
+    @Test
+    void solve_NoPersons_ShouldReturnEmpty() {
+        List<TaskAssignmentDto> result = solver.solve(
+                Collections.singletonList(task(1L, TaskTypeDto.MEDICAL_AID, PriorityDto.LOW)),
+                Collections.emptyList());
+
+        assertTrue(result.isEmpty());
+    }
+}
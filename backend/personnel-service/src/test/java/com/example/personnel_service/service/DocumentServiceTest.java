@@ -0,0 +1,280 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.entity.Document;
+import com.example.personnel_service.entity.DocumentBlob;
+import com.example.personnel_service.exception.ResourceNotFoundException;
+import com.example.personnel_service.repository.DocumentBlobRepository;
+import com.example.personnel_service.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentServiceTest {
+
+    private static final String CARD_HASH = "4a17f9b3e1dc1e8d2dc1a3c5c79e4f1bf3aa6c53ac0a0fea0e92e40c6b4c6a4b";
+
+    @Mock
+    private DocumentRepository repository;
+
+    @Mock
+    private DocumentBlobRepository blobRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path uploadDir;
+
+    private DocumentService documentService;
+    private final Map<String, DocumentBlob> blobs = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        uploadDir = tempDir.resolve("uploads");
+        documentService = new DocumentService(repository, blobRepository, uploadDir.toString());
+        documentService.init();
+    }
+
+    private void givenBlobStore() {
+        lenient().when(blobRepository.insertIfAbsent(any(), anyLong())).thenAnswer(invocation -> {
+            String hash = invocation.getArgument(0);
+            return blobs.putIfAbsent(hash, new DocumentBlob(hash, invocation.getArgument(1), 0, null)) == null ? 1 : 0;
+        });
+        when(blobRepository.findForUpdate(any())).thenAnswer(invocation -> Optional.ofNullable(blobs.get(invocation.<String>getArgument(0))));
+        lenient().when(blobRepository.save(any())).thenAnswer(invocation -> {
+            DocumentBlob blob = invocation.getArgument(0);
+            blobs.put(blob.getHash(), blob);
+            return blob;
+        });
+        lenient().doAnswer(invocation -> blobs.remove(invocation.<DocumentBlob>getArgument(0).getHash()))
+                .when(blobRepository).delete(any());
+        lenient().when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static MockMultipartFile upload(String name, String content) {
+        return new MockMultipartFile("file", name, "application/pdf", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String blobName(Document document) {
+        return document.getUrl().substring(document.getUrl().lastIndexOf('/') + 1, document.getUrl().lastIndexOf('/') + 65);
+    }
+
+    private long storedFiles() throws Exception {
+        try (var files = Files.list(uploadDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void uploadFile_SameContent_ShouldShareOneBlob() throws Exception {
+        givenBlobStore();
+
+        Document first = documentService.uploadFile(upload("card.pdf", "id card"), "front", null);
+        Document second = documentService.uploadFile(upload("copy.pdf", "id card"), null, "Registry");
+
+        assertEquals(first.getUrl(), second.getUrl());
+        String hash = blobName(first);
+        assertEquals("/api/personnel/documents/files/" + hash + ".pdf", first.getUrl());
+        assertEquals(2, blobs.get(hash).getReferenceCount());
+        assertEquals(7, blobs.get(hash).getSize());
+        assertEquals("copy.pdf", second.getName());
+        assertEquals("id card", Files.readString(uploadDir.resolve(hash)));
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void uploadFile_DifferentContent_ShouldStoreSeparateBlobs() throws Exception {
+        givenBlobStore();
+
+        Document first = documentService.uploadFile(upload("a.pdf", "one"), null, null);
+        Document second = documentService.uploadFile(upload("b.pdf", "two"), null, null);
+
+        assertNotEquals(first.getUrl(), second.getUrl());
+        assertEquals(2, blobs.size());
+        assertEquals(2, storedFiles());
+    }
+
+    @Test
+    void deleteDocument_ShouldRemoveBlobOnlyWithLastReference() throws Exception {
+        givenBlobStore();
+        Document first = documentService.uploadFile(upload("card.pdf", "id card"), null, null);
+        first.setId(1L);
+        Document second = documentService.uploadFile(upload("card.pdf", "id card"), null, null);
+        second.setId(2L);
+        when(repository.findById(1L)).thenReturn(Optional.of(first));
+        when(repository.findById(2L)).thenReturn(Optional.of(second));
+
+        documentService.deleteDocument(1L);
+
+        assertEquals(1, storedFiles());
+        assertEquals(1, blobs.values().iterator().next().getReferenceCount());
+
+        documentService.deleteDocument(2L);
+
+        assertEquals(0, storedFiles());
+        assertTrue(blobs.isEmpty());
+        verify(repository).delete(first);
+        verify(repository).delete(second);
+    }
+
+    @Test
+    void uploadFile_ExtensionNotSafeInUrl_ShouldBeLeftOut() throws Exception {
+        givenBlobStore();
+
+        Document plain = documentService.uploadFile(upload("notes", "one"), null, null);
+        Document odd = documentService.uploadFile(upload("scan.p df", "two"), null, null);
+        Document archive = documentService.uploadFile(upload("logs.tar.gz", "three"), null, null);
+
+        assertTrue(plain.getUrl().endsWith(blobName(plain)));
+        assertTrue(odd.getUrl().endsWith(blobName(odd)));
+        assertTrue(archive.getUrl().endsWith(blobName(archive) + ".gz"));
+    }
+
+    @Test
+    void uploadFile_InTransaction_ShouldStoreBlobJustBeforeCommit() throws Exception {
+        givenBlobStore();
+
+        TransactionSynchronizationManager.initSynchronization();
+        Document document;
+        try {
+            document = documentService.uploadFile(upload("card.pdf", "id card"), null, null);
+            assertTrue(Files.notExists(uploadDir.resolve(blobName(document))));
+
+            List<TransactionSynchronization> callbacks = TransactionSynchronizationManager.getSynchronizations();
+            callbacks.forEach(callback -> callback.beforeCommit(false));
+            callbacks.forEach(callback -> callback.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("id card", Files.readString(uploadDir.resolve(blobName(document))));
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void uploadFile_RolledBack_ShouldLeaveNoFile() throws Exception {
+        givenBlobStore();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            documentService.uploadFile(upload("card.pdf", "id card"), null, null);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(callback -> callback.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    void deleteDocument_ReuploadBeforeCommitCallbacks_ShouldKeepNewFile() throws Exception {
+        givenBlobStore();
+        Document first = documentService.uploadFile(upload("card.pdf", "id card"), null, null);
+        when(repository.findById(1L)).thenReturn(Optional.of(first));
+        String hash = blobName(first);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            documentService.deleteDocument(1L);
+            assertTrue(Files.notExists(uploadDir.resolve(hash)));
+
+            // Another transaction re-uploads the content once the delete has released the row
+            CompletableFuture.runAsync(() -> {
+                try {
+                    documentService.uploadFile(upload("again.pdf", "id card"), null, null);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).join();
+
+            List<TransactionSynchronization> callbacks = TransactionSynchronizationManager.getSynchronizations();
+            callbacks.forEach(callback -> callback.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("id card", Files.readString(uploadDir.resolve(hash)));
+        assertEquals(1, blobs.get(hash).getReferenceCount());
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void deleteDocument_RolledBack_ShouldRestoreFile() throws Exception {
+        givenBlobStore();
+        Document first = documentService.uploadFile(upload("card.pdf", "id card"), null, null);
+        when(repository.findById(1L)).thenReturn(Optional.of(first));
+        String hash = blobName(first);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            documentService.deleteDocument(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(callback -> callback.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("id card", Files.readString(uploadDir.resolve(hash)));
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void deleteDocument_FileWithoutBlob_ShouldDeleteFile() throws Exception {
+        Files.writeString(uploadDir.resolve("legacy.pdf"), "scan");
+        Document legacy = new Document();
+        legacy.setUrl("/api/personnel/documents/files/legacy.pdf");
+        when(repository.findById(3L)).thenReturn(Optional.of(legacy));
+        when(blobRepository.findForUpdate("legacy.pdf")).thenReturn(Optional.empty());
+
+        documentService.deleteDocument(3L);
+
+        assertEquals(0, storedFiles());
+        verify(blobRepository, never()).delete(any());
+    }
+
+    @Test
+    void deleteDocument_ExternalUrl_ShouldNotTouchStorage() {
+        Document external = new Document();
+        external.setUrl("https://docs.example.com/" + CARD_HASH);
+        when(repository.findById(4L)).thenReturn(Optional.of(external));
+
+        documentService.deleteDocument(4L);
+
+        verify(repository).delete(external);
+        verifyNoInteractions(blobRepository);
+    }
+
+    @Test
+    void getStoredFile_ShouldDescribeFileAndRejectOtherPaths() throws Exception {
+        Files.writeString(uploadDir.resolve(CARD_HASH), "id card");
+        Files.writeString(tempDir.resolve("secret.txt"), "secret");
+
+        assertEquals(7, documentService.getStoredFile(CARD_HASH).getSize());
+        assertTrue(documentService.getStoredFile(CARD_HASH).getEtag().startsWith("\"7-"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> documentService.getStoredFile("../secret.txt"));
+        assertThrows(ResourceNotFoundException.class, () -> documentService.getStoredFile("missing"));
+        assertEquals(uploadDir.resolve(CARD_HASH), documentService.getStoredFile(CARD_HASH + ".pdf").getPath());
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.GeminiResilienceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GeminiCircuitBreakerTest {
+
+    private GeminiResilienceConfig config;
+    private SimpleMeterRegistry registry;
+    private AtomicReference<Instant> now;
+    private List<Duration> sleeps;
+    private GeminiCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        config = new GeminiResilienceConfig();
+        config.setMaxAttempts(3);
+        config.setInitialBackoff(Duration.ofMillis(100));
+        config.setMaxBackoff(Duration.ofMillis(400));
+        config.setRetryBudget(Duration.ofSeconds(10));
+        config.setFailureThreshold(2);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        registry = new SimpleMeterRegistry();
+        now = new AtomicReference<>(Instant.parse("2026-03-03T12:00:00Z"));
+        sleeps = new ArrayList<>();
+
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        breaker = new GeminiCircuitBreaker(config, registry, clock, duration -> {
+            sleeps.add(duration);
+            now.set(now.get().plus(duration));
+        });
+    }
+
+    private String failingCall() {
+        throw new RuntimeException("Gemini unavailable");
+    }
+
+    private double transitions(String from, String to) {
+        return registry.get("gemini.circuit.transitions").tag("from", from).tag("to", to).counter().count();
+    }
+
+    @Test
+    void execute_TransientFailure_ShouldRetryWithJitteredBackoff() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = breaker.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new RuntimeException("timeout");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(0).toMillis() <= 100);
+        assertTrue(sleeps.get(1).toMillis() <= 200);
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void execute_ShouldGiveEachAttemptOnlyWhatIsLeftOfTheBudget() {
+        config.setReadTimeout(Duration.ofSeconds(8));
+        List<Duration> timeouts = new ArrayList<>();
+
+        assertThrows(RuntimeException.class, () -> breaker.execute(timeout -> {
+            timeouts.add(timeout);
+            // Each attempt runs until its timeout, as a hanging read would
+            now.set(now.get().plus(timeout));
+            throw new RuntimeException("read timed out");
+        }));
+
+        assertEquals(2, timeouts.size());
+        assertEquals(Duration.ofSeconds(8), timeouts.get(0));
+        assertTrue(timeouts.get(1).compareTo(Duration.ofSeconds(2)) <= 0);
+        assertTrue(timeouts.get(1).compareTo(Duration.ofMillis(1900)) >= 0);
+        assertFalse(now.get().isAfter(Instant.parse("2026-03-03T12:00:10Z")));
+    }
+
+    @Test
+    void execute_BudgetSpentInsideCall_ShouldNotRetry() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> breaker.execute(timeout -> {
+            calls.incrementAndGet();
+            now.set(now.get().plus(Duration.ofSeconds(11)));
+            throw new RuntimeException("slow failure");
+        }));
+
+        assertEquals(1, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void execute_ClientError_ShouldNotRetry() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> breaker.execute(() -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_RetryBudgetExhausted_ShouldStopRetrying() {
+        config.setRetryBudget(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> breaker.execute(() -> {
+            calls.incrementAndGet();
+            return failingCall();
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ConsecutiveFailures_ShouldOpenAndRejectFast() {
+        assertThrows(RuntimeException.class, () -> breaker.execute(this::failingCall));
+        assertThrows(RuntimeException.class, () -> breaker.execute(this::failingCall));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(GeminiCircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(GeminiCircuitBreaker.CircuitOpenException.class,
+                () -> breaker.execute(() -> calls.incrementAndGet()));
+        assertEquals(0, calls.get());
+        assertEquals(1.0, transitions("CLOSED", "OPEN"));
+        assertEquals(1.0, registry.get("gemini.circuit.rejected").counter().count());
+        assertEquals(2.0, registry.get("gemini.circuit.state").gauge().value());
+    }
+
+    @Test
+    void execute_AfterOpenDuration_ProbeSuccessShouldClose() {
+        assertThrows(RuntimeException.class, () -> breaker.execute(this::failingCall));
+        assertThrows(RuntimeException.class, () -> breaker.execute(this::failingCall));
+        now.set(now.get().plus(Duration.ofSeconds(31)));
+
+        assertEquals(GeminiCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1.0, transitions("OPEN", "HALF_OPEN"));
+        assertEquals(1.0, transitions("HALF_OPEN", "CLOSED"));
+    }
+
+    @Test
+    void execute_ProbeFailure_ShouldReopenWithoutRetrying() {
+        assertThrows(RuntimeException.class, () -> breaker.execute(this::failingCall));
+        assertThrows(RuntimeException.class, () -> breaker.execute(this::failingCall));
+        now.set(now.get().plus(Duration.ofSeconds(31)));
+        AtomicInteger calls = new AtomicInteger();
+        int sleepsBefore = sleeps.size();
+
+        assertThrows(RuntimeException.class, () -> breaker.execute(() -> {
+            calls.incrementAndGet();
+            return failingCall();
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(sleepsBefore, sleeps.size());
+        assertEquals(GeminiCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1.0, transitions("HALF_OPEN", "OPEN"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.MatchingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiResponseCacheTest {
+
+    private MatchingConfig config;
+    private SimpleMeterRegistry registry;
+    private MutableClock clock;
+    private GeminiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new MatchingConfig();
+        config.setLlmCacheTtl(Duration.ofMinutes(5));
+        config.setLlmCacheMaxEntries(2);
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2026-03-03T12:00:00Z"));
+        cache = new GeminiResponseCache(config, registry, clock);
+    }
+
+    private double count(String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).counter().count();
+    }
+
+    @Test
+    void fingerprint_ShouldBeStableAndInputSensitive() {
+        assertEquals(GeminiResponseCache.fingerprint("prompt"), GeminiResponseCache.fingerprint("prompt"));
+        assertNotEquals(GeminiResponseCache.fingerprint("prompt"), GeminiResponseCache.fingerprint("prompt "));
+        assertEquals(64, GeminiResponseCache.fingerprint("prompt").length());
+    }
+
+    @Test
+    void get_ShouldCountHitsAndMisses() {
+        assertNull(cache.get("a"));
+        cache.put("a", List.of(1L), "response");
+
+        assertEquals("response", cache.get("a"));
+        assertEquals(1.0, count("assignment.llm.cache.requests", "result", "hit"));
+        assertEquals(1.0, count("assignment.llm.cache.requests", "result", "miss"));
+    }
+
+    @Test
+    void get_AfterTtl_ShouldExpireEntry() {
+        cache.put("a", List.of(1L), "response");
+        clock.advance(Duration.ofMinutes(6));
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1.0, count("assignment.llm.cache.evictions", "cause", "expired"));
+    }
+
+    @Test
+    void put_OverCapacity_ShouldEvictLeastRecentlyUsed() {
+        cache.put("a", List.of(1L), "A");
+        cache.put("b", List.of(2L), "B");
+        cache.get("a");
+        cache.put("c", List.of(3L), "C");
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1.0, count("assignment.llm.cache.evictions", "cause", "size"));
+    }
+
+    @Test
+    void invalidatePerson_ShouldDropOnlyEntriesContainingPerson() {
+        cache.put("a", List.of(1L, 2L), "A");
+        cache.put("b", List.of(3L), "B");
+
+        cache.invalidatePerson(2L);
+
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals(1.0, count("assignment.llm.cache.evictions", "cause", "invalidated"));
+    }
+
+    @Test
+    void put_ZeroTtl_ShouldNotCache() {
+        config.setLlmCacheTtl(Duration.ZERO);
+        cache.put("a", List.of(1L), "A");
+
+        assertNull(cache.get("a"));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.client.TaskClient;
+import com.example.personnel_service.config.PendingTaskConfig;
+import com.example.personnel_service.dto.PriorityDto;
+import com.example.personnel_service.dto.TaskDto;
+import com.example.personnel_service.dto.TaskStatusDto;
+import com.example.personnel_service.dto.TaskTypeDto;
+import com.example.personnel_service.event.TaskEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingTaskReplicaTest {
+
+    @Mock
+    private TaskClient taskClient;
+
+    private SimpleMeterRegistry registry;
+    private AtomicReference<Instant> now;
+    private PendingTaskReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        PendingTaskConfig config = new PendingTaskConfig();
+        config.setReconcileInterval(Duration.ofMinutes(5));
+        registry = new SimpleMeterRegistry();
+        now = new AtomicReference<>(Instant.parse("2026-03-03T12:00:00Z"));
+        Clock clock = mock(Clock.class);
+        lenient().when(clock.instant()).thenAnswer(invocation -> now.get());
+        replica = new PendingTaskReplica(taskClient, config, registry, clock);
+    }
+
+    private static TaskDto task(long id, TaskStatusDto status) {
+        TaskDto task = new TaskDto();
+        task.setId(id);
+        task.setTaskCode("TSK-" + (400 + id));
+        task.setStatus(status);
+        return task;
+    }
+
+    private static TaskEvent event(String type, Long id, String code) {
+        TaskEvent.TaskPayload payload = new TaskEvent.TaskPayload();
+        payload.setId(id);
+        payload.setTaskId(code);
+        payload.setTitle("Evacuate block C");
+        payload.setTaskType("RESCUE_OPERATION");
+        payload.setPriority("URGENT");
+        payload.setLocation("Galle");
+        TaskEvent event = new TaskEvent();
+        event.setEventType(type);
+        event.setPayload(payload);
+        return event;
+    }
+
+    private void advance(Duration duration) {
+        now.set(now.get().plus(duration));
+    }
+
+    @Test
+    void getPendingTasks_FirstCall_ShouldSyncOnceAndKeepOnlyPending() {
+        when(taskClient.fetchPendingTasks()).thenReturn(Arrays.asList(
+                task(1, TaskStatusDto.PENDING), task(2, TaskStatusDto.IN_PROGRESS), task(3, TaskStatusDto.COMPLETED)));
+
+        List<TaskDto> first = replica.getPendingTasks();
+        List<TaskDto> second = replica.getPendingTasks();
+
+        assertEquals(1, first.size());
+        assertEquals("TSK-401", first.get(0).getTaskCode());
+        assertEquals(1, second.size());
+        verify(taskClient, times(1)).fetchPendingTasks();
+        assertEquals(1.0, registry.get("assignment.pending.replica.size").gauge().value());
+    }
+
+    @Test
+    void apply_LifecycleEvents_ShouldUpdateReplicaWithoutRemoteScan() {
+        when(taskClient.fetchPendingTasks()).thenReturn(Collections.singletonList(task(1, TaskStatusDto.PENDING)));
+        replica.getPendingTasks();
+
+        replica.apply(event("task.created", 7L, "TSK-407"));
+        replica.apply(event("task.assigned", 1L, "TSK-401"));
+        List<TaskDto> tasks = replica.getPendingTasks();
+
+        assertEquals(1, tasks.size());
+        TaskDto created = tasks.get(0);
+        assertEquals(7L, created.getId());
+        assertEquals(TaskTypeDto.RESCUE_OPERATION, created.getType());
+        assertEquals(PriorityDto.URGENT, created.getPriority());
+        assertEquals(TaskStatusDto.PENDING, created.getStatus());
+
+        replica.apply(event("task.completed", null, "TSK-407"));
+
+        assertTrue(replica.getPendingTasks().isEmpty());
+        verify(taskClient, times(1)).fetchPendingTasks();
+    }
+
+    @Test
+    void apply_BulkCreatedEvent_ShouldAddEveryTask() {
+        when(taskClient.fetchPendingTasks()).thenReturn(Collections.singletonList(task(1, TaskStatusDto.PENDING)));
+        replica.getPendingTasks();
+
+        TaskEvent bulk = new TaskEvent();
+        bulk.setEventType("tasks.created");
+        bulk.setPayloads(Arrays.asList(
+                event("task.created", 8L, "TSK-408").getPayload(),
+                event("task.created", null, "TSK-000").getPayload(),
+                event("task.created", 9L, "TSK-409").getPayload()));
+        replica.apply(bulk);
+
+        assertEquals(Arrays.asList(1L, 8L, 9L),
+                replica.getPendingTasks().stream().map(TaskDto::getId).toList());
+        verify(taskClient, times(1)).fetchPendingTasks();
+    }
+
+    @Test
+    void getPendingTasks_AfterReconcileInterval_ShouldRepairDrift() {
+        when(taskClient.fetchPendingTasks())
+                .thenReturn(Arrays.asList(task(1, TaskStatusDto.PENDING), task(2, TaskStatusDto.PENDING)))
+                .thenReturn(Arrays.asList(task(2, TaskStatusDto.PENDING), task(3, TaskStatusDto.PENDING)));
+        replica.getPendingTasks();
+
+        advance(Duration.ofMinutes(6));
+        List<TaskDto> tasks = replica.getPendingTasks();
+
+        assertEquals(Arrays.asList(2L, 3L), tasks.stream().map(TaskDto::getId).toList());
+        assertEquals(2.0, registry.get("assignment.pending.replica.drift").counter().count());
+        verify(taskClient, times(2)).fetchPendingTasks();
+    }
+
+    @Test
+    void getPendingTasks_EventDuringSync_ShouldWinOverSnapshot() {
+        when(taskClient.fetchPendingTasks()).thenAnswer(invocation -> {
+            replica.apply(event("task.assigned", 1L, "TSK-401"));
+            replica.apply(event("task.created", 9L, "TSK-409"));
+            return Collections.singletonList(task(1, TaskStatusDto.PENDING));
+        });
+
+        List<TaskDto> tasks = replica.getPendingTasks();
+
+        assertEquals(1, tasks.size());
+        assertEquals(9L, tasks.get(0).getId());
+    }
+
+    @Test
+    void getPendingTasks_SyncFailure_ShouldReturnEmptyAndRetry() {
+        when(taskClient.fetchPendingTasks())
+                .thenThrow(new ResourceAccessException("task-service down"))
+                .thenReturn(Collections.singletonList(task(1, TaskStatusDto.PENDING)));
+
+        assertTrue(replica.getPendingTasks().isEmpty());
+        assertEquals(1, replica.getPendingTasks().size());
+        assertEquals(1.0, registry.get("assignment.pending.replica.syncs").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    void markAssigned_ShouldDropTaskLocally() {
+        when(taskClient.fetchPendingTasks()).thenReturn(Collections.singletonList(task(1, TaskStatusDto.PENDING)));
+        replica.getPendingTasks();
+
+        replica.markAssigned(1L);
+
+        assertTrue(replica.getPendingTasks().isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonIndexConfig;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.repository.PersonRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersonAvailabilityIndexTest {
+
+    @Mock
+    private PersonRepository personRepository;
+
+    private PersonAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PersonAvailabilityIndex(personRepository, new PersonIndexConfig(), new SimpleMeterRegistry());
+    }
+
+    private static PersonRepository.AvailabilityView row(long id, String status, boolean disabled) {
+        return new PersonRepository.AvailabilityView() {
+            @Override
+            public long getId() {
+                return id;
+            }
+
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public boolean isDisabled() {
+                return disabled;
+            }
+        };
+    }
+
+    private static Person person(long id, String status, boolean disabled) {
+        Person person = new Person();
+        person.setId(id);
+        person.setStatus(status);
+        person.setDisabled(disabled);
+        return person;
+    }
+
+    @Test
+    void getPersonIds_ShouldBucketByNormalizedStatusAndEnabledFlag() {
+        when(personRepository.findAllAvailability()).thenReturn(Arrays.asList(
+                row(1, "Available", false), row(2, "AVAILABLE", true), row(3, "On Duty", false),
+                row(4, "ON_DUTY", false), row(5, "Unavailable", false), row(6, " available ", false)));
+
+        assertEquals(Set.of(1L, 6L), index.getPersonIds("available", true));
+        assertEquals(Set.of(2L), index.getPersonIds("Available", false));
+        assertEquals(Set.of(3L, 4L), index.getPersonIds("on-duty", true));
+        assertEquals(Set.of(5L), index.getPersonIds("UNAVAILABLE", true));
+        verify(personRepository, times(1)).findAllAvailability();
+    }
+
+    @Test
+    void getAvailablePersons_ShouldLoadOnlyIndexedIds() {
+        Person available = person(1, "Available", false);
+        when(personRepository.findAllAvailability()).thenReturn(Arrays.asList(
+                row(1, "Available", false), row(3, "On Duty", false)));
+        when(personRepository.findWithSkillsByIdIn(Set.of(1L))).thenReturn(Collections.singletonList(available));
+
+        List<Person> result = index.getAvailablePersons();
+
+        assertEquals(Collections.singletonList(available), result);
+        verify(personRepository, never()).findAll();
+    }
+
+    @Test
+    void update_StatusAndDisableChanges_ShouldMoveBetweenBuckets() {
+        when(personRepository.findAllAvailability()).thenReturn(Collections.singletonList(row(1, "Available", false)));
+        index.getPersonIds("AVAILABLE", true);
+
+        index.update(person(1, "ON_DUTY", false));
+        index.update(person(7, "Available", false));
+        assertEquals(Set.of(7L), index.getPersonIds("AVAILABLE", true));
+        assertEquals(Set.of(1L), index.getPersonIds("ON_DUTY", true));
+
+        index.update(person(7, "Available", true));
+        index.remove(1L);
+        assertTrue(index.getPersonIds("AVAILABLE", true).isEmpty());
+        assertEquals(Set.of(7L), index.getPersonIds("AVAILABLE", false));
+        assertTrue(index.getPersonIds("ON_DUTY", true).isEmpty());
+    }
+
+    @Test
+    void getAvailablePersons_StaleEntry_ShouldBeDroppedAndReindexed() {
+        when(personRepository.findAllAvailability()).thenReturn(Collections.singletonList(row(1, "Available", false)));
+        when(personRepository.findWithSkillsByIdIn(any())).thenReturn(Collections.singletonList(person(1, "On Duty", false)));
+
+        assertTrue(index.getAvailablePersons().isEmpty());
+        assertEquals(Set.of(1L), index.getPersonIds("ON_DUTY", true));
+    }
+
+    @Test
+    void update_InTransaction_ShouldApplyOnlyAfterCommit() {
+        when(personRepository.findAllAvailability()).thenReturn(Collections.singletonList(row(1, "Available", false)));
+        index.getPersonIds("AVAILABLE", true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.update(person(1, "On Duty", false));
+            index.remove(1L);
+        } finally {
+            // Rolled back: the synchronizations are dropped without afterCommit
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(Set.of(1L), index.getPersonIds("AVAILABLE", true));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.update(person(1, "On Duty", false));
+            assertEquals(Set.of(1L), index.getPersonIds("AVAILABLE", true));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(Set.of(1L), index.getPersonIds("ON_DUTY", true));
+    }
+
+    @Test
+    void getPersonIds_AfterRebuildInterval_ShouldRebuildFromDatabase() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-03-03T12:00:00Z"));
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        PersonIndexConfig config = new PersonIndexConfig();
+        config.setRebuildInterval(Duration.ofMinutes(10));
+        index = new PersonAvailabilityIndex(personRepository, config, new SimpleMeterRegistry(), clock);
+        when(personRepository.findAllAvailability())
+                .thenReturn(Arrays.asList(row(1, "Available", false), row(2, "Available", false)))
+                .thenReturn(Collections.singletonList(row(1, "On Duty", false)));
+
+        assertEquals(Set.of(1L, 2L), index.getPersonIds("AVAILABLE", true));
+        now.set(now.get().plus(Duration.ofMinutes(9)));
+        assertEquals(Set.of(1L, 2L), index.getPersonIds("AVAILABLE", true));
+
+        now.set(now.get().plus(Duration.ofMinutes(1)));
+        assertTrue(index.getPersonIds("AVAILABLE", true).isEmpty());
+        assertEquals(Set.of(1L), index.getPersonIds("ON_DUTY", true));
+        verify(personRepository, times(2)).findAllAvailability();
+    }
+}
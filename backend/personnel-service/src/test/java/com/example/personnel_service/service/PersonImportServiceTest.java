@@ -0,0 +1,172 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonImportConfig;
+import com.example.personnel_service.dto.PersonImportResult;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersonImportServiceTest {
+
+    @Mock
+    private PersonService personService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private PersonImportConfig config;
+    private PersonImportService importService;
+    private final List<List<Person>> savedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        config = new PersonImportConfig();
+        config.setChunkSize(2);
+        // Same deserialization settings as spring.jackson in application.yaml
+        JsonMapper jsonMapper = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+                .build();
+        importService = new PersonImportService(personService, entityManager, jsonMapper, config);
+    }
+
+    private void givenSaves() {
+        when(personService.addPerson(anyList())).thenAnswer(invocation -> {
+            List<Person> chunk = invocation.getArgument(0);
+            savedChunks.add(chunk);
+            return chunk;
+        });
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importCsv_ShouldSaveInChunksAndClearBetweenThem() throws Exception {
+        givenSaves();
+        String csv = "personal_code,FirstName,lastName,status,shiftStartTime,skills\n"
+                + "PER-010,Ann,Perera,Available,2026-03-01T08:00,First Aid:Expert;Rope Rescue:3\n"
+                + "PER-011,\"Ben, Jr.\",\"De \"\"Silva\"\"\",On Duty,,\n"
+                + "\n"
+                + "PER-012,Cy,Fernando,Available,,Swift Water\n";
+
+        PersonImportResult result = importService.importCsv(body(csv));
+
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(Arrays.asList(2, 1), savedChunks.stream().map(List::size).toList());
+        verify(entityManager, times(2)).clear();
+
+        Person ann = savedChunks.get(0).get(0);
+        assertEquals("PER-010", ann.getPersonalCode());
+        assertEquals(LocalDateTime.of(2026, 3, 1, 8, 0), ann.getShiftStartTime());
+        assertEquals(2, ann.getSkills().size());
+        assertEquals("Rope Rescue", ann.getSkills().get(1).getProfession());
+        assertEquals("3", ann.getSkills().get(1).getLevel());
+        Person ben = savedChunks.get(0).get(1);
+        assertEquals("Ben, Jr.", ben.getFirstName());
+        assertEquals("De \"Silva\"", ben.getLastName());
+        assertNull(ben.getShiftStartTime());
+        assertNull(savedChunks.get(1).get(0).getSkills().get(0).getLevel());
+    }
+
+    @Test
+    void importCsv_BadRow_ShouldSkipItAndReportLineNumber() throws Exception {
+        givenSaves();
+        String csv = "personalCode,firstName,shiftEndTime\n"
+                + "PER-010,Ann,\n"
+                + "PER-011,Ben,tomorrow\n"
+                + "PER-012,Cy,,extra\n"
+                + "PER-013,Dee,2026-03-01T20:00\n";
+
+        PersonImportResult result = importService.importCsv(body(csv));
+
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("line 3: "));
+        assertTrue(result.getErrors().get(1).startsWith("line 4: "));
+    }
+
+    @Test
+    void importCsv_ChunkFails_ShouldCountWholeChunkAndContinue() throws Exception {
+        ArgumentCaptor<List<Person>> chunks = ArgumentCaptor.captor();
+        when(personService.addPerson(chunks.capture()))
+                .thenThrow(new IllegalStateException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        String csv = "personalCode\nPER-010\nPER-011\nPER-012\n";
+
+        PersonImportResult result = importService.importCsv(body(csv));
+
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of("lines 2-3: duplicate key"), result.getErrors());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void importCsv_ShouldCapReportedErrors() throws Exception {
+        config.setMaxReportedErrors(1);
+        String csv = "personalCode,shiftStartTime\nPER-010,x\nPER-011,y\n";
+
+        PersonImportResult result = importService.importCsv(body(csv));
+
+        assertEquals(2, result.getFailed());
+        assertEquals(1, result.getErrors().size());
+        verifyNoInteractions(personService);
+    }
+
+    @Test
+    void importCsv_UnknownOrMissingHeader_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> importService.importCsv(body("personalCode,salary\nPER-010,1\n")));
+        assertThrows(BadRequestException.class, () -> importService.importCsv(body("")));
+        verifyNoInteractions(personService);
+    }
+
+    @Test
+    void importNdjson_ShouldInsertRecordsAsNewRows() throws Exception {
+        givenSaves();
+        String ndjson = "{\"id\":7,\"personalCode\":\"PER-010\",\"skills\":[{\"id\":3,\"profession\":\"First Aid\"}]}\n"
+                + "not json\n"
+                + "{\"personalCode\":\"PER-011\",\"status\":\"Available\"}\n";
+
+        PersonImportResult result = importService.importNdjson(body(ndjson));
+
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getErrors().get(0).startsWith("line 2: "));
+        Person first = savedChunks.get(0).get(0);
+        assertEquals(0, first.getId());
+        assertEquals(0, first.getSkills().get(0).getId());
+        assertEquals("Available", savedChunks.get(0).get(1).getStatus());
+    }
+
+    @Test
+    void parseCsvLine_ShouldHandleQuotesAndEmptyFields() {
+        assertEquals(Arrays.asList("a", "", "b,c", "say \"hi\""),
+                PersonImportService.parseCsvLine("a,,\"b,c\",\"say \"\"hi\"\"\""));
+        assertThrows(IllegalArgumentException.class, () -> PersonImportService.parseCsvLine("a,\"b"));
+    }
+}
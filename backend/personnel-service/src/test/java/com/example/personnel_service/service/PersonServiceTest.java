@@ -1,7 +1,17 @@
 package com.example.personnel_service.service;
 
+import com.example.personnel_service.dto.PersonFilter;
+import com.example.personnel_service.dto.PersonPage;
+import com.example.personnel_service.dto.PersonProfile;
+import com.example.personnel_service.entity.Allergy;
+import com.example.personnel_service.entity.EmergencyContact;
+import com.example.personnel_service.entity.MedicalCondition;
 import com.example.personnel_service.entity.Person;
-import com.example.personnel_service.messaging.MessagePublisher;
+import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.exception.BadRequestException;
+import com.example.personnel_service.exception.ResourceNotFoundException;
+import com.example.personnel_service.config.RabbitMQConfig;
+import com.example.personnel_service.messaging.BatchingEventPublisher;
 import com.example.personnel_service.repository.PersonRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,13 +19,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +40,16 @@ class PersonServiceTest {
     private PersonRepository repository;
 
     @Mock
-    private MessagePublisher messagePublisher;
+    private BatchingEventPublisher eventPublisher;
+
+    @Mock
+    private PersonAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private SkillIndex skillIndex;
+
+    @Mock
+    private ShiftIndex shiftIndex;
 
     @InjectMocks
     private PersonService personService;
@@ -56,25 +80,70 @@ class PersonServiceTest {
 
     @Test
     void getAllPersons_ShouldReturnAllPersons() {
-        when(repository.findAll()).thenReturn(Arrays.asList(person1, person2));
+        when(repository.findAllWithSkills()).thenReturn(Arrays.asList(person1, person2));
 
         List<Person> result = personService.getAllPersons();
 
         assertEquals(2, result.size());
         assertEquals("John", result.get(0).getFirstName());
         assertEquals("Jane", result.get(1).getFirstName());
-        verify(repository).findAll();
+        verify(repository).findAllWithSkills();
     }
 
     @Test
     void getAllPersons_EmptyList_ShouldReturnEmpty() {
-        when(repository.findAll()).thenReturn(Arrays.asList());
+        when(repository.findAllWithSkills()).thenReturn(Arrays.asList());
 
         List<Person> result = personService.getAllPersons();
 
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getPersonPage_ShouldLoadPageInIdOrderAndReturnCursor() {
+        PersonFilter filter = new PersonFilter(" Available ", "", null, null, "First Aid");
+        when(repository.findPageIds(0L, "AVAILABLE", null, null, null, "First Aid", PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(1L, 2L, 5L));
+        when(repository.findWithSkillsByIdIn(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(person2, person1));
+
+        PersonPage page = personService.getPersonPage(filter, null, 2);
+
+        assertEquals(Arrays.asList(1L, 2L), page.getItems().stream().map(Person::getId).toList());
+        assertEquals(2L, page.getNextAfter());
+    }
+
+    @Test
+    void getPersonPage_LastPage_ShouldHaveNoCursor() {
+        when(repository.findPageIds(2L, null, null, null, null, null, PageRequest.of(0, 51)))
+                .thenReturn(Arrays.asList());
+
+        PersonPage page = personService.getPersonPage(new PersonFilter(), 2L, 50);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextAfter());
+        verify(repository, never()).findWithSkillsByIdIn(any());
+    }
+
+    @Test
+    void backfillStatusKeys_ShouldNormalizeEachLegacyStatus() {
+        when(repository.findStatusesWithoutKey()).thenReturn(Arrays.asList("On Duty", null));
+        when(repository.setStatusKey("On Duty", "ON_DUTY")).thenReturn(3);
+        when(repository.setStatusKey(null, "UNKNOWN")).thenReturn(1);
+
+        personService.backfillStatusKeys();
+
+        verify(repository).setStatusKey("On Duty", "ON_DUTY");
+        verify(repository).setStatusKey(null, "UNKNOWN");
+    }
+
+    @Test
+    void getPersonPage_LimitOutOfRange_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> personService.getPersonPage(new PersonFilter(), null, 0));
+        assertThrows(BadRequestException.class,
+                () -> personService.getPersonPage(new PersonFilter(), null, PersonService.MAX_PAGE_SIZE + 1));
+        verify(repository, never()).findPageIds(anyLong(), any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void getPersonById_ShouldReturnPerson() {
         when(repository.findById(1L)).thenReturn(Optional.of(person1));
@@ -97,24 +166,87 @@ class PersonServiceTest {
         assertEquals("Person not found", exception.getMessage());
     }
 
+    @Test
+    void getPersonProfile_ShouldReturnAggregateWithETag() {
+        when(repository.findProfileById(1L)).thenReturn(Optional.of(person1));
+
+        PersonProfile profile = personService.getPersonProfile(1L);
+
+        assertSame(person1, profile.getPerson());
+        assertTrue(profile.getEtag().matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    void getPersonProfile_NotFound_ShouldThrowResourceNotFound() {
+        when(repository.findProfileById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> personService.getPersonProfile(99L));
+    }
+
+    @Test
+    void profileETag_ShouldChangeWithAnyRowButNotWithOrder() {
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 8, 0);
+        Allergy dust = new Allergy();
+        dust.setId(11L);
+        dust.setUpdatedAt(time);
+        Allergy latex = new Allergy();
+        latex.setId(12L);
+        latex.setUpdatedAt(time);
+        MedicalCondition medical = new MedicalCondition();
+        medical.setId(5L);
+        medical.setAllergies(new ArrayList<>(Arrays.asList(dust, latex)));
+        person1.setMedicalCondition(medical);
+        person1.setUpdatedAt(time);
+        String original = PersonService.profileETag(person1);
+
+        medical.setAllergies(new ArrayList<>(Arrays.asList(latex, dust)));
+        assertEquals(original, PersonService.profileETag(person1));
+
+        latex.setUpdatedAt(time.plusSeconds(1));
+        String edited = PersonService.profileETag(person1);
+        assertNotEquals(original, edited);
+
+        medical.getAllergies().remove(dust);
+        assertNotEquals(edited, PersonService.profileETag(person1));
+    }
+
     @Test
     void addPerson_ShouldSaveAndPublishEvents() {
         List<Person> persons = Arrays.asList(person1, person2);
         when(repository.saveAll(persons)).thenReturn(persons);
-        doNothing().when(messagePublisher).publishPersonnelStatusEvent(any());
+        doNothing().when(eventPublisher).publishAfterCommit(eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any());
 
         List<Person> result = personService.addPerson(persons);
 
         assertEquals(2, result.size());
         verify(repository).saveAll(persons);
-        verify(messagePublisher, times(2)).publishPersonnelStatusEvent(any());
+        verify(eventPublisher, times(2)).publishAfterCommit(eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any());
+    }
+
+    @Test
+    void addPerson_ShouldLinkNestedRowsAndIndexSkills() {
+        Skill skill = new Skill();
+        skill.setProfession("First Aid");
+        EmergencyContact contact = new EmergencyContact();
+        contact.setName("Mary Doe");
+        person1.setSkills(Arrays.asList(skill));
+        person1.setEmergencyContacts(Arrays.asList(contact));
+        List<Person> persons = Arrays.asList(person1);
+        when(repository.saveAll(persons)).thenReturn(persons);
+
+        personService.addPerson(persons);
+
+        assertSame(person1, skill.getPerson());
+        assertSame(person1, contact.getPerson());
+        verify(skillIndex).update(skill);
+        verify(availabilityIndex).updateAll(persons);
     }
 
     @Test
     void addPerson_EventPublishingFails_ShouldStillReturnPersons() {
         List<Person> persons = Arrays.asList(person1);
         when(repository.saveAll(persons)).thenReturn(persons);
-        doThrow(new RuntimeException("RabbitMQ down")).when(messagePublisher).publishPersonnelStatusEvent(any());
+        doThrow(new RuntimeException("RabbitMQ down")).when(eventPublisher).publishAfterCommit(any(), any());
 
         List<Person> result = personService.addPerson(persons);
 
@@ -127,14 +259,16 @@ class PersonServiceTest {
         person1.setStatus("On Duty");
         List<Person> persons = Arrays.asList(person1);
         when(repository.saveAll(persons)).thenReturn(persons);
-        doNothing().when(messagePublisher).publishPersonnelStatusEvent(any());
+        doNothing().when(eventPublisher).publishAfterCommit(eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any());
 
         List<Person> result = personService.updatePerson(persons);
 
         assertEquals(1, result.size());
         assertEquals("On Duty", result.get(0).getStatus());
         verify(repository).saveAll(persons);
-        verify(messagePublisher).publishPersonnelStatusEvent(any());
+        verify(eventPublisher).publishAfterCommit(eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any());
+        verify(availabilityIndex).updateAll(persons);
+        verify(shiftIndex).update(person1);
     }
 
     @Test
@@ -147,6 +281,7 @@ class PersonServiceTest {
         assertTrue(result.isDisabled());
         verify(repository).findById(1L);
         verify(repository).save(any(Person.class));
+        verify(availabilityIndex).update(person1);
     }
 
     @Test
@@ -159,14 +294,17 @@ class PersonServiceTest {
     @Test
     void deletePerson_ShouldDeleteAndPublishEvent() {
         when(repository.findById(1L)).thenReturn(Optional.of(person1));
-        doNothing().when(messagePublisher).publishPersonnelStatusEvent(any());
+        doNothing().when(eventPublisher).publishAfterCommit(eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any());
         doNothing().when(repository).delete(person1);
 
         personService.deletePerson(1L);
 
         verify(repository).findById(1L);
-        verify(messagePublisher).publishPersonnelStatusEvent(any());
+        verify(eventPublisher).publishAfterCommit(eq(RabbitMQConfig.PERSONNEL_STATUS_KEY), any());
         verify(repository).delete(person1);
+        verify(availabilityIndex).remove(1L);
+        verify(skillIndex).removePerson(1L);
+        verify(shiftIndex).remove(1L);
     }
 
     @Test
@@ -180,7 +318,7 @@ class PersonServiceTest {
     @Test
     void deletePerson_EventPublishingFails_ShouldStillDelete() {
         when(repository.findById(1L)).thenReturn(Optional.of(person1));
-        doThrow(new RuntimeException("RabbitMQ down")).when(messagePublisher).publishPersonnelStatusEvent(any());
+        doThrow(new RuntimeException("RabbitMQ down")).when(eventPublisher).publishAfterCommit(any(), any());
         doNothing().when(repository).delete(person1);
 
         personService.deletePerson(1L);
@@ -0,0 +1,195 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonIndexConfig;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.repository.PersonRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 3, 0, 0);
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private PersonAvailabilityIndex availabilityIndex;
+
+    private ShiftIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ShiftIndex(personRepository, availabilityIndex, new PersonIndexConfig(), new SimpleMeterRegistry());
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.plusHours(hour);
+    }
+
+    private static PersonRepository.ShiftView row(long id, LocalDateTime start, LocalDateTime end) {
+        return new PersonRepository.ShiftView() {
+            @Override
+            public long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getShiftStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getShiftEndTime() {
+                return end;
+            }
+        };
+    }
+
+    private static Person person(long id, LocalDateTime start, LocalDateTime end) {
+        Person person = new Person();
+        person.setId(id);
+        person.setShiftStartTime(start);
+        person.setShiftEndTime(end);
+        return person;
+    }
+
+    private void givenShifts() {
+        when(personRepository.findAllShifts()).thenReturn(Arrays.asList(
+                row(1, at(6), at(18)),
+                row(2, at(8), at(20)),
+                row(3, at(7), at(19)),
+                row(4, at(9), at(17)),
+                row(5, at(20), at(32))));
+    }
+
+    @Test
+    void findPersonIds_ShouldReturnShiftsCoveringWholeWindow() {
+        givenShifts();
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), index.findPersonIds(at(10), at(12), false));
+        assertEquals(Arrays.asList(1L, 2L, 3L), index.findPersonIds(at(8), at(17), false));
+        assertEquals(Collections.singletonList(2L), index.findPersonIds(at(8), at(20), false));
+        assertEquals(Collections.singletonList(5L), index.findPersonIds(at(23), at(25), false));
+        assertTrue(index.findPersonIds(at(5), at(7), false).isEmpty());
+        assertEquals(Arrays.asList(1L, 3L), index.findPersonIds(at(7), at(7), false));
+        verify(personRepository, times(1)).findAllShifts();
+    }
+
+    @Test
+    void findPersonIds_AvailableOnly_ShouldIntersectWithAvailabilityIndex() {
+        givenShifts();
+        when(availabilityIndex.getPersonIds(PersonAvailabilityIndex.AVAILABLE, true)).thenReturn(Set.of(2L, 4L, 5L));
+
+        assertEquals(Arrays.asList(2L, 4L), index.findPersonIds(at(10), at(12), true));
+    }
+
+    @Test
+    void findPersonIds_WindowEndsBeforeStart_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> index.findPersonIds(at(12), at(10), false));
+        verifyNoInteractions(personRepository);
+    }
+
+    @Test
+    void update_ShouldMoveChangedShiftsAndDropInvalidOnes() {
+        givenShifts();
+        index.findPersonIds(at(10), at(12), false);
+
+        index.update(person(4, at(13), at(22)));
+        index.update(person(2, null, at(20)));
+        index.update(person(3, at(19), at(7)));
+        index.update(person(6, at(10), at(14)));
+
+        assertEquals(Arrays.asList(1L, 6L), index.findPersonIds(at(10), at(12), false));
+        assertEquals(Collections.singletonList(4L), index.findPersonIds(at(18), at(21), false));
+    }
+
+    @Test
+    void remove_ShouldDropPerson() {
+        givenShifts();
+        index.findPersonIds(at(10), at(12), false);
+
+        index.remove(1L);
+        index.remove(99L);
+
+        assertEquals(Arrays.asList(2L, 3L, 4L), index.findPersonIds(at(10), at(12), false));
+    }
+
+    @Test
+    void findPersonIds_AfterRebuildInterval_ShouldRebuildFromDatabase() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-03-03T12:00:00Z"));
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        index = new ShiftIndex(personRepository, availabilityIndex, new PersonIndexConfig(),
+                new SimpleMeterRegistry(), clock);
+        givenShifts();
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), index.findPersonIds(at(10), at(12), false));
+
+        when(personRepository.findAllShifts()).thenReturn(Collections.singletonList(row(9, at(9), at(13))));
+        now.set(now.get().plus(new PersonIndexConfig().getRebuildInterval()));
+
+        assertEquals(Collections.singletonList(9L), index.findPersonIds(at(10), at(12), false));
+    }
+
+    @Test
+    void update_BeforeFirstQuery_ShouldNotLoadIndex() {
+        index.update(person(1, at(6), at(18)));
+        index.remove(1L);
+
+        verifyNoInteractions(personRepository);
+    }
+
+    @Test
+    void findPersonIds_ShouldMatchBruteForceAfterRandomWrites() {
+        when(personRepository.findAllShifts()).thenReturn(new ArrayList<>());
+        index.findPersonIds(at(0), at(0), false);
+        Random random = new Random(42);
+        Map<Long, LocalDateTime[]> shifts = new HashMap<>();
+
+        for (int step = 0; step < 2000; step++) {
+            long id = random.nextInt(200);
+            if (random.nextInt(5) == 0) {
+                index.remove(id);
+                shifts.remove(id);
+            } else {
+                LocalDateTime start = at(random.nextInt(48));
+                LocalDateTime end = start.plusHours(random.nextInt(16));
+                index.update(person(id, start, end));
+                shifts.put(id, new LocalDateTime[]{start, end});
+            }
+            if (step % 100 == 0) {
+                LocalDateTime from = at(random.nextInt(56));
+                LocalDateTime to = from.plusHours(random.nextInt(6));
+                List<Long> expected = new ArrayList<>();
+                shifts.forEach((personId, shift) -> {
+                    if (!shift[0].isAfter(from) && !shift[1].isBefore(to)) {
+                        expected.add(personId);
+                    }
+                });
+                Collections.sort(expected);
+                assertEquals(expected, index.findPersonIds(from, to, false));
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.personnel_service.service;
+
+import com.example.personnel_service.config.PersonIndexConfig;
+import com.example.personnel_service.entity.Person;
+import com.example.personnel_service.entity.Skill;
+import com.example.personnel_service.repository.SkillRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkillIndexTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private PersonAvailabilityIndex availabilityIndex;
+
+    private SkillIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex(skillRepository, availabilityIndex, new PersonIndexConfig(), new SimpleMeterRegistry());
+    }
+
+    private static SkillRepository.IndexView row(long id, long personId, String profession, String level) {
+        return new SkillRepository.IndexView() {
+            @Override
+            public long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getPersonId() {
+                return personId;
+            }
+
+            @Override
+            public String getProfession() {
+                return profession;
+            }
+
+            @Override
+            public String getLevel() {
+                return level;
+            }
+
+            @Override
+            public boolean isDisabled() {
+                return false;
+            }
+        };
+    }
+
+    private static Skill skill(long id, long personId, String profession, String level) {
+        Person person = new Person();
+        person.setId(personId);
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setPerson(person);
+        skill.setProfession(profession);
+        skill.setLevel(level);
+        return skill;
+    }
+
+    private static Map<String, Integer> require(Object... nameLevelPairs) {
+        Map<String, Integer> requirements = new LinkedHashMap<>();
+        for (int i = 0; i < nameLevelPairs.length; i += 2) {
+            requirements.put((String) nameLevelPairs[i], (Integer) nameLevelPairs[i + 1]);
+        }
+        return requirements;
+    }
+
+    private void givenSkills() {
+        when(skillRepository.findAllForIndex()).thenReturn(Arrays.asList(
+                row(1, 1, "First Aid", "Expert"),
+                row(2, 1, "Swift Water", "2"),
+                row(3, 2, "first-aid", "Beginner"),
+                row(4, 2, "Swift Water", "Advanced"),
+                row(5, 3, "FIRST_AID", "Intermediate")));
+    }
+
+    @Test
+    void findPersonIds_ShouldAndRequirementsAtMinimumLevel() {
+        givenSkills();
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), index.findPersonIds(require("First Aid", 0), false));
+        assertEquals(Arrays.asList(1L, 3L), index.findPersonIds(require("FIRST_AID", 3), false));
+        assertEquals(Collections.singletonList(1L),
+                index.findPersonIds(require("FIRST_AID", 3, "SWIFT_WATER", 2), false));
+        assertTrue(index.findPersonIds(require("FIRST_AID", 3, "ROPE_ACCESS", 0), false).isEmpty());
+        verify(skillRepository, times(1)).findAllForIndex();
+    }
+
+    @Test
+    void findPersonIds_AvailableOnly_ShouldIntersectWithAvailabilityIndex() {
+        givenSkills();
+        when(availabilityIndex.getPersonIds(PersonAvailabilityIndex.AVAILABLE, true)).thenReturn(Set.of(2L, 3L));
+
+        assertEquals(Arrays.asList(2L, 3L), index.findPersonIds(require("FIRST_AID", 1), true));
+    }
+
+    @Test
+    void update_ShouldMoveOnlyTheChangedBits() {
+        givenSkills();
+        index.findPersonIds(require("FIRST_AID", 0), false);
+
+        index.update(skill(3, 2, "First Aid", "Expert"));
+        index.update(skill(6, 4, "Rope Access", "3"));
+        Skill disabled = skill(5, 3, "First Aid", "Intermediate");
+        disabled.setDisabled(true);
+        index.update(disabled);
+
+        assertEquals(Arrays.asList(1L, 2L), index.findPersonIds(require("FIRST_AID", 5), false));
+        assertEquals(Arrays.asList(1L, 2L), index.findPersonIds(require("FIRST_AID", 0), false));
+        assertEquals(Collections.singletonList(4L), index.findPersonIds(require("ROPE_ACCESS", 3), false));
+    }
+
+    @Test
+    void remove_ShouldKeepRemainingRowsOfSamePerson() {
+        givenSkills();
+        index.findPersonIds(require("FIRST_AID", 0), false);
+        index.update(skill(7, 2, "First Aid", "Advanced"));
+
+        index.remove(7L);
+        assertEquals(Collections.singletonList(2L), index.findPersonIds(require("FIRST_AID", 1, "SWIFT_WATER", 4), false));
+        assertTrue(index.findPersonIds(require("FIRST_AID", 2, "SWIFT_WATER", 4), false).isEmpty());
+
+        index.removePerson(1L);
+        assertEquals(Arrays.asList(2L, 3L), index.findPersonIds(require("FIRST_AID", 0), false));
+        assertEquals(Collections.singletonList(2L), index.findPersonIds(require("SWIFT_WATER", 0), false));
+    }
+
+    @Test
+    void update_BeforeFirstQuery_ShouldNotLoadIndex() {
+        index.update(skill(1, 1, "First Aid", "Expert"));
+        index.remove(1L);
+        index.removePerson(1L);
+
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    void findPersonIds_AfterRebuildInterval_ShouldRebuildFromDatabase() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-03-03T12:00:00Z"));
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        index = new SkillIndex(skillRepository, availabilityIndex, new PersonIndexConfig(),
+                new SimpleMeterRegistry(), clock);
+        givenSkills();
+        assertEquals(Arrays.asList(1L, 2L, 3L), index.findPersonIds(require("FIRST_AID", 0), false));
+
+        when(skillRepository.findAllForIndex()).thenReturn(Collections.singletonList(row(8, 5, "First Aid", "1")));
+        now.set(now.get().plus(new PersonIndexConfig().getRebuildInterval()));
+
+        assertEquals(Collections.singletonList(5L), index.findPersonIds(require("FIRST_AID", 0), false));
+        assertTrue(index.findPersonIds(require("SWIFT_WATER", 0), false).isEmpty());
+    }
+
+    @Test
+    void normalizeAndLevelOf_ShouldMatchScorerScale() {
+        assertEquals("FIRST_AID", SkillIndex.normalize(" first-aid "));
+        assertEquals("SEARCH_RESCUE", SkillIndex.normalize("Search & Rescue"));
+        assertEquals(0, SkillIndex.levelOf(null));
+        assertEquals(1, SkillIndex.levelOf("Beginner"));
+        assertEquals(3, SkillIndex.levelOf("Intermediate"));
+        assertEquals(4, SkillIndex.levelOf("Advanced"));
+        assertEquals(5, SkillIndex.levelOf("expert"));
+        assertEquals(2, SkillIndex.levelOf("2"));
+    }
+
+    @Test
+    void findPersonIds_NoRequirements_ShouldReturnEmpty() {
+        givenSkills();
+
+        List<Long> ids = index.findPersonIds(Collections.emptyMap(), false);
+
+        assertTrue(ids.isEmpty());
+    }
+}
@@ -5,7 +5,7 @@
  * for managing emergency shelters in the DISA platform.
  *
  * Responsibilities:
- *   - Creating shelters with auto-generated shelter codes (e.g., SHE-001)
+ *   - Creating shelters with generated shelter codes (see CodeGenerator)
  *   - Retrieving all shelters or a specific shelter by ID
  *   - Updating shelter details and operational status
  *   - Deleting shelters
@@ -36,18 +36,20 @@ public class ShelterServiceImpl implements ShelterService {
     private static final Logger log = LoggerFactory.getLogger(ShelterServiceImpl.class);
 
     private final ShelterRepository shelterRepository;
+    private final CodeGenerator codeGenerator;
 
     private static final double NEARBY_RADIUS_KM = 50.0; // 50km radius
 
-    public ShelterServiceImpl(ShelterRepository shelterRepository) {
+    public ShelterServiceImpl(ShelterRepository shelterRepository, CodeGenerator codeGenerator) {
         this.shelterRepository = shelterRepository;
+        this.codeGenerator = codeGenerator;
     }
 
     @Override
     @Transactional
     public Shelter createShelter(ShelterRequest request) {
         Shelter shelter = new Shelter();
-        shelter.setShelterCode(generateShelterCode());
+        shelter.setShelterCode(codeGenerator.nextCode("SHE"));
         shelter.setName(request.getName());
         shelter.setAddress(request.getAddress());
         shelter.setLatitude(request.getLatitude());
@@ -213,9 +215,4 @@ public class ShelterServiceImpl implements ShelterService {
         double lonDiff = Math.abs(lon1 - lon2);
         return Math.sqrt(latDiff * latDiff + lonDiff * lonDiff) * 111; // Rough conversion to km
     }
-
-    private String generateShelterCode() {
-        long count = shelterRepository.count() + 1;
-        return String.format("SHE-%03d", count);
-    }
 }
@@ -0,0 +1,104 @@
+/*
+ * ActionClassifierBenchmark measures keyword matching as the rule table grows. The
+ * automaton scans an action once whatever the number of phrases, while the naive
+ * baseline runs one indexOf per phrase, which is how the classifier matched before.
+ * Built and run only with the jmh profile:
+ *   mvn -Pjmh test-compile exec:exec
+ */
+package com.disa.task_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionClassifierBenchmark {
+
+    private static final String[] ACTIONS = {
+            "Evacuate trapped residents from the east bank - URGENT",
+            "Medical rescue for injured near the bridge",
+            "Clear road between the hospital and the shelter when possible",
+            "Set up triage and first aid at the school",
+            "Remove fallen tree and rubble from Main Street, non-urgent",
+            "Search collapsed buildings for missing person reports",
+            "Distribute blankets and drinking water to the sports hall",
+            "Routine inspection of the debris barrier",
+    };
+
+    @Param({"30", "300", "3000"})
+    private int phrases;
+
+    private String[] actions;
+    private List<String> keywords;
+    private KeywordAutomaton automaton;
+    private ActionClassifier classifier;
+
+    @Setup
+    public void setUp() {
+        actions = new String[ACTIONS.length];
+        for (int i = 0; i < ACTIONS.length; i++) {
+            actions[i] = ACTIONS[i].toLowerCase(Locale.ROOT);
+        }
+        // Realistic phrases first, padded with random ones so most lookups miss
+        keywords = new ArrayList<>(List.of("rescue", "evacuat", "trapped", "medical", "injur", "triage",
+                "first aid", "debris", "rubble", "fallen tree", "clear road", "urgent", "non-urgent", "routine"));
+        Random random = new Random(1);
+        while (keywords.size() < phrases) {
+            StringBuilder phrase = new StringBuilder();
+            for (int c = 4 + random.nextInt(8); c > 0; c--) {
+                phrase.append((char) ('a' + random.nextInt(26)));
+            }
+            keywords.add(phrase.toString());
+        }
+        automaton = new KeywordAutomaton(keywords);
+        classifier = new ActionClassifier(new DefaultResourceLoader(), new ObjectMapper(),
+                "classpath:action-rules.json");
+    }
+
+    @Benchmark
+    public void automaton(Blackhole blackhole) {
+        for (String action : actions) {
+            automaton.match(action, blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void indexOfPerPhrase(Blackhole blackhole) {
+        for (String action : actions) {
+            for (int k = 0; k < keywords.size(); k++) {
+                if (action.indexOf(keywords.get(k)) >= 0) {
+                    blackhole.consume(k);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void classifyShippedRules(Blackhole blackhole) {
+        for (String action : ACTIONS) {
+            blackhole.consume(classifier.classify(action));
+        }
+    }
+}
@@ -2,13 +2,16 @@
  * TaskServiceApplication is the entry point for the DISA task-service microservice.
  * Bootstraps the Spring Boot application responsible for managing disaster response
  * tasks, including CRUD operations and event-driven integration via RabbitMQ.
+ * Scheduling is enabled for the action rules reload.
  */
 package com.disa.task_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TaskServiceApplication {
 
 	/**
@@ -25,7 +25,10 @@ public class RabbitMQConfig {
 
     // Routing keys
     public static final String ASSESSMENT_COMPLETED_KEY = "assessment.completed";
+    public static final String TASK_CREATED_KEY = "task.created";
+    public static final String TASKS_CREATED_KEY = "tasks.created";
     public static final String TASK_ASSIGNED_KEY = "task.assigned";
+    public static final String TASK_COMPLETED_KEY = "task.completed";
     public static final String PERSONNEL_STATUS_KEY = "personnel.status.changed";
 
     /**
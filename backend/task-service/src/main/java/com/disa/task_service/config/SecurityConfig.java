@@ -29,7 +29,7 @@ public class SecurityConfig {
                 // Read — all authenticated
                 .requestMatchers(HttpMethod.GET, "/tasks/**").authenticated()
                 // Create — ADMIN, COORDINATOR
-                .requestMatchers(HttpMethod.POST, "/tasks").hasAnyRole("ADMIN", "COORDINATOR")
+                .requestMatchers(HttpMethod.POST, "/tasks", "/tasks/bulk").hasAnyRole("ADMIN", "COORDINATOR")
                 // Complete — ADMIN, COORDINATOR, RESPONDER
                 .requestMatchers(HttpMethod.PUT, "/tasks/*/complete").hasAnyRole("ADMIN", "COORDINATOR", "RESPONDER")
                 // Assign / update — ADMIN, COORDINATOR
@@ -6,6 +6,8 @@
 package com.disa.task_service.controller;
 
 import com.disa.task_service.dto.AssignTaskRequest;
+import com.disa.task_service.dto.TaskFilter;
+import com.disa.task_service.dto.TaskPage;
 import com.disa.task_service.dto.TaskRequest;
 import com.disa.task_service.dto.TaskResponse;
 import com.disa.task_service.service.interfaces.TaskService;
@@ -39,15 +41,48 @@ public class TaskController {
     }
 
     /**
-     * GET /api/v1/tasks
-     * Returns all tasks in the system.
+     * POST /api/v1/tasks/bulk
+     * Creates several tasks in one transaction and publishes a single {@code tasks.created} event.
      *
-     * @return 200 OK with a list of all tasks
+     * @param requests the task creation payloads, at most {@code TaskService.MAX_BULK_SIZE}
+     * @return 201 Created with the IDs of the new tasks, in request order, or 400 if there are too many
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Long>> createTasks(@RequestBody List<TaskRequest> requests) {
+        log.info("POST /tasks/bulk - creating {} tasks", requests.size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(requests));
+    }
+
+    /**
+     * GET /api/v1/tasks?status=PENDING&amp;priority=HIGH&amp;type=&amp;incidentId=&amp;assignedTo=
+     * Returns all tasks matching the optional filters, ordered by ID; with no filters, every task.
+     * Prefer {@code /tasks/page} for large result sets.
+     *
+     * @param filter optional exact-match filters
+     * @return 200 OK with the matching tasks
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        log.debug("GET /tasks - fetching all tasks");
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<List<TaskResponse>> getAllTasks(TaskFilter filter) {
+        log.debug("GET /tasks - fetching tasks matching {}", filter);
+        return ResponseEntity.ok(taskService.getTasks(filter));
+    }
+
+    /**
+     * GET /api/v1/tasks/page?status=PENDING&amp;priority=HIGH&amp;limit=100&amp;after=2400
+     * Returns one keyset page of tasks matching the optional filters, ordered by ID.
+     * Pass the {@code nextAfter} of a page as {@code after} to read the next one.
+     *
+     * @param filter optional exact-match filters on status, priority, type, incidentId and assignedTo
+     * @param after  cursor from the previous page; omit for the first page
+     * @param limit  page size, 1 to {@value TaskService#MAX_PAGE_SIZE}
+     * @return 200 OK with the page and the next cursor, or 400 if the limit or cursor is out of range
+     */
+    @GetMapping("/page")
+    public ResponseEntity<TaskPage> getTaskPage(TaskFilter filter,
+                                                @RequestParam(required = false) Long after,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        log.debug("GET /tasks/page - after {} limit {} matching {}", after, limit, filter);
+        return ResponseEntity.ok(taskService.getTaskPage(filter, after, limit));
     }
 
     /**
@@ -0,0 +1,22 @@
+/*
+ * ActionRule is one entry of the action rule table. When its phrase occurs in a
+ * required action (ignoring case), its weight is added to the score of its task
+ * type and/or its priority. At least one of type and priority must be set.
+ */
+package com.disa.task_service.dto;
+
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionRule {
+    private String phrase;
+    private TaskType type;
+    private Priority priority;
+    private int weight = 1;
+}
@@ -0,0 +1,19 @@
+/*
+ * ActionRuleSet is the rule table used to classify assessment actions, as read from
+ * the action rules file. The defaults apply when no rule scores a type or priority.
+ */
+package com.disa.task_service.dto;
+
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskType;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ActionRuleSet {
+    private TaskType defaultType = TaskType.DEBRIS_REMOVAL;
+    private Priority defaultPriority = Priority.HIGH;
+    private List<ActionRule> rules = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+/*
+ * TaskFilter carries the optional query-string filters of the task listing endpoints.
+ * Each non-null field is matched exactly; a null field does not filter.
+ */
+package com.disa.task_service.dto;
+
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskStatus;
+import com.disa.task_service.entity.enums.TaskType;
+import lombok.Data;
+
+@Data
+public class TaskFilter {
+    private TaskStatus status;
+    private Priority priority;
+    private TaskType type;
+    private Long incidentId;
+    private Long assignedTo;
+}
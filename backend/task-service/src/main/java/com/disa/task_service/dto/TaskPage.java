@@ -0,0 +1,19 @@
+/*
+ * TaskPage DTO holding one keyset page of tasks ordered by ID.
+ * nextAfter is the cursor for the following page and is null on the last one.
+ */
+package com.disa.task_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+    private List<TaskResponse> items;
+    private Long nextAfter;
+}
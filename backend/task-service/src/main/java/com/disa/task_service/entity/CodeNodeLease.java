@@ -0,0 +1,48 @@
+package com.disa.task_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A lease on one CodeGenerator node ID, held by one replica at a time. The row outlives
+ * the lease: its end, or on release the last millisecond used, tells the next holder
+ * which timestamps it must not reuse. Rows are only written through the conditional
+ * updates of CodeNodeLeaseRepository.
+ *
+ * @author DISA Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "code_node_lease")
+public class CodeNodeLease {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    /** The random ID of the replica holding the lease. */
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    /** The epoch millisecond at which the lease runs out, or the last one used once released. */
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+
+    protected CodeNodeLease() {
+    }
+
+    public Integer getNodeId() {
+        return nodeId;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -2,6 +2,8 @@
  * Task entity representing a disaster response task assigned to field personnel.
  * Tracks the full lifecycle of a task from creation through assignment to completion,
  * including metadata such as type, priority, location, and incident association.
+ * The composite indexes end in the ID so filtered keyset pages are read in index order.
+ * IDs come from a pooled sequence so Hibernate can batch inserts.
  */
 package com.disa.task_service.entity;
 
@@ -17,14 +19,23 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_status_priority_id", columnList = "status, priority, id"),
+        @Index(name = "idx_task_status_type_id", columnList = "status, type, id"),
+        @Index(name = "idx_task_priority_id", columnList = "priority, id"),
+        @Index(name = "idx_task_incident_id", columnList = "incident_id, id"),
+        @Index(name = "idx_task_assigned_to_id", columnList = "assigned_to, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
+    @Column(unique = true)
     private String taskCode;
 
     @Enumerated(EnumType.STRING)
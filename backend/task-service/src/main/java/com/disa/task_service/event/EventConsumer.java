@@ -12,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -30,7 +32,8 @@ public class EventConsumer {
         log.info("Received assessment.completed event: {}", event);
 
         // Auto-create follow-up tasks based on required actions
-        taskService.createTasksFromAssessment(event.getPayload());
+        List<Long> ids = taskService.createTasksFromAssessment(event.getPayload());
+        log.info("Created {} tasks from assessment: {}", ids.size(), ids);
     }
 
     @RabbitListener(queues = RabbitMQConfig.PERSONNEL_STATUS_QUEUE)
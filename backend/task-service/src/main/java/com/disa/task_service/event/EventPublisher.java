@@ -1,7 +1,8 @@
 /*
  * EventPublisher is responsible for broadcasting task-related domain events
  * to the RabbitMQ topic exchange. Used when significant state changes occur,
- * such as task assignment, enabling other microservices to react accordingly.
+ * such as task creation (singly or in bulk), assignment and completion, enabling other microservices
+ * (for example the pending-task replica in personnel-service) to react accordingly.
  */
 package com.disa.task_service.event;
 
@@ -11,6 +12,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -18,6 +20,30 @@ public class EventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
 
+    /**
+     * Sends a {@code task.created} event for a newly created PENDING task.
+     *
+     * @param payload the created task data to include in the event
+     */
+    public void publishTaskCreated(TaskEvent.TaskPayload payload) {
+        publish(RabbitMQConfig.TASK_CREATED_KEY, payload);
+    }
+
+    /**
+     * Sends one {@code tasks.created} event for a batch of PENDING tasks created together,
+     * instead of one {@code task.created} event per task.
+     *
+     * @param payloads the created tasks, in creation order
+     */
+    public void publishTasksCreated(List<TaskEvent.TaskPayload> payloads) {
+        TaskEvent event = new TaskEvent();
+        event.setEventType(RabbitMQConfig.TASKS_CREATED_KEY);
+        event.setTimestamp(LocalDateTime.now());
+        event.setPayloads(payloads);
+
+        rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.TASKS_CREATED_KEY, event);
+    }
+
     /**
      * Wraps the given payload in a {@link TaskEvent} and sends it to the
      * {@code disaster.topic.exchange} with the {@code task.assigned} routing key.
@@ -25,11 +51,27 @@ public class EventPublisher {
      * @param payload the task assignment data to include in the event
      */
     public void publishTaskAssigned(TaskEvent.TaskPayload payload) {
+        publish(RabbitMQConfig.TASK_ASSIGNED_KEY, payload);
+    }
+
+    /**
+     * Sends a {@code task.completed} event once a task has been marked COMPLETED.
+     *
+     * @param payload the completed task data to include in the event
+     */
+    public void publishTaskCompleted(TaskEvent.TaskPayload payload) {
+        publish(RabbitMQConfig.TASK_COMPLETED_KEY, payload);
+    }
+
+    /**
+     * Wraps the payload in a {@link TaskEvent} whose event type equals the routing key.
+     */
+    private void publish(String routingKey, TaskEvent.TaskPayload payload) {
         TaskEvent event = new TaskEvent();
-        event.setEventType("task.assigned");
+        event.setEventType(routingKey);
         event.setTimestamp(LocalDateTime.now());
         event.setPayload(payload);
 
-        rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.TASK_ASSIGNED_KEY, event);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, routingKey, event);
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@
  * TaskEvent is the message envelope published to RabbitMQ when a task changes state.
  * Contains event metadata (type, timestamp) and a TaskPayload with task details
  * consumed by downstream microservices such as notification or personnel services.
+ * A tasks.created event carries every task created together in payloads instead,
+ * with payload left null.
  */
 package com.disa.task_service.event;
 
@@ -10,6 +12,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -18,15 +21,21 @@ public class TaskEvent {
     private String eventType;
     private LocalDateTime timestamp;
     private TaskPayload payload;
+    private List<TaskPayload> payloads;
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
     public static class TaskPayload {
+        private Long id;
         private String taskId;
+        private String title;
+        private String description;
         private String assignedTo;
         private String taskType;
         private String priority;
+        private Long incidentId;
         private String location;
+        private LocalDateTime createdAt;
     }
 }
\ No newline at end of file
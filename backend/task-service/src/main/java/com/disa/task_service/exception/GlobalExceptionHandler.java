@@ -8,6 +8,7 @@ package com.disa.task_service.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -56,6 +57,23 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(422, "Unprocessable Entity", e.getMessage(), LocalDateTime.now()));
     }
 
+    /**
+     * Handles {@link BindException} raised when query parameters such as an unknown status
+     * cannot be bound, and returns a 400 Bad Request response.
+     *
+     * @param e the binding failure
+     * @return structured 400 error response
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(BindException e) {
+        log.warn("Invalid request parameters: {}", e.getMessage());
+        String message = e.getFieldError() != null
+                ? "Invalid value for " + e.getFieldError().getField()
+                : "Invalid request parameters";
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(400, "Bad Request", message, LocalDateTime.now()));
+    }
+
     /**
      * Catch-all handler for unrecognised {@link RuntimeException} types.
      * Returns a 400 Bad Request response.
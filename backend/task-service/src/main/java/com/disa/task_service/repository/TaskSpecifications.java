@@ -0,0 +1,52 @@
+/*
+ * TaskSpecifications builds the JPA criteria for filtered task queries.
+ * Only the filters that are set become predicates, so each combination runs as its own
+ * plain equality query and can use the matching composite index on the task table.
+ */
+package com.disa.task_service.repository;
+
+import com.disa.task_service.dto.TaskFilter;
+import com.disa.task_service.entity.Task;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Matches the tasks that satisfy every set filter and, for keyset pages, come after a cursor.
+     *
+     * @param filter the filters; null fields are ignored
+     * @param after  only tasks with a greater ID match, or null for no cursor
+     * @return the specification
+     */
+    public static Specification<Task> matching(TaskFilter filter, Long after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getType() != null) {
+                predicates.add(cb.equal(root.get("type"), filter.getType()));
+            }
+            if (filter.getIncidentId() != null) {
+                predicates.add(cb.equal(root.get("incidentId"), filter.getIncidentId()));
+            }
+            if (filter.getAssignedTo() != null) {
+                predicates.add(cb.equal(root.get("assignedTo"), filter.getAssignedTo()));
+            }
+            if (after != null) {
+                predicates.add(cb.greaterThan(root.get("id"), after));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * ActionClassifier maps the free-text required actions of an assessment to a task type
+ * and priority using the weighted keyword rules of the action rules file. All rule
+ * phrases are compiled into one KeywordAutomaton, so an action is scanned once however
+ * many rules there are. Matching ignores case, and a rule counts once per action
+ * however often its phrase occurs. The highest-scoring type wins, ties going to the
+ * type declared first in TaskType; the highest-scoring priority wins, ties going to
+ * the more urgent one. The file is polled and recompiled when it changes; a file that
+ * fails to load is logged and the previous rules stay in use.
+ */
+package com.disa.task_service.service;
+
+import com.disa.task_service.dto.ActionRule;
+import com.disa.task_service.dto.ActionRuleSet;
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@Component
+public class ActionClassifier {
+
+    private static final TaskType[] TYPES = TaskType.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final Resource resource;
+    private final ObjectMapper objectMapper;
+
+    private volatile CompiledRules rules;
+    private long loadedModified;
+
+    /**
+     * The type and priority chosen for an action.
+     *
+     * @param type     the task type
+     * @param priority the task priority
+     */
+    public record Classification(TaskType type, Priority priority) {
+    }
+
+    /**
+     * Loads and compiles the rule table.
+     *
+     * @param resourceLoader resolves the rules location
+     * @param objectMapper   parses the rules file
+     * @param location       the rules file from {@code task.action-rules.location}, e.g.
+     *                       {@code file:/etc/disa/action-rules.json}
+     * @throws IllegalStateException if the rules cannot be loaded
+     */
+    public ActionClassifier(ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                            @Value("${task.action-rules.location:classpath:action-rules.json}") String location) {
+        this.resource = resourceLoader.getResource(location);
+        this.objectMapper = objectMapper;
+        try {
+            this.loadedModified = resource.lastModified();
+            this.rules = load();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load action rules from " + location, e);
+        }
+        log.info("Loaded {} action rules from {} ({} automaton states)",
+                rules.rules.size(), location, rules.automaton.states());
+    }
+
+    /**
+     * Classifies a required action.
+     *
+     * @param action the free-text action, e.g. "Evacuate trapped residents - URGENT"
+     * @return the best-scoring type and priority, or the rule table's defaults
+     */
+    public Classification classify(String action) {
+        CompiledRules current = rules;
+        int[] typeScores = new int[TYPES.length];
+        int[] priorityScores = new int[PRIORITIES.length];
+        boolean[] counted = new boolean[current.rules.size()];
+
+        current.automaton.match(action.toLowerCase(Locale.ROOT), index -> {
+            if (counted[index]) {
+                return;
+            }
+            counted[index] = true;
+            ActionRule rule = current.rules.get(index);
+            if (rule.getType() != null) {
+                typeScores[rule.getType().ordinal()] += rule.getWeight();
+            }
+            if (rule.getPriority() != null) {
+                priorityScores[rule.getPriority().ordinal()] += rule.getWeight();
+            }
+        });
+
+        TaskType type = current.defaultType;
+        int best = 0;
+        for (int i = 0; i < TYPES.length; i++) {
+            if (typeScores[i] > best) {
+                best = typeScores[i];
+                type = TYPES[i];
+            }
+        }
+        Priority priority = current.defaultPriority;
+        best = 0;
+        for (int i = PRIORITIES.length - 1; i >= 0; i--) {
+            if (priorityScores[i] > best) {
+                best = priorityScores[i];
+                priority = PRIORITIES[i];
+            }
+        }
+        return new Classification(type, priority);
+    }
+
+    /**
+     * Reloads the rules if the file's modification time has changed since the last load.
+     * Runs every {@code task.action-rules.reload-interval-ms} (default 30 seconds).
+     */
+    @Scheduled(fixedDelayString = "${task.action-rules.reload-interval-ms:30000}",
+            initialDelayString = "${task.action-rules.reload-interval-ms:30000}")
+    public synchronized void reloadIfChanged() {
+        long modified;
+        try {
+            modified = resource.lastModified();
+        } catch (IOException e) {
+            log.warn("Cannot check action rules {}: {}", resource, e.getMessage());
+            return;
+        }
+        if (modified == loadedModified) {
+            return;
+        }
+        loadedModified = modified;
+        try {
+            rules = load();
+            log.info("Reloaded {} action rules from {}", rules.rules.size(), resource);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Keeping previous action rules, {} is invalid: {}", resource, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads, validates and compiles the rules file.
+     *
+     * @throws IllegalArgumentException if a rule has no phrase, no type and priority, or a weight below 1
+     */
+    private CompiledRules load() throws IOException {
+        ActionRuleSet ruleSet;
+        try (InputStream in = resource.getInputStream()) {
+            ruleSet = objectMapper.readValue(in, ActionRuleSet.class);
+        }
+        if (ruleSet.getDefaultType() == null || ruleSet.getDefaultPriority() == null) {
+            throw new IllegalArgumentException("defaultType and defaultPriority are required");
+        }
+        List<ActionRule> rules = ruleSet.getRules() != null ? ruleSet.getRules() : List.of();
+        List<String> phrases = new ArrayList<>(rules.size());
+        for (ActionRule rule : rules) {
+            if (rule.getPhrase() == null || rule.getPhrase().isBlank()) {
+                throw new IllegalArgumentException("Rule without phrase: " + rule);
+            }
+            if (rule.getType() == null && rule.getPriority() == null) {
+                throw new IllegalArgumentException("Rule sets neither type nor priority: " + rule);
+            }
+            if (rule.getWeight() < 1) {
+                throw new IllegalArgumentException("Rule weight must be at least 1: " + rule);
+            }
+            phrases.add(rule.getPhrase().toLowerCase(Locale.ROOT));
+        }
+        return new CompiledRules(List.copyOf(rules), new KeywordAutomaton(phrases),
+                ruleSet.getDefaultType(), ruleSet.getDefaultPriority());
+    }
+
+    /**
+     * One immutable generation of the rule table, swapped in whole on reload so a
+     * classification never sees a mix of old and new rules.
+     */
+    private record CompiledRules(List<ActionRule> rules, KeywordAutomaton automaton,
+                                 TaskType defaultType, Priority defaultPriority) {
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * KeywordAutomaton is an Aho-Corasick matcher over a fixed set of keywords and phrases.
+ * It is built once from the rule table and then reports every keyword occurring in a
+ * text in a single left-to-right pass, so the cost of a match depends on the length of
+ * the text and the number of hits, not on how many keywords there are. Instances are
+ * immutable and safe to share between threads.
+ */
+package com.disa.task_service.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+
+    /** Outgoing edges per state: labels sorted ascending, with the target state at the same index. */
+    private final char[][] labels;
+    private final int[][] targets;
+    /** Longest proper suffix of each state that is also a state. */
+    private final int[] fail;
+    /** Keyword indexes ending at each state, including those inherited through failure links. */
+    private final int[][] outputs;
+
+    /**
+     * Builds the automaton. Keywords are matched exactly as given, so callers normalise
+     * case before building and before matching.
+     *
+     * @param keywords the keywords; each is reported by its index in this list
+     */
+    KeywordAutomaton(List<String> keywords) {
+        List<Map<Character, Integer>> edges = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+
+        for (int k = 0; k < keywords.size(); k++) {
+            int state = ROOT;
+            for (char c : keywords.get(k).toCharArray()) {
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                    edges.get(state).put(c, next);
+                }
+                state = next;
+            }
+            ends.get(state).add(k);
+        }
+
+        int size = edges.size();
+        labels = new char[size][];
+        targets = new int[size][];
+        for (int s = 0; s < size; s++) {
+            Map<Character, Integer> out = edges.get(s);
+            labels[s] = new char[out.size()];
+            targets[s] = new int[out.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : out.entrySet()) {
+                labels[s][i] = edge.getKey();
+                targets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Breadth-first, so a state's failure target is always finished before the state
+        fail = new int[size];
+        outputs = new int[size][];
+        outputs[ROOT] = toArray(ends.get(ROOT));
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] inherited = outputs[fail[state]];
+            int[] own = toArray(ends.get(state));
+            int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+            System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+            outputs[state] = merged;
+
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int f = fail[state];
+                int next;
+                while ((next = step(f, labels[state][i])) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = next >= 0 ? next : ROOT;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Reports the index of every keyword occurrence in the text, in order of where the
+     * occurrence ends. A keyword found several times is reported each time.
+     *
+     * @param text    the text to scan
+     * @param matches receives keyword indexes
+     */
+    void match(CharSequence text, IntConsumer matches) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = next >= 0 ? next : ROOT;
+            for (int keyword : outputs[state]) {
+                matches.accept(keyword);
+            }
+        }
+    }
+
+    /**
+     * @return the number of trie states, a measure of the automaton's size
+     */
+    int states() {
+        return fail.length;
+    }
+
+    private int step(int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -1,30 +1,37 @@
 /*
  * TaskServiceImpl is the primary implementation of TaskService, handling all
  * business logic for disaster response task management. Responsibilities include
- * creating, updating, assigning, and completing tasks, as well as publishing
- * RabbitMQ events on assignment and auto-generating tasks from assessment events.
+ * creating (singly or in bulk), updating, assigning, and completing tasks, as well as
+ * publishing RabbitMQ events on creation, assignment and completion, and auto-generating
+ * tasks from assessment events.
  */
 package com.disa.task_service.service;
 
 import com.disa.task_service.dto.AssignTaskRequest;
+import com.disa.task_service.dto.TaskFilter;
+import com.disa.task_service.dto.TaskPage;
 import com.disa.task_service.dto.TaskRequest;
 import com.disa.task_service.dto.TaskResponse;
 import com.disa.task_service.entity.Task;
-import com.disa.task_service.entity.enums.Priority;
 import com.disa.task_service.entity.enums.TaskStatus;
-import com.disa.task_service.entity.enums.TaskType;
 import com.disa.task_service.event.AssessmentEvent;
 import com.disa.task_service.event.EventPublisher;
 import com.disa.task_service.event.TaskEvent;
 import com.disa.task_service.exception.TaskAlreadyCompletedException;
 import com.disa.task_service.exception.TaskNotFoundException;
 import com.disa.task_service.repository.TaskRepository;
+import com.disa.task_service.repository.TaskSpecifications;
 import com.disa.task_service.service.interfaces.TaskService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,10 +42,12 @@ public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
     private final EventPublisher eventPublisher;
+    private final CodeGenerator codeGenerator;
+    private final ActionClassifier actionClassifier;
 
     /**
      * Creates a new task from the provided request, assigns a unique task code,
-     * and persists it with an initial status of PENDING.
+     * persists it with an initial status of PENDING and publishes a {@code task.created} event.
      *
      * @param request the task creation data
      * @return the saved task as a {@link TaskResponse}
@@ -46,21 +55,48 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public TaskResponse createTask(TaskRequest request) {
         log.info("Creating new task of type {} for incident {}", request.getType(), request.getIncidentId());
-        Task task = new Task();
-        task.setType(request.getType());
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setPriority(request.getPriority());
-        task.setIncidentId(request.getIncidentId());
-        task.setLocation(request.getLocation());
-        task.setStatus(TaskStatus.PENDING);
-        task.setTaskCode(generateTaskCode());
-
-        Task saved = taskRepository.save(task);
+        Task saved = taskRepository.save(newTask(request));
         log.debug("Task created with code {}", saved.getTaskCode());
+        eventPublisher.publishTaskCreated(mapToPayload(saved));
         return mapToResponse(saved);
     }
 
+    /**
+     * Creates all the tasks in one transaction. The rows are flushed together, so with IDs
+     * from the pooled sequence they go out as JDBC batches instead of one insert per task.
+     * A single {@code tasks.created} event listing every task is published once the
+     * transaction commits. The batch size is capped so one request cannot hold a
+     * transaction, and the event it publishes, open for an unbounded number of rows.
+     *
+     * @param requests the task creation data, at most {@link #MAX_BULK_SIZE}
+     * @return the IDs of the created tasks, in request order
+     * @throws IllegalArgumentException if there are more than {@link #MAX_BULK_SIZE} requests
+     */
+    @Override
+    @Transactional
+    public List<Long> createTasks(List<TaskRequest> requests) {
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("at most " + MAX_BULK_SIZE + " tasks can be created at once");
+        }
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        log.info("Creating {} tasks in bulk", requests.size());
+        List<Task> tasks = new ArrayList<>(requests.size());
+        for (TaskRequest request : requests) {
+            tasks.add(newTask(request));
+        }
+        List<Task> saved = taskRepository.saveAllAndFlush(tasks);
+
+        List<TaskEvent.TaskPayload> payloads = saved.stream()
+                .map(this::mapToPayload)
+                .collect(Collectors.toList());
+        afterCommit(() -> eventPublisher.publishTasksCreated(payloads));
+        return saved.stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns all tasks in the system mapped to their response representation.
      *
@@ -74,6 +110,50 @@ public class TaskServiceImpl implements TaskService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns every task matching the filters. Only the set filters become predicates, so
+     * the query can use the composite index for that combination.
+     *
+     * @param filter exact-match filters; null fields are ignored
+     * @return the matching tasks ordered by ID
+     */
+    @Override
+    public List<TaskResponse> getTasks(TaskFilter filter) {
+        log.debug("Fetching tasks matching {}", filter);
+        return taskRepository.findAll(TaskSpecifications.matching(filter, null), Sort.by("id")).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns one keyset page of tasks matching the filters. The page is read as the first
+     * {@code limit + 1} matching rows after the cursor in ID order, so it costs one query
+     * however deep the caller has scrolled, and the extra row tells whether another page follows.
+     *
+     * @param filter exact-match filters; null fields are ignored
+     * @param after  cursor from the previous page, or null for the first page
+     * @param limit  the page size, 1 to {@link #MAX_PAGE_SIZE}
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the limit or cursor is out of range
+     */
+    @Override
+    public TaskPage getTaskPage(TaskFilter filter, Long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (after != null && after < 0) {
+            throw new IllegalArgumentException("after must not be negative");
+        }
+        List<Task> tasks = taskRepository.findBy(TaskSpecifications.matching(filter, after),
+                query -> query.sortBy(Sort.by("id")).limit(limit + 1).all());
+        boolean hasMore = tasks.size() > limit;
+        List<Task> page = hasMore ? tasks.subList(0, limit) : tasks;
+        List<TaskResponse> items = page.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return new TaskPage(items, hasMore ? page.get(page.size() - 1).getId() : null);
+    }
+
     /**
      * Looks up a task by its database ID.
      *
@@ -139,20 +219,15 @@ public class TaskServiceImpl implements TaskService {
 
         Task saved = taskRepository.save(task);
 
-        TaskEvent.TaskPayload payload = new TaskEvent.TaskPayload();
-        payload.setTaskId(saved.getTaskCode());
-        payload.setAssignedTo(saved.getAssignedTo().toString());
-        payload.setTaskType(saved.getType().toString());
-        payload.setPriority(saved.getPriority().toString());
-        payload.setLocation(saved.getLocation());
-        eventPublisher.publishTaskAssigned(payload);
+        eventPublisher.publishTaskAssigned(mapToPayload(saved));
         log.debug("Published task.assigned event for task {}", saved.getTaskCode());
 
         return mapToResponse(saved);
     }
 
     /**
-     * Marks a task as COMPLETED and records the time of completion.
+     * Marks a task as COMPLETED, records the time of completion and publishes
+     * a {@code task.completed} event.
      *
      * @param id the ID of the task to complete
      * @return the updated task as a {@link TaskResponse}
@@ -173,6 +248,8 @@ public class TaskServiceImpl implements TaskService {
         task.setCompletedAt(LocalDateTime.now());
 
         Task saved = taskRepository.save(task);
+        eventPublisher.publishTaskCompleted(mapToPayload(saved));
+        log.debug("Published task.completed event for task {}", saved.getTaskCode());
         return mapToResponse(saved);
     }
 
@@ -192,40 +269,90 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Iterates over the required actions in the assessment payload and creates one task
-     * per action. Task type is inferred from keywords in the action string.
+     * Builds one task per required action in the assessment payload and creates them
+     * together through {@link #createTasks}. Type and priority come from the weighted
+     * keyword rules of the {@link ActionClassifier}.
      *
      * @param payload the assessment completion data including incident ID, location, and required actions
+     * @return the IDs of the created tasks
      */
     @Override
-    public void createTasksFromAssessment(AssessmentEvent.AssessmentPayload payload) {
+    @Transactional
+    public List<Long> createTasksFromAssessment(AssessmentEvent.AssessmentPayload payload) {
         log.info("Auto-generating {} tasks from assessment for incident {}",
                 payload.getRequiredActions().size(), payload.getIncidentId());
+        List<TaskRequest> requests = new ArrayList<>(payload.getRequiredActions().size());
         for (String action : payload.getRequiredActions()) {
+            ActionClassifier.Classification classification = actionClassifier.classify(action);
             TaskRequest request = new TaskRequest();
-            if (action.contains("rescue")) {
-                request.setType(TaskType.RESCUE_OPERATION);
-            } else if (action.contains("medical")) {
-                request.setType(TaskType.MEDICAL_AID);
-            } else {
-                request.setType(TaskType.DEBRIS_REMOVAL);
-            }
+            request.setType(classification.type());
             request.setTitle(action);
             request.setDescription("Auto-generated from assessment");
-            request.setPriority(Priority.HIGH);
+            request.setPriority(classification.priority());
             request.setIncidentId(payload.getIncidentId());
             request.setLocation(payload.getLocation());
-            createTask(request);
+            requests.add(request);
         }
+        return createTasks(requests);
     }
 
     /**
-     * Generates a unique task code using a TSK- prefix and the current epoch millisecond.
+     * Builds a new PENDING task with a fresh task code from the request fields.
      *
-     * @return a unique task code string
+     * @param request the task creation data
+     * @return the unsaved task
      */
-    private String generateTaskCode() {
-        return "TSK-" + System.currentTimeMillis();
+    private Task newTask(TaskRequest request) {
+        Task task = new Task();
+        task.setType(request.getType());
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setPriority(request.getPriority());
+        task.setIncidentId(request.getIncidentId());
+        task.setLocation(request.getLocation());
+        task.setStatus(TaskStatus.PENDING);
+        task.setTaskCode(codeGenerator.nextCode("TSK"));
+        return task;
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or straight away outside a
+     * transaction, so events never announce rows that were rolled back.
+     *
+     * @param action the action to run
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Maps a {@link Task} entity to the payload carried by task lifecycle events.
+     *
+     * @param task the entity to map
+     * @return the corresponding event payload
+     */
+    private TaskEvent.TaskPayload mapToPayload(Task task) {
+        TaskEvent.TaskPayload payload = new TaskEvent.TaskPayload();
+        payload.setId(task.getId());
+        payload.setTaskId(task.getTaskCode());
+        payload.setTitle(task.getTitle());
+        payload.setDescription(task.getDescription());
+        payload.setAssignedTo(task.getAssignedTo() != null ? task.getAssignedTo().toString() : null);
+        payload.setTaskType(task.getType() != null ? task.getType().toString() : null);
+        payload.setPriority(task.getPriority() != null ? task.getPriority().toString() : null);
+        payload.setIncidentId(task.getIncidentId());
+        payload.setLocation(task.getLocation());
+        payload.setCreatedAt(task.getCreatedAt());
+        return payload;
     }
 
     /**
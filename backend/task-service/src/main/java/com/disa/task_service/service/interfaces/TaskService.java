@@ -6,6 +6,8 @@
 package com.disa.task_service.service.interfaces;
 
 import com.disa.task_service.dto.AssignTaskRequest;
+import com.disa.task_service.dto.TaskFilter;
+import com.disa.task_service.dto.TaskPage;
 import com.disa.task_service.dto.TaskRequest;
 import com.disa.task_service.dto.TaskResponse;
 import com.disa.task_service.event.AssessmentEvent;
@@ -14,14 +16,35 @@ import java.util.List;
 
 public interface TaskService {
 
+    /**
+     * Largest page {@link #getTaskPage} will return.
+     */
+    int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Most tasks {@link #createTasks} will create in one call.
+     */
+    int MAX_BULK_SIZE = 1000;
+
     /**
      * Creates a new task and persists it with PENDING status.
+     * Publishes a {@code task.created} event to RabbitMQ.
      *
      * @param request the task data including type, title, priority, and location
      * @return the persisted task as a {@link TaskResponse}
      */
     TaskResponse createTask(TaskRequest request);
 
+    /**
+     * Creates several PENDING tasks in one transaction with batched inserts.
+     * Publishes a single {@code tasks.created} event listing every task after commit.
+     *
+     * @param requests the task data, one entry per task, at most {@code MAX_BULK_SIZE}
+     * @return the IDs of the created tasks, in request order
+     * @throws IllegalArgumentException if there are more than {@code MAX_BULK_SIZE} requests
+     */
+    List<Long> createTasks(List<TaskRequest> requests);
+
     /**
      * Retrieves all tasks currently stored in the system.
      *
@@ -29,6 +52,25 @@ public interface TaskService {
      */
     List<TaskResponse> getAllTasks();
 
+    /**
+     * Retrieves every task matching the filters, ordered by ID.
+     *
+     * @param filter exact-match filters on status, priority, type, incident and assignee; null fields are ignored
+     * @return the matching tasks as {@link TaskResponse} objects
+     */
+    List<TaskResponse> getTasks(TaskFilter filter);
+
+    /**
+     * Retrieves one keyset page of tasks matching the filters, ordered by ID.
+     *
+     * @param filter exact-match filters; null fields are ignored
+     * @param after  the {@code nextAfter} cursor of the previous page, or null for the first page
+     * @param limit  the page size, 1 to {@code MAX_PAGE_SIZE}
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the limit or cursor is out of range
+     */
+    TaskPage getTaskPage(TaskFilter filter, Long after, int limit);
+
     /**
      * Retrieves a single task by its database ID.
      *
@@ -62,6 +104,7 @@ public interface TaskService {
 
     /**
      * Marks a task as COMPLETED and records the completion timestamp.
+     * Publishes a {@code task.completed} event to RabbitMQ.
      *
      * @param id the ID of the task to complete
      * @return the updated task as a {@link TaskResponse}
@@ -79,11 +122,13 @@ public interface TaskService {
     void deleteTask(Long id);
 
     /**
-     * Auto-generates one task per required action from an assessment payload.
-     * Task types are inferred from action keywords (rescue → RESCUE_OPERATION,
-     * medical → MEDICAL_AID, otherwise → DEBRIS_REMOVAL).
+     * Auto-generates one task per required action from an assessment payload, created
+     * together through {@link #createTasks}.
+     * Task type and priority are scored from the weighted keyword rules of the action
+     * rules file, falling back to its defaults (DEBRIS_REMOVAL, HIGH) when nothing matches.
      *
      * @param payload the assessment data including incident ID, location, and required actions
+     * @return the IDs of the created tasks
      */
-    void createTasksFromAssessment(AssessmentEvent.AssessmentPayload payload);
+    List<Long> createTasksFromAssessment(AssessmentEvent.AssessmentPayload payload);
 }
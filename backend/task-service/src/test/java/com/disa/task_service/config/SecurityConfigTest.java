@@ -0,0 +1,84 @@
+/*
+ * SecurityConfigTest sends requests through the real security filter chain and JWT filter,
+ * with a mocked JwtService deciding the caller's role, to check who may create tasks.
+ */
+package com.disa.task_service.config;
+
+import com.disa.task_service.controller.TaskController;
+import com.disa.task_service.security.JwtService;
+import com.disa.task_service.service.interfaces.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskController.class)
+@Import(SecurityConfig.class)
+class SecurityConfigTest {
+
+    private static final String BULK = "[{\"title\":\"Evacuate\"}]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @Test
+    void createTasks_Responder_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(as("RESPONDER", post("/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content(BULK)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void createTasks_Volunteer_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(as("VOLUNTEER", post("/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content(BULK)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void createTasks_Coordinator_ShouldCreate() throws Exception {
+        when(taskService.createTasks(anyList())).thenReturn(List.of(1L));
+
+        mockMvc.perform(as("COORDINATOR", post("/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content(BULK)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void createTask_Responder_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(as("RESPONDER", post("/tasks").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Evacuate\"}")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(taskService);
+    }
+
+    /**
+     * Adds a bearer token that the mocked JwtService accepts as a user with the given role.
+     */
+    private MockHttpServletRequestBuilder as(String role, MockHttpServletRequestBuilder request) {
+        String token = role.toLowerCase() + "-token";
+        when(jwtService.isTokenValid(token)).thenReturn(true);
+        when(jwtService.extractUsername(token)).thenReturn(role.toLowerCase() + "@disa.test");
+        when(jwtService.extractRole(token)).thenReturn(role);
+        return request.header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * TaskControllerTest drives the task listing and bulk creation endpoints through MockMvc with the real
+ * GlobalExceptionHandler, checking request binding and the 400 responses for bad input.
+ */
+package com.disa.task_service.controller;
+
+import com.disa.task_service.dto.TaskFilter;
+import com.disa.task_service.dto.TaskPage;
+import com.disa.task_service.dto.TaskResponse;
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskStatus;
+import com.disa.task_service.exception.GlobalExceptionHandler;
+import com.disa.task_service.service.interfaces.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TaskService taskService;
+
+    @InjectMocks
+    private TaskController taskController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(taskController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getTaskPage_ShouldBindFiltersAndCursor() throws Exception {
+        TaskResponse task = new TaskResponse();
+        task.setId(42L);
+        when(taskService.getTaskPage(any(TaskFilter.class), eq(40L), eq(1)))
+                .thenReturn(new TaskPage(List.of(task), 42L));
+
+        mockMvc.perform(get("/tasks/page")
+                        .param("status", "PENDING").param("priority", "HIGH").param("incidentId", "7")
+                        .param("after", "40").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(42))
+                .andExpect(jsonPath("$.nextAfter").value(42));
+
+        ArgumentCaptor<TaskFilter> filter = ArgumentCaptor.forClass(TaskFilter.class);
+        verify(taskService).getTaskPage(filter.capture(), eq(40L), eq(1));
+        assertEquals(TaskStatus.PENDING, filter.getValue().getStatus());
+        assertEquals(Priority.HIGH, filter.getValue().getPriority());
+        assertEquals(7L, filter.getValue().getIncidentId());
+        assertNull(filter.getValue().getType());
+    }
+
+    @Test
+    void getTaskPage_LimitOutOfRange_ShouldReturn400() throws Exception {
+        when(taskService.getTaskPage(any(TaskFilter.class), isNull(), eq(0)))
+                .thenThrow(new IllegalArgumentException("limit must be between 1 and " + TaskService.MAX_PAGE_SIZE));
+
+        mockMvc.perform(get("/tasks/page").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("limit must be between 1 and " + TaskService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void createTasks_OverBulkLimit_ShouldReturn400() throws Exception {
+        when(taskService.createTasks(anyList()))
+                .thenThrow(new IllegalArgumentException("at most " + TaskService.MAX_BULK_SIZE + " tasks can be created at once"));
+
+        mockMvc.perform(post("/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content("[{\"title\":\"Evacuate\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("at most " + TaskService.MAX_BULK_SIZE + " tasks can be created at once"));
+    }
+
+    @Test
+    void createTasks_ShouldReturn201WithIds() throws Exception {
+        when(taskService.createTasks(anyList())).thenReturn(List.of(3L, 4L));
+
+        mockMvc.perform(post("/tasks/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"Evacuate\"},{\"title\":\"Clear road\"}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0]").value(3))
+                .andExpect(jsonPath("$[1]").value(4));
+    }
+
+    @Test
+    void getTaskPage_UnknownStatus_ShouldReturn400WithoutCallingService() throws Exception {
+        mockMvc.perform(get("/tasks/page").param("status", "LOST"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value for status"));
+
+        verifyNoInteractions(taskService);
+    }
+}
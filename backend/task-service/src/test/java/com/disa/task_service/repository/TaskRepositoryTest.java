@@ -0,0 +1,203 @@
+/*
+ * TaskRepositoryTest runs the filtered task queries against H2: every combination of
+ * TaskSpecifications filters must match exactly the tasks that satisfy all of them, and
+ * the keyset page must cut pages and hand out its cursor correctly at the boundaries.
+ */
+package com.disa.task_service.repository;
+
+import com.disa.task_service.dto.TaskFilter;
+import com.disa.task_service.dto.TaskPage;
+import com.disa.task_service.dto.TaskResponse;
+import com.disa.task_service.entity.Task;
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskStatus;
+import com.disa.task_service.entity.enums.TaskType;
+import com.disa.task_service.service.TaskServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private TaskServiceImpl taskService;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskServiceImpl(taskRepository, null, null, null);
+        tasks = new ArrayList<>();
+        int n = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            for (Priority priority : Priority.values()) {
+                for (TaskType type : TaskType.values()) {
+                    Task task = new Task();
+                    task.setTaskCode("TSK-" + n);
+                    task.setTitle("Task " + n);
+                    task.setStatus(status);
+                    task.setPriority(priority);
+                    task.setType(type);
+                    task.setIncidentId(n % 2 == 0 ? 10L : 20L);
+                    task.setAssignedTo(status == TaskStatus.PENDING ? null : 100L + n % 3);
+                    tasks.add(task);
+                    n++;
+                }
+            }
+        }
+        tasks = taskRepository.saveAllAndFlush(tasks);
+    }
+
+    private static TaskFilter filter(TaskStatus status, Priority priority, TaskType type, Long incidentId,
+                                     Long assignedTo) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        filter.setPriority(priority);
+        filter.setType(type);
+        filter.setIncidentId(incidentId);
+        filter.setAssignedTo(assignedTo);
+        return filter;
+    }
+
+    private List<Long> expected(TaskFilter filter, Long after) {
+        Predicate<Task> matches = task -> (filter.getStatus() == null || filter.getStatus() == task.getStatus())
+                && (filter.getPriority() == null || filter.getPriority() == task.getPriority())
+                && (filter.getType() == null || filter.getType() == task.getType())
+                && (filter.getIncidentId() == null || filter.getIncidentId().equals(task.getIncidentId()))
+                && (filter.getAssignedTo() == null || filter.getAssignedTo().equals(task.getAssignedTo()))
+                && (after == null || task.getId() > after);
+        return tasks.stream().filter(matches).map(Task::getId).sorted().collect(Collectors.toList());
+    }
+
+    private List<Long> actual(TaskFilter filter, Long after) {
+        return taskRepository.findAll(TaskSpecifications.matching(filter, after), Sort.by("id")).stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(TaskPage page) {
+        return page.getItems().stream().map(TaskResponse::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void matching_EveryFilterCombination_ShouldMatchExactlyTheTasksSatisfyingAll() {
+        TaskStatus[] statuses = {null, TaskStatus.PENDING, TaskStatus.IN_PROGRESS};
+        Priority[] priorities = {null, Priority.URGENT};
+        TaskType[] types = {null, TaskType.MEDICAL_AID};
+        Long[] incidents = {null, 10L};
+        Long[] assignees = {null, 101L};
+        int combinations = 0;
+        for (TaskStatus status : statuses) {
+            for (Priority priority : priorities) {
+                for (TaskType type : types) {
+                    for (Long incidentId : incidents) {
+                        for (Long assignedTo : assignees) {
+                            TaskFilter filter = filter(status, priority, type, incidentId, assignedTo);
+                            assertEquals(expected(filter, null), actual(filter, null), filter.toString());
+                            combinations++;
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(48, combinations);
+    }
+
+    @Test
+    void matching_NoFilters_ShouldMatchEveryTaskAfterCursor() {
+        TaskFilter none = new TaskFilter();
+        Long middle = tasks.get(tasks.size() / 2).getId();
+
+        assertEquals(tasks.size(), actual(none, null).size());
+        assertEquals(expected(none, middle), actual(none, middle));
+        assertFalse(actual(none, middle).contains(middle));
+    }
+
+    @Test
+    void matching_NoTaskSatisfiesAll_ShouldMatchNothing() {
+        // Pending tasks are never assigned
+        assertTrue(actual(filter(TaskStatus.PENDING, null, null, null, 101L), null).isEmpty());
+    }
+
+    @Test
+    void getTaskPage_EmptyResult_ShouldHaveNoItemsAndNoCursor() {
+        TaskPage page = taskService.getTaskPage(filter(TaskStatus.PENDING, null, null, null, 101L), null, 10);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextAfter());
+    }
+
+    @Test
+    void getTaskPage_ExactlyLimitRows_ShouldHaveNoCursor() {
+        TaskFilter urgentRescue = filter(null, Priority.URGENT, TaskType.RESCUE_OPERATION, null, null);
+        List<Long> all = expected(urgentRescue, null);
+
+        TaskPage page = taskService.getTaskPage(urgentRescue, null, all.size());
+
+        assertEquals(all, ids(page));
+        assertNull(page.getNextAfter());
+    }
+
+    @Test
+    void getTaskPage_LimitPlusOneRows_ShouldReturnLimitAndCursorToLastItem() {
+        TaskFilter urgentRescue = filter(null, Priority.URGENT, TaskType.RESCUE_OPERATION, null, null);
+        List<Long> all = expected(urgentRescue, null);
+        int limit = all.size() - 1;
+
+        TaskPage first = taskService.getTaskPage(urgentRescue, null, limit);
+        assertEquals(all.subList(0, limit), ids(first));
+        assertEquals(all.get(limit - 1), first.getNextAfter());
+
+        TaskPage last = taskService.getTaskPage(urgentRescue, first.getNextAfter(), limit);
+        assertEquals(List.of(all.get(limit)), ids(last));
+        assertNull(last.getNextAfter());
+    }
+
+    @Test
+    void getTaskPage_ScrollingByCursor_ShouldVisitEveryMatchOnce() {
+        TaskFilter inProgress = filter(TaskStatus.IN_PROGRESS, null, null, null, null);
+        List<Long> visited = new ArrayList<>();
+        Long after = null;
+        int pages = 0;
+        do {
+            TaskPage page = taskService.getTaskPage(inProgress, after, 5);
+            visited.addAll(ids(page));
+            after = page.getNextAfter();
+            pages++;
+        } while (after != null);
+
+        assertEquals(expected(inProgress, null), visited);
+        assertEquals((visited.size() + 4) / 5, pages);
+    }
+
+    @Test
+    void getTaskPage_CursorAfterLastTask_ShouldBeEmpty() {
+        Long lastId = tasks.get(tasks.size() - 1).getId();
+
+        TaskPage page = taskService.getTaskPage(new TaskFilter(), lastId, 10);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextAfter());
+    }
+
+    @Test
+    void getTaskPage_LimitOrCursorOutOfRange_ShouldThrow() {
+        TaskFilter none = new TaskFilter();
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskPage(none, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTaskPage(none, null, TaskServiceImpl.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskPage(none, -1L, 10));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * ActionClassifierTest covers scoring with the shipped rule table and with small
+ * tables written to a temporary file: case folding, one count per rule, the
+ * non-urgent override, tie-breaking and reloading a changed or invalid file.
+ */
+package com.disa.task_service.service;
+
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionClassifierTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void classify_ShippedRules_ShouldScoreTypeAndPriority() {
+        ActionClassifier classifier = classifier("classpath:action-rules.json");
+
+        assertEquals(classification(TaskType.RESCUE_OPERATION, Priority.URGENT),
+                classifier.classify("Evacuate trapped residents - URGENT"));
+        assertEquals(classification(TaskType.DEBRIS_REMOVAL, Priority.MEDIUM),
+                classifier.classify("Clear road to the shelter when possible"));
+        assertEquals(classification(TaskType.MEDICAL_AID, Priority.HIGH),
+                classifier.classify("Set up triage at the school"));
+    }
+
+    @Test
+    void classify_ShippedRules_ShouldWeighTypesRatherThanPreferRescue() {
+        ActionClassifier classifier = classifier("classpath:action-rules.json");
+
+        // medical 10 + injur 8 outweighs rescue 10
+        assertEquals(TaskType.MEDICAL_AID, classifier.classify("medical rescue for injured").type());
+        assertEquals(TaskType.RESCUE_OPERATION, classifier.classify("medical rescue").type());
+    }
+
+    @Test
+    void classify_NoRuleMatches_ShouldUseDefaults() {
+        ActionClassifier classifier = classifier("classpath:action-rules.json");
+
+        assertEquals(classification(TaskType.DEBRIS_REMOVAL, Priority.HIGH),
+                classifier.classify("Distribute blankets"));
+        assertEquals(classification(TaskType.DEBRIS_REMOVAL, Priority.HIGH), classifier.classify(""));
+    }
+
+    @Test
+    void classify_ShouldIgnoreCaseOfActionAndPhrase() throws IOException {
+        ActionClassifier classifier = classifier(rules("""
+                { "phrase": "TRIAGE", "type": "MEDICAL_AID", "weight": 5 },
+                { "phrase": "urgent", "priority": "URGENT", "weight": 5 }
+                """));
+
+        assertEquals(classification(TaskType.MEDICAL_AID, Priority.URGENT), classifier.classify("triage - URGENT"));
+        assertEquals(classification(TaskType.MEDICAL_AID, Priority.URGENT), classifier.classify("TrIaGe UrGeNt"));
+    }
+
+    @Test
+    void classify_NonUrgent_ShouldOutweighTheUrgentItContains() {
+        ActionClassifier classifier = classifier("classpath:action-rules.json");
+
+        // "non-urgent" also contains "urgent": LOW 20 against URGENT 10
+        assertEquals(Priority.LOW, classifier.classify("Non-urgent debris check").priority());
+        assertEquals(Priority.URGENT, classifier.classify("Urgent debris check").priority());
+        // a second urgent keyword tips it back: URGENT 10 + 10 against LOW 20 is a tie, won by URGENT
+        assertEquals(Priority.URGENT, classifier.classify("non-urgent, immediate").priority());
+    }
+
+    @Test
+    void classify_RepeatedPhrase_ShouldCountOnce() throws IOException {
+        ActionClassifier classifier = classifier(rules("""
+                { "phrase": "rescue", "type": "RESCUE_OPERATION", "weight": 10 },
+                { "phrase": "medical", "type": "MEDICAL_AID", "weight": 15 }
+                """));
+
+        assertEquals(TaskType.MEDICAL_AID, classifier.classify("rescue rescue rescue medical").type());
+    }
+
+    @Test
+    void classify_Ties_ShouldGoToFirstTypeAndMostUrgentPriority() throws IOException {
+        ActionClassifier classifier = classifier(rules("""
+                { "phrase": "alpha", "type": "DEBRIS_REMOVAL", "weight": 5 },
+                { "phrase": "beta", "type": "MEDICAL_AID", "weight": 5 },
+                { "phrase": "slow", "priority": "LOW", "weight": 5 },
+                { "phrase": "soon", "priority": "MEDIUM", "weight": 5 }
+                """));
+
+        assertEquals(classification(TaskType.MEDICAL_AID, Priority.MEDIUM), classifier.classify("alpha beta slow soon"));
+        assertEquals(classification(TaskType.MEDICAL_AID, Priority.MEDIUM), classifier.classify("soon slow beta alpha"));
+    }
+
+    @Test
+    void reloadIfChanged_ValidFile_ShouldSwapInNewRules() throws IOException {
+        Path file = write("""
+                { "phrase": "flood", "type": "RESCUE_OPERATION", "weight": 5 }
+                """);
+        ActionClassifier classifier = classifier("file:" + file);
+        assertEquals(TaskType.RESCUE_OPERATION, classifier.classify("flood").type());
+
+        rewrite(file, table("""
+                { "phrase": "flood", "type": "MEDICAL_AID", "weight": 5 }
+                """));
+        classifier.reloadIfChanged();
+
+        assertEquals(TaskType.MEDICAL_AID, classifier.classify("flood").type());
+    }
+
+    @Test
+    void reloadIfChanged_InvalidFile_ShouldKeepPreviousRules() throws IOException {
+        Path file = write("""
+                { "phrase": "flood", "type": "RESCUE_OPERATION", "weight": 5 }
+                """);
+        ActionClassifier classifier = classifier("file:" + file);
+
+        rewrite(file, "{ \"rules\": [ not json");
+        classifier.reloadIfChanged();
+        assertEquals(TaskType.RESCUE_OPERATION, classifier.classify("flood").type());
+
+        rewrite(file, table("""
+                { "phrase": "flood", "type": "MEDICAL_AID", "weight": 0 }
+                """));
+        classifier.reloadIfChanged();
+        assertEquals(TaskType.RESCUE_OPERATION, classifier.classify("flood").type());
+    }
+
+    @Test
+    void constructor_InvalidFile_ShouldFail() throws IOException {
+        Path file = write("""
+                { "type": "RESCUE_OPERATION", "weight": 5 }
+                """);
+
+        assertThrows(IllegalStateException.class, () -> classifier("file:" + file));
+        assertThrows(IllegalStateException.class, () -> classifier("file:" + dir.resolve("missing.json")));
+    }
+
+    private ActionClassifier classifier(String location) {
+        return new ActionClassifier(new DefaultResourceLoader(), new ObjectMapper(), location);
+    }
+
+    private String rules(String rules) throws IOException {
+        return "file:" + write(rules);
+    }
+
+    private Path write(String rules) throws IOException {
+        Path file = Files.createTempFile(dir, "action-rules", ".json");
+        Files.writeString(file, table(rules));
+        return file;
+    }
+
+    /**
+     * Replaces the file's content and moves its modification time forward, so the
+     * change is seen even when the file system has coarse timestamps.
+     */
+    private static void rewrite(Path file, String content) throws IOException {
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        Files.writeString(file, content);
+        assertTrue(file.toFile().setLastModified(modified + 2000));
+    }
+
+    private static String table(String rules) {
+        return "{ \"defaultType\": \"DEBRIS_REMOVAL\", \"defaultPriority\": \"HIGH\", \"rules\": [" + rules + "] }";
+    }
+
+    private static ActionClassifier.Classification classification(TaskType type, Priority priority) {
+        return new ActionClassifier.Classification(type, priority);
+    }
+}
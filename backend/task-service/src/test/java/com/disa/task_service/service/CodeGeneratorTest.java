@@ -0,0 +1,153 @@
+/*
+ * CodeGeneratorTest checks that IDs increase on one node, roll over to the next
+ * millisecond when the sequence is used up or the clock steps back, differ between
+ * nodes, and never reuse a millisecond an earlier holder of the node ID used.
+ */
+package com.disa.task_service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeGeneratorTest {
+
+    private static final long NOW = CodeGenerator.EPOCH_MILLIS + 1_000_000;
+
+    @Test
+    void nextId_ShouldIncreaseWithinAndAcrossMilliseconds() {
+        AtomicLong clock = new AtomicLong(NOW);
+        CodeGenerator generator = new CodeGenerator(1, clock::get);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 100 == 0) {
+                clock.incrementAndGet();
+            }
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void nextId_ConcurrentCallers_ShouldGetDistinctIds() throws InterruptedException {
+        CodeGenerator generator = new CodeGenerator(1, () -> NOW);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(20_000, ids.size());
+    }
+
+    @Test
+    void nextId_SequenceUsedUp_ShouldMoveToNextMillisecond() {
+        CodeGenerator generator = new CodeGenerator(3, () -> NOW);
+
+        long id = 0;
+        for (int i = 0; i < 4096; i++) {
+            id = generator.nextId();
+        }
+        assertEquals(NOW, millis(id));
+        assertEquals(4095, sequence(id));
+
+        long overflow = generator.nextId();
+        assertEquals(NOW + 1, millis(overflow));
+        assertEquals(0, sequence(overflow));
+        assertEquals(3, node(overflow));
+    }
+
+    @Test
+    void nextId_ClockStepsBack_ShouldKeepIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        CodeGenerator generator = new CodeGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        clock.set(NOW - 5_000);
+        long after = generator.nextId();
+
+        assertTrue(after > before);
+        assertEquals(NOW, millis(after));
+        assertEquals(1, sequence(after));
+    }
+
+    @Test
+    void nextId_DifferentNodes_ShouldNeverCollide() {
+        CodeGenerator first = new CodeGenerator(0, () -> NOW);
+        CodeGenerator second = new CodeGenerator(CodeGenerator.MAX_NODE_ID, () -> NOW);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            long a = first.nextId();
+            long b = second.nextId();
+            assertEquals(0, node(a));
+            assertEquals(CodeGenerator.MAX_NODE_ID, node(b));
+            assertTrue(ids.add(a));
+            assertTrue(ids.add(b));
+        }
+    }
+
+    @Test
+    void constructor_NodeIdOutOfRange_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new CodeGenerator(-1, () -> NOW));
+        assertThrows(IllegalArgumentException.class, () -> new CodeGenerator(CodeGenerator.MAX_NODE_ID + 1, () -> NOW));
+    }
+
+    @Test
+    void constructor_ClockBehindEarlierHolder_ShouldWaitAndNotReuseItsMilliseconds() {
+        // A clock that is 3 ms behind and advances 1 ms per reading
+        AtomicLong clock = new AtomicLong(NOW - 3);
+        CodeGenerator generator = new CodeGenerator(1, clock::getAndIncrement, NOW);
+
+        assertTrue(clock.get() > NOW);
+        assertTrue(millis(generator.nextId()) > NOW);
+    }
+
+    @Test
+    void constructor_ClockFarBehindEarlierHolder_ShouldFail() {
+        assertThrows(IllegalStateException.class,
+                () -> new CodeGenerator(1, () -> NOW - 60_000, NOW));
+    }
+
+    @Test
+    void nextCode_ShouldBePrefixedAndSortInIssueOrder() {
+        AtomicLong clock = new AtomicLong(NOW);
+        CodeGenerator generator = new CodeGenerator(7, clock::getAndIncrement);
+
+        String previous = "";
+        for (int i = 0; i < 100; i++) {
+            String code = generator.nextCode("TSK");
+            assertTrue(code.matches("TSK-[0-9A-HJKMNP-TV-Z]{13}"), code);
+            assertTrue(code.compareTo(previous) > 0);
+            previous = code;
+        }
+    }
+
+    private static long millis(long id) {
+        return (id >>> (CodeGenerator.NODE_BITS + CodeGenerator.SEQUENCE_BITS)) + CodeGenerator.EPOCH_MILLIS;
+    }
+
+    private static long node(long id) {
+        return (id >>> CodeGenerator.SEQUENCE_BITS) & CodeGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequence(long id) {
+        return id & ((1 << CodeGenerator.SEQUENCE_BITS) - 1);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * KeywordAutomatonTest checks the Aho-Corasick matcher on overlapping and nested
+ * keywords, and cross-checks it against a brute-force scan on random input.
+ */
+package com.disa.task_service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordAutomatonTest {
+
+    private static final List<String> HE_SHE_HIS_HERS = List.of("he", "she", "his", "hers");
+
+    @Test
+    void match_OverlappingAndSuffixKeywords_ShouldReportEveryOccurrenceByEndPosition() {
+        KeywordAutomaton automaton = new KeywordAutomaton(HE_SHE_HIS_HERS);
+
+        // "his" ends at 3, "she" and its suffix "he" at 5, "hers" at 7
+        assertEquals(List.of(2, 1, 0, 3), matches(automaton, "ahishers"));
+        assertEquals(List.of(1, 0, 3), matches(automaton, "ushers"));
+    }
+
+    @Test
+    void match_RepeatedKeyword_ShouldReportEachOccurrence() {
+        KeywordAutomaton automaton = new KeywordAutomaton(HE_SHE_HIS_HERS);
+
+        assertEquals(List.of(0, 0, 0), matches(automaton, "hehehe"));
+    }
+
+    @Test
+    void match_KeywordIsPrefixOfAnother_ShouldReportBoth() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("rescue", "rescuer", "cue"));
+
+        assertEquals(List.of(0, 2, 1), matches(automaton, "rescuer"));
+    }
+
+    @Test
+    void match_NoKeywordPresent_ShouldReportNothing() {
+        KeywordAutomaton automaton = new KeywordAutomaton(HE_SHE_HIS_HERS);
+
+        assertEquals(List.of(), matches(automaton, "xyz"));
+        assertEquals(List.of(), matches(automaton, ""));
+    }
+
+    @Test
+    void match_IsCaseSensitive() {
+        KeywordAutomaton automaton = new KeywordAutomaton(HE_SHE_HIS_HERS);
+
+        assertEquals(List.of(), matches(automaton, "SHE"));
+    }
+
+    @Test
+    void states_ShouldShareCommonPrefixes() {
+        assertEquals(1, new KeywordAutomaton(List.of()).states());
+        // root, h, he, her, hers, s, sh, she, hi, his
+        assertEquals(10, new KeywordAutomaton(HE_SHE_HIS_HERS).states());
+    }
+
+    @Test
+    void match_RandomInput_ShouldAgreeWithBruteForce() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int k = 0; k < 1 + random.nextInt(8); k++) {
+                keywords.add(randomString(random, 1 + random.nextInt(4)));
+            }
+            String text = randomString(random, random.nextInt(40));
+            KeywordAutomaton automaton = new KeywordAutomaton(keywords);
+
+            int[] counts = new int[keywords.size()];
+            automaton.match(text, k -> counts[k]++);
+
+            for (int k = 0; k < keywords.size(); k++) {
+                assertEquals(occurrences(text, keywords.get(k)), counts[k],
+                        () -> "keywords " + keywords + " in " + text);
+            }
+        }
+    }
+
+    private static List<Integer> matches(KeywordAutomaton automaton, String text) {
+        List<Integer> matches = new ArrayList<>();
+        automaton.match(text, matches::add);
+        return matches;
+    }
+
+    private static int occurrences(String text, String keyword) {
+        int count = 0;
+        for (int i = text.indexOf(keyword); i >= 0; i = text.indexOf(keyword, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            s.append((char) ('a' + random.nextInt(3)));
+        }
+        return s.toString();
+    }
+}
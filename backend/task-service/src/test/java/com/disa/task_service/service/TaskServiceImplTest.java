@@ -0,0 +1,163 @@
+/*
+ * TaskServiceImplTest covers bulk task creation: the tasks.created event is published
+ * once and only after the transaction commits, IDs come back in request order, and
+ * oversized batches are rejected before anything is saved.
+ */
+package com.disa.task_service.service;
+
+import com.disa.task_service.dto.TaskRequest;
+import com.disa.task_service.entity.Task;
+import com.disa.task_service.entity.enums.Priority;
+import com.disa.task_service.entity.enums.TaskType;
+import com.disa.task_service.event.EventPublisher;
+import com.disa.task_service.event.TaskEvent;
+import com.disa.task_service.repository.TaskRepository;
+import com.disa.task_service.service.interfaces.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private CodeGenerator codeGenerator;
+
+    @Mock
+    private ActionClassifier actionClassifier;
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void createTasks_Committed_ShouldPublishOneEventAfterCommit() {
+        givenSavedWithIds(30L, 20L, 10L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        List<Long> ids = taskService.createTasks(requests("Evacuate", "Clear road", "Deliver water"));
+
+        verify(eventPublisher, never()).publishTasksCreated(anyList());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations().forEach(
+                s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskEvent.TaskPayload>> payloads = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher, times(1)).publishTasksCreated(payloads.capture());
+        verifyNoMoreInteractions(eventPublisher);
+        assertEquals(List.of(30L, 20L, 10L), ids);
+        assertEquals(List.of(30L, 20L, 10L), payloads.getValue().stream().map(TaskEvent.TaskPayload::getId).toList());
+        assertEquals(List.of("Evacuate", "Clear road", "Deliver water"),
+                payloads.getValue().stream().map(TaskEvent.TaskPayload::getTitle).toList());
+    }
+
+    @Test
+    void createTasks_RolledBack_ShouldNotPublish() {
+        givenSavedWithIds(1L, 2L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        taskService.createTasks(requests("Evacuate", "Clear road"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(
+                s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createTasks_OutsideTransaction_ShouldPublishImmediately() {
+        givenSavedWithIds(5L);
+
+        List<Long> ids = taskService.createTasks(requests("Evacuate"));
+
+        assertEquals(List.of(5L), ids);
+        verify(eventPublisher).publishTasksCreated(argThat(payloads -> payloads.size() == 1));
+    }
+
+    @Test
+    void createTasks_Empty_ShouldSaveAndPublishNothing() {
+        assertEquals(List.of(), taskService.createTasks(List.of()));
+
+        verifyNoInteractions(taskRepository, eventPublisher);
+    }
+
+    @Test
+    void createTasks_AtLimit_ShouldSaveAll() {
+        Long[] ids = new Long[TaskService.MAX_BULK_SIZE];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (long) i + 1;
+        }
+        givenSavedWithIds(ids);
+
+        assertEquals(TaskService.MAX_BULK_SIZE, taskService.createTasks(
+                Collections.nCopies(TaskService.MAX_BULK_SIZE, request("Evacuate"))).size());
+    }
+
+    @Test
+    void createTasks_OverLimit_ShouldThrowWithoutSaving() {
+        List<TaskRequest> requests = Collections.nCopies(TaskService.MAX_BULK_SIZE + 1, request("Evacuate"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> taskService.createTasks(requests));
+
+        assertTrue(e.getMessage().contains(String.valueOf(TaskService.MAX_BULK_SIZE)));
+        verifyNoInteractions(taskRepository, eventPublisher, codeGenerator);
+    }
+
+    /**
+     * Makes saveAllAndFlush assign the given IDs to the tasks in the order they are passed.
+     */
+    private void givenSavedWithIds(Long... ids) {
+        when(codeGenerator.nextCode("TSK")).thenReturn("TSK-1");
+        when(taskRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(ids[i]);
+            }
+            return tasks;
+        });
+    }
+
+    private static List<TaskRequest> requests(String... titles) {
+        List<TaskRequest> requests = new ArrayList<>();
+        for (String title : titles) {
+            requests.add(request(title));
+        }
+        return requests;
+    }
+
+    private static TaskRequest request(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setType(TaskType.RESCUE_OPERATION);
+        request.setTitle(title);
+        request.setPriority(Priority.HIGH);
+        request.setIncidentId(7L);
+        return request;
+    }
+}
@@ -1,5 +1,14 @@
 import axios from 'axios';
-import type { Person, PersonRequest, TaskDto, TaskAssignment, AssignmentHistory } from '../types/personnel.types';
+import type {
+  Person,
+  PersonFilter,
+  PersonPage,
+  PersonRequest,
+  PersonStatusCounts,
+  TaskDto,
+  TaskAssignment,
+  AssignmentHistory,
+} from '../types/personnel.types';
 
 const personnelHttp = axios.create({
   baseURL: import.meta.env.VITE_PERSONNEL_SERVICE_URL || 'http://localhost:8084',
@@ -36,11 +45,29 @@ export const personnelApi = {
     return response.data;
   },
 
+  async getPage(filter: PersonFilter = {}, after?: number, limit = 50): Promise<PersonPage> {
+    const response = await personnelHttp.get<PersonPage>(`${PERSON_BASE}/page`, {
+      params: { ...filter, after, limit },
+    });
+    return response.data;
+  },
+
+  async getStatusCounts(): Promise<PersonStatusCounts> {
+    const response = await personnelHttp.get<PersonStatusCounts>(`${PERSON_BASE}/status-counts`);
+    return response.data;
+  },
+
   async getById(id: number): Promise<Person> {
     const response = await personnelHttp.get<Person>(`${PERSON_BASE}/${id}`);
     return response.data;
   },
 
+  // The server answers an unchanged profile with 304; the browser cache revalidates it via ETag
+  async getProfile(id: number): Promise<Person> {
+    const response = await personnelHttp.get<Person>(`${PERSON_BASE}/${id}/profile`);
+    return response.data;
+  },
+
   async create(data: PersonRequest): Promise<Person[]> {
     const response = await personnelHttp.post<Person[]>(PERSON_BASE, [data]);
     return response.data;
@@ -6,20 +6,35 @@ interface PersonnelDetailProps {
   onEdit: () => void;
   onDelete: () => void;
   canManage: boolean;
+  onGetProfile: (personId: number) => Promise<Person>;
   onGetAssignmentHistory: (personId: number) => Promise<AssignmentHistory[]>;
   onCompleteAssignment: (assignmentId: number) => Promise<void>;
 }
 
 export function PersonnelDetail({
-  person,
+  person: summary,
   onEdit,
   onDelete,
   canManage,
+  onGetProfile,
   onGetAssignmentHistory,
   onCompleteAssignment,
 }: PersonnelDetailProps) {
   const [assignmentHistory, setAssignmentHistory] = useState<AssignmentHistory[]>([]);
   const [loadingHistory, setLoadingHistory] = useState(false);
+  const [profile, setProfile] = useState<Person | null>(null);
+
+  // List rows carry skills only; show the full profile once it has loaded
+  const person = profile && profile.id === summary.id ? profile : summary;
+
+  useEffect(() => {
+    let cancelled = false;
+    onGetProfile(summary.id)
+      .then((data) => { if (!cancelled) setProfile(data); })
+      .catch(() => { if (!cancelled) setProfile(null); });
+    return () => { cancelled = true; };
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [summary.id, summary.updatedAt]);
 
   useEffect(() => {
     let cancelled = false;
@@ -12,6 +12,7 @@ interface PersonnelListProps {
   onMatchAllPending: () => Promise<TaskAssignment[]>;
   onGetPendingTasks: () => Promise<TaskDto[]>;
   onGetActiveAssignments: (personId: number) => Promise<AssignmentHistory[]>;
+  onGetProfile: (personId: number) => Promise<Person>;
   onGetAssignmentHistory: (personId: number) => Promise<AssignmentHistory[]>;
   onCompleteAssignment: (assignmentId: number) => Promise<AssignmentHistory>;
   onRefresh: () => void | Promise<void>;
@@ -25,6 +26,7 @@ export function PersonnelList({
   onMatchAllPending,
   onGetPendingTasks,
   onGetActiveAssignments,
+  onGetProfile,
   onGetAssignmentHistory,
   onCompleteAssignment,
   onRefresh,
@@ -306,6 +308,7 @@ export function PersonnelList({
             onEdit={() => onEdit(selected)}
             onDelete={() => onDelete(selected.id)}
             canManage={canCreate}
+            onGetProfile={onGetProfile}
             onGetAssignmentHistory={onGetAssignmentHistory}
             onCompleteAssignment={handleCompleteAssignment}
           />
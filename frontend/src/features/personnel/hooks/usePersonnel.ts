@@ -1,29 +1,69 @@
 import { useCallback, useEffect, useRef, useState } from 'react';
 import { personnelApi } from '../api/personnelApi';
-import type { Person, PersonRequest, TaskDto, TaskAssignment, AssignmentHistory } from '../types/personnel.types';
+import type {
+  Person,
+  PersonFilter,
+  PersonRequest,
+  PersonStatusCounts,
+  TaskDto,
+  TaskAssignment,
+  AssignmentHistory,
+} from '../types/personnel.types';
+
+const PAGE_SIZE = 50;
 
 export function usePersonnel() {
   const [personnel, setPersonnel] = useState<Person[]>([]);
+  const [statusCounts, setStatusCounts] = useState<PersonStatusCounts>({});
+  const [filter, setFilter] = useState<PersonFilter>({});
+  const [nextAfter, setNextAfter] = useState<number | null>(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const isInitialLoad = useRef(true);
 
+  const fetchStatusCounts = useCallback(async () => {
+    try {
+      setStatusCounts(await personnelApi.getStatusCounts());
+    } catch {
+      // Counts are informational; keep the last known values
+    }
+  }, []);
+
   const fetchPersonnel = useCallback(async () => {
     // Only show loading spinner on initial load, not on refetch
     if (isInitialLoad.current) {
       setLoading(true);
     }
     setError(null);
+    fetchStatusCounts();
     try {
-      const data = await personnelApi.getAll();
-      setPersonnel(Array.isArray(data) ? data : []);
+      const page = await personnelApi.getPage(filter, undefined, PAGE_SIZE);
+      setPersonnel(Array.isArray(page.items) ? page.items : []);
+      setNextAfter(page.nextAfter ?? null);
     } catch {
       setError('Failed to load personnel');
     } finally {
       setLoading(false);
       isInitialLoad.current = false;
     }
-  }, []);
+  }, [filter, fetchStatusCounts]);
+
+  const loadMore = useCallback(async () => {
+    if (nextAfter === null) {
+      return;
+    }
+    setLoadingMore(true);
+    try {
+      const page = await personnelApi.getPage(filter, nextAfter, PAGE_SIZE);
+      setPersonnel((prev) => [...prev, ...(page.items ?? [])]);
+      setNextAfter(page.nextAfter ?? null);
+    } catch {
+      setError('Failed to load more personnel');
+    } finally {
+      setLoadingMore(false);
+    }
+  }, [filter, nextAfter]);
 
   useEffect(() => {
     fetchPersonnel();
@@ -32,8 +72,9 @@ export function usePersonnel() {
   const createPerson = useCallback(async (data: PersonRequest) => {
     const created = await personnelApi.create(data);
     setPersonnel((prev) => [...created, ...prev]);
+    fetchStatusCounts();
     return created;
-  }, []);
+  }, [fetchStatusCounts]);
 
   const updatePerson = useCallback(async (data: PersonRequest) => {
     const updated = await personnelApi.update(data);
@@ -43,13 +84,15 @@ export function usePersonnel() {
         return match ?? p;
       })
     );
+    fetchStatusCounts();
     return updated;
-  }, []);
+  }, [fetchStatusCounts]);
 
   const deletePerson = useCallback(async (id: number) => {
     await personnelApi.hardDelete(id);
     setPersonnel((prev) => prev.filter((p) => p.id !== id));
-  }, []);
+    fetchStatusCounts();
+  }, [fetchStatusCounts]);
 
   const getPendingTasks = useCallback(async (): Promise<TaskDto[]> => {
     return personnelApi.getPendingTasks();
@@ -63,6 +106,10 @@ export function usePersonnel() {
     return personnelApi.matchTask(task);
   }, []);
 
+  const getProfile = useCallback(async (personId: number): Promise<Person> => {
+    return personnelApi.getProfile(personId);
+  }, []);
+
   const getAssignmentHistory = useCallback(async (personId: number): Promise<AssignmentHistory[]> => {
     return personnelApi.getAssignmentHistory(personId);
   }, []);
@@ -77,6 +124,12 @@ export function usePersonnel() {
 
   return {
     personnel,
+    statusCounts,
+    filter,
+    setFilter,
+    hasMore: nextAfter !== null,
+    loadMore,
+    loadingMore,
     loading,
     error,
     createPerson,
@@ -85,6 +138,7 @@ export function usePersonnel() {
     getPendingTasks,
     matchAllPending,
     matchTask,
+    getProfile,
     getAssignmentHistory,
     getActiveAssignments,
     completeAssignment,
@@ -8,6 +8,12 @@ import type { Person, PersonRequest } from '../types/personnel.types';
 export function PersonnelPage() {
   const {
     personnel,
+    statusCounts,
+    filter,
+    setFilter,
+    hasMore,
+    loadMore,
+    loadingMore,
     loading,
     error,
     createPerson,
@@ -17,6 +23,7 @@ export function PersonnelPage() {
     matchAllPending,
     matchTask,
     getActiveAssignments,
+    getProfile,
     getAssignmentHistory,
     completeAssignment,
     refetch,
@@ -45,11 +52,12 @@ export function PersonnelPage() {
     setEditPerson(person);
   };
 
+  // Counted server-side, since only the loaded pages are held here
   const stats = {
-    total: personnel.filter((p) => !p.disabled).length,
-    available: personnel.filter((p) => p.status === 'Available' && !p.disabled).length,
-    onDuty: personnel.filter((p) => p.status === 'On Duty' && !p.disabled).length,
-    onLeave: personnel.filter((p) => p.status === 'On Leave' && !p.disabled).length,
+    total: Object.values(statusCounts).reduce((sum, count) => sum + count, 0),
+    available: statusCounts.AVAILABLE ?? 0,
+    onDuty: statusCounts.ON_DUTY ?? 0,
+    onLeave: statusCounts.ON_LEAVE ?? 0,
   };
 
   return (
@@ -100,6 +108,17 @@ export function PersonnelPage() {
             >
               Refresh
             </button>
+            <select
+              value={filter.status ?? ''}
+              onChange={(e) => setFilter({ ...filter, status: e.target.value || undefined })}
+              className="border border-gray-300 rounded-md px-3 py-2 text-sm text-gray-700"
+            >
+              <option value="">All statuses</option>
+              <option value="AVAILABLE">Available</option>
+              <option value="ON_DUTY">On Duty</option>
+              <option value="ON_LEAVE">On Leave</option>
+              <option value="INACTIVE">Inactive</option>
+            </select>
           </div>
           <div className="text-sm text-gray-500">
             {stats.total} personnel registered
@@ -131,12 +150,25 @@ export function PersonnelPage() {
             onMatchAllPending={matchAllPending}
             onGetPendingTasks={getPendingTasks}
             onGetActiveAssignments={getActiveAssignments}
+            onGetProfile={getProfile}
             onGetAssignmentHistory={getAssignmentHistory}
             onCompleteAssignment={completeAssignment}
             onRefresh={refetch}
           />
         )}
 
+        {hasMore && (
+          <div className="text-center mt-6">
+            <button
+              onClick={loadMore}
+              disabled={loadingMore}
+              className="bg-white border border-gray-300 text-gray-700 px-4 py-2 rounded-md hover:bg-gray-100 transition-colors disabled:opacity-50"
+            >
+              {loadingMore ? 'Loading...' : 'Load more'}
+            </button>
+          </div>
+        )}
+
         {/* Create Form Modal */}
         {showForm && (
           <PersonnelForm
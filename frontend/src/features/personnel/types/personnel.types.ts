@@ -122,6 +122,24 @@ export interface Person {
   disabled: boolean;
 }
 
+export interface PersonFilter {
+  // Normalized status key, e.g. AVAILABLE, ON_DUTY; disabled personnel are left out
+  status?: string;
+  role?: string;
+  department?: string;
+  organization?: string;
+  skill?: string;
+}
+
+// One keyset page; pass nextAfter back as `after` to read the next page
+export interface PersonPage {
+  items: Person[];
+  nextAfter?: number | null;
+}
+
+// Enabled personnel per normalized status, e.g. AVAILABLE, ON_DUTY
+export type PersonStatusCounts = Record<string, number>;
+
 export type TaskType = 'RESCUE_OPERATION' | 'MEDICAL_AID' | 'DEBRIS_REMOVAL';
 export type Priority = 'LOW' | 'MEDIUM' | 'HIGH' | 'URGENT';
 export type TaskStatus = 'PENDING' | 'IN_PROGRESS' | 'COMPLETED';